@@ -63,6 +63,12 @@ dependencies {
     // --- Redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // --- Cache (로컬 L1)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // --- 인메모리 필터/패싯 비트맵
+    implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
+
     // --- QueryDSL (Jakarta)
     implementation("com.querydsl:querydsl-jpa:5.0.0:jakarta")
     annotationProcessor("com.querydsl:querydsl-apt:5.0.0:jakarta")
@@ -126,6 +132,28 @@ tasks.withType<Test> {
     }
 }
 
+// 기본 test 에서는 벤치마크 태그 제외
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// 벤치마크 (@Tag("benchmark")) 전용 태스크
+tasks.register<Test>("benchmark") {
+    description = "Run benchmark-tagged tests"
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    failFast = false
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
 // 도메인별 테스트 태스크
 tasks.register<Test>("testMaster") {
     description = "Run master domain tests"
@@ -1,6 +1,8 @@
 -- PostgreSQL 초기화 스크립트
 -- pgvector 확장 활성화
 CREATE EXTENSION IF NOT EXISTS vector;
+-- PostGIS 확장 활성화 (구역/셀 공간 컬럼, V19)
+CREATE EXTENSION IF NOT EXISTS postgis;
 
 -- updated_at 자동 업데이트를 위한 함수
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -41,6 +41,7 @@ import com.da.itdaing.domain.popup.repository.PopupFeatureRepository;
 import com.da.itdaing.domain.popup.repository.PopupImageRepository;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
 import com.da.itdaing.domain.popup.repository.PopupStyleRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
 import com.da.itdaing.domain.seller.entity.SellerProfile;
 import com.da.itdaing.domain.seller.repository.SellerProfileRepository;
 import com.da.itdaing.domain.social.entity.Review;
@@ -117,6 +118,7 @@ public class DevDataSeed implements CommandLineRunner {
     private final PopupCategoryRepository popupCategoryRepository;
     private final PopupFeatureRepository popupFeatureRepository;
     private final PopupStyleRepository popupStyleRepository;
+    private final PopupCardProjector popupCardProjector;
 
     // Social repos
     private final ReviewRepository reviewRepository;
@@ -154,6 +156,7 @@ public class DevDataSeed implements CommandLineRunner {
         seedPopups();
         seedReviews();
         seedMessages();
+        popupCardProjector.rebuildAll();
         log.info("===== [DevDataSeed] DONE =====");
     }
 
@@ -0,0 +1,66 @@
+// src/main/java/com/da/itdaing/domain/admin/api/ReadModelAdminController.java
+package com.da.itdaing.domain.admin.api;
+
+import com.da.itdaing.domain.popup.cache.PopupCacheInvalidator;
+import com.da.itdaing.domain.popup.cache.ReadModelSync;
+import com.da.itdaing.domain.popup.search.PopupAutocompleteIndexer;
+import com.da.itdaing.domain.popup.search.PopupFacetIndexer;
+import com.da.itdaing.domain.popup.search.PopupSearchIndexer;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.global.web.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/read-models")
+@RequiredArgsConstructor
+@Tag(name = "Read Model Management (Admin)")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReadModelAdminController {
+
+    private final PopupCardProjector popupCardProjector;
+    private final PopupSearchIndexer popupSearchIndexer;
+    private final PopupAutocompleteIndexer popupAutocompleteIndexer;
+    private final PopupFacetIndexer popupFacetIndexer;
+    private final PopupCacheInvalidator popupCacheInvalidator;
+    private final ReadModelSync readModelSync;
+
+    @Operation(summary = "팝업 카드 조회 모델 재구축 (관리자)",
+        description = "popup_card 테이블을 원본 팝업/리뷰 데이터로 다시 생성하고 검색/자동완성/필터(패싯·운영 기간) 색인도 다시 만듭니다. 다른 노드의 색인도 재구축됩니다. 재구축된 카드 수를 반환합니다.")
+    @PostMapping("/popup-cards/rebuild")
+    public ApiResponse<Integer> rebuildPopupCards() {
+        int rebuilt = popupCardProjector.rebuildAll();
+        popupSearchIndexer.rebuild();
+        popupAutocompleteIndexer.rebuild();
+        popupFacetIndexer.rebuild();
+        readModelSync.publishPopupRebuild();
+        popupCacheInvalidator.invalidateAll();
+        return ApiResponse.success(rebuilt);
+    }
+
+    @Operation(summary = "팝업 카드 평점 집계 재계산 (관리자)",
+        description = "리뷰 테이블을 다시 집계해 popup_card의 리뷰 수/합계/평점 분포를 덮어씁니다.")
+    @PostMapping("/popup-cards/review-stats/rebuild")
+    public ApiResponse<Integer> rebuildPopupCardReviewStats() {
+        int rebuilt = popupCardProjector.rebuildReviewStats();
+        popupCacheInvalidator.invalidateAll();
+        return ApiResponse.success(rebuilt);
+    }
+
+    @Operation(summary = "팝업 검색 색인 재구축 (관리자)",
+        description = "popup_card 테이블로 인메모리 키워드 검색 색인(바이그램/BM25)을 다시 만듭니다. 색인된 팝업 수를 반환합니다.")
+    @PostMapping("/popup-search-index/rebuild")
+    public ApiResponse<Integer> rebuildPopupSearchIndex() {
+        return ApiResponse.success(popupSearchIndexer.rebuild());
+    }
+
+    @Operation(summary = "자동완성 색인 재구축 (관리자)",
+        description = "승인된 popup_card 와 zone_area 로 자동완성 트라이(자모/초성)를 다시 만듭니다. 색인된 팝업 수를 반환합니다.")
+    @PostMapping("/popup-autocomplete/rebuild")
+    public ApiResponse<Integer> rebuildPopupAutocomplete() {
+        return ApiResponse.success(popupAutocompleteIndexer.rebuild());
+    }
+}
@@ -9,6 +9,7 @@ import com.da.itdaing.domain.common.enums.ApprovalTargetType;
 import com.da.itdaing.domain.common.enums.DecisionType;
 import com.da.itdaing.domain.popup.entity.Popup;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
 import com.da.itdaing.domain.user.entity.Users;
 import com.da.itdaing.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class ApprovalService {
     private final PopupRepository popupRepository;
     private final ApprovalRecordRepository approvalRecordRepository;
     private final UserRepository userRepository;
+    private final PopupCardProjector popupCardProjector;
 
     /** 관리자: 승인 대기 목록 조회 */
     @Transactional(readOnly = true)
@@ -82,6 +84,7 @@ public class ApprovalService {
         // 팝업 상태 변경
         popup.updateApprovalStatus(ApprovalStatus.APPROVED, null);
         popupRepository.save(popup);
+        popupCardProjector.refresh(popup);
 
         // 승인 기록 생성
         ApprovalRecord record = ApprovalRecord.forPopup(
@@ -121,6 +124,7 @@ public class ApprovalService {
         // 팝업 상태 변경
         popup.updateApprovalStatus(ApprovalStatus.REJECTED, req.getReason());
         popupRepository.save(popup);
+        popupCardProjector.refresh(popup);
 
         // 거부 기록 생성
         ApprovalRecord record = ApprovalRecord.forPopup(
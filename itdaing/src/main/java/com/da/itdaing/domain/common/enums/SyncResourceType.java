@@ -0,0 +1,8 @@
+package com.da.itdaing.domain.common.enums;
+
+/** 변경 피드(?since=) 삭제 기록 대상 */
+public enum SyncResourceType {
+    POPUP,
+    ZONE_AREA,
+    ZONE_CELL
+}
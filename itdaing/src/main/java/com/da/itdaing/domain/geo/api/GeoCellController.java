@@ -3,6 +3,7 @@ package com.da.itdaing.domain.geo.api;
 
 import com.da.itdaing.domain.common.enums.ZoneStatus;
 import com.da.itdaing.domain.geo.dto.GeoDtos.*;
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
 import com.da.itdaing.domain.geo.service.GeoCellService;
 import com.da.itdaing.global.web.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -42,15 +43,16 @@ public class GeoCellController {
         return ApiResponse.success(null);
     }
 
-    @Operation(summary = "셀 목록 조회 (관리자/판매자, 필터링 지원)")
+    @Operation(summary = "셀 목록 조회 (관리자/판매자, 필터링 지원, bbox=minLng,minLat,maxLng,maxLat 로 화면 영역 제한)")
     @GetMapping
     public ApiResponse<CellListResponse> listCells(
             @RequestParam(required = false) Long areaId,
             @RequestParam(required = false) Long ownerId,
             @RequestParam(required = false) ZoneStatus status,
+            @RequestParam(required = false) String bbox,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        return ApiResponse.success(cellService.listCells(areaId, ownerId, status, page, size));
+        return ApiResponse.success(cellService.listCells(areaId, ownerId, status, BoundingBox.parse(bbox), page, size));
     }
 
     @Operation(summary = "셀 상세 조회 (관리자/판매자)")
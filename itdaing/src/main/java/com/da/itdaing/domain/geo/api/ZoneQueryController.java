@@ -1,19 +1,29 @@
 package com.da.itdaing.domain.geo.api;
 
+import com.da.itdaing.domain.geo.dto.ZoneLocateResponse;
 import com.da.itdaing.domain.geo.dto.ZoneSummaryResponse;
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
 import com.da.itdaing.domain.geo.service.ZoneQueryService;
+import com.da.itdaing.domain.sync.dto.ChangeFeedResponse;
 import com.da.itdaing.global.web.ApiResponse;
+import com.da.itdaing.global.web.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 존(Zone) 조회 API 컨트롤러
@@ -25,9 +35,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/zones")
 @RequiredArgsConstructor
+@Validated
 public class ZoneQueryController {
 
     private final ZoneQueryService zoneQueryService;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
         summary = "전체 존 목록 조회",
@@ -47,8 +59,15 @@ public class ZoneQueryController {
             판매자는 팝업스토어 등록 시 원하는 존과 셀을 선택할 수 있습니다.
             
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
+            
+            bbox=minLng,minLat,maxLng,maxLat 를 주면 지도 화면 영역만 내려줍니다.
+            폴리곤 BBOX 가 영역과 겹치거나 영역 안에 셀이 있는 구역만 포함하고, 셀도 영역 안의 것만 포함합니다.
+            
+            응답에는 ETag / Last-Modified 가 붙습니다. If-None-Match 또는 If-Modified-Since 로 다시 요청하면
+            그 사이 구역/셀 변경이 없을 때 본문(폴리곤 포함) 없이 304 Not Modified 로 응답합니다.
             """,
-        security = {}
+        security = {},
+        parameters = @Parameter(name = "bbox", description = "화면 영역 (minLng,minLat,maxLng,maxLat)", example = "126.90,35.13,126.95,35.16")
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -93,9 +112,57 @@ public class ZoneQueryController {
         )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ZoneSummaryResponse>>> getZones() {
-        return ResponseEntity.ok(ApiResponse.success(zoneQueryService.getZones()));
+    public ResponseEntity<ApiResponse<List<ZoneSummaryResponse>>> getZones(
+        @RequestParam(required = false) String bbox,
+        WebRequest request
+    ) {
+        BoundingBox viewport = BoundingBox.parse(bbox);
+        if (resourceVersions.checkNotModified(request, ResourceVersions.ZONES)) {
+            return null;
+        }
+        return ResponseEntity.ok(ApiResponse.success(zoneQueryService.getZones(viewport)));
     }
-}
 
+    @Operation(
+        summary = "좌표가 속한 구역 조회",
+        description = """
+            (lat, lng) 좌표를 폴리곤이 덮는 구역을 찾습니다. 판매자가 핀을 찍은 위치의 구역을 미리 알 수 있습니다.
+            
+            - 경계선 위의 좌표도 구역 안으로 봅니다.
+            - 여러 구역이 겹치면 면적이 가장 작은 구역을 돌려주고, 숨김(HIDDEN) 구역은 제외합니다.
+            - 속한 구역이 없으면 404 를 응답합니다.
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "lat", description = "위도 (WGS84)", example = "35.1468"),
+            @Parameter(name = "lng", description = "경도 (WGS84)", example = "126.9223")
+        }
+    )
+    @GetMapping("/locate")
+    public ResponseEntity<ApiResponse<ZoneLocateResponse>> locate(
+        @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+        @RequestParam @DecimalMin("-180") @DecimalMax("180") double lng
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(zoneQueryService.locate(lat, lng)));
+    }
 
+    @Operation(
+        summary = "존 변경 피드 (델타 동기화)",
+        description = """
+            since 토큰 이후 바뀐 구역만 셀 목록까지 통째로 내려주고(upserts), 삭제된 구역 ID 를 deletedIds 로 내려줍니다.
+            
+            - 구역 정보가 바뀌었거나 소속 셀이 생성/수정/삭제된 구역이 포함됩니다. 클라이언트는 구역 단위로 교체합니다.
+            - 셀이 다른 구역으로 옮겨지면 새 구역만 내려가므로, 다른 구역에 남아 있는 같은 셀 ID 는 지웁니다.
+            - 처음에는 since 없이 호출하고(전체 구역), 응답의 nextToken 을 다음 호출의 since 로 보냅니다.
+            - fullResync=true 면 since 가 너무 오래됐으므로 로컬 구역 목록을 upserts 로 통째로 바꿉니다.
+            """,
+        security = {},
+        parameters = @Parameter(name = "since", description = "이전 응답의 nextToken (최초 호출 시 생략)")
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse<ZoneSummaryResponse>>> getChanges(
+        @RequestParam(required = false) String since
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(zoneQueryService.getChanges(since)));
+    }
+}
@@ -51,7 +51,7 @@ public class GeoDtos {
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
     @Schema(description = "존 생성 요청 (관리자)")
     public static class CreateZoneRequest {
-        private Long areaId;           // 필수: 어느 구역 안인지
+        private Long areaId;           // 선택: 어느 구역 안인지 (없으면 좌표로 찾는다)
         private Long ownerId;          // 필수: 소유자(판매자) ID (관리자가 지정)
         private String label;          // 선택
         private String detailedAddress;// 선택
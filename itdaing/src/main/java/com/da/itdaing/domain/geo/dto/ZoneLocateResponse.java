@@ -0,0 +1,9 @@
+package com.da.itdaing.domain.geo.dto;
+
+public record ZoneLocateResponse(
+    Long areaId,
+    String name,
+    Long regionId,
+    String status
+) {
+}
@@ -2,10 +2,12 @@
 package com.da.itdaing.domain.geo.entity;
 
 import com.da.itdaing.domain.common.enums.AreaStatus;
+import com.da.itdaing.domain.geo.geometry.SpatialColumns;
 import com.da.itdaing.domain.master.entity.Region;
 import com.da.itdaing.global.jpa.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.locationtech.jts.geom.MultiPolygon;
 
 @Entity
 @Table(name = "zone_area",
@@ -30,6 +32,10 @@ public class ZoneArea extends BaseTimeEntity {
     @Column(name = "geometry_data", columnDefinition = "TEXT")
     private String polygonGeoJson;
 
+    /** polygonGeoJson 의 공간 컬럼 사본 (PostGIS GiST 인덱스용, 저장 시 함께 갱신) */
+    @Column(name = "geom", columnDefinition = "geometry(MultiPolygon,4326)")
+    private MultiPolygon geom;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20, nullable = false)
     private AreaStatus status = AreaStatus.AVAILABLE;
@@ -46,6 +52,7 @@ public class ZoneArea extends BaseTimeEntity {
         this.region = region;
         this.name = name;
         this.polygonGeoJson = polygonGeoJson;
+        this.geom = SpatialColumns.multiPolygon(polygonGeoJson);
         this.status = status != null ? status : AreaStatus.AVAILABLE;
         this.maxCapacity = maxCapacity;
         this.notice = notice;
@@ -59,6 +66,7 @@ public class ZoneArea extends BaseTimeEntity {
         }
         if (polygonGeoJson != null) {
             this.polygonGeoJson = polygonGeoJson;
+            this.geom = SpatialColumns.multiPolygon(polygonGeoJson);
         }
         if (status != null) {
             this.status = status;
@@ -2,10 +2,12 @@
 package com.da.itdaing.domain.geo.entity;
 
 import com.da.itdaing.domain.common.enums.ZoneStatus;
+import com.da.itdaing.domain.geo.geometry.SpatialColumns;
 import com.da.itdaing.domain.user.entity.Users;
 import com.da.itdaing.global.jpa.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.locationtech.jts.geom.Point;
 
 @Entity
 @Table(name = "zone_cell",
@@ -43,6 +45,10 @@ public class ZoneCell extends BaseTimeEntity {
     @Column(name = "lat", nullable = false) private Double lat;
     @Column(name = "lng", nullable = false) private Double lng;
 
+    /** 마커 좌표의 공간 컬럼 사본 (PostGIS GiST 인덱스용, 저장 시 함께 갱신) */
+    @Column(name = "geom", columnDefinition = "geometry(Point,4326)")
+    private Point geom;
+
     /** 상태/수용/유의사항 */
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20, nullable = false)
@@ -65,6 +71,7 @@ public class ZoneCell extends BaseTimeEntity {
         this.detailedAddress = detailedAddress;
         this.lat = lat;
         this.lng = lng;
+        this.geom = SpatialColumns.point(lng, lat);
         this.status = status != null ? status : ZoneStatus.PENDING;
         this.maxCapacity = maxCapacity;
         this.notice = notice;
@@ -95,6 +102,7 @@ public class ZoneCell extends BaseTimeEntity {
         if (lng != null) {
             this.lng = lng;
         }
+        this.geom = SpatialColumns.point(this.lng, this.lat);
         if (status != null) {
             this.status = status;
         }
@@ -0,0 +1,7 @@
+package com.da.itdaing.domain.geo.event;
+
+/**
+ * 구역(ZoneArea) 생성/수정/삭제 알림. 구역 이름을 들고 있는 인메모리 구조가 커밋 이후 갱신한다.
+ */
+public record ZoneAreaChangedEvent(Long zoneAreaId) {
+}
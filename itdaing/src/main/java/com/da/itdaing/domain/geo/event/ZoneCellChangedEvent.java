@@ -0,0 +1,7 @@
+package com.da.itdaing.domain.geo.event;
+
+/**
+ * 셀(ZoneCell) 생성/수정/삭제/상태 변경 알림. 존 목록 응답 버전(ETag)을 커밋 이후 올린다.
+ */
+public record ZoneCellChangedEvent(Long zoneCellId, Long zoneAreaId) {
+}
@@ -0,0 +1,72 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * 지도 화면 영역 (?bbox=minLng,minLat,maxLng,maxLat, WGS84). 경계선 위 좌표는 안으로 본다.
+ * 날짜 변경선을 넘는 영역(minLng > maxLng)은 받지 않는다.
+ */
+public record BoundingBox(double minLng, double minLat, double maxLng, double maxLat) {
+
+    /** 비어 있으면 null (영역 제한 없음) */
+    public static BoundingBox parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        if (parts.length != 4) {
+            throw invalid(value);
+        }
+        double[] numbers = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                numbers[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw invalid(value);
+        }
+        BoundingBox bbox = new BoundingBox(numbers[0], numbers[1], numbers[2], numbers[3]);
+        if (!bbox.isValid()) {
+            throw invalid(value);
+        }
+        return bbox;
+    }
+
+    /**
+     * (lng, lat) 에서 meters 반경 원을 덮는 사각형 (반경 조회의 1차 후보 범위).
+     * 경위도 범위를 넘는 부분은 잘라내며, 극 근처에서는 경도 전체로 넓힌다.
+     */
+    public static BoundingBox around(double lng, double lat, double meters) {
+        double angle = meters / GeoDistance.EARTH_RADIUS_METERS;
+        double dLat = Math.toDegrees(angle);
+        // 원의 동서 끝 경도 차: asin(sin(각거리) / cos(위도)). 원이 극을 덮으면 경도 전체
+        double ratio = Math.sin(angle) / Math.cos(Math.toRadians(lat));
+        double dLng = ratio >= 0 && ratio < 1 ? Math.toDegrees(Math.asin(ratio)) : 180;
+        return new BoundingBox(Math.max(-180, lng - dLng), Math.max(-90, lat - dLat),
+            Math.min(180, lng + dLng), Math.min(90, lat + dLat));
+    }
+
+    public boolean contains(double lng, double lat) {
+        return lng >= minLng && lng <= maxLng && lat >= minLat && lat <= maxLat;
+    }
+
+    public boolean contains(Double lng, Double lat) {
+        return lng != null && lat != null && contains(lng.doubleValue(), lat.doubleValue());
+    }
+
+    public Envelope toEnvelope() {
+        return new Envelope(minLng, maxLng, minLat, maxLat);
+    }
+
+    private boolean isValid() {
+        return minLng >= -180 && maxLng <= 180 && minLat >= -90 && maxLat <= 90
+            && minLng <= maxLng && minLat <= maxLat;
+    }
+
+    private static BusinessException invalid(String value) {
+        return new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+            "bbox 는 minLng,minLat,maxLng,maxLat 형식이어야 합니다: " + value);
+    }
+}
@@ -0,0 +1,22 @@
+package com.da.itdaing.domain.geo.geometry;
+
+/**
+ * 구면(지구 평균 반지름) 기준 거리 계산 (WGS84 경위도, 미터)
+ */
+public final class GeoDistance {
+
+    /** IUGG 평균 반지름 */
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeoDistance() {
+    }
+
+    /** 두 좌표 사이 대원 거리 (haversine) */
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * 구역 폴리곤 GeoJSON → JTS 변환 (WGS84, 좌표는 [lng, lat])
+ * - 최소 지원: Polygon / MultiPolygon (Feature/FeatureCollection 은 첫 geometry 만 처리)
+ * - 잘못된 입력은 IllegalArgumentException 으로 알린다.
+ */
+public final class GeoJsonGeometryReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private GeoJsonGeometryReader() {
+    }
+
+    public static Geometry read(String geojson) {
+        if (geojson == null || geojson.isBlank()) {
+            throw new IllegalArgumentException("구역 폴리곤(GeoJSON)이 없습니다.");
+        }
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(geojson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("폴리곤 파싱/검증 실패(GeoJSON/WGS84 [lng,lat] 확인 필요).", e);
+        }
+
+        // Feature / FeatureCollection 처리(간단히 첫 geometry만)
+        if (root.has("type") && "Feature".equalsIgnoreCase(root.get("type").asText()) && root.has("geometry")) {
+            root = root.get("geometry");
+        } else if (root.has("type") && "FeatureCollection".equalsIgnoreCase(root.get("type").asText())
+            && root.has("features") && root.get("features").isArray() && root.get("features").size() > 0) {
+            JsonNode first = root.get("features").get(0);
+            root = first.has("geometry") ? first.get("geometry") : root;
+        }
+
+        String type = root.has("type") ? root.get("type").asText() : null;
+        if (type == null) throw new IllegalArgumentException("GeoJSON type이 없습니다.");
+
+        if ("Polygon".equalsIgnoreCase(type)) {
+            return polygonFromCoords(root.get("coordinates"));
+        } else if ("MultiPolygon".equalsIgnoreCase(type)) {
+            return multiPolygonFromCoords(root.get("coordinates"));
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 GeoJSON 타입: " + type);
+        }
+    }
+
+    private static Polygon polygonFromCoords(JsonNode coordsNode) {
+        if (coordsNode == null || !coordsNode.isArray() || coordsNode.isEmpty()) {
+            throw new IllegalArgumentException("Polygon coordinates가 비어있습니다.");
+        }
+        // 외곽 링
+        LinearRing shell = ringFromLinearCoords(coordsNode.get(0));
+        // 홀(내부 링들)
+        LinearRing[] holes = new LinearRing[Math.max(0, coordsNode.size() - 1)];
+        for (int i = 1; i < coordsNode.size(); i++) {
+            holes[i - 1] = ringFromLinearCoords(coordsNode.get(i));
+        }
+        return GEOMETRY_FACTORY.createPolygon(shell, holes);
+    }
+
+    private static MultiPolygon multiPolygonFromCoords(JsonNode coordsNode) {
+        if (coordsNode == null || !coordsNode.isArray() || coordsNode.isEmpty()) {
+            throw new IllegalArgumentException("MultiPolygon coordinates가 비어있습니다.");
+        }
+        Polygon[] polys = new Polygon[coordsNode.size()];
+        for (int i = 0; i < coordsNode.size(); i++) {
+            polys[i] = polygonFromCoords(coordsNode.get(i));
+        }
+        return GEOMETRY_FACTORY.createMultiPolygon(polys);
+    }
+
+    private static LinearRing ringFromLinearCoords(JsonNode ringNode) {
+        if (ringNode == null || !ringNode.isArray() || ringNode.size() < 4) {
+            throw new IllegalArgumentException("LinearRing 좌표는 최소 4개([lng,lat]...)이어야 합니다.");
+        }
+        Coordinate[] coords = new Coordinate[ringNode.size()];
+        for (int i = 0; i < ringNode.size(); i++) {
+            JsonNode p = ringNode.get(i);
+            if (p == null || !p.isArray() || p.size() < 2) {
+                throw new IllegalArgumentException("좌표는 [lng,lat] 배열이어야 합니다.");
+            }
+            coords[i] = new Coordinate(p.get(0).asDouble(), p.get(1).asDouble());
+        }
+        // 폐합 보정: 첫 점 != 마지막 점이면 닫아준다
+        if (!coords[0].equals2D(coords[coords.length - 1])) {
+            Coordinate[] closed = new Coordinate[coords.length + 1];
+            System.arraycopy(coords, 0, closed, 0, coords.length);
+            closed[closed.length - 1] = coords[0];
+            coords = closed;
+        }
+        return GEOMETRY_FACTORY.createLinearRing(coords);
+    }
+}
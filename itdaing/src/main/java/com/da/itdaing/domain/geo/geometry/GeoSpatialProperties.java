@@ -0,0 +1,13 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "geo-spatial")
+public class GeoSpatialProperties {
+
+    /** PostGIS 공간 인덱스 쿼리 사용 여부. 운영은 PostGIS 필수라 true, H2 테스트에서만 false */
+    private boolean databaseEnabled = true;
+}
@@ -0,0 +1,51 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * 공간 컬럼(zone_area.geom, zone_cell.geom) 값 생성 (SRID 4326, 좌표는 [lng, lat])
+ * - API 원본인 GeoJSON / lat·lng 에서 만들어 엔티티가 저장 때 함께 채운다.
+ * - 만들 수 없으면 null 을 돌려준다 (입력 검증은 서비스 몫이다).
+ */
+public final class SpatialColumns {
+
+    public static final int SRID = 4326;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), SRID);
+
+    private SpatialColumns() {
+    }
+
+    public static Point point(Double lng, Double lat) {
+        if (lng == null || lat == null) {
+            return null;
+        }
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(lng, lat));
+    }
+
+    /** Polygon 은 한 개짜리 MultiPolygon 으로 감싼다 */
+    public static MultiPolygon multiPolygon(String polygonGeoJson) {
+        if (polygonGeoJson == null || polygonGeoJson.isBlank()) {
+            return null;
+        }
+        Geometry geometry;
+        try {
+            geometry = GEOMETRY_FACTORY.createGeometry(GeoJsonGeometryReader.read(polygonGeoJson));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (geometry instanceof MultiPolygon multiPolygon) {
+            return multiPolygon;
+        }
+        if (geometry instanceof Polygon polygon) {
+            return GEOMETRY_FACTORY.createMultiPolygon(new Polygon[] {polygon});
+        }
+        return null;
+    }
+}
@@ -0,0 +1,149 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.common.enums.AreaStatus;
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좌표 → 구역 역지오코딩 (GET /api/zones/locate, 존 등록 시 구역 자동 결정)
+ * - 구역 폴리곤 BBOX 로 만든 STRtree 에서 후보를 고르고, 후보만 prepared covers 로 확인한다 (구역 수 n 에 대해 O(log n)).
+ * - 기동 완료 시 전체 구역으로 만들고, 구역 변경이 커밋되면 그 구역만 다시 읽어 트리를 새로 짠다.
+ *   STRtree 는 build 후 삽입이 안 되므로 (구역 → 폴리곤) 맵을 고치고 트리만 다시 만든다. 폴리곤은 레지스트리 것을 그대로 쓴다.
+ * - 조회는 교체된 스냅샷을 읽기만 하므로 잠그지 않는다.
+ * - 여러 구역이 겹치면 면적이 가장 작은(가장 구체적인) 구역을 고른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneAreaLocator {
+
+    private final ZoneAreaRepository zoneAreaRepository;
+    private final ZoneGeometryRegistry zoneGeometryRegistry;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready;
+
+    /** 색인된 구역 한 건 (응답용 이름/지역/상태를 함께 둔다) */
+    public record LocatedArea(Long areaId, String name, Long regionId, AreaStatus status, ZoneGeometry geometry) {
+
+        double area() {
+            return geometry.geometry().getArea();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onZoneAreaChanged(ZoneAreaChangedEvent event) {
+        Long areaId = event.zoneAreaId();
+        Optional<ZoneArea> area = zoneAreaRepository.findById(areaId);
+        synchronized (this) {
+            Map<Long, LocatedArea> entries = new HashMap<>(snapshot.entries());
+            entries.remove(areaId);
+            area.map(this::toEntry).ifPresent(entry -> entries.put(areaId, entry));
+            snapshot = Snapshot.of(entries);
+        }
+    }
+
+    /** 전체 재구축. 색인된 구역 수를 반환한다. */
+    public synchronized int rebuild() {
+        Map<Long, LocatedArea> entries = new HashMap<>();
+        for (ZoneArea area : zoneAreaRepository.findAll()) {
+            LocatedArea entry = toEntry(area);
+            if (entry != null) {
+                entries.put(area.getId(), entry);
+            }
+        }
+        snapshot = Snapshot.of(entries);
+        ready = true;
+        log.info("[zone-locator] indexed {} areas", entries.size());
+        return entries.size();
+    }
+
+    /** (lng, lat) 를 덮는 구역 중 숨김이 아닌 가장 작은 구역 */
+    public Optional<LocatedArea> locate(double lng, double lat) {
+        return candidatesAt(lng, lat).stream()
+            .filter(entry -> entry.status() != AreaStatus.HIDDEN)
+            .findFirst();
+    }
+
+    /** (lng, lat) 를 덮는 모든 구역, 면적 오름차순 */
+    public List<LocatedArea> candidatesAt(double lng, double lat) {
+        List<LocatedArea> covering = new ArrayList<>();
+        for (Object item : snapshot.tree().query(new Envelope(lng, lng, lat, lat))) {
+            LocatedArea entry = (LocatedArea) item;
+            if (entry.geometry().covers(lng, lat)) {
+                covering.add(entry);
+            }
+        }
+        covering.sort(Comparator.comparingDouble(LocatedArea::area).thenComparing(LocatedArea::areaId));
+        return covering;
+    }
+
+    /** 폴리곤 BBOX 가 화면 영역과 겹치는 구역 ID */
+    public List<Long> areaIdsIntersecting(BoundingBox bbox) {
+        Envelope envelope = bbox.toEnvelope();
+        List<Long> areaIds = new ArrayList<>();
+        for (Object item : snapshot.tree().query(envelope)) {
+            LocatedArea entry = (LocatedArea) item;
+            if (entry.geometry().envelope().intersects(envelope)) {
+                areaIds.add(entry.areaId());
+            }
+        }
+        return areaIds;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return snapshot.entries().size();
+    }
+
+    /** 폴리곤이 없거나 읽을 수 없는 구역은 색인하지 않는다 */
+    private LocatedArea toEntry(ZoneArea area) {
+        if (area.getPolygonGeoJson() == null || area.getPolygonGeoJson().isBlank()) {
+            return null;
+        }
+        try {
+            return new LocatedArea(area.getId(), area.getName(),
+                area.getRegion() != null ? area.getRegion().getId() : null,
+                area.getStatus(), zoneGeometryRegistry.geometryOf(area));
+        } catch (IllegalArgumentException e) {
+            log.warn("[zone-locator] skip area {}: {}", area.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private record Snapshot(Map<Long, LocatedArea> entries, STRtree tree) {
+
+        static final Snapshot EMPTY = of(Map.of());
+
+        static Snapshot of(Map<Long, LocatedArea> entries) {
+            STRtree tree = new STRtree();
+            entries.values().forEach(entry -> tree.insert(entry.geometry().envelope(), entry));
+            tree.build();
+            return new Snapshot(Map.copyOf(entries), tree);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.geo.event.ZoneCellChangedEvent;
+import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.geo.repository.ZoneSpatialJdbcRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 셀 마커 좌표 격자 색인 (지도 화면 영역 조회용)
+ * - 경위도를 0.01° (위도 방향 약 1.1km) 격자로 나눠 칸별로 셀을 담는다. 화면 영역 조회는 겹치는 칸만 훑고 좌표로 다시 거른다.
+ *   화면이 넓어 훑을 칸 수가 채워진 칸 수보다 많으면 채워진 칸을 직접 훑는다.
+ * - 기동 완료 시 전체 셀 좌표로 만들고, 셀 변경이 커밋되면 그 셀만 다시 읽어 옮긴다.
+ * - 적재 전(ready 가 false)에는 DB 로 대신 읽는다. PostGIS 를 쓰면 geom GiST 인덱스, 아니면(H2 테스트) lat/lng 범위 조건.
+ * - 반경 조회는 PostGIS 의 ST_DWithin(geography) 인덱스 쿼리로 DB 의 최신 셀을 가까운 순으로 읽는다.
+ *   PostGIS 를 끄면 반경 원을 덮는 사각형으로 후보 칸을 고른 뒤 haversine 거리로 다시 거른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneCellGrid {
+
+    static final double GRID_DEGREES = 0.01;
+    /** PostGIS 반경 조회에서 읽는 최대 셀 수 */
+    static final int MAX_NEAR_CELLS = 20_000;
+
+    private final ZoneCellRepository zoneCellRepository;
+    private final ZoneSpatialJdbcRepository zoneSpatialJdbcRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, ZoneCellPoint> points = new HashMap<>();
+    private final Map<Long, Map<Long, ZoneCellPoint>> buckets = new HashMap<>();
+    private volatile boolean ready;
+
+    /** 반경 조회 결과 한 건 (기준 좌표에서의 haversine 거리, 미터) */
+    public record Nearby(ZoneCellPoint point, double distanceMeters) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onZoneCellChanged(ZoneCellChangedEvent event) {
+        Optional<ZoneCellPoint> point = zoneCellRepository.findPointById(event.zoneCellId());
+        lock.writeLock().lock();
+        try {
+            removeLocked(event.zoneCellId());
+            point.ifPresent(this::putLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 전체 재구축. 색인된 셀 수를 반환한다. */
+    public int rebuild() {
+        List<ZoneCellPoint> all = zoneCellRepository.findAllPoints();
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            buckets.clear();
+            all.forEach(this::putLocked);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[zone-cell-grid] indexed {} cells", all.size());
+        return all.size();
+    }
+
+    /** 화면 영역 안의 셀 좌표 */
+    public List<ZoneCellPoint> within(BoundingBox bbox) {
+        if (!ready) {
+            if (zoneSpatialJdbcRepository.isEnabled()) {
+                return zoneSpatialJdbcRepository.findCellsIntersecting(bbox);
+            }
+            return zoneCellRepository.findPointsWithin(bbox.minLng(), bbox.minLat(), bbox.maxLng(), bbox.maxLat());
+        }
+        long minX = column(bbox.minLng());
+        long maxX = column(bbox.maxLng());
+        long minY = row(bbox.minLat());
+        long maxY = row(bbox.maxLat());
+        List<ZoneCellPoint> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if ((maxX - minX + 1) * (maxY - minY + 1) > buckets.size()) {
+                for (Map.Entry<Long, Map<Long, ZoneCellPoint>> bucket : buckets.entrySet()) {
+                    long x = bucket.getKey() >>> 32;
+                    long y = bucket.getKey() & 0xffffffffL;
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        collect(bucket.getValue(), bbox, result);
+                    }
+                }
+            } else {
+                for (long x = minX; x <= maxX; x++) {
+                    for (long y = minY; y <= maxY; y++) {
+                        Map<Long, ZoneCellPoint> bucket = buckets.get(key(x, y));
+                        if (bucket != null) {
+                            collect(bucket, bbox, result);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /** (lng, lat) 에서 meters 이내의 셀, 가까운 순 (거리가 같으면 셀 ID 순) */
+    public List<Nearby> near(double lng, double lat, double meters) {
+        List<ZoneCellPoint> candidates = zoneSpatialJdbcRepository.isEnabled()
+            ? zoneSpatialJdbcRepository.findCellsWithinMeters(lng, lat, meters, MAX_NEAR_CELLS)
+            : within(BoundingBox.around(lng, lat, meters));
+        List<Nearby> result = new ArrayList<>();
+        for (ZoneCellPoint point : candidates) {
+            double distance = GeoDistance.haversineMeters(lat, lng, point.lat(), point.lng());
+            if (distance <= meters) {
+                result.add(new Nearby(point, distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters)
+            .thenComparing(nearby -> nearby.point().cellId()));
+        return result;
+    }
+
+    private static void collect(Map<Long, ZoneCellPoint> bucket, BoundingBox bbox, List<ZoneCellPoint> result) {
+        for (ZoneCellPoint point : bucket.values()) {
+            if (bbox.contains(point.lng(), point.lat())) {
+                result.add(point);
+            }
+        }
+    }
+
+    private void putLocked(ZoneCellPoint point) {
+        if (point.lat() == null || point.lng() == null) {
+            return;
+        }
+        points.put(point.cellId(), point);
+        buckets.computeIfAbsent(keyOf(point), k -> new HashMap<>()).put(point.cellId(), point);
+    }
+
+    private void removeLocked(Long cellId) {
+        ZoneCellPoint previous = points.remove(cellId);
+        if (previous == null) {
+            return;
+        }
+        long key = keyOf(previous);
+        Map<Long, ZoneCellPoint> bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.remove(cellId);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private static long keyOf(ZoneCellPoint point) {
+        return key(column(point.lng()), row(point.lat()));
+    }
+
+    private static long key(long column, long row) {
+        return (column << 32) | row;
+    }
+
+    private static long column(double lng) {
+        return (long) Math.floor((lng + 180) / GRID_DEGREES);
+    }
+
+    private static long row(double lat) {
+        return (long) Math.floor((lat + 90) / GRID_DEGREES);
+    }
+}
@@ -0,0 +1,7 @@
+package com.da.itdaing.domain.geo.geometry;
+
+/**
+ * 셀(ZoneCell) 마커 좌표 (격자 색인 항목)
+ */
+public record ZoneCellPoint(Long cellId, Long areaId, Double lat, Double lng) {
+}
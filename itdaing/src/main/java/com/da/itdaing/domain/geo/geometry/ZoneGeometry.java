@@ -0,0 +1,50 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+
+/**
+ * 구역 폴리곤의 파싱/준비(prepare)된 형태. 불변이며 여러 스레드가 함께 쓴다 (JTS PreparedPolygon 은 스레드 안전).
+ * - updatedAt 과 원문 해시로 만든 시점의 구역 버전을 기억한다.
+ */
+public record ZoneGeometry(
+    Long areaId,
+    LocalDateTime updatedAt,
+    int sourceHash,
+    Geometry geometry,
+    PreparedGeometry prepared
+) {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    public static ZoneGeometry of(Long areaId, LocalDateTime updatedAt, String polygonGeoJson) {
+        Geometry geometry = GeoJsonGeometryReader.read(polygonGeoJson);
+        return new ZoneGeometry(areaId, updatedAt, polygonGeoJson.hashCode(), geometry,
+            PreparedGeometryFactory.prepare(geometry));
+    }
+
+    public Envelope envelope() {
+        return geometry.getEnvelopeInternal();
+    }
+
+    /** 같은 버전의 구역에서 만든 것인지 (수정 후 flush 전이라 updatedAt 이 그대로여도 원문이 바뀌면 다르다) */
+    public boolean isCurrentFor(LocalDateTime updatedAt, String polygonGeoJson) {
+        return Objects.equals(this.updatedAt, updatedAt)
+            && polygonGeoJson != null && sourceHash == polygonGeoJson.hashCode();
+    }
+
+    /** (lng, lat) 가 폴리곤 내부 또는 경계선 위인지 */
+    public boolean covers(double lng, double lat) {
+        Coordinate coordinate = new Coordinate(lng, lat);
+        if (!envelope().contains(coordinate)) {
+            return false;
+        }
+        return prepared.covers(GEOMETRY_FACTORY.createPoint(coordinate));
+    }
+}
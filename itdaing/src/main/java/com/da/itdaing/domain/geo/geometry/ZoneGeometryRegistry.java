@@ -0,0 +1,70 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.locationtech.jts.geom.Coordinate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 구역 폴리곤 레지스트리 (포함검사 공용)
+ * - 구역 ID 별로 파싱 + prepare 한 폴리곤을 들고 있어, 셀/존 등록마다 GeoJSON 을 다시 읽지 않는다.
+ * - 조회 시 구역의 updatedAt 과 원문 해시가 다르면 다시 만든다. 구역 수정/삭제가 커밋되면 해당 항목을 지운다.
+ * - 구역 수는 수백 개 수준이라 크기 제한은 두지 않는다.
+ */
+@Component
+public class ZoneGeometryRegistry {
+
+    private final Map<Long, ZoneGeometry> geometries = new ConcurrentHashMap<>();
+
+    /** 구역의 현재 폴리곤. 폴리곤이 없으면 IllegalArgumentException */
+    public ZoneGeometry geometryOf(ZoneArea area) {
+        String polygonGeoJson = area.getPolygonGeoJson();
+        if (polygonGeoJson == null || polygonGeoJson.isBlank()) {
+            throw new IllegalArgumentException("구역 폴리곤(GeoJSON)이 없습니다.");
+        }
+        if (area.getId() == null) {
+            return ZoneGeometry.of(null, area.getUpdatedAt(), polygonGeoJson);
+        }
+        ZoneGeometry cached = geometries.get(area.getId());
+        if (cached != null && cached.isCurrentFor(area.getUpdatedAt(), polygonGeoJson)) {
+            return cached;
+        }
+        ZoneGeometry fresh = ZoneGeometry.of(area.getId(), area.getUpdatedAt(), polygonGeoJson);
+        geometries.put(area.getId(), fresh);
+        return fresh;
+    }
+
+    public boolean covers(ZoneArea area, double lng, double lat) {
+        return geometryOf(area).covers(lng, lat);
+    }
+
+    /** 포함검사: (lng, lat) 좌표가 구역 폴리곤 내부(또는 경계선)에 있어야 한다 */
+    public void validatePointInsideOrThrow(ZoneArea area, double lng, double lat) {
+        ZoneGeometry geometry = geometryOf(area);
+        if (!geometry.envelope().contains(new Coordinate(lng, lat))) {
+            throw new IllegalArgumentException("선택 좌표는 구역 외부(BBOX)입니다.");
+        }
+        if (!geometry.covers(lng, lat)) {
+            throw new IllegalArgumentException("선택 좌표는 구역 폴리곤 내부가 아닙니다.");
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onZoneAreaChanged(ZoneAreaChangedEvent event) {
+        evict(event.zoneAreaId());
+    }
+
+    public void evict(Long areaId) {
+        if (areaId != null) {
+            geometries.remove(areaId);
+        }
+    }
+
+    int size() {
+        return geometries.size();
+    }
+}
@@ -3,7 +3,16 @@ package com.da.itdaing.domain.geo.repository;
 import com.da.itdaing.domain.geo.entity.ZoneArea;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ZoneAreaRepository extends JpaRepository<ZoneArea, Long> {
     Page<ZoneArea> findByNameContainingIgnoreCase(String keyword, Pageable pageable);
+
+    // 변경 피드용: 워터마크 이후 수정된 구역
+    @Query("select a.id from ZoneArea a where a.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -1,14 +1,38 @@
 package com.da.itdaing.domain.geo.repository;
 
 import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.geo.geometry.ZoneCellPoint;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ZoneCellRepository extends JpaRepository<ZoneCell, Long> {
     Page<ZoneCell> findByZoneArea_Id(Long areaId, Pageable pageable);
     Page<ZoneCell> findByOwner_Id(Long ownerId, Pageable pageable);
     List<ZoneCell> findByZoneArea_IdIn(Collection<Long> zoneAreaIds);
+
+    // 변경 피드용: 워터마크 이후 셀이 수정된 구역
+    @Query("select distinct c.zoneArea.id from ZoneCell c where c.updatedAt >= :since")
+    List<Long> findZoneAreaIdsWithCellsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 격자 색인 적재용: 셀 좌표만 읽는다
+    @Query("select new com.da.itdaing.domain.geo.geometry.ZoneCellPoint(c.id, c.zoneArea.id, c.lat, c.lng) from ZoneCell c")
+    List<ZoneCellPoint> findAllPoints();
+
+    @Query("select new com.da.itdaing.domain.geo.geometry.ZoneCellPoint(c.id, c.zoneArea.id, c.lat, c.lng) from ZoneCell c where c.id = :id")
+    Optional<ZoneCellPoint> findPointById(@Param("id") Long id);
+
+    // 격자 색인이 준비되기 전 화면 영역 조회 대체 경로
+    @Query("""
+        select new com.da.itdaing.domain.geo.geometry.ZoneCellPoint(c.id, c.zoneArea.id, c.lat, c.lng) from ZoneCell c
+        where c.lng between :minLng and :maxLng and c.lat between :minLat and :maxLat
+        """)
+    List<ZoneCellPoint> findPointsWithin(@Param("minLng") double minLng, @Param("minLat") double minLat,
+                                         @Param("maxLng") double maxLng, @Param("maxLat") double maxLat);
 }
@@ -0,0 +1,70 @@
+package com.da.itdaing.domain.geo.repository;
+
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
+import com.da.itdaing.domain.geo.geometry.GeoSpatialProperties;
+import com.da.itdaing.domain.geo.geometry.ZoneCellPoint;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostGIS 공간 인덱스 쿼리 (zone_area.geom / zone_cell.geom, V19 의 GiST 인덱스)
+ * - 운영 DB 는 PostGIS 가 필수다 (V19 가 확장을 만들고 엔티티가 geom 을 항상 쓴다).
+ * - H2 로 도는 테스트만 geo-spatial.database-enabled=false 로 끄며, 이때 호출 측은 메모리 색인/범위 조건을 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ZoneSpatialJdbcRepository {
+
+    private static final String FIND_AREA_IDS_COVERING = """
+        select id from zone_area
+        where geom is not null
+          and ST_Covers(geom, ST_SetSRID(ST_MakePoint(?, ?), 4326))
+          and status <> 'HIDDEN'
+        order by ST_Area(geom), id
+        """;
+
+    private static final String FIND_CELLS_INTERSECTING = """
+        select id, zone_area_id, lat, lng from zone_cell
+        where geom && ST_MakeEnvelope(?, ?, ?, ?, 4326)
+        """;
+
+    private static final String FIND_CELLS_WITHIN_METERS = """
+        select id, zone_area_id, lat, lng from zone_cell
+        where ST_DWithin(geom::geography, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography, ?)
+        order by geom::geography <-> ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography, id
+        limit ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GeoSpatialProperties properties;
+
+    public boolean isEnabled() {
+        return properties.isDatabaseEnabled();
+    }
+
+    /** (lng, lat) 를 덮는 숨김이 아닌 구역 ID, 면적 오름차순 (ST_Covers) */
+    public List<Long> findAreaIdsCovering(double lng, double lat) {
+        return jdbcTemplate.queryForList(FIND_AREA_IDS_COVERING, Long.class, lng, lat);
+    }
+
+    /** 화면 영역 안의 셀 좌표 (geom && 사각형, 경계 포함) */
+    public List<ZoneCellPoint> findCellsIntersecting(BoundingBox bbox) {
+        return jdbcTemplate.query(FIND_CELLS_INTERSECTING, ZoneSpatialJdbcRepository::toPoint,
+            bbox.minLng(), bbox.minLat(), bbox.maxLng(), bbox.maxLat());
+    }
+
+    /** (lng, lat) 에서 meters 이내의 셀 좌표, 가까운 순 최대 limit 건 (ST_DWithin geography) */
+    public List<ZoneCellPoint> findCellsWithinMeters(double lng, double lat, double meters, int limit) {
+        return jdbcTemplate.query(FIND_CELLS_WITHIN_METERS, ZoneSpatialJdbcRepository::toPoint,
+            lng, lat, meters, lng, lat, limit);
+    }
+
+    private static ZoneCellPoint toPoint(ResultSet rs, int rowNum) throws SQLException {
+        return new ZoneCellPoint(rs.getLong("id"), rs.getLong("zone_area_id"),
+            rs.getDouble("lat"), rs.getDouble("lng"));
+    }
+}
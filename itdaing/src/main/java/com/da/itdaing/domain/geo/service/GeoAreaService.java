@@ -2,12 +2,18 @@
 package com.da.itdaing.domain.geo.service;
 
 import com.da.itdaing.domain.common.enums.AreaStatus;
+import com.da.itdaing.domain.common.enums.SyncResourceType;
 import com.da.itdaing.domain.geo.dto.GeoDtos.*;
 import com.da.itdaing.domain.geo.entity.*;
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
 import com.da.itdaing.domain.geo.repository.*;
 import com.da.itdaing.domain.master.entity.Region;
 import com.da.itdaing.domain.master.repository.RegionRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.domain.sync.entity.SyncTombstone;
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +26,9 @@ public class GeoAreaService {
 
     private final ZoneAreaRepository areaRepo;
     private final RegionRepository regionRepo;
+    private final PopupCardProjector popupCardProjector;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AreaResponse createArea(CreateAreaRequest req) {
         Region region = null;
@@ -37,6 +46,7 @@ public class GeoAreaService {
             .build();
 
         areaRepo.save(area);
+        eventPublisher.publishEvent(new ZoneAreaChangedEvent(area.getId()));
 
         return AreaResponse.builder()
             .id(Objects.requireNonNull(area.getId()))
@@ -100,6 +110,8 @@ public class GeoAreaService {
         );
 
         areaRepo.save(area);
+        popupCardProjector.refreshZoneArea(area);
+        eventPublisher.publishEvent(new ZoneAreaChangedEvent(area.getId()));
 
         return AreaResponse.builder()
             .id(Objects.requireNonNull(area.getId()))
@@ -123,6 +135,8 @@ public class GeoAreaService {
         // 여기서는 삭제를 허용하되, 데이터베이스 외래키 제약조건에 의해 셀이 있으면 삭제 실패
         
         areaRepo.delete(area);
+        syncTombstoneRepository.save(SyncTombstone.of(SyncResourceType.ZONE_AREA, areaId));
+        eventPublisher.publishEvent(new ZoneAreaChangedEvent(areaId));
     }
 
     /** 관리자: 구역 상세 조회 */
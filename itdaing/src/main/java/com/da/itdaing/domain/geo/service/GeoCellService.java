@@ -2,24 +2,30 @@
 package com.da.itdaing.domain.geo.service;
 
 import com.da.itdaing.domain.common.enums.AreaStatus;
+import com.da.itdaing.domain.common.enums.SyncResourceType;
 import com.da.itdaing.domain.common.enums.ZoneStatus;
 import com.da.itdaing.domain.geo.dto.GeoDtos.*;
 import com.da.itdaing.domain.geo.entity.ZoneArea;
 import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.geo.event.ZoneCellChangedEvent;
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
+import com.da.itdaing.domain.geo.geometry.ZoneCellGrid;
+import com.da.itdaing.domain.geo.geometry.ZoneCellPoint;
+import com.da.itdaing.domain.geo.geometry.ZoneGeometryRegistry;
 import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
 import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.domain.sync.entity.SyncTombstone;
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
 import com.da.itdaing.domain.user.entity.Users;
 import com.da.itdaing.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.locationtech.jts.geom.*;
-import org.locationtech.jts.geom.prep.PreparedGeometry;
-import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.Objects;
@@ -32,6 +38,11 @@ public class GeoCellService {
     private final ZoneCellRepository cellRepo;
     private final ZoneAreaRepository areaRepo;
     private final UserRepository userRepo;
+    private final PopupCardProjector popupCardProjector;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneGeometryRegistry zoneGeometryRegistry;
+    private final ZoneCellGrid zoneCellGrid;
 
     /** 관리자: 셀 생성 */
     public CellResponse createCell(CreateCellRequest req) {
@@ -59,7 +70,7 @@ public class GeoCellService {
 
         // 포함검사: 좌표가 구역 폴리곤 내부에 있는지 확인
         if (area.getPolygonGeoJson() != null && !area.getPolygonGeoJson().isBlank()) {
-            validatePointInsideOrThrow(area.getPolygonGeoJson(), req.getLng(), req.getLat());
+            zoneGeometryRegistry.validatePointInsideOrThrow(area, req.getLng(), req.getLat());
         }
 
         ZoneCell cell = ZoneCell.builder()
@@ -75,6 +86,7 @@ public class GeoCellService {
             .build();
 
         cellRepo.save(cell);
+        eventPublisher.publishEvent(new ZoneCellChangedEvent(cell.getId(), area.getId()));
         return toDto(cell);
     }
 
@@ -112,7 +124,7 @@ public class GeoCellService {
         // 좌표 변경 시 포함검사
         if ((req.getLat() != null || req.getLng() != null || req.getAreaId() != null) 
             && area.getPolygonGeoJson() != null && !area.getPolygonGeoJson().isBlank()) {
-            validatePointInsideOrThrow(area.getPolygonGeoJson(), lng, lat);
+            zoneGeometryRegistry.validatePointInsideOrThrow(area, lng, lat);
         }
 
         // 엔티티 업데이트
@@ -129,6 +141,8 @@ public class GeoCellService {
         );
 
         cellRepo.save(existingCell);
+        popupCardProjector.refreshZoneCell(existingCell);
+        eventPublisher.publishEvent(new ZoneCellChangedEvent(existingCell.getId(), area.getId()));
         return toDto(existingCell);
     }
 
@@ -140,16 +154,33 @@ public class GeoCellService {
         // 연관된 팝업이 있는지 확인 (선택사항: 경고만 표시하거나 삭제 방지)
         // 여기서는 삭제를 허용하되, 데이터베이스 외래키 제약조건에 의해 팝업이 있으면 삭제 실패
         
+        Long areaId = cell.getZoneArea().getId();
         cellRepo.delete(cell);
+        syncTombstoneRepository.save(SyncTombstone.of(SyncResourceType.ZONE_CELL, cellId, areaId));
+        eventPublisher.publishEvent(new ZoneCellChangedEvent(cellId, areaId));
     }
 
-    /** 관리자: 셀 목록 조회 (필터링 지원) */
+    /** 관리자: 셀 목록 조회 (필터링 지원). bbox 가 있으면 격자 색인으로 화면 영역 안의 셀만 읽는다. */
     @Transactional(readOnly = true)
-    public CellListResponse listCells(Long areaId, Long ownerId, ZoneStatus status, int page, int size) {
+    public CellListResponse listCells(Long areaId, Long ownerId, ZoneStatus status, BoundingBox bbox, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
         Page<ZoneCell> data;
 
-        if (areaId != null && ownerId != null) {
+        if (bbox != null) {
+            // 화면 영역 안의 셀만 읽어 메모리에서 나머지 조건과 페이지를 적용
+            List<Long> cellIds = zoneCellGrid.within(bbox).stream()
+                .filter(point -> areaId == null || areaId.equals(point.areaId()))
+                .map(ZoneCellPoint::cellId)
+                .toList();
+            List<ZoneCell> filtered = cellIds.isEmpty() ? List.of() : cellRepo.findAllById(cellIds).stream()
+                .filter(cell -> ownerId == null || cell.getOwner().getId().equals(ownerId))
+                .filter(cell -> status == null || cell.getStatus() == status)
+                .sorted(Comparator.comparing(ZoneCell::getId).reversed())
+                .toList();
+            int from = (int) Math.min(pageable.getOffset(), filtered.size());
+            int to = Math.min(from + size, filtered.size());
+            data = new PageImpl<>(filtered.subList(from, to), pageable, filtered.size());
+        } else if (areaId != null && ownerId != null) {
             // 둘 다 필터링: 먼저 areaId로 필터링한 후 메모리에서 ownerId 필터링
             Page<ZoneCell> areaFiltered = cellRepo.findByZoneArea_Id(areaId, pageable);
             List<ZoneCell> filtered = areaFiltered.getContent().stream()
@@ -170,8 +201,9 @@ public class GeoCellService {
             .map(this::toDto)
             .toList();
 
-        long totalElements = status != null 
-            ? filteredItems.size() 
+        // bbox 경로는 상태까지 거른 전체 건수로 이미 페이지를 만들었다
+        long totalElements = status != null && bbox == null
+            ? filteredItems.size()
             : data.getTotalElements();
 
         return CellListResponse.builder()
@@ -209,102 +241,4 @@ public class GeoCellService {
             .updatedAt(cell.getUpdatedAt())
             .build();
     }
-
-    /* ---------- 포함검사 유틸 (GeoJSON Polygon/MultiPolygon, 좌표는 WGS84 [lng, lat]) ---------- */
-
-    private void validatePointInsideOrThrow(String polygonGeoJson, double lng, double lat) {
-        if (polygonGeoJson == null || polygonGeoJson.isBlank()) {
-            throw new IllegalArgumentException("구역 폴리곤(GeoJSON)이 없습니다.");
-        }
-        try {
-            Geometry geom = readGeometryFromGeoJson(polygonGeoJson);
-
-            Envelope env = geom.getEnvelopeInternal();
-            if (!env.contains(new Coordinate(lng, lat))) {
-                throw new IllegalArgumentException("선택 좌표는 구역 외부(BBOX)입니다.");
-            }
-
-            GeometryFactory gf = new GeometryFactory();
-            Point p = gf.createPoint(new Coordinate(lng, lat));
-            PreparedGeometry prepared = PreparedGeometryFactory.prepare(geom);
-
-            if (!prepared.covers(p)) {
-                throw new IllegalArgumentException("선택 좌표는 구역 폴리곤 내부가 아닙니다.");
-            }
-        } catch (IllegalArgumentException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new IllegalArgumentException("폴리곤 파싱/검증 실패(GeoJSON/WGS84 [lng,lat] 확인 필요).", e);
-        }
-    }
-
-    private Geometry readGeometryFromGeoJson(String geojson) throws Exception {
-        ObjectMapper om = new ObjectMapper();
-        JsonNode root = om.readTree(geojson);
-
-        if (root.has("type") && "Feature".equalsIgnoreCase(root.get("type").asText()) && root.has("geometry")) {
-            root = root.get("geometry");
-        } else if (root.has("type") && "FeatureCollection".equalsIgnoreCase(root.get("type").asText())
-            && root.has("features") && root.get("features").isArray() && root.get("features").size() > 0) {
-            JsonNode first = root.get("features").get(0);
-            root = first.has("geometry") ? first.get("geometry") : root;
-        }
-
-        String type = root.has("type") ? root.get("type").asText() : null;
-        if (type == null) throw new IllegalArgumentException("GeoJSON type이 없습니다.");
-
-        GeometryFactory gf = new GeometryFactory();
-
-        if ("Polygon".equalsIgnoreCase(type)) {
-            return polygonFromCoords(gf, root.get("coordinates"));
-        } else if ("MultiPolygon".equalsIgnoreCase(type)) {
-            return multiPolygonFromCoords(gf, root.get("coordinates"));
-        } else {
-            throw new IllegalArgumentException("지원하지 않는 GeoJSON 타입: " + type);
-        }
-    }
-
-    private Polygon polygonFromCoords(GeometryFactory gf, JsonNode coordsNode) {
-        if (coordsNode == null || !coordsNode.isArray() || coordsNode.isEmpty()) {
-            throw new IllegalArgumentException("Polygon coordinates가 비어있습니다.");
-        }
-        LinearRing shell = ringFromLinearCoords(gf, coordsNode.get(0));
-        LinearRing[] holes = new LinearRing[Math.max(0, coordsNode.size() - 1)];
-        for (int i = 1; i < coordsNode.size(); i++) {
-            holes[i - 1] = ringFromLinearCoords(gf, coordsNode.get(i));
-        }
-        return gf.createPolygon(shell, holes);
-    }
-
-    private MultiPolygon multiPolygonFromCoords(GeometryFactory gf, JsonNode coordsNode) {
-        if (coordsNode == null || !coordsNode.isArray() || coordsNode.isEmpty()) {
-            throw new IllegalArgumentException("MultiPolygon coordinates가 비어있습니다.");
-        }
-        Polygon[] polys = new Polygon[coordsNode.size()];
-        for (int i = 0; i < coordsNode.size(); i++) {
-            polys[i] = polygonFromCoords(gf, coordsNode.get(i));
-        }
-        return gf.createMultiPolygon(polys);
-    }
-
-    private LinearRing ringFromLinearCoords(GeometryFactory gf, JsonNode ringNode) {
-        if (ringNode == null || !ringNode.isArray() || ringNode.size() < 4) {
-            throw new IllegalArgumentException("LinearRing 좌표는 최소 4개([lng,lat]...)이어야 합니다.");
-        }
-        Coordinate[] coords = new Coordinate[ringNode.size()];
-        for (int i = 0; i < ringNode.size(); i++) {
-            JsonNode p = ringNode.get(i);
-            double lng = p.get(0).asDouble();
-            double lat = p.get(1).asDouble();
-            coords[i] = new Coordinate(lng, lat);
-        }
-        if (!coords[0].equals2D(coords[coords.length - 1])) {
-            Coordinate[] closed = new Coordinate[coords.length + 1];
-            System.arraycopy(coords, 0, closed, 0, coords.length);
-            closed[closed.length - 1] = coords[0];
-            coords = closed;
-        }
-        return gf.createLinearRing(coords);
-    }
 }
-
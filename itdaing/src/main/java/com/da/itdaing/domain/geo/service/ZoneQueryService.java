@@ -1,17 +1,36 @@
 package com.da.itdaing.domain.geo.service;
 
 import com.da.itdaing.domain.common.enums.AreaStatus;
+import com.da.itdaing.domain.common.enums.SyncResourceType;
 import com.da.itdaing.domain.common.enums.ZoneStatus;
 import com.da.itdaing.domain.geo.dto.ZoneCellSummaryResponse;
+import com.da.itdaing.domain.geo.dto.ZoneLocateResponse;
 import com.da.itdaing.domain.geo.dto.ZoneSummaryResponse;
 import com.da.itdaing.domain.geo.entity.ZoneArea;
 import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
+import com.da.itdaing.domain.geo.geometry.ZoneAreaLocator;
+import com.da.itdaing.domain.geo.geometry.ZoneCellGrid;
+import com.da.itdaing.domain.geo.geometry.ZoneCellPoint;
+import com.da.itdaing.domain.geo.geometry.ZoneGeometryRegistry;
 import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
 import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.sync.dto.ChangeFeedResponse;
+import com.da.itdaing.domain.sync.entity.SyncTombstone;
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
+import com.da.itdaing.domain.sync.service.SyncToken;
 import com.da.itdaing.domain.user.entity.Users;
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,9 +43,85 @@ public class ZoneQueryService {
 
     private final ZoneAreaRepository zoneAreaRepository;
     private final ZoneCellRepository zoneCellRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ZoneAreaLocator zoneAreaLocator;
+    private final ZoneCellGrid zoneCellGrid;
+    private final ZoneGeometryRegistry zoneGeometryRegistry;
 
     public List<ZoneSummaryResponse> getZones() {
-        List<ZoneArea> areas = zoneAreaRepository.findAll();
+        return toSummaries(zoneAreaRepository.findAll());
+    }
+
+    /**
+     * 화면 영역 조회: 폴리곤 BBOX 가 영역과 겹치거나 영역 안에 셀이 있는 구역만, 셀은 영역 안의 것만 내려준다.
+     * bbox 가 없으면 전체 목록과 같다.
+     */
+    public List<ZoneSummaryResponse> getZones(BoundingBox bbox) {
+        if (bbox == null) {
+            return getZones();
+        }
+        List<ZoneCellPoint> points = zoneCellGrid.within(bbox);
+        Set<Long> cellIds = points.stream().map(ZoneCellPoint::cellId).collect(Collectors.toSet());
+        Set<Long> areaIds = points.stream().map(ZoneCellPoint::areaId).collect(Collectors.toCollection(LinkedHashSet::new));
+        List<ZoneArea> areas;
+        if (zoneAreaLocator.isReady()) {
+            areaIds.addAll(zoneAreaLocator.areaIdsIntersecting(bbox));
+            areas = areaIds.isEmpty() ? List.of() : zoneAreaRepository.findAllById(areaIds);
+        } else {
+            areas = zoneAreaRepository.findAll().stream()
+                .filter(area -> areaIds.contains(area.getId()) || polygonIntersects(area, bbox))
+                .toList();
+        }
+        List<ZoneArea> sorted = areas.stream().sorted(Comparator.comparing(ZoneArea::getId)).toList();
+        return toSummaries(sorted, cell -> cellIds.contains(cell.getId()));
+    }
+
+    /** 좌표가 속한 구역 (겹치면 가장 작은 구역, 숨김 구역 제외) */
+    public ZoneLocateResponse locate(double lat, double lng) {
+        return zoneAreaLocator.locate(lng, lat)
+            .map(area -> new ZoneLocateResponse(area.areaId(), area.name(), area.regionId(),
+                areaStatusToString(area.status())))
+            .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND, "좌표가 속한 구역이 없습니다."));
+    }
+
+    /**
+     * 변경 피드: since 워터마크 이후 바뀐 구역을 셀 목록까지 통째로 내려준다.
+     * - 구역 자체가 수정됐거나, 소속 셀이 생성/수정/삭제된 구역이 upserts 에 들어간다 (클라이언트는 구역 단위로 교체).
+     * - 셀이 다른 구역으로 옮겨진 경우 새 구역만 내려가므로, 클라이언트는 다른 구역에 남은 같은 셀 ID 를 지운다.
+     * - deletedIds 는 삭제된 구역 ID. since 가 없거나 너무 오래됐으면 전체 구역을 내려준다.
+     */
+    public ChangeFeedResponse<ZoneSummaryResponse> getChanges(String since) {
+        LocalDateTime now = LocalDateTime.now();
+        SyncToken token = SyncToken.decode(since);
+        boolean fullResync = token != null && token.isExpired(now);
+        String next = SyncToken.caughtUp(now).encode();
+        if (token == null || fullResync) {
+            return new ChangeFeedResponse<>(getZones(), List.of(), next, false, fullResync);
+        }
+
+        LocalDateTime from = token.watermark();
+        Set<Long> changedAreaIds = new LinkedHashSet<>(zoneAreaRepository.findIdsUpdatedSince(from));
+        changedAreaIds.addAll(zoneCellRepository.findZoneAreaIdsWithCellsUpdatedSince(from));
+        List<Long> deletedAreaIds = new ArrayList<>();
+        for (SyncTombstone tombstone : syncTombstoneRepository.findByResourceTypeInAndDeletedAtGreaterThanEqual(
+                List.of(SyncResourceType.ZONE_AREA, SyncResourceType.ZONE_CELL), from)) {
+            if (tombstone.getResourceType() == SyncResourceType.ZONE_AREA) {
+                deletedAreaIds.add(tombstone.getResourceId());
+            } else if (tombstone.getParentId() != null) {
+                changedAreaIds.add(tombstone.getParentId());
+            }
+        }
+        changedAreaIds.removeAll(deletedAreaIds);
+
+        List<ZoneArea> areas = changedAreaIds.isEmpty() ? List.of() : zoneAreaRepository.findAllById(changedAreaIds);
+        return new ChangeFeedResponse<>(toSummaries(areas), deletedAreaIds, next, false, false);
+    }
+
+    private List<ZoneSummaryResponse> toSummaries(List<ZoneArea> areas) {
+        return toSummaries(areas, cell -> true);
+    }
+
+    private List<ZoneSummaryResponse> toSummaries(List<ZoneArea> areas, Predicate<ZoneCell> cellFilter) {
         if (areas.isEmpty()) {
             return List.of();
         }
@@ -43,6 +138,7 @@ public class ZoneQueryService {
                 area.getPolygonGeoJson(),
                 cellsByArea.getOrDefault(area.getId(), List.of())
                     .stream()
+                    .filter(cellFilter)
                     .map(this::toCellSummary)
                     .toList()
             ))
@@ -56,6 +152,17 @@ public class ZoneQueryService {
             .collect(Collectors.groupingBy(cell -> cell.getZoneArea().getId()));
     }
 
+    private boolean polygonIntersects(ZoneArea area, BoundingBox bbox) {
+        if (area.getPolygonGeoJson() == null || area.getPolygonGeoJson().isBlank()) {
+            return false;
+        }
+        try {
+            return zoneGeometryRegistry.geometryOf(area).envelope().intersects(bbox.toEnvelope());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     private ZoneCellSummaryResponse toCellSummary(ZoneCell cell) {
         Users owner = cell.getOwner();
         Long reservedBy = owner != null ? owner.getId() : null;
@@ -0,0 +1,30 @@
+package com.da.itdaing.domain.geo.service;
+
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import com.da.itdaing.domain.geo.event.ZoneCellChangedEvent;
+import com.da.itdaing.global.web.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 구역/셀 변경이 커밋되면 zones 리소스 버전을 올린다 (GET /api/zones 조건부 응답용).
+ * 커밋 이후에 올리므로 새 버전을 읽은 요청은 항상 커밋된 데이터를 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ZoneVersionListener {
+
+    private final ResourceVersions resourceVersions;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAreaChanged(ZoneAreaChangedEvent event) {
+        resourceVersions.bump(ResourceVersions.ZONES);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCellChanged(ZoneCellChangedEvent event) {
+        resourceVersions.bump(ResourceVersions.ZONES);
+    }
+}
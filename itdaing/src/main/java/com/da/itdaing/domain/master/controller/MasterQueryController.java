@@ -7,6 +7,7 @@ import com.da.itdaing.domain.master.dto.RegionResponse;
 import com.da.itdaing.domain.master.dto.StyleResponse;
 import com.da.itdaing.domain.master.service.MasterQueryService;
 import com.da.itdaing.global.web.ApiResponse;
+import com.da.itdaing.global.web.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,6 +33,7 @@ import java.util.List;
 public class MasterQueryController {
 
     private final MasterQueryService masterQueryService;
+    private final ResourceVersions resourceVersions;
 
     @Operation(
         summary = "지역 목록 조회",
@@ -43,6 +46,7 @@ public class MasterQueryController {
             - displayName: 표시명 (예: "서울 강남구")
             
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
+            변경이 없으면 If-None-Match / If-Modified-Since 재요청에 304 Not Modified 로 응답합니다.
             """,
         security = {}
     )
@@ -78,7 +82,10 @@ public class MasterQueryController {
         )
     })
     @GetMapping(value = "/regions", produces = "application/json")
-    public ResponseEntity<ApiResponse<List<RegionResponse>>> getRegions() {
+    public ResponseEntity<ApiResponse<List<RegionResponse>>> getRegions(WebRequest request) {
+        if (resourceVersions.checkNotModified(request, ResourceVersions.MASTER)) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success(masterQueryService.getAllRegions()));
     }
 
@@ -95,6 +102,7 @@ public class MasterQueryController {
             소비자 회원가입 시 관심 스타일을 1~4개 선택할 수 있습니다.
             
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
+            변경이 없으면 If-None-Match / If-Modified-Since 재요청에 304 Not Modified 로 응답합니다.
             """,
         security = {}
     )
@@ -130,7 +138,10 @@ public class MasterQueryController {
         )
     })
     @GetMapping(value = "/styles", produces = "application/json")
-    public ResponseEntity<ApiResponse<List<StyleResponse>>> getStyles() {
+    public ResponseEntity<ApiResponse<List<StyleResponse>>> getStyles(WebRequest request) {
+        if (resourceVersions.checkNotModified(request, ResourceVersions.MASTER)) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success(masterQueryService.getAllStyles()));
     }
 
@@ -148,6 +159,7 @@ public class MasterQueryController {
             팝업스토어 등록 시 해당 팝업의 특징을 선택할 수 있습니다.
             
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
+            변경이 없으면 If-None-Match / If-Modified-Since 재요청에 304 Not Modified 로 응답합니다.
             """,
         security = {}
     )
@@ -186,7 +198,10 @@ public class MasterQueryController {
         )
     })
     @GetMapping(value = "/features", produces = "application/json")
-    public ResponseEntity<ApiResponse<List<FeatureResponse>>> getFeatures() {
+    public ResponseEntity<ApiResponse<List<FeatureResponse>>> getFeatures(WebRequest request) {
+        if (resourceVersions.checkNotModified(request, ResourceVersions.MASTER)) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success(masterQueryService.getAllFeatures()));
     }
 
@@ -204,6 +219,7 @@ public class MasterQueryController {
             팝업스토어 등록 시 해당 팝업의 카테고리를 선택할 수 있습니다.
             
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
+            변경이 없으면 If-None-Match / If-Modified-Since 재요청에 304 Not Modified 로 응답합니다.
             """,
         security = {}
     )
@@ -244,7 +260,10 @@ public class MasterQueryController {
         )
     })
     @GetMapping(value = "/categories", produces = "application/json")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategories() {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategories(WebRequest request) {
+        if (resourceVersions.checkNotModified(request, ResourceVersions.MASTER)) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success(masterQueryService.getAllCategories()));
     }
 }
@@ -18,6 +18,7 @@ public class EventController {
 
     private final MetricService metricService;
 
+    // 검증 후 수집 버퍼에 넣고 바로 응답한다 (적재는 비동기, 버퍼가 가득 차면 503)
     @PostMapping("/view")
     @PreAuthorize("isAuthenticated()")
     public ApiResponse<Void> recordView(@RequestBody @Valid ViewEventRequest req, Principal principal) {
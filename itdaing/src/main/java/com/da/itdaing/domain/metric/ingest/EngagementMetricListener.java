@@ -0,0 +1,47 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import com.da.itdaing.domain.metric.repository.ViewEventJdbcRepository.DailyPopupKey;
+import com.da.itdaing.domain.popup.event.PopupEngagementEvent;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 찜/리뷰 신호를 metric_daily_popup 일간 집계(favorites, reviews)에 더한다.
+ * - 조회수는 ViewEventWriter 가 묶음으로 더하므로 여기서는 건너뛴다.
+ * - 같은 날 행을 다른 노드(또는 조회 적재)가 먼저 만들면 INSERT 가 유니크 제약에 걸리므로 한 번 다시 시도한다.
+ * - 집계 실패가 찜/리뷰 명령을 되돌리지 않도록 커밋 이후에 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EngagementMetricListener {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ViewEventWriter viewEventWriter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngagement(PopupEngagementEvent event) {
+        long favorites = event.kind() == PopupEngagementEvent.Kind.FAVORITE ? event.count() : 0;
+        long reviews = event.kind() == PopupEngagementEvent.Kind.REVIEW ? event.count() : 0;
+        if (favorites == 0 && reviews == 0) {
+            return;
+        }
+        DailyPopupKey key = new DailyPopupKey(event.popupId(), LocalDate.ofInstant(event.occurredAt(), ZONE));
+        try {
+            try {
+                viewEventWriter.writeEngagement(key, favorites, reviews);
+            } catch (DataIntegrityViolationException e) {
+                viewEventWriter.writeEngagement(key, favorites, reviews);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[metric] failed to record {} for popup {}: {}", event.kind(), event.popupId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import java.time.Instant;
+
+/**
+ * 수집 대기 중인 팝업 조회 이벤트 (요청 스레드에서 만들어 ViewEventQueue 에 넣는다)
+ * - occurredAt 은 요청 시각이다. 적재가 늦어져도 event_log.created_at 과 일간 집계 날짜는 이 값으로 정한다.
+ */
+public record ViewEvent(Long userId, Long popupId, String source, String sessionId, Instant occurredAt) {
+}
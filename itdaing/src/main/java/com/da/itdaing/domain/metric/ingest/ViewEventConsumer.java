@@ -0,0 +1,186 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 이벤트 소비자 (노드당 스케줄러 스레드 하나)
+ * - ViewEventQueue 에서 batchSize 만큼 꺼내 한 묶음씩 처리하고, 버퍼가 빌 때까지 반복한다.
+ * - 묶음마다: 존재하는 팝업/사용자 ID 를 IN 조회 두 번으로 거르고,
+ *   세션당 하루 한 번 판정(SET NX)을 파이프라인 한 번으로 묻고, ViewEventWriter 로 적재한다.
+ * - 일간 집계 행을 다른 노드와 동시에 만들어 유니크 제약에 걸리면 한 번 다시 시도한다 (고유 판정은 재사용).
+ * - 적재에 실패한 묶음은 되돌리지 않고 failed 로 센다 (조회 이벤트는 유실을 허용하고, 재시도 폭주를 막는다).
+ */
+@Slf4j
+@Component
+public class ViewEventConsumer {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd
+
+    private final ViewEventIngestProperties properties;
+    private final ViewEventQueue viewEventQueue;
+    private final ViewEventWriter viewEventWriter;
+    private final PopupRepository popupRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redis;
+
+    private final Counter persisted;
+    private final Counter unique;
+    private final Counter invalid;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    public ViewEventConsumer(ViewEventIngestProperties properties,
+                             ViewEventQueue viewEventQueue,
+                             ViewEventWriter viewEventWriter,
+                             PopupRepository popupRepository,
+                             UserRepository userRepository,
+                             StringRedisTemplate redis,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.viewEventQueue = viewEventQueue;
+        this.viewEventWriter = viewEventWriter;
+        this.popupRepository = popupRepository;
+        this.userRepository = userRepository;
+        this.redis = redis;
+        this.persisted = ViewEventMetrics.events(meterRegistry, "persisted");
+        this.unique = ViewEventMetrics.events(meterRegistry, "unique");
+        this.invalid = ViewEventMetrics.events(meterRegistry, "invalid");
+        this.failed = ViewEventMetrics.events(meterRegistry, "failed");
+        this.batchTimer = Timer.builder("metric.view_ingest.batch")
+            .description("조회 이벤트 한 묶음 적재 시간")
+            .register(meterRegistry);
+    }
+
+    /** 버퍼를 비울 때까지 묶음 단위로 적재한다. 처리한 이벤트 수를 반환한다. */
+    @Scheduled(fixedDelayString = "${view-ingest.drain-interval:200ms}")
+    public synchronized int drain() {
+        int processed = 0;
+        while (true) {
+            List<ViewEvent> batch = viewEventQueue.poll(properties.getBatchSize());
+            if (batch.isEmpty()) {
+                return processed;
+            }
+            process(batch);
+            processed += batch.size();
+            if (batch.size() < properties.getBatchSize()) {
+                return processed;
+            }
+        }
+    }
+
+    /** 한 묶음 적재 (비동기 수집을 끈 경우 요청 스레드에서 한 건짜리 묶음으로 호출된다) */
+    public void process(List<ViewEvent> batch) {
+        batchTimer.record(() -> {
+            List<ViewEvent> events = knownOnly(batch);
+            invalid.increment(batch.size() - events.size());
+            if (events.isEmpty()) {
+                return;
+            }
+            List<ViewEvent> uniqueViews = uniqueToday(events);
+            try {
+                writeWithRetry(events, uniqueViews);
+                persisted.increment(events.size());
+                unique.increment(uniqueViews.size());
+            } catch (Exception e) {
+                failed.increment(events.size());
+                log.warn("[view-ingest] failed to persist {} events: {}", events.size(), e.getMessage(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        int processed = drain();
+        if (processed > 0) {
+            log.info("[view-ingest] persisted {} queued events on shutdown", processed);
+        }
+    }
+
+    private void writeWithRetry(List<ViewEvent> events, List<ViewEvent> uniqueViews) {
+        try {
+            viewEventWriter.write(events, uniqueViews);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[view-ingest] retrying batch after concurrent daily metric insert: {}", e.getMessage());
+            viewEventWriter.write(events, uniqueViews);
+        }
+    }
+
+    /** 존재하는 팝업/사용자의 이벤트만 남긴다 */
+    private List<ViewEvent> knownOnly(List<ViewEvent> batch) {
+        Set<Long> popupIds = new HashSet<>(popupRepository.findExistingIds(
+            batch.stream().map(ViewEvent::popupId).distinct().toList()));
+        Set<Long> userIds = new HashSet<>(userRepository.findExistingIds(
+            batch.stream().map(ViewEvent::userId).filter(Objects::nonNull).distinct().toList()));
+        return batch.stream()
+            .filter(event -> popupIds.contains(event.popupId()))
+            .filter(event -> event.userId() == null || userIds.contains(event.userId()))
+            .toList();
+    }
+
+    /**
+     * 세션당(세션이 없으면 사용자당) 하루 한 번만 고유 조회로 센다.
+     * 묶음 전체의 SET NX EX 를 파이프라인 한 번으로 보낸다. Redis 장애 시에는 모두 고유로 취급한다 (기존 동작 유지).
+     */
+    private List<ViewEvent> uniqueToday(List<ViewEvent> events) {
+        List<Object> results;
+        try {
+            results = redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (ViewEvent event : events) {
+                    ZonedDateTime at = event.occurredAt().atZone(ZONE);
+                    Duration ttl = Duration.between(at, at.toLocalDate().plusDays(1).atStartOfDay(ZONE));
+                    connection.stringCommands().set(
+                        uniqueKeyOf(event, at.toLocalDate()).getBytes(StandardCharsets.UTF_8),
+                        "1".getBytes(StandardCharsets.UTF_8),
+                        Expiration.from(ttl.isPositive() ? ttl : Duration.ofSeconds(1)),
+                        SetOption.ifAbsent());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("[view-ingest] uniqueness check skipped: {}", e.getMessage());
+            return events;
+        }
+        if (results == null) {
+            return events;
+        }
+        List<ViewEvent> uniqueViews = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (i >= results.size() || Boolean.TRUE.equals(results.get(i))) {
+                uniqueViews.add(events.get(i));
+            }
+        }
+        return uniqueViews;
+    }
+
+    static String uniqueKeyOf(ViewEvent event, LocalDate day) {
+        String idPart = (event.sessionId() != null && !event.sessionId().isBlank())
+            ? "s:" + event.sessionId().trim()
+            : "u:" + event.userId(); // 세션 없을 때 fallback: 사용자 기준
+        return "uv:popup:%d:%s:day:%s".formatted(event.popupId(), idPart, DAY.format(day));
+    }
+}
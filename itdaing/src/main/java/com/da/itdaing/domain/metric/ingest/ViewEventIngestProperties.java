@@ -0,0 +1,28 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "view-ingest")
+public class ViewEventIngestProperties {
+
+    /** 비동기 수집 사용 여부 (false 면 요청 스레드에서 한 건씩 바로 적재) */
+    private boolean enabled = true;
+
+    /** 메모리 링 버퍼 크기 (노드당 대기 이벤트 수 상한) */
+    private int capacity = 10_000;
+
+    /** 한 번에 적재하는 최대 이벤트 수 */
+    private int batchSize = 500;
+
+    /** 버퍼가 가득 찼을 때 Redis 리스트로 넘길지 여부 */
+    private boolean spillEnabled = true;
+
+    /** 넘친 이벤트를 보관하는 Redis 리스트 키 (모든 노드가 공유) */
+    private String spillKey = "events:view:spill";
+
+    /** Redis 리스트 길이 상한. 넘으면 이벤트를 버리고 drop 으로 센다. */
+    private long spillMaxLength = 200_000;
+}
@@ -0,0 +1,22 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** 조회 이벤트 수집 지표 이름 */
+final class ViewEventMetrics {
+
+    private ViewEventMetrics() {
+    }
+
+    /**
+     * result: accepted(버퍼 적재), spilled(Redis 로 넘김), dropped(버림),
+     * persisted(event_log 적재), unique(고유 조회로 집계), invalid(없는 팝업/사용자), failed(적재 실패)
+     */
+    static Counter events(MeterRegistry registry, String result) {
+        return Counter.builder("metric.view_ingest.events")
+            .description("조회 이벤트 수집 결과별 건수")
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,119 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 이벤트 수집 버퍼
+ * - 요청 스레드는 고정 크기 링 버퍼(ArrayBlockingQueue)에 넣기만 하고 바로 응답한다.
+ * - 버퍼가 가득 차면 Redis 리스트(events:view:spill)로 넘기고, 그마저 가득 차거나 쓸 수 없으면 버린다.
+ *   버린 요청은 호출 측이 503 으로 알려 클라이언트가 속도를 줄이게 한다.
+ * - ViewEventConsumer 가 poll 로 버퍼를 먼저 비우고, 남는 자리만큼 Redis 리스트에서 꺼내 간다 (LPOP 이라 노드 간 중복 없음).
+ * - 결과별 건수(metric.view_ingest.events)와 버퍼 대기 건수(metric.view_ingest.queue.size)를 노출한다.
+ */
+@Slf4j
+@Component
+public class ViewEventQueue {
+
+    private final ViewEventIngestProperties properties;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<ViewEvent> buffer;
+
+    private final Counter accepted;
+    private final Counter spilled;
+    private final Counter dropped;
+
+    public ViewEventQueue(ViewEventIngestProperties properties,
+                          StringRedisTemplate redis,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        Gauge.builder("metric.view_ingest.queue.size", buffer, BlockingQueue::size)
+            .description("적재를 기다리는 조회 이벤트 수 (메모리 버퍼)")
+            .register(meterRegistry);
+        this.accepted = ViewEventMetrics.events(meterRegistry, "accepted");
+        this.spilled = ViewEventMetrics.events(meterRegistry, "spilled");
+        this.dropped = ViewEventMetrics.events(meterRegistry, "dropped");
+    }
+
+    /** 받아들였으면 true, 버퍼와 Redis 가 모두 가득 차 버렸으면 false */
+    public boolean offer(ViewEvent event) {
+        if (buffer.offer(event)) {
+            accepted.increment();
+            return true;
+        }
+        if (spill(event)) {
+            spilled.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /** 최대 max 건을 꺼낸다 (메모리 버퍼 우선, 남는 자리는 Redis 리스트에서) */
+    public List<ViewEvent> poll(int max) {
+        List<ViewEvent> batch = new ArrayList<>(Math.min(max, properties.getCapacity()));
+        buffer.drainTo(batch, max);
+        if (batch.size() < max && properties.isSpillEnabled()) {
+            batch.addAll(unspill(max - batch.size()));
+        }
+        return batch;
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    private boolean spill(ViewEvent event) {
+        if (!properties.isSpillEnabled()) {
+            return false;
+        }
+        try {
+            Long length = redis.opsForList().size(properties.getSpillKey());
+            if (length != null && length >= properties.getSpillMaxLength()) {
+                return false;
+            }
+            redis.opsForList().rightPush(properties.getSpillKey(), objectMapper.writeValueAsString(event));
+            return true;
+        } catch (Exception e) {
+            log.warn("[view-ingest] spill failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private List<ViewEvent> unspill(int max) {
+        List<String> values;
+        try {
+            values = redis.opsForList().leftPop(properties.getSpillKey(), max);
+        } catch (Exception e) {
+            log.debug("[view-ingest] spill read skipped: {}", e.getMessage());
+            return List.of();
+        }
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        List<ViewEvent> events = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                events.add(objectMapper.readValue(value, ViewEvent.class));
+            } catch (Exception e) {
+                log.warn("[view-ingest] unreadable spilled event skipped: {}", e.getMessage());
+            }
+        }
+        return events;
+    }
+}
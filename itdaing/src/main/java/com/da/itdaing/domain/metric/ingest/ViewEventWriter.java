@@ -0,0 +1,54 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import com.da.itdaing.domain.metric.repository.ViewEventJdbcRepository;
+import com.da.itdaing.domain.metric.repository.ViewEventJdbcRepository.DailyPopupKey;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조회 이벤트 한 묶음을 한 트랜잭션으로 적재
+ * - 모든 이벤트는 event_log 에 남기고, 고유 조회(세션당 하루 한 번)만 일간 집계와 누적 조회수에 더한다.
+ * - 누적 조회수는 팝업별로 합쳐 PopupCardProjector 로 넘긴다 (커밋 후 쓰기 지연 카운터에 더해진다).
+ * - 찜/리뷰 일간 집계는 원래 명령이 커밋된 뒤(EngagementMetricListener) 별도 트랜잭션으로 더한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ViewEventWriter {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ViewEventJdbcRepository viewEventJdbcRepository;
+    private final PopupCardProjector popupCardProjector;
+
+    @Transactional
+    public void write(List<ViewEvent> events, List<ViewEvent> uniqueViews) {
+        viewEventJdbcRepository.insertEventLogs(events);
+        if (uniqueViews.isEmpty()) {
+            return;
+        }
+
+        Map<DailyPopupKey, Long> dailyViews = new LinkedHashMap<>();
+        Map<Long, Long> popupViews = new LinkedHashMap<>();
+        for (ViewEvent view : uniqueViews) {
+            LocalDate date = LocalDate.ofInstant(view.occurredAt(), ZONE);
+            dailyViews.merge(new DailyPopupKey(view.popupId(), date), 1L, Long::sum);
+            popupViews.merge(view.popupId(), 1L, Long::sum);
+        }
+        viewEventJdbcRepository.addDailyViews(dailyViews);
+        popupViews.forEach(popupCardProjector::addViewCount);
+    }
+
+    /** 커밋 이후 리스너에서 불리므로 끝난 트랜잭션에 끼지 않도록 새 트랜잭션으로 쓴다 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeEngagement(DailyPopupKey key, long favorites, long reviews) {
+        viewEventJdbcRepository.addDailyEngagement(key, favorites, reviews);
+    }
+}
@@ -1,5 +1,6 @@
 package com.da.itdaing.domain.metric.repository;
 
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
 import com.da.itdaing.domain.metric.entity.MetricDailyPopup;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,5 +21,12 @@ public interface MetricDailyPopupRepository extends JpaRepository<MetricDailyPop
              and m.date between :from and :to
            """)
     long sumViewsBetween(Long popupId, LocalDate from, LocalDate to);
-}
 
+    // 인기 순위 대체 계산용: from 이후 해당 상태 팝업의 일간 집계
+    @Query("""
+           select m from MetricDailyPopup m
+           where m.date >= :from
+             and m.popup.approvalStatus = :status
+           """)
+    List<MetricDailyPopup> findByDateSinceAndPopupStatus(LocalDate from, ApprovalStatus status);
+}
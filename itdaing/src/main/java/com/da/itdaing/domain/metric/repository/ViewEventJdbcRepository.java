@@ -0,0 +1,96 @@
+package com.da.itdaing.domain.metric.repository;
+
+import com.da.itdaing.domain.metric.ingest.ViewEvent;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 조회 이벤트 일괄 적재 (event_log / metric_daily_popup)
+ * - event_log 는 JDBC 배치 INSERT 로 한 번에 보낸다.
+ * - 일간 집계는 (팝업, 날짜)별로 합친 증가분을 UPDATE views = views + ? 로 더하고, 행이 없던 것만 INSERT 한다.
+ *   다른 노드가 같은 행을 먼저 만들면 INSERT 가 유니크 제약에 걸리며, 호출 측이 트랜잭션을 다시 시도한다.
+ * - 찜/리뷰 일간 집계(favorites, reviews)도 같은 방식으로 더한다 (인기 순위 대체 경로용).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ViewEventJdbcRepository {
+
+    private static final String INSERT_EVENT_LOG = """
+        insert into event_log (user_id, popup_id, action_type, source, session_id, created_at)
+        values (?, ?, 'VIEW', ?, ?, ?)
+        """;
+
+    private static final String ADD_DAILY_VIEWS = """
+        update metric_daily_popup
+        set views = views + ?
+        where popup_id = ? and date = ?
+        """;
+
+    private static final String INSERT_DAILY_VIEWS = """
+        insert into metric_daily_popup (popup_id, date, views, unique_users, favorites, reviews)
+        values (?, ?, ?, 0, 0, 0)
+        """;
+
+    private static final String ADD_DAILY_ENGAGEMENT = """
+        update metric_daily_popup
+        set favorites = favorites + ?, reviews = reviews + ?
+        where popup_id = ? and date = ?
+        """;
+
+    private static final String INSERT_DAILY_ENGAGEMENT = """
+        insert into metric_daily_popup (popup_id, date, views, unique_users, favorites, reviews)
+        values (?, ?, 0, 0, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertEventLogs(List<ViewEvent> events) {
+        ZoneId zone = ZoneId.systemDefault();
+        jdbcTemplate.batchUpdate(INSERT_EVENT_LOG, events.stream()
+            .map(event -> new Object[] {
+                event.userId(),
+                event.popupId(),
+                event.source(),
+                event.sessionId(),
+                Timestamp.valueOf(LocalDateTime.ofInstant(event.occurredAt(), zone))
+            })
+            .toList());
+    }
+
+    /** key = (popupId, date), value = 더할 조회수 */
+    public void addDailyViews(Map<DailyPopupKey, Long> views) {
+        List<Map.Entry<DailyPopupKey, Long>> entries = new ArrayList<>(views.entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(ADD_DAILY_VIEWS, entries.stream()
+            .map(entry -> new Object[] {entry.getValue(), entry.getKey().popupId(), Date.valueOf(entry.getKey().date())})
+            .toList());
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[i] == 0) {
+                Map.Entry<DailyPopupKey, Long> entry = entries.get(i);
+                inserts.add(new Object[] {entry.getKey().popupId(), Date.valueOf(entry.getKey().date()), entry.getValue()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_DAILY_VIEWS, inserts);
+    }
+
+    /** (popupId, date) 행의 찜/리뷰 수에 더한다. 행이 없으면 만든다. */
+    public void addDailyEngagement(DailyPopupKey key, long favorites, long reviews) {
+        Date date = Date.valueOf(key.date());
+        if (jdbcTemplate.update(ADD_DAILY_ENGAGEMENT, favorites, reviews, key.popupId(), date) == 0) {
+            jdbcTemplate.update(INSERT_DAILY_ENGAGEMENT, key.popupId(), date, favorites, reviews);
+        }
+    }
+
+    public record DailyPopupKey(Long popupId, LocalDate date) {
+    }
+}
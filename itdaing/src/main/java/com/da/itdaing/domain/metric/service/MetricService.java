@@ -3,24 +3,21 @@ package com.da.itdaing.domain.metric.service;
 import com.da.itdaing.domain.metric.dto.ViewEventRequest;
 import com.da.itdaing.domain.metric.dto.ViewsTimeseriesResponse;
 import com.da.itdaing.domain.metric.dto.ViewsTimeseriesResponse.Point;
-import com.da.itdaing.domain.metric.entity.EventLog;
-import com.da.itdaing.domain.metric.entity.MetricDailyPopup;
-import com.da.itdaing.domain.metric.repository.EventLogRepository;
+import com.da.itdaing.domain.metric.ingest.ViewEvent;
+import com.da.itdaing.domain.metric.ingest.ViewEventConsumer;
+import com.da.itdaing.domain.metric.ingest.ViewEventIngestProperties;
+import com.da.itdaing.domain.metric.ingest.ViewEventQueue;
 import com.da.itdaing.domain.metric.repository.MetricDailyPopupRepository;
-import com.da.itdaing.domain.popup.entity.Popup;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
-import com.da.itdaing.domain.user.entity.Users;
-import com.da.itdaing.domain.user.repository.UserRepository;
-import com.da.itdaing.domain.common.enums.EventAction;
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Service
@@ -28,81 +25,30 @@ import java.util.List;
 public class MetricService {
 
     private final PopupRepository popupRepository;
-    private final UserRepository userRepository;
-    private final EventLogRepository eventLogRepository;
     private final MetricDailyPopupRepository metricDailyPopupRepository;
+    private final ViewEventIngestProperties ingestProperties;
+    private final ViewEventQueue viewEventQueue;
+    private final ViewEventConsumer viewEventConsumer;
 
-    // ⬇︎ 추가: Redis 로 중복 방지
-    private final StringRedisTemplate redis;
-    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd
     private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
 
-    @Transactional
+    /**
+     * 조회 이벤트 수집: 요청 스레드에서는 검증 후 버퍼에 넣기만 한다 (적재는 ViewEventConsumer 가 묶어서 처리).
+     * 버퍼와 Redis 예비 대기열이 모두 가득 차면 EVENT_QUEUE_FULL(503) 로 알린다.
+     */
     public void recordView(ViewEventRequest req, Principal principal) {
-        // 1) 유저, 팝업 조회
         Long userId = Long.parseLong(principal.getName());
-        Users user = userRepository.findById(userId)
-            .orElseThrow(() -> new EntityNotFoundException("User not found: " + userId));
+        ViewEvent event = new ViewEvent(userId, req.popupId(), req.source(), req.sessionId(), Instant.now());
 
-        Popup popup = popupRepository.findById(req.popupId())
-            .orElseThrow(() -> new EntityNotFoundException("Popup not found: " + req.popupId()));
-
-        // 2) 이벤트 로그는 '항상' 저장(감사/분석용), 필요하면 unique일 때만 저장하도록 바꿔도 됨
-        EventLog log = EventLog.builder()
-            .user(user)
-            .popup(popup)
-            .actionType(EventAction.VIEW)
-            .source(req.source())
-            .sessionId(req.sessionId())
-            .build();
-        eventLogRepository.save(log);
-
-        // 3) 세션당-금일 고유 조회인지 체크(SETNX)
-        boolean uniqueToday = isFirstViewToday(req.sessionId(), user.getId(), popup.getId());
-
-        if (!uniqueToday) {
-            // 중복이면 카운트 증가/일간 집계 생략
+        if (!ingestProperties.isEnabled()) {
+            viewEventConsumer.process(List.of(event));
             return;
         }
-
-        // 4) 누적 뷰(옵션)
-        popup.increaseViewCount();
-
-        // 5) 일 단위 메트릭 upsert
-        LocalDate today = LocalDate.now(ZONE);
-        MetricDailyPopup m = metricDailyPopupRepository
-            .findByPopupIdAndDate(popup.getId(), today)
-            .orElseGet(() -> MetricDailyPopup.create(popup, today));
-
-        m.increaseViews(1);
-        metricDailyPopupRepository.save(m);
-    }
-
-    // 세션ID가 없으면 로그인 사용자ID로 대체하여 '사용자당 고유'로 처리
-    private boolean isFirstViewToday(String sessionId, Long userId, Long popupId) {
-        String idPart = (sessionId != null && !sessionId.isBlank())
-            ? "s:" + sessionId.trim()
-            : "u:" + userId; // 세션 없을 때 fallback: 사용자 기준
-
-        LocalDate day = LocalDate.now(ZONE);
-        String key = "uv:popup:%d:%s:day:%s".formatted(popupId, idPart, DAY.format(day));
-
-        try {
-            Duration ttl = ttlUntilEndOfDay(ZONE);              // 자정까지 유효
-            Boolean ok = redis.opsForValue().setIfAbsent(key, "1", ttl); // SETNX + EXPIRE
-            return Boolean.TRUE.equals(ok); // true면 '처음' 본 것
-        } catch (Exception e) {
-            // Redis 장애 시: 기존 동작(카운트 증가) 유지하도록 unique 취급
-            return true;
+        if (!viewEventQueue.offer(event)) {
+            throw new BusinessException(ErrorCode.EVENT_QUEUE_FULL);
         }
     }
 
-    private static Duration ttlUntilEndOfDay(ZoneId zone) {
-        LocalDateTime now = LocalDateTime.now(zone);
-        LocalDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay();
-        return Duration.between(now, nextMidnight);
-    }
-
     // ===== 기존 조회수 조회 메서드 유지 =====
     @Transactional(readOnly = true)
     public ViewsTimeseriesResponse getViewsForSeller(Long popupId, String granularity, LocalDate from, LocalDate to, Long sellerId) {
@@ -1,25 +1,51 @@
 package com.da.itdaing.domain.popup.api;
 
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
+import com.da.itdaing.domain.popup.cache.PopupResponseCache;
+import com.da.itdaing.domain.popup.dto.PopupAutocompleteResponse;
+import com.da.itdaing.domain.popup.dto.PopupCalendarResponse;
+import com.da.itdaing.domain.popup.dto.PopupCursorPageResponse;
+import com.da.itdaing.domain.popup.dto.PopupFacetedPageResponse;
+import com.da.itdaing.domain.popup.dto.PopupNearbyResponse;
 import com.da.itdaing.domain.popup.dto.PopupReviewResponse;
 import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupSort;
 import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.da.itdaing.domain.popup.dto.PopupView;
+import com.da.itdaing.domain.popup.dto.PopupViewResponse;
+import com.da.itdaing.domain.popup.service.PopupGeoQueryService;
 import com.da.itdaing.domain.popup.service.PopupQueryService;
+import com.da.itdaing.domain.popup.trending.PopupTrendingService;
+import com.da.itdaing.domain.popup.trending.TrendingWindow;
+import com.da.itdaing.domain.social.service.WishlistService;
+import com.da.itdaing.domain.sync.dto.ChangeFeedResponse;
 import com.da.itdaing.global.web.ApiResponse;
+import com.da.itdaing.global.web.NdjsonStreamingBody;
+import com.da.itdaing.global.web.ResourceVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 팝업 조회 API 컨트롤러
@@ -30,7 +56,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PopupQueryController {
 
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
     private final PopupQueryService popupQueryService;
+    private final PopupGeoQueryService popupGeoQueryService;
+    private final PopupResponseCache popupResponseCache;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersions resourceVersions;
+    private final PopupTrendingService popupTrendingService;
+    private final WishlistService wishlistService;
 
     @Operation(
         summary = "전체 팝업 목록 조회",
@@ -39,8 +73,24 @@ public class PopupQueryController {
             
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
             반환되는 팝업은 승인 상태가 APPROVED인 것들만 포함됩니다.
+            
+            응답에는 ETag / Last-Modified 가 붙습니다. If-None-Match 또는 If-Modified-Since 로 다시 요청하면
+            그 사이 팝업 변경이 없을 때 본문 없이 304 Not Modified 로 응답합니다.
+            로그인 사용자는 응답에 likedByMe 가 들어가므로 ETag 에 찜 버전이 함께 들어가고(Last-Modified 없음),
+            찜 추가/삭제 후에는 다시 200 으로 응답합니다. (Vary: Authorization)
+            
+            view 로 응답 형태를 고를 수 있습니다.
+            - full (기본값): 아래 예시의 전체 필드
+            - card: 카드 표시용 (id, title, locationName, status, startDate, endDate, thumbnail, favoriteCount, averageRating, reviewCount)
+            - pin: 지도 핀용 (id, title, zoneId, cellId, latitude, longitude, status, startDate, endDate)
+            
+            bbox=minLng,minLat,maxLng,maxLat 를 주면 셀 좌표가 지도 화면 영역 안에 있는 팝업만 내려줍니다.
             """,
-        security = {}
+        security = {},
+        parameters = {
+            @Parameter(name = "view", description = "응답 형태 (full, card, pin)", example = "pin"),
+            @Parameter(name = "bbox", description = "화면 영역 (minLng,minLat,maxLng,maxLat)", example = "126.90,35.13,126.95,35.16")
+        }
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -89,8 +139,89 @@ public class PopupQueryController {
         )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PopupSummaryResponse>>> getPopups() {
-        return ResponseEntity.ok(ApiResponse.success(popupQueryService.getPopups()));
+    public ResponseEntity<ApiResponse<List<?>>> getPopups(
+        @RequestParam(required = false) String view,
+        @RequestParam(required = false) String bbox,
+        @AuthenticationPrincipal Long userId,
+        WebRequest request
+    ) {
+        PopupView popupView = PopupView.from(view);
+        BoundingBox viewport = BoundingBox.parse(bbox);
+        if (resourceVersions.checkNotModified(request, ResourceVersions.POPUPS, userId)) {
+            return null;
+        }
+        // 캐시에는 사용자와 무관한 전체 목록만 두고 likedByMe 는 꺼낸 뒤에 채운다 (화면 영역 조회는 캐시하지 않는다)
+        List<? extends PopupViewResponse> popups = popupView == PopupView.FULL && viewport == null
+            ? popupResponseCache.getList(popupQueryService::getPopups)
+            : popupGeoQueryService.getPopups(popupView, viewport);
+        return ResponseEntity.ok(ApiResponse.success(wishlistService.markLiked(userId, popups)));
+    }
+
+    @Operation(
+        summary = "팝업 일괄 조회",
+        description = """
+            여러 팝업을 ID 목록으로 한 번에 조회합니다. (대시보드의 찜/추천/최근 본 팝업 ID 목록 하이드레이션용)
+            
+            - ids 는 콤마로 구분하며 최대 100개까지 받을 수 있습니다.
+            - 응답은 요청한 ID 순서를 유지합니다. 중복 ID 는 한 번만, 존재하지 않는(삭제된) ID 는 빠집니다.
+            - view 는 GET /api/popups 와 같습니다 (full, card, pin). 기본값은 full (상세 조회와 같은 형태)입니다.
+            
+            팝업 목록과 같은 ETag / Last-Modified 를 쓰며, 변경이 없으면 304 Not Modified 로 응답합니다.
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "ids", description = "팝업 ID 목록 (콤마 구분, 최대 100개)", required = true, example = "12,3,7"),
+            @Parameter(name = "view", description = "응답 형태 (full, card, pin)", example = "card")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "success": true,
+                        "data": [
+                            {
+                                "id": 12,
+                                "title": "팝업스토어 제목",
+                                "locationName": "광주 남구",
+                                "status": "APPROVED",
+                                "startDate": "2024-01-01",
+                                "endDate": "2024-01-31",
+                                "thumbnail": {
+                                    "url": "https://example.com/thumbnail.jpg",
+                                    "key": "uploads/thumbnail.jpg"
+                                },
+                                "favoriteCount": 10,
+                                "averageRating": 4.5,
+                                "reviewCount": 10
+                            }
+                        ]
+                    }
+                    """)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "ID 수 초과 또는 지원하지 않는 view 값"
+        )
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<List<?>>> getPopupsByIds(
+        @RequestParam List<Long> ids,
+        @RequestParam(required = false) String view,
+        @AuthenticationPrincipal Long userId,
+        WebRequest request
+    ) {
+        PopupView popupView = PopupView.from(view);
+        if (resourceVersions.checkNotModified(request, ResourceVersions.POPUPS, userId)) {
+            return null;
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+            wishlistService.markLiked(userId, popupQueryService.getPopupsByIds(ids, popupView))));
     }
 
     @Operation(
@@ -100,6 +231,8 @@ public class PopupQueryController {
             
             팝업 ID를 경로 파라미터로 받아 해당 팝업의 상세 정보를 반환합니다.
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
+
+            팝업 목록과 같은 ETag / Last-Modified 를 쓰며, 변경이 없으면 304 Not Modified 로 응답합니다.
             """,
         security = {},
         parameters = {
@@ -173,8 +306,14 @@ public class PopupQueryController {
         )
     })
     @GetMapping("/{popupId}")
-    public ResponseEntity<ApiResponse<PopupSummaryResponse>> getPopup(@PathVariable Long popupId) {
-        return ResponseEntity.ok(ApiResponse.success(popupQueryService.getPopup(popupId)));
+    public ResponseEntity<ApiResponse<PopupSummaryResponse>> getPopup(@PathVariable Long popupId,
+                                                                      @AuthenticationPrincipal Long userId,
+                                                                      WebRequest request) {
+        if (resourceVersions.checkNotModified(request, ResourceVersions.POPUPS, userId)) {
+            return null;
+        }
+        PopupSummaryResponse popup = popupResponseCache.getDetail(popupId, () -> popupQueryService.getPopup(popupId));
+        return ResponseEntity.ok(ApiResponse.success(wishlistService.markLiked(userId, popup)));
     }
 
     @Operation(
@@ -291,6 +430,60 @@ public class PopupQueryController {
         return ResponseEntity.ok(ApiResponse.success(popupQueryService.getReviewsByPopup(popupId)));
     }
 
+    @Operation(
+        summary = "월간 달력 (날짜별 운영 중인 팝업 수)",
+        description = """
+            한 달 동안 날짜별로 운영 중인 승인 팝업 수를 한 번에 내려줍니다. (소비자 달력 화면용)
+            
+            - month: 조회할 달 (YYYY-MM, 생략하면 한국 시간 기준 이번 달)
+            - days: 1일부터 말일까지 모든 날짜와 그날 운영 기간(시작일 ≤ 날짜 ≤ 종료일) 안에 있는 팝업 수 (0 인 날 포함)
+            - total: 운영 기간이 그 달과 하루라도 겹치는 팝업 수 (여러 날에 걸친 팝업도 한 번만 셉니다)
+            
+            특정 날짜/기간에 운영 중인 팝업 목록은 /api/popups/search 의 activeFrom / activeTo 로 조회합니다.
+            팝업 목록과 같은 ETag / Last-Modified 를 쓰며, 변경이 없으면 304 Not Modified 로 응답합니다.
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "month", description = "조회할 달 (YYYY-MM)", example = "2024-01")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "success": true,
+                        "data": {
+                            "month": "2024-01",
+                            "total": 12,
+                            "days": [
+                                { "date": "2024-01-01", "count": 3 },
+                                { "date": "2024-01-02", "count": 4 }
+                            ]
+                        }
+                    }
+                    """)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "month 형식 오류"
+        )
+    })
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<PopupCalendarResponse>> getCalendar(
+        @RequestParam(required = false) String month,
+        WebRequest request
+    ) {
+        if (resourceVersions.checkNotModified(request, ResourceVersions.POPUPS)) {
+            return null;
+        }
+        return ResponseEntity.ok(ApiResponse.success(popupQueryService.getCalendar(month)));
+    }
+
     @Operation(
         summary = "팝업 검색",
         description = """
@@ -300,11 +493,30 @@ public class PopupQueryController {
             - keyword: 제목/설명 키워드 검색
             - regionId: 지역 필터
             - categoryIds: 카테고리 필터 (다중 선택 가능)
+            - featureIds: 편의시설 필터 (다중 선택 가능)
+            - styleIds: 스타일 필터 (다중 선택 가능)
             - startDate: 시작일 필터 (YYYY-MM-DD 형식)
             - endDate: 종료일 필터 (YYYY-MM-DD 형식)
+            - activeFrom / activeTo: 운영 기간이 [activeFrom, activeTo] 와 겹치는 팝업 (YYYY-MM-DD, 같은 날짜면 그날 운영 중인 팝업)
             - approvalStatus: 승인 상태 필터 (APPROVED, PENDING, REJECTED)
+            - openNow: true 면 지금(한국 시간) 운영 중인 팝업만 (기본값: false)
+            - openAt: 그 시각(YYYY-MM-DDTHH:mm)에 운영 중인 팝업만. openNow 보다 우선합니다.
+            - sort: 정렬 (newest, views, favorites, rating, ending_soon). 생략하면 키워드 검색은 관련도순, 그 외는 최신순입니다.
             - page: 페이지 번호 (기본값: 0)
             - size: 페이지 크기 (기본값: 20)
+            - view: 응답 형태 (full, card, pin — GET /api/popups 와 같음, 기본값: full)
+            - withFacets: true 면 data 가 { page, facets } 형태가 되고 facets 에 필터 사이드바용 건수를 담습니다 (기본값: false)
+            
+            같은 조건 안의 여러 ID 는 OR, 서로 다른 조건은 AND 로 결합합니다.
+            운영 중 조건은 그 날짜가 운영 기간 안이고, 등록 시 구조화해 둔 요일별 운영 시간에 그 시각이 포함되는지로 판단합니다.
+            운영 시간을 해석할 수 없는 팝업(예: "사전 예약제")은 운영 중 검색에서 제외됩니다.
+            views / favorites / rating / ending_soon 정렬은 approvalStatus 를 생략하면 승인된 팝업만 대상으로 하고,
+            ending_soon 은 오늘 이후 종료하는 팝업만 종료일이 가까운 순으로 보여줍니다. 평점순은 평균 평점이 같으면 리뷰가 많은 순입니다.
+            키워드 없이 필터만 쓰는 검색은 서버 메모리의 필터 색인으로 처리해 필터 조합이 늘어도 응답 시간이 일정합니다.
+            
+            facets 는 total(현재 조건의 전체 건수)과 categories / features / styles / regions (ID → 건수) 입니다.
+            각 차원의 건수는 그 차원의 선택을 뺀 나머지 조건 기준이라, 같은 차원의 다른 값을 더 골랐을 때의 건수가 됩니다.
+            건수가 0 인 값은 생략하며, 값마다 검색을 따로 하지 않고 한 번의 집계로 계산합니다.
             
             이 API는 인증이 필요하지 않으며, 모든 사용자가 접근할 수 있습니다.
             결과는 페이징 처리되어 반환됩니다.
@@ -314,11 +526,20 @@ public class PopupQueryController {
             @Parameter(name = "keyword", description = "검색 키워드 (제목/설명)", example = "팝업"),
             @Parameter(name = "regionId", description = "지역 ID", example = "1"),
             @Parameter(name = "categoryIds", description = "카테고리 ID 목록", example = "[1, 2]"),
+            @Parameter(name = "featureIds", description = "편의시설 ID 목록", example = "[1]"),
+            @Parameter(name = "styleIds", description = "스타일 ID 목록", example = "[3]"),
             @Parameter(name = "startDate", description = "시작일 (YYYY-MM-DD)", example = "2024-01-01"),
             @Parameter(name = "endDate", description = "종료일 (YYYY-MM-DD)", example = "2024-01-31"),
+            @Parameter(name = "activeFrom", description = "기간 겹침 시작 (YYYY-MM-DD)", example = "2024-01-10"),
+            @Parameter(name = "activeTo", description = "기간 겹침 끝 (YYYY-MM-DD)", example = "2024-01-20"),
             @Parameter(name = "approvalStatus", description = "승인 상태 (APPROVED, PENDING, REJECTED)", example = "APPROVED"),
+            @Parameter(name = "openNow", description = "지금 운영 중인 팝업만", example = "false"),
+            @Parameter(name = "openAt", description = "그 시각에 운영 중인 팝업만 (YYYY-MM-DDTHH:mm)", example = "2024-01-06T14:00"),
+            @Parameter(name = "sort", description = "정렬 (newest, views, favorites, rating, ending_soon)", example = "views"),
             @Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0"),
-            @Parameter(name = "size", description = "페이지 크기", example = "20")
+            @Parameter(name = "size", description = "페이지 크기", example = "20"),
+            @Parameter(name = "view", description = "응답 형태 (full, card, pin)", example = "card"),
+            @Parameter(name = "withFacets", description = "패싯 건수 포함 여부", example = "false")
         }
     )
     @ApiResponses({
@@ -327,7 +548,8 @@ public class PopupQueryController {
             description = "검색 성공",
             content = @Content(
                 mediaType = "application/json",
-                examples = @ExampleObject(value = """
+                examples = {
+                    @ExampleObject(name = "기본", value = """
                     {
                         "success": true,
                         "data": {
@@ -350,7 +572,33 @@ public class PopupQueryController {
                             "totalPages": 1
                         }
                     }
+                    """),
+                    @ExampleObject(name = "withFacets=true", value = """
+                    {
+                        "success": true,
+                        "data": {
+                            "page": {
+                                "content": [
+                                    {
+                                        "id": 1,
+                                        "title": "팝업스토어 제목",
+                                        "status": "APPROVED"
+                                    }
+                                ],
+                                "totalElements": 1,
+                                "totalPages": 1
+                            },
+                            "facets": {
+                                "total": 1,
+                                "categories": { "1": 1, "2": 4 },
+                                "features": { "1": 1 },
+                                "styles": { "3": 1 },
+                                "regions": { "1": 1, "2": 7 }
+                            }
+                        }
+                    }
                     """)
+                }
             )
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -372,29 +620,456 @@ public class PopupQueryController {
         )
     })
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<PopupSummaryResponse>>> searchPopups(
+    public ResponseEntity<ApiResponse<?>> searchPopups(
         @RequestParam(required = false) String keyword,
         @RequestParam(required = false) Long regionId,
         @RequestParam(required = false) List<Long> categoryIds,
+        @RequestParam(required = false) List<Long> featureIds,
+        @RequestParam(required = false) List<Long> styleIds,
         @RequestParam(required = false) String startDate,
         @RequestParam(required = false) String endDate,
+        @RequestParam(required = false) String activeFrom,
+        @RequestParam(required = false) String activeTo,
         @RequestParam(required = false) String approvalStatus,
+        @RequestParam(defaultValue = "false") boolean openNow,
+        @RequestParam(required = false) String openAt,
+        @RequestParam(required = false) String sort,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(required = false) String view,
+        @RequestParam(defaultValue = "false") boolean withFacets,
+        @AuthenticationPrincipal Long userId
     ) {
         PopupSearchRequest request = PopupSearchRequest.builder()
             .keyword(keyword)
             .regionId(regionId)
             .categoryIds(categoryIds)
+            .featureIds(featureIds)
+            .styleIds(styleIds)
             .startDate(startDate != null ? java.time.LocalDate.parse(startDate) : null)
             .endDate(endDate != null ? java.time.LocalDate.parse(endDate) : null)
+            .activeFrom(activeFrom != null ? java.time.LocalDate.parse(activeFrom) : null)
+            .activeTo(activeTo != null ? java.time.LocalDate.parse(activeTo) : null)
             .approvalStatus(approvalStatus != null ? com.da.itdaing.domain.common.enums.ApprovalStatus.valueOf(approvalStatus) : null)
+            .openAt(resolveOpenAt(openNow, openAt))
+            .sort(PopupSort.from(sort))
             .page(page)
             .size(size)
+            .withFacets(withFacets)
             .build();
         
-        Page<PopupSummaryResponse> result = popupQueryService.searchPopups(request);
+        PopupView popupView = PopupView.from(view);
+        if (request.isWithFacets()) {
+            PopupFacetedPageResponse<? extends PopupViewResponse> result =
+                popupQueryService.searchPopupsWithFacets(request, popupView);
+            return ResponseEntity.ok(ApiResponse.success(
+                new PopupFacetedPageResponse<>(markLiked(userId, result.page()), result.facets())));
+        }
+        Page<?> result = markLiked(userId, popupQueryService.searchPopups(request, popupView));
         return ResponseEntity.ok(ApiResponse.success(result));
     }
-}
 
+    @Operation(
+        summary = "팝업 검색 (커서 기반)",
+        description = """
+            무한 스크롤용 커서 기반 팝업 검색입니다. 필터 조건은 /api/popups/search 와 동일합니다.
+            
+            - 최신 등록순(created_at desc, id desc)으로 정렬됩니다.
+            - 첫 요청은 cursor 없이 호출하고, 이후에는 응답의 nextCursor 값을 그대로 전달합니다.
+            - nextCursor 가 없으면 마지막 페이지입니다.
+            - withCount=true 인 경우에만 totalElements(전체 건수)를 계산합니다.
+            - activeFrom / activeTo: 기간 겹침 필터 (/api/popups/search 와 같음)
+            - openNow / openAt: 운영 중 필터 (/api/popups/search 와 같음)
+            - view: 응답 형태 (full, card, pin — GET /api/popups 와 같음, 기본값: full)
+            
+            페이지가 깊어져도 앞선 행을 건너뛰지 않고 바로 이어서 읽으므로 응답 시간이 일정합니다.
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)"),
+            @Parameter(name = "size", description = "페이지 크기", example = "20"),
+            @Parameter(name = "withCount", description = "전체 건수 포함 여부", example = "false"),
+            @Parameter(name = "activeFrom", description = "기간 겹침 시작 (YYYY-MM-DD)", example = "2024-01-10"),
+            @Parameter(name = "activeTo", description = "기간 겹침 끝 (YYYY-MM-DD)", example = "2024-01-20"),
+            @Parameter(name = "openNow", description = "지금 운영 중인 팝업만", example = "false"),
+            @Parameter(name = "openAt", description = "그 시각에 운영 중인 팝업만 (YYYY-MM-DDTHH:mm)", example = "2024-01-06T14:00"),
+            @Parameter(name = "view", description = "응답 형태 (full, card, pin)", example = "card")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "검색 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "success": true,
+                        "data": {
+                            "content": [
+                                {
+                                    "id": 42,
+                                    "title": "팝업스토어 제목",
+                                    "status": "APPROVED"
+                                }
+                            ],
+                            "size": 1,
+                            "hasNext": true,
+                            "nextCursor": "MjAyNS0wMy0wMVQxMDowMHw0Mg"
+                        }
+                    }
+                    """)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 커서 또는 요청 파라미터"
+        )
+    })
+    @GetMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<PopupCursorPageResponse<?>>> searchPopupsByCursor(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Long regionId,
+        @RequestParam(required = false) List<Long> categoryIds,
+        @RequestParam(required = false) List<Long> featureIds,
+        @RequestParam(required = false) List<Long> styleIds,
+        @RequestParam(required = false) String startDate,
+        @RequestParam(required = false) String endDate,
+        @RequestParam(required = false) String activeFrom,
+        @RequestParam(required = false) String activeTo,
+        @RequestParam(required = false) String approvalStatus,
+        @RequestParam(defaultValue = "false") boolean openNow,
+        @RequestParam(required = false) String openAt,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "false") boolean withCount,
+        @RequestParam(required = false) String view,
+        @AuthenticationPrincipal Long userId
+    ) {
+        PopupSearchRequest request = PopupSearchRequest.builder()
+            .keyword(keyword)
+            .regionId(regionId)
+            .categoryIds(categoryIds)
+            .featureIds(featureIds)
+            .styleIds(styleIds)
+            .startDate(startDate != null ? java.time.LocalDate.parse(startDate) : null)
+            .endDate(endDate != null ? java.time.LocalDate.parse(endDate) : null)
+            .activeFrom(activeFrom != null ? java.time.LocalDate.parse(activeFrom) : null)
+            .activeTo(activeTo != null ? java.time.LocalDate.parse(activeTo) : null)
+            .approvalStatus(approvalStatus != null ? com.da.itdaing.domain.common.enums.ApprovalStatus.valueOf(approvalStatus) : null)
+            .openAt(resolveOpenAt(openNow, openAt))
+            .cursor(cursor)
+            .size(size)
+            .withCount(withCount)
+            .build();
+
+        PopupCursorPageResponse<? extends PopupViewResponse> result =
+            popupQueryService.searchPopupsByCursor(request, PopupView.from(view));
+        return ResponseEntity.ok(ApiResponse.success(new PopupCursorPageResponse<>(
+            wishlistService.markLiked(userId, result.content()),
+            result.size(), result.hasNext(), result.nextCursor(), result.totalElements())));
+    }
+
+    @Operation(
+        summary = "주변 팝업 (가까운 순)",
+        description = """
+            기준 좌표(lat, lng)에서 radius 미터 안에 셀 마커가 있는 승인된 팝업을 가까운 순으로 조회합니다.
+            
+            - radius: 반경 (미터, 0 초과 20000 이하, 기본값 1000)
+            - limit: 최대 항목 수 (1~50, 기본값 20)
+            - 거리는 haversine(구면) 거리이며 distanceMeters 로 함께 내려줍니다. 거리가 같으면 팝업 ID 순입니다.
+            - keyword, regionId, categoryIds, featureIds, styleIds, startDate, endDate, activeFrom, activeTo,
+              openNow, openAt 필터는 /api/popups/search 와 같습니다.
+            - 기간/운영 중 필터를 주지 않으면 종료되지 않은 팝업만 내려줍니다.
+            - view: 응답 형태 (full, card, pin — GET /api/popups 와 같음, 기본값: full)
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "lat", description = "기준 위도", example = "35.1595", required = true),
+            @Parameter(name = "lng", description = "기준 경도", example = "126.8526", required = true),
+            @Parameter(name = "radius", description = "반경 (미터)", example = "1000"),
+            @Parameter(name = "limit", description = "최대 항목 수 (1~50)", example = "20"),
+            @Parameter(name = "view", description = "응답 형태 (full, card, pin)", example = "pin")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "success": true,
+                        "data": [
+                            {
+                                "popup": {
+                                    "id": 12,
+                                    "title": "팝업스토어 제목",
+                                    "zoneId": 1,
+                                    "cellId": 3,
+                                    "latitude": 35.1598,
+                                    "longitude": 126.8531,
+                                    "status": "APPROVED",
+                                    "startDate": "2024-01-01",
+                                    "endDate": "2024-01-31"
+                                },
+                                "distanceMeters": 55.4
+                            }
+                        ]
+                    }
+                    """)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "좌표/반경 범위 오류 또는 지원하지 않는 view 값"
+        )
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<PopupNearbyResponse<PopupViewResponse>>>> getNearbyPopups(
+        @RequestParam double lat,
+        @RequestParam double lng,
+        @RequestParam(defaultValue = "1000") double radius,
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Long regionId,
+        @RequestParam(required = false) List<Long> categoryIds,
+        @RequestParam(required = false) List<Long> featureIds,
+        @RequestParam(required = false) List<Long> styleIds,
+        @RequestParam(required = false) String startDate,
+        @RequestParam(required = false) String endDate,
+        @RequestParam(required = false) String activeFrom,
+        @RequestParam(required = false) String activeTo,
+        @RequestParam(defaultValue = "false") boolean openNow,
+        @RequestParam(required = false) String openAt,
+        @RequestParam(required = false) String view,
+        @AuthenticationPrincipal Long userId
+    ) {
+        PopupSearchRequest filters = PopupSearchRequest.builder()
+            .keyword(keyword)
+            .regionId(regionId)
+            .categoryIds(categoryIds)
+            .featureIds(featureIds)
+            .styleIds(styleIds)
+            .startDate(startDate != null ? java.time.LocalDate.parse(startDate) : null)
+            .endDate(endDate != null ? java.time.LocalDate.parse(endDate) : null)
+            .activeFrom(activeFrom != null ? java.time.LocalDate.parse(activeFrom) : null)
+            .activeTo(activeTo != null ? java.time.LocalDate.parse(activeTo) : null)
+            .openAt(resolveOpenAt(openNow, openAt))
+            .build();
+
+        List<PopupNearbyResponse<PopupViewResponse>> result = popupGeoQueryService.getNearbyPopups(
+            lat, lng, radius, limit, filters, PopupView.from(view));
+        List<PopupViewResponse> popups = wishlistService.markLiked(userId,
+            result.stream().map(PopupNearbyResponse::popup).toList());
+        return ResponseEntity.ok(ApiResponse.success(IntStream.range(0, result.size())
+            .mapToObj(i -> new PopupNearbyResponse<>(popups.get(i), result.get(i).distanceMeters()))
+            .toList()));
+    }
+
+    @Operation(
+        summary = "인기 팝업 순위",
+        description = """
+            최근 조회/찜/리뷰 활동을 시간 감쇠 점수로 합산한 인기 순위입니다.
+            
+            - window=24h: 반감기 6시간, window=7d (기본값): 반감기 2일
+            - 점수 가중치는 조회 1, 찜 3, 리뷰 5 입니다. (popup-trending.* 설정)
+            - 승인되고 종료되지 않은 팝업만 점수 내림차순으로 최대 size 건 내려줍니다. (1~50)
+            - 순위는 계속 바뀌므로 ETag 를 붙이지 않습니다.
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "window", description = "집계 기간 (24h, 7d)", example = "24h"),
+            @Parameter(name = "size", description = "최대 항목 수 (1~50)", example = "10"),
+            @Parameter(name = "view", description = "응답 형태 (full, card, pin)", example = "card")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "success": true,
+                        "data": [
+                            {
+                                "id": 12,
+                                "title": "팝업스토어 제목",
+                                "locationName": "광주 남구",
+                                "status": "APPROVED",
+                                "startDate": "2024-01-01",
+                                "endDate": "2024-01-31",
+                                "favoriteCount": 10,
+                                "averageRating": 4.5,
+                                "reviewCount": 10
+                            }
+                        ]
+                    }
+                    """)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 window 또는 view 값"
+        )
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<?>>> getTrending(
+        @RequestParam(required = false) String window,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String view,
+        @AuthenticationPrincipal Long userId
+    ) {
+        PopupView popupView = PopupView.from(view);
+        List<Long> popupIds = popupTrendingService.topPopupIds(TrendingWindow.from(window), size);
+        return ResponseEntity.ok(ApiResponse.success(
+            wishlistService.markLiked(userId, popupQueryService.getPopupsByIds(popupIds, popupView))));
+    }
+
+    @Operation(
+        summary = "검색어 자동완성",
+        description = """
+            팝업명, 판매자명, 구역명을 접두어로 자동완성합니다.
+            
+            - 초성만 입력해도 찾습니다. (예: "ㅍㅇ" → "팝업…")
+            - 입력 중인 음절도 자모 단위로 비교합니다. (예: "빈팆" → "빈티지…")
+            - 이름 중간 어절로 시작해도 찾습니다. (예: "마켓" → "빈티지 마켓")
+            - 결과는 POPUP / SELLER / AREA 유형이 섞여 인기순으로 정렬됩니다. (승인된 팝업만 포함)
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "q", description = "입력 중인 검색어", example = "ㅍㅇ"),
+            @Parameter(name = "size", description = "최대 항목 수 (1~20)", example = "10")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "success": true,
+                        "data": [
+                            { "type": "POPUP", "id": 12, "text": "팝업스토어 제목" },
+                            { "type": "AREA", "id": 3, "text": "양림동" }
+                        ]
+                    }
+                    """)
+            )
+        )
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<PopupAutocompleteResponse>>> autocomplete(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(popupQueryService.autocomplete(q, size)));
+    }
+
+    @Operation(
+        summary = "팝업 변경 피드 (델타 동기화)",
+        description = """
+            since 토큰 이후 생성/수정된 팝업(upserts)과 삭제된 팝업 ID(deletedIds)만 내려줍니다.
+            
+            - 처음에는 since 없이 호출하고, 응답의 nextToken 을 저장해 다음 호출의 since 로 그대로 보냅니다.
+            - hasMore=true 면 nextToken 으로 바로 이어서 호출합니다. (한 번에 최대 size 건, 1~1000)
+            - fullResync=true 면 since 가 너무 오래돼(30일) 삭제 내역을 알 수 없으므로 로컬 목록을 비우고 다시 채웁니다.
+            - 최근 몇 초 사이의 변경은 다음 호출에서 한 번 더 올 수 있으므로 ID 기준으로 덮어씁니다.
+            - 조회수만 바뀐 팝업은 포함되지 않습니다.
+            """,
+        security = {},
+        parameters = {
+            @Parameter(name = "since", description = "이전 응답의 nextToken (최초 호출 시 생략)"),
+            @Parameter(name = "size", description = "한 번에 받을 최대 upsert 수 (1~1000)", example = "500")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = """
+                    {
+                        "success": true,
+                        "data": {
+                            "upserts": [
+                                { "id": 12, "title": "팝업스토어 제목", "status": "APPROVED" }
+                            ],
+                            "deletedIds": [7],
+                            "nextToken": "MjAyNS0wMS0wMVQxMjowMHwwfDIwMjUtMDEtMDFUMTI6MDA6MTA",
+                            "hasMore": false,
+                            "fullResync": false
+                        }
+                    }
+                    """)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 since 값"
+        )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse<PopupSummaryResponse>>> getChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(defaultValue = "500") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(popupQueryService.getChanges(since, size)));
+    }
+
+    @Operation(
+        summary = "전체 팝업 목록 스트리밍 (NDJSON)",
+        description = """
+            GET /api/popups 와 같은 항목을 application/x-ndjson 으로 한 줄에 하나씩 내려줍니다.
+            
+            - ApiResponse 래퍼 없이 PopupSummaryResponse JSON 객체가 줄 단위로 이어집니다.
+            - 서버는 목록 전체를 메모리에 올리지 않고 DB 커서로 읽는 즉시 전송하므로, 팝업 수가 많아도 응답이 바로 시작됩니다.
+            """,
+        security = {}
+    )
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPopups() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(NdjsonStreamingBody.<PopupSummaryResponse>of(objectMapper, popupQueryService::streamPopups));
+    }
+
+    @Operation(
+        summary = "전체 리뷰 목록 스트리밍 (NDJSON)",
+        description = """
+            GET /api/popups/reviews 와 같은 항목을 application/x-ndjson 으로 한 줄에 하나씩 내려줍니다. (최신순)
+            
+            - ApiResponse 래퍼 없이 PopupReviewResponse JSON 객체가 줄 단위로 이어집니다.
+            """,
+        security = {}
+    )
+    @GetMapping(value = "/reviews/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReviews() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(NdjsonStreamingBody.<PopupReviewResponse>of(objectMapper, popupQueryService::streamReviews));
+    }
+
+    /** 페이지 내용에 likedByMe 를 채운다 (페이지 정보는 그대로) */
+    private <T extends PopupViewResponse> Page<T> markLiked(Long userId, Page<T> page) {
+        if (userId == null) {
+            return page;
+        }
+        return new PageImpl<>(wishlistService.markLiked(userId, page.getContent()), page.getPageable(),
+            page.getTotalElements());
+    }
+
+    /** openAt 이 있으면 그 시각, openNow 면 한국 시간 기준 현재 시각 */
+    private static LocalDateTime resolveOpenAt(boolean openNow, String openAt) {
+        if (openAt != null) {
+            return LocalDateTime.parse(openAt);
+        }
+        return openNow ? LocalDateTime.now(SERVICE_ZONE) : null;
+    }
+}
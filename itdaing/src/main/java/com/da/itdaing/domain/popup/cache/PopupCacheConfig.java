@@ -0,0 +1,33 @@
+package com.da.itdaing.domain.popup.cache;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class PopupCacheConfig {
+
+    /** 다른 노드가 발행한 무효화/색인 변경 메시지 구독 */
+    @Bean
+    @ConditionalOnProperty(prefix = "popup-cache", name = "redis-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer popupCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     PopupCacheProperties properties,
+                                                                     PopupCacheInvalidator invalidator,
+                                                                     ReadModelSync readModelSync) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+            (message, pattern) -> invalidator.onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(properties.getChannel())
+        );
+        container.addMessageListener(
+            (message, pattern) -> readModelSync.onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(properties.getReadModelChannel())
+        );
+        return container;
+    }
+}
@@ -0,0 +1,89 @@
+package com.da.itdaing.domain.popup.cache;
+
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.event.PopupCountersFlushedEvent;
+import com.da.itdaing.global.web.ResourceVersions;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팝업 응답 캐시 무효화
+ * - 팝업/리뷰/위시리스트/승인 명령이 커밋되면(PopupChangedEvent) 이 노드의 L1 과 Redis L2 를 지우고,
+ *   다른 노드가 L1 을 비우도록 Redis 채널에 팝업 ID 를 발행한다. ("*" = 전체, 여러 건은 콤마로 구분)
+ * - 카운터 반영 묶음(PopupCountersFlushedEvent)은 팝업 수와 관계없이 삭제/발행/버전 증가를 한 번씩만 한다.
+ * - 캐시를 비운 다음에 popups 리소스 버전(ETag)을 올린다. 순서가 바뀌면 캐시에 남은 옛 응답이 새 ETag 를 달고 나간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupCacheInvalidator {
+
+    static final String ALL = "*";
+
+    private final PopupResponseCache popupResponseCache;
+    private final PopupCacheProperties properties;
+    private final StringRedisTemplate redis;
+    private final ResourceVersions resourceVersions;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopupChanged(PopupChangedEvent event) {
+        invalidate(event.popupId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCountersFlushed(PopupCountersFlushedEvent event) {
+        invalidateBatch(event.popupIds());
+    }
+
+    public void invalidate(Long popupId) {
+        popupResponseCache.evict(popupId);
+        broadcast(popupId != null ? String.valueOf(popupId) : ALL);
+        resourceVersions.bump(ResourceVersions.POPUPS);
+    }
+
+    public void invalidateBatch(Collection<Long> popupIds) {
+        if (popupIds.isEmpty()) {
+            return;
+        }
+        popupResponseCache.evictAll(popupIds);
+        broadcast(popupIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        resourceVersions.bump(ResourceVersions.POPUPS);
+    }
+
+    public void invalidateAll() {
+        invalidate(null);
+    }
+
+    /** 다른 노드에서 받은 무효화 메시지 처리 (L2 는 발행한 노드가 이미 지웠다) */
+    public void onBroadcast(String message) {
+        if (ALL.equals(message)) {
+            popupResponseCache.evictLocal(null);
+            return;
+        }
+        for (String popupId : message.split(",")) {
+            try {
+                popupResponseCache.evictLocal(Long.valueOf(popupId.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("[popup-cache] ignored invalidation message: {}", message);
+                return;
+            }
+        }
+    }
+
+    private void broadcast(String message) {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redis.convertAndSend(properties.getChannel(), message);
+        } catch (RuntimeException e) {
+            log.warn("[popup-cache] invalidation broadcast failed ({}): {}", message, e.getMessage());
+        }
+    }
+}
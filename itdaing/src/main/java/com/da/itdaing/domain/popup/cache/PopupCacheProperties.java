@@ -0,0 +1,35 @@
+package com.da.itdaing.domain.popup.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "popup-cache")
+public class PopupCacheProperties {
+
+    /** 캐시 사용 여부 (false 면 항상 원본 조회) */
+    private boolean enabled = true;
+
+    /** Redis(L2) 및 pub/sub 무효화/색인 변경 전파 사용 여부 */
+    private boolean redisEnabled = true;
+
+    /** L1(Caffeine) 상세 캐시 최대 항목 수 */
+    private long localMaxSize = 10_000;
+
+    /** L1 유지 시간. pub/sub 메시지가 유실돼도 이 시간 뒤에는 새 값을 읽는다. */
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    /** L2(Redis) 상세 응답 유지 시간 */
+    private Duration detailTtl = Duration.ofMinutes(10);
+
+    /** L2(Redis) 목록 응답 유지 시간 */
+    private Duration listTtl = Duration.ofMinutes(1);
+
+    /** 무효화 브로드캐스트 채널 */
+    private String channel = "popup-cache:invalidate";
+
+    /** 인메모리 색인 변경 브로드캐스트 채널 (ReadModelSync) */
+    private String readModelChannel = "popup-cache:read-model";
+}
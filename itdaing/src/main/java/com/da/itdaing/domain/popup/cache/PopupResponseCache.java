@@ -0,0 +1,274 @@
+package com.da.itdaing.domain.popup.cache;
+
+import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팝업 상세/목록 응답 2단 캐시
+ * - L1: 노드별 Caffeine (크기/시간 제한). L2: Redis 에 JSON 직렬화 응답을 공유한다.
+ * - 조회 순서 L1 → L2 → 원본(loader). 원본 결과는 L2, L1 순으로 채운다.
+ * - Redis 장애 시에는 L2 를 건너뛰고 원본을 조회한다 (캐시 때문에 조회가 실패하지 않도록).
+ * - 무효화는 세대 번호를 올린 뒤 지운다. 원본 조회 전에 읽은 세대가 그대로일 때만 L2(스크립트)/L1 에 쓰므로,
+ *   조회 도중 커밋·무효화가 끼어들면 옛 응답을 다시 채우지 않는다.
+ * - 적중/실패 수는 popup.cache.requests{cache, tier, result} 및 Caffeine 통계로 /actuator/metrics 에 노출된다.
+ */
+@Slf4j
+@Component
+public class PopupResponseCache {
+
+    static final String DETAIL_KEY_PREFIX = "popup:cache:detail:";
+    static final String LIST_KEY = "popup:cache:list";
+    static final String GENERATION_KEY = "popup:cache:generation";
+    private static final String LIST_LOCAL_KEY = "all";
+
+    private static final TypeReference<List<PopupSummaryResponse>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    // KEYS[1] = 세대, KEYS[2] = 항목. 세대가 조회 전에 읽은 값(ARGV[1])과 같을 때만 쓴다.
+    static final RedisScript<Long> SET_IF_GENERATION = new DefaultRedisScript<>("""
+        if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final PopupCacheProperties properties;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, PopupSummaryResponse> localDetails;
+    private final Cache<String, List<PopupSummaryResponse>> localList;
+    // 이 노드의 L1 무효화 횟수 (다른 노드의 브로드캐스트 포함)
+    private final AtomicLong localGeneration = new AtomicLong();
+
+    private final Counter detailL1Hit;
+    private final Counter detailL2Hit;
+    private final Counter detailMiss;
+    private final Counter listL1Hit;
+    private final Counter listL2Hit;
+    private final Counter listMiss;
+
+    public PopupResponseCache(PopupCacheProperties properties,
+                              StringRedisTemplate redis,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+
+        this.localDetails = Caffeine.newBuilder()
+            .maximumSize(properties.getLocalMaxSize())
+            .expireAfterWrite(properties.getLocalTtl())
+            .recordStats()
+            .build();
+        this.localList = Caffeine.newBuilder()
+            .maximumSize(1)
+            .expireAfterWrite(properties.getLocalTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localDetails, "popup.detail.l1");
+        CaffeineCacheMetrics.monitor(meterRegistry, localList, "popup.list.l1");
+
+        this.detailL1Hit = requests(meterRegistry, "detail", "l1", "hit");
+        this.detailL2Hit = requests(meterRegistry, "detail", "l2", "hit");
+        this.detailMiss = requests(meterRegistry, "detail", "origin", "miss");
+        this.listL1Hit = requests(meterRegistry, "list", "l1", "hit");
+        this.listL2Hit = requests(meterRegistry, "list", "l2", "hit");
+        this.listMiss = requests(meterRegistry, "list", "origin", "miss");
+    }
+
+    public PopupSummaryResponse getDetail(Long popupId, Supplier<PopupSummaryResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        PopupSummaryResponse cached = localDetails.getIfPresent(popupId);
+        if (cached != null) {
+            detailL1Hit.increment();
+            return cached;
+        }
+        cached = readRemote(DETAIL_KEY_PREFIX + popupId, PopupSummaryResponse.class);
+        if (cached != null) {
+            detailL2Hit.increment();
+            localDetails.put(popupId, cached);
+            return cached;
+        }
+
+        detailMiss.increment();
+        long local = localGeneration.get();
+        String remote = readGeneration();
+        PopupSummaryResponse loaded = loader.get();
+        writeRemote(DETAIL_KEY_PREFIX + popupId, loaded, properties.getDetailTtl(), remote);
+        if (localGeneration.get() == local) {
+            localDetails.put(popupId, loaded);
+        }
+        return loaded;
+    }
+
+    public List<PopupSummaryResponse> getList(Supplier<List<PopupSummaryResponse>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        List<PopupSummaryResponse> cached = localList.getIfPresent(LIST_LOCAL_KEY);
+        if (cached != null) {
+            listL1Hit.increment();
+            return cached;
+        }
+        cached = readRemote(LIST_KEY, LIST_TYPE);
+        if (cached != null) {
+            listL2Hit.increment();
+            localList.put(LIST_LOCAL_KEY, cached);
+            return cached;
+        }
+
+        listMiss.increment();
+        long local = localGeneration.get();
+        String remote = readGeneration();
+        List<PopupSummaryResponse> loaded = List.copyOf(loader.get());
+        writeRemote(LIST_KEY, loaded, properties.getListTtl(), remote);
+        if (localGeneration.get() == local) {
+            localList.put(LIST_LOCAL_KEY, loaded);
+        }
+        return loaded;
+    }
+
+    /** 이 노드의 L1 만 비운다 (다른 노드의 브로드캐스트 수신 시) */
+    public void evictLocal(Long popupId) {
+        localGeneration.incrementAndGet();
+        if (popupId != null) {
+            localDetails.invalidate(popupId);
+        } else {
+            localDetails.invalidateAll();
+        }
+        localList.invalidateAll();
+    }
+
+    /** L1 과 L2 를 모두 비운다. popupId 가 null 이면 전체. */
+    public void evict(Long popupId) {
+        evictLocal(popupId);
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            // 세대를 먼저 올려야 조회 중이던 요청이 지운 뒤에 옛 응답을 다시 쓰지 못한다
+            redis.opsForValue().increment(GENERATION_KEY);
+            if (popupId != null) {
+                redis.delete(List.of(DETAIL_KEY_PREFIX + popupId, LIST_KEY));
+            } else {
+                redis.delete(LIST_KEY);
+                // 전체 무효화는 관리자 재구축 때만 일어나므로 KEYS 로 충분하다
+                Set<String> detailKeys = redis.keys(DETAIL_KEY_PREFIX + "*");
+                if (detailKeys != null && !detailKeys.isEmpty()) {
+                    redis.delete(detailKeys);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[popup-cache] redis evict failed (popupId={}): {}", popupId, e.getMessage());
+        }
+    }
+
+    /** 여러 상세를 L1 과 L2 에서 한 번에 비운다 (L2 는 DEL 한 번) */
+    public void evictAll(Collection<Long> popupIds) {
+        localGeneration.incrementAndGet();
+        localDetails.invalidateAll(popupIds);
+        localList.invalidateAll();
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(popupIds.size() + 1);
+        popupIds.forEach(popupId -> keys.add(DETAIL_KEY_PREFIX + popupId));
+        keys.add(LIST_KEY);
+        try {
+            redis.opsForValue().increment(GENERATION_KEY);
+            redis.delete(keys);
+        } catch (RuntimeException e) {
+            log.warn("[popup-cache] redis evict failed ({} popups): {}", popupIds.size(), e.getMessage());
+        }
+    }
+
+    private <T> T readRemote(String key, Class<T> type) {
+        String json = getRemote(key);
+        try {
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (JsonProcessingException e) {
+            log.warn("[popup-cache] unreadable entry {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> T readRemote(String key, TypeReference<T> type) {
+        String json = getRemote(key);
+        try {
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (JsonProcessingException e) {
+            log.warn("[popup-cache] unreadable entry {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private String getRemote(String key) {
+        if (!properties.isRedisEnabled()) {
+            return null;
+        }
+        try {
+            return redis.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.debug("[popup-cache] redis get failed {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 현재 L2 세대. 아직 무효화된 적이 없으면 "0", Redis 를 읽지 못하면 null (이때는 L2 에 쓰지 않는다) */
+    private String readGeneration() {
+        if (!properties.isRedisEnabled()) {
+            return null;
+        }
+        try {
+            String generation = redis.opsForValue().get(GENERATION_KEY);
+            return generation != null ? generation : "0";
+        } catch (RuntimeException e) {
+            log.debug("[popup-cache] redis generation read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, Object value, Duration ttl, String generation) {
+        if (generation == null || value == null) {
+            return;
+        }
+        try {
+            redis.execute(SET_IF_GENERATION, List.of(GENERATION_KEY, key),
+                generation, objectMapper.writeValueAsString(value), String.valueOf(ttl.toMillis()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("[popup-cache] redis set failed {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String cache, String tier, String result) {
+        return Counter.builder("popup.cache.requests")
+            .description("팝업 응답 캐시 조회 결과")
+            .tag("cache", cache)
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(registry);
+    }
+}
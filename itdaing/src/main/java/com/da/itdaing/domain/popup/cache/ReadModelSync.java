@@ -0,0 +1,125 @@
+package com.da.itdaing.domain.popup.cache;
+
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import com.da.itdaing.domain.geo.event.ZoneCellChangedEvent;
+import com.da.itdaing.domain.geo.geometry.ZoneAreaLocator;
+import com.da.itdaing.domain.geo.geometry.ZoneCellGrid;
+import com.da.itdaing.domain.geo.geometry.ZoneGeometryRegistry;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.search.PopupAutocompleteIndexer;
+import com.da.itdaing.domain.popup.search.PopupFacetIndexer;
+import com.da.itdaing.domain.popup.search.PopupSearchIndexer;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인메모리 조회 모델(검색/자동완성/필터 색인, 구역 위치 색인, 셀 격자)의 노드 간 동기화
+ * - 각 색인은 이 노드에서 커밋된 변경 이벤트로만 갱신되므로, 커밋 이후 바뀐 ID 를 Redis 채널로 발행한다.
+ * - 다른 노드가 발행한 메시지를 받으면 같은 색인 갱신을 이 노드에서 한다. 자기 노드가 보낸 메시지는 건너뛴다.
+ * - 메시지: "{nodeId} {kind} {id}" (kind = popup | zone-area | zone-cell, popup 의 id 가 "*" 이면 팝업 색인 전체 재구축)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadModelSync {
+
+    static final String POPUP = "popup";
+    static final String ZONE_AREA = "zone-area";
+    static final String ZONE_CELL = "zone-cell";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final PopupCacheProperties properties;
+    private final StringRedisTemplate redis;
+    private final PopupSearchIndexer popupSearchIndexer;
+    private final PopupAutocompleteIndexer popupAutocompleteIndexer;
+    private final PopupFacetIndexer popupFacetIndexer;
+    private final ZoneAreaLocator zoneAreaLocator;
+    private final ZoneGeometryRegistry zoneGeometryRegistry;
+    private final ZoneCellGrid zoneCellGrid;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopupChanged(PopupChangedEvent event) {
+        // 리뷰 집계/좋아요 수만 바뀐 경우는 색인도 무시한다
+        if (event.type() != PopupChangedEvent.ChangeType.STATS) {
+            publish(POPUP, String.valueOf(event.popupId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onZoneAreaChanged(ZoneAreaChangedEvent event) {
+        publish(ZONE_AREA, String.valueOf(event.zoneAreaId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onZoneCellChanged(ZoneCellChangedEvent event) {
+        publish(ZONE_CELL, String.valueOf(event.zoneCellId()));
+    }
+
+    /** 관리자 재구축 이후 다른 노드도 팝업 색인을 전체 재구축하게 한다 */
+    public void publishPopupRebuild() {
+        publish(POPUP, PopupCacheInvalidator.ALL);
+    }
+
+    /** 다른 노드가 발행한 변경 메시지 처리 */
+    public void onBroadcast(String message) {
+        String[] parts = message.split(" ");
+        if (parts.length != 3) {
+            log.warn("[read-model-sync] ignored message: {}", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            apply(parts[1], parts[2]);
+        } catch (NumberFormatException e) {
+            log.warn("[read-model-sync] ignored message: {}", message);
+        } catch (RuntimeException e) {
+            log.warn("[read-model-sync] failed to apply {}: {}", message, e.getMessage());
+        }
+    }
+
+    private void apply(String kind, String id) {
+        switch (kind) {
+            case POPUP -> {
+                if (PopupCacheInvalidator.ALL.equals(id)) {
+                    popupSearchIndexer.rebuild();
+                    popupAutocompleteIndexer.rebuild();
+                    popupFacetIndexer.rebuild();
+                    return;
+                }
+                // 색인기는 카드를 다시 읽어 없으면 지우므로 삭제도 UPSERT 로 충분하다
+                PopupChangedEvent event = PopupChangedEvent.upserted(Long.valueOf(id));
+                popupSearchIndexer.onPopupChanged(event);
+                popupAutocompleteIndexer.onPopupChanged(event);
+                popupFacetIndexer.onPopupChanged(event);
+            }
+            case ZONE_AREA -> {
+                ZoneAreaChangedEvent event = new ZoneAreaChangedEvent(Long.valueOf(id));
+                zoneGeometryRegistry.onZoneAreaChanged(event);
+                zoneAreaLocator.onZoneAreaChanged(event);
+                popupAutocompleteIndexer.onZoneAreaChanged(event);
+            }
+            case ZONE_CELL -> zoneCellGrid.onZoneCellChanged(new ZoneCellChangedEvent(Long.valueOf(id), null));
+            default -> log.warn("[read-model-sync] unknown kind: {}", kind);
+        }
+    }
+
+    private void publish(String kind, String id) {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        String message = nodeId + " " + kind + " " + id;
+        try {
+            redis.convertAndSend(properties.getReadModelChannel(), message);
+        } catch (RuntimeException e) {
+            log.warn("[read-model-sync] broadcast failed ({}): {}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.da.itdaing.domain.popup.counter;
+
+import com.da.itdaing.domain.popup.event.PopupCounterEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팝업 조회수/좋아요 수 쓰기 지연 버퍼 (노드별 메모리)
+ * - 요청 트랜잭션은 popup 행을 잠그지 않고, 커밋된 증감만 팝업별 LongAdder 에 더한다.
+ *   LongAdder 는 스레드별 셀에 나눠 더하므로 인기 팝업에 쓰기가 몰려도 서로 기다리지 않는다.
+ * - PopupCounterFlusher 가 주기적으로 drain 하여 DB 에 UPDATE x = x + ? 로 반영한다.
+ *   sumThenReset 은 셀마다 원자적으로 비우므로 drain 중에 들어온 증감은 다음 주기로 넘어간다.
+ * - 조회 응답은 아직 반영되지 않은 증감을 더해 보여 준다 (다른 노드의 미반영분은 다음 주기에 보인다).
+ * - 팝업 ID 별 항목은 지우지 않는다 (지우는 순간의 증감을 잃지 않기 위해, 팝업 수만큼만 남는다).
+ */
+@Component
+public class PopupCounterBuffer {
+
+    private final Map<Long, LongAdder> views = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> favorites = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCounted(PopupCounterEvent event) {
+        add(event.popupId(), event.views(), event.favorites());
+    }
+
+    public void add(Long popupId, long viewDelta, long favoriteDelta) {
+        if (viewDelta != 0) {
+            views.computeIfAbsent(popupId, id -> new LongAdder()).add(viewDelta);
+        }
+        if (favoriteDelta != 0) {
+            favorites.computeIfAbsent(popupId, id -> new LongAdder()).add(favoriteDelta);
+        }
+    }
+
+    /** 저장된 조회수 + 미반영 증감 */
+    public long viewCountOf(Long popupId, Long stored) {
+        return (stored != null ? stored : 0L) + pending(views, popupId);
+    }
+
+    /** 저장된 좋아요 수 + 미반영 증감 (0 미만으로 내려가지 않음) */
+    public long favoriteCountOf(Long popupId, Long stored) {
+        return Math.max(0L, (stored != null ? stored : 0L) + pending(favorites, popupId));
+    }
+
+    /** 미반영 증감을 꺼내고 비운다. 반영에 실패하면 restore 로 되돌린다. */
+    public List<PopupCounterDelta> drain() {
+        Map<Long, long[]> drained = new HashMap<>();
+        views.forEach((popupId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.computeIfAbsent(popupId, id -> new long[2])[0] = delta;
+            }
+        });
+        favorites.forEach((popupId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.computeIfAbsent(popupId, id -> new long[2])[1] = delta;
+            }
+        });
+        List<PopupCounterDelta> deltas = new ArrayList<>(drained.size());
+        drained.forEach((popupId, delta) -> deltas.add(new PopupCounterDelta(popupId, delta[0], delta[1])));
+        return deltas;
+    }
+
+    public void restore(List<PopupCounterDelta> deltas) {
+        deltas.forEach(delta -> add(delta.popupId(), delta.views(), delta.favorites()));
+    }
+
+    private static long pending(Map<Long, LongAdder> counters, Long popupId) {
+        LongAdder adder = counters.get(popupId);
+        return adder != null ? adder.sum() : 0L;
+    }
+}
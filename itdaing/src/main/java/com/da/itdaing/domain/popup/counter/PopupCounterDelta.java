@@ -0,0 +1,5 @@
+package com.da.itdaing.domain.popup.counter;
+
+/** 한 번의 반영 주기 동안 모인 팝업별 증감량 */
+public record PopupCounterDelta(Long popupId, long views, long favorites) {
+}
@@ -0,0 +1,66 @@
+package com.da.itdaing.domain.popup.counter;
+
+import com.da.itdaing.domain.popup.event.PopupCountersFlushedEvent;
+import com.da.itdaing.domain.popup.repository.PopupCounterJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 지연 카운터 반영 배치
+ * - 주기마다 PopupCounterBuffer 를 비워 batchSize 단위로 일괄 UPDATE 한다.
+ * - 실패한 묶음은 버퍼로 되돌려 다음 주기에 다시 보낸다. 종료 시 남은 증감을 한 번 더 반영한다.
+ * - 좋아요 수가 바뀐 카드는 반영이 끝난 뒤 PopupCountersFlushedEvent 하나로 묶어 알린다
+ *   (팝업마다 알리면 캐시 삭제/브로드캐스트/ETag 버전 증가가 팝업 수만큼 Redis 왕복으로 일어난다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupCounterFlusher {
+
+    private final PopupCounterProperties properties;
+    private final PopupCounterBuffer popupCounterBuffer;
+    private final PopupCounterJdbcRepository popupCounterJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 반영한 팝업 수를 반환한다 */
+    @Scheduled(fixedDelayString = "${popup-counter.flush-interval:5s}")
+    public synchronized int flush() {
+        List<PopupCounterDelta> deltas = popupCounterBuffer.drain();
+        int applied = 0;
+        Set<Long> favoritesChanged = new HashSet<>();
+        for (int from = 0; from < deltas.size(); from += properties.getBatchSize()) {
+            List<PopupCounterDelta> chunk = deltas.subList(from, Math.min(from + properties.getBatchSize(), deltas.size()));
+            try {
+                popupCounterJdbcRepository.applyDeltas(chunk, LocalDateTime.now());
+                applied += chunk.size();
+            } catch (Exception e) {
+                popupCounterBuffer.restore(chunk);
+                log.warn("[popup-counter] flush failed for {} popups: {}", chunk.size(), e.getMessage(), e);
+                continue;
+            }
+            chunk.stream()
+                .filter(delta -> delta.favorites() != 0)
+                .forEach(delta -> favoritesChanged.add(delta.popupId()));
+        }
+        if (!favoritesChanged.isEmpty()) {
+            eventPublisher.publishEvent(new PopupCountersFlushedEvent(favoritesChanged));
+        }
+        return applied;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int applied = flush();
+        if (applied > 0) {
+            log.info("[popup-counter] flushed {} popups on shutdown", applied);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.da.itdaing.domain.popup.counter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "popup-counter")
+public class PopupCounterProperties {
+
+    /** 한 번에 보내는 최대 팝업 수 (넘으면 나눠서 반영) */
+    private int batchSize = 500;
+}
@@ -0,0 +1,14 @@
+package com.da.itdaing.domain.popup.dto;
+
+/**
+ * 자동완성 항목
+ * @param type POPUP / SELLER / AREA
+ * @param id   팝업 ID / 판매자 ID / 구역 ID
+ * @param text 표시 문자열
+ */
+public record PopupAutocompleteResponse(
+    String type,
+    Long id,
+    String text
+) {
+}
@@ -0,0 +1,21 @@
+package com.da.itdaing.domain.popup.dto;
+
+import java.util.List;
+
+/**
+ * 달력용 월간 활성 팝업 수
+ * - total: 운영 기간이 그 달과 겹치는 승인 팝업 수 (여러 날에 걸친 팝업도 한 번만 센다)
+ * - days: 그 달의 1일부터 말일까지 날짜별 운영 중인 승인 팝업 수 (0 인 날도 포함)
+ */
+public record PopupCalendarResponse(
+    String month,
+    long total,
+    List<Day> days
+) {
+
+    public record Day(
+        String date,
+        int count
+    ) {
+    }
+}
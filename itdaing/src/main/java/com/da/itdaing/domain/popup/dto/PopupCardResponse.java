@@ -0,0 +1,31 @@
+package com.da.itdaing.domain.popup.dto;
+
+import com.da.itdaing.domain.file.dto.ImagePayload;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 카드(캐러셀/목록 타일) 표시에 필요한 필드만 담은 팝업 요약
+ * - 갤러리, 운영 시간, 설명, 평점 분포 등 상세 화면용 필드는 포함하지 않는다.
+ * - likedByMe 는 로그인 사용자일 때만 채운다 (비로그인은 생략).
+ */
+public record PopupCardResponse(
+    Long id,
+    String title,
+    String locationName,
+    String status,
+    String startDate,
+    String endDate,
+    ImagePayload thumbnail,
+    Long favoriteCount,
+    double averageRating,
+    int reviewCount,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean likedByMe
+) implements PopupViewResponse {
+
+    @Override
+    public PopupCardResponse withLikedByMe(boolean likedByMe) {
+        return new PopupCardResponse(id, title, locationName, status, startDate, endDate, thumbnail,
+            favoriteCount, averageRating, reviewCount, likedByMe);
+    }
+}
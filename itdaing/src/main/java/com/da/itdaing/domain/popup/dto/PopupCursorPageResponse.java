@@ -0,0 +1,19 @@
+package com.da.itdaing.domain.popup.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * 커서 기반 팝업 검색 결과
+ * - nextCursor: 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+ * - totalElements: withCount=true 로 요청한 경우에만 포함
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PopupCursorPageResponse<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor,
+    Long totalElements
+) {
+}
@@ -0,0 +1,18 @@
+package com.da.itdaing.domain.popup.dto;
+
+import java.util.Map;
+
+/**
+ * 필터 사이드바용 패싯 건수
+ * - total: 현재 조건 전체에 맞는 팝업 수
+ * - 각 차원의 건수는 그 차원을 뺀 나머지 조건 기준이다 (다중 선택 시 같은 차원의 다른 값을 골랐을 때의 건수).
+ *   키는 카테고리/편의시설/스타일/구역 ID, 건수가 0 인 값은 생략한다.
+ */
+public record PopupFacetCounts(
+    long total,
+    Map<Long, Integer> categories,
+    Map<Long, Integer> features,
+    Map<Long, Integer> styles,
+    Map<Long, Integer> regions
+) {
+}
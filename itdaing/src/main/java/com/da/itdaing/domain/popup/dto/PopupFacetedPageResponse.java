@@ -0,0 +1,12 @@
+package com.da.itdaing.domain.popup.dto;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * 오프셋 검색 결과 페이지 + 같은 조건의 패싯 건수 (withFacets=true)
+ */
+public record PopupFacetedPageResponse<T>(
+    Page<T> page,
+    PopupFacetCounts facets
+) {
+}
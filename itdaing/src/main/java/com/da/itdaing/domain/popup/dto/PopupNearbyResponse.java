@@ -0,0 +1,10 @@
+package com.da.itdaing.domain.popup.dto;
+
+/**
+ * 주변 팝업 한 건 (기준 좌표에서 팝업 셀 마커까지의 거리, 미터)
+ */
+public record PopupNearbyResponse<T>(
+    T popup,
+    double distanceMeters
+) {
+}
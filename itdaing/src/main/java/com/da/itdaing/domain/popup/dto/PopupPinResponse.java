@@ -0,0 +1,17 @@
+package com.da.itdaing.domain.popup.dto;
+
+/**
+ * 지도 핀 표시에 필요한 필드만 담은 팝업 요약 (위치와 기간)
+ */
+public record PopupPinResponse(
+    Long id,
+    String title,
+    Long zoneId,
+    Long cellId,
+    Double latitude,
+    Double longitude,
+    String status,
+    String startDate,
+    String endDate
+) implements PopupViewResponse {
+}
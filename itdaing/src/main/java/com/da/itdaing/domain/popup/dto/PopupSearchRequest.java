@@ -8,23 +8,35 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PopupSearchRequest {
     private String keyword;                    // 제목/설명 키워드 검색
     private Long regionId;                     // 지역 필터
     private List<Long> categoryIds;            // 카테고리 필터 (다중)
+    private List<Long> featureIds;             // 편의시설 필터 (다중)
+    private List<Long> styleIds;               // 스타일 필터 (다중)
     private LocalDate startDate;               // 시작일 필터
     private LocalDate endDate;                 // 종료일 필터
+    private LocalDate activeFrom;              // 기간 겹침 필터: 운영 기간이 [activeFrom, activeTo] 와 겹치는 팝업
+    private LocalDate activeTo;                //   (한쪽만 주면 그쪽만 제한, 같은 날짜면 그날 운영 중)
     private ApprovalStatus approvalStatus;     // 승인 상태 필터
+    private LocalDateTime openAt;              // 운영 중 필터: 그 시각에 기간 안이고 운영 시간 안인 팝업
+    private PopupSort sort;                    // 정렬 (오프셋 모드). 없으면 키워드 검색은 관련도순, 그 외는 최신순
     @Builder.Default
     private int page = 0;
     @Builder.Default
     private int size = 20;
+    private String cursor;                     // 커서 모드: 이전 응답의 nextCursor
+    @Builder.Default
+    private boolean withCount = false;         // 커서 모드에서 전체 건수 포함 여부
+    @Builder.Default
+    private boolean withFacets = false;        // 오프셋 모드에서 패싯 건수 포함 여부
 }
 
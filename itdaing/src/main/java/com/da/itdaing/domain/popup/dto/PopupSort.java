@@ -0,0 +1,37 @@
+package com.da.itdaing.domain.popup.dto;
+
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+
+/**
+ * 팝업 검색 정렬 (?sort=)
+ * - NEWEST: 최신 등록순 (created_at desc)
+ * - VIEWS: 조회수순 (view_count desc)
+ * - FAVORITES: 찜 수순 (favorite_count desc)
+ * - RATING: 평균 평점순 (rating_avg desc, 같으면 리뷰 수 desc)
+ * - ENDING_SOON: 종료 임박순 (end_date asc, 오늘 이후 종료하는 팝업만)
+ * 지정하지 않으면 키워드 검색은 관련도순, 그 외는 최신순이다.
+ * NEWEST 외의 정렬은 승인 상태를 주지 않으면 승인된 팝업만 대상으로 한다.
+ * 모든 정렬은 popup_id 로 동률을 정리하고, V18 의 (approval_status, 정렬 컬럼, popup_id) 인덱스를 탄다.
+ */
+public enum PopupSort {
+    NEWEST,
+    VIEWS,
+    FAVORITES,
+    RATING,
+    ENDING_SOON;
+
+    /** 대소문자/하이픈을 구분하지 않는다 (ending-soon = ENDING_SOON). 비어 있으면 null (기본 정렬). */
+    public static PopupSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String normalized = value.trim().replace('-', '_');
+        for (PopupSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(normalized)) {
+                return sort;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 sort 값입니다: " + value);
+    }
+}
@@ -1,8 +1,13 @@
 package com.da.itdaing.domain.popup.dto;
 
 import com.da.itdaing.domain.file.dto.ImagePayload;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
+/**
+ * 팝업 전체 응답 (view=full)
+ * - likedByMe: 로그인 사용자가 찜했는지. 캐시되는 공용 응답에는 없고(null → 생략) 응답 직전에 채운다.
+ */
 public record PopupSummaryResponse(
     Long id,
     String title,
@@ -30,7 +35,17 @@ public record PopupSummaryResponse(
     List<ImagePayload> gallery,
     PopupReviewSummaryResponse reviewSummary,
     String createdAt,
-    String updatedAt
-) {
+    String updatedAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean likedByMe
+) implements PopupViewResponse {
+
+    @Override
+    public PopupSummaryResponse withLikedByMe(boolean likedByMe) {
+        return new PopupSummaryResponse(id, title, sellerId, sellerName, zoneId, cellId, cellName, locationName,
+            address, latitude, longitude, status, startDate, endDate, hours, operatingHours, description,
+            viewCount, favoriteCount, categoryIds, featureIds, styleTags, thumbnail, gallery, reviewSummary,
+            createdAt, updatedAt, likedByMe);
+    }
 }
 
@@ -0,0 +1,29 @@
+package com.da.itdaing.domain.popup.dto;
+
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+
+/**
+ * 팝업 조회 응답 형태 (?view=)
+ * - FULL: PopupSummaryResponse 전체
+ * - CARD: PopupCardResponse (카드 표시용 최소 필드)
+ * - PIN: PopupPinResponse (지도 핀용 위치/기간)
+ */
+public enum PopupView {
+    FULL,
+    CARD,
+    PIN;
+
+    /** 대소문자를 구분하지 않는다. 비어 있으면 FULL. */
+    public static PopupView from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        for (PopupView view : values()) {
+            if (view.name().equalsIgnoreCase(value.trim())) {
+                return view;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 view 값입니다: " + value);
+    }
+}
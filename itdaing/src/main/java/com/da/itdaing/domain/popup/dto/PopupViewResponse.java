@@ -0,0 +1,15 @@
+package com.da.itdaing.domain.popup.dto;
+
+/**
+ * 조회 형태(view)별 팝업 응답의 공통 타입
+ * - PopupSummaryResponse (full), PopupCardResponse (card), PopupPinResponse (pin)
+ */
+public interface PopupViewResponse {
+
+    Long id();
+
+    /** 찜 여부를 채운 사본. 찜 표시가 없는 형태(pin)는 그대로 돌려준다. */
+    default PopupViewResponse withLikedByMe(boolean likedByMe) {
+        return this;
+    }
+}
@@ -0,0 +1,40 @@
+package com.da.itdaing.domain.popup.entity;
+
+import com.da.itdaing.domain.file.dto.ImagePayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+/**
+ * 갤러리 이미지 목록 ↔ JSON 문자열 변환기 (popup_card.gallery)
+ */
+@Converter
+public class ImagePayloadListConverter implements AttributeConverter<List<ImagePayload>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<ImagePayload>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<ImagePayload> attribute) {
+        try {
+            return MAPPER.writeValueAsString(attribute != null ? attribute : List.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("갤러리 이미지를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<ImagePayload> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(MAPPER.readValue(dbData, TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("갤러리 이미지를 역직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.da.itdaing.domain.popup.entity;
+
+import com.da.itdaing.domain.popup.dto.PopupOperatingHourResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+/**
+ * 운영 시간 표시 목록 ↔ JSON 문자열 변환기 (popup_card.operating_hours)
+ */
+@Converter
+public class OperatingHourListConverter implements AttributeConverter<List<PopupOperatingHourResponse>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<PopupOperatingHourResponse>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<PopupOperatingHourResponse> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("운영 시간을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /** 아직 채워지지 않은 카드(null)는 null 로 돌려 백필 대상임을 구분한다 */
+    @Override
+    public List<PopupOperatingHourResponse> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (dbData.isBlank()) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(MAPPER.readValue(dbData, TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("운영 시간을 역직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.da.itdaing.domain.popup.entity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 요일별 운영 구간 [openMinute, closeMinute) — 분 단위, 자정을 넘기는 구간은 다음 요일 구간으로 나눠 둔다.
+ * dayOfWeek 는 ISO 요일 번호 (1 = 월 … 7 = 일)
+ */
+public record OperatingWindow(int dayOfWeek, int openMinute, int closeMinute) {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    public boolean contains(int dayOfWeek, int minuteOfDay) {
+        return this.dayOfWeek == dayOfWeek && openMinute <= minuteOfDay && minuteOfDay < closeMinute;
+    }
+
+    /** 운영 기간과 별개로, 주간 운영 시간 기준으로 그 시각에 열려 있는지 */
+    public static boolean anyContains(List<OperatingWindow> windows, LocalDateTime at) {
+        if (windows == null || windows.isEmpty()) {
+            return false;
+        }
+        int day = at.getDayOfWeek().getValue();
+        int minute = minuteOfDay(at);
+        return windows.stream().anyMatch(window -> window.contains(day, minute));
+    }
+
+    public static int minuteOfDay(LocalDateTime at) {
+        return at.getHour() * 60 + at.getMinute();
+    }
+}
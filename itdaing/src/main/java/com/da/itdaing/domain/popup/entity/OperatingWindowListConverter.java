@@ -0,0 +1,53 @@
+package com.da.itdaing.domain.popup.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 운영 구간 목록 ↔ 압축 문자열 변환기 (popup_card.open_windows)
+ * - "요일:시작분-종료분" 을 ';' 로 잇는다. 예) 매일 10:00-20:00 → "1:600-1200;2:600-1200;…;7:600-1200"
+ */
+@Converter
+public class OperatingWindowListConverter implements AttributeConverter<List<OperatingWindow>, String> {
+
+    private static final String DELIMITER = ";";
+
+    @Override
+    public String convertToDatabaseColumn(List<OperatingWindow> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return "";
+        }
+        return attribute.stream()
+            .map(window -> window.dayOfWeek() + ":" + window.openMinute() + "-" + window.closeMinute())
+            .collect(Collectors.joining(DELIMITER));
+    }
+
+    @Override
+    public List<OperatingWindow> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return List.of();
+        }
+        try {
+            return Arrays.stream(dbData.split(DELIMITER))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(OperatingWindowListConverter::parse)
+                .toList();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("운영 구간을 역직렬화할 수 없습니다: " + dbData, e);
+        }
+    }
+
+    private static OperatingWindow parse(String token) {
+        int colon = token.indexOf(':');
+        int dash = token.indexOf('-', colon);
+        return new OperatingWindow(
+            Integer.parseInt(token.substring(0, colon)),
+            Integer.parseInt(token.substring(colon + 1, dash)),
+            Integer.parseInt(token.substring(dash + 1))
+        );
+    }
+}
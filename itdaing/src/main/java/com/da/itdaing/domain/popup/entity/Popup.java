@@ -65,10 +65,11 @@ public class Popup extends BaseTimeEntity {
     @Column(name = "rejection_reason", length = 500)
     private String rejectionReason;
 
-    @Column(name = "view_count", nullable = false)
+    // 카운터는 엔티티 변경 감지로 덮어쓰지 않는다 (PopupCounterFlusher 가 UPDATE x = x + ? 로만 증감)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Long viewCount = 0L;
 
-    @Column(name = "favorite_count", nullable = false)
+    @Column(name = "favorite_count", nullable = false, updatable = false)
     private Long favoriteCount = 0L;
 
     @Builder
@@ -103,26 +104,4 @@ public class Popup extends BaseTimeEntity {
         this.approvalStatus = status;
         this.rejectionReason = rejectionReason;
     }
-
-    // Popup.java (엔티티 내부)
-    public void increaseViewCount() {
-        if (this.viewCount == null) {
-            this.viewCount = 0L;
-        }
-        this.viewCount++;
-    }
-
-    public void increaseFavoriteCount() {
-        if (this.favoriteCount == null) {
-            this.favoriteCount = 0L;
-        }
-        this.favoriteCount++;
-    }
-
-    public void decreaseFavoriteCount() {
-        if (this.favoriteCount == null || this.favoriteCount == 0L) {
-            return;
-        }
-        this.favoriteCount--;
-    }
 }
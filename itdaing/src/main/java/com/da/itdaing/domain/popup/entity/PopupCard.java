@@ -0,0 +1,270 @@
+package com.da.itdaing.domain.popup.entity;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.file.dto.ImagePayload;
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.popup.dto.PopupOperatingHourResponse;
+import com.da.itdaing.domain.user.entity.Users;
+import com.da.itdaing.global.jpa.LongListConverter;
+import com.da.itdaing.global.jpa.StringListConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 팝업 카드 조회 모델 (비정규화 프로젝션)
+ * - 목록/상세/검색 응답에 필요한 값을 한 행에 모아 단일 테이블 조회로 응답한다.
+ * - 원본(popup 및 하위 테이블, review)이 바뀔 때 PopupCardProjector가 갱신한다.
+ */
+@Entity
+@Table(
+    name = "popup_card",
+    indexes = {
+        @Index(name = "idx_popup_card_seller", columnList = "seller_id"),
+        @Index(name = "idx_popup_card_area", columnList = "zone_area_id"),
+        @Index(name = "idx_popup_card_cell", columnList = "zone_cell_id"),
+        @Index(name = "idx_popup_card_status_created", columnList = "approval_status, created_at"),
+        @Index(name = "idx_popup_card_period", columnList = "start_date, end_date"),
+        @Index(name = "idx_popup_card_created_id", columnList = "created_at, popup_id"),
+        @Index(name = "idx_popup_card_synced_id", columnList = "synced_at, popup_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PopupCard {
+
+    @Id
+    @Column(name = "popup_id")
+    private Long popupId;
+
+    @Column(name = "seller_id", nullable = false)
+    private Long sellerId;
+
+    @Column(name = "seller_name", length = 100)
+    private String sellerName;
+
+    @Column(name = "zone_area_id")
+    private Long zoneAreaId;
+
+    @Column(name = "location_name", length = 100)
+    private String locationName;
+
+    @Column(name = "zone_cell_id")
+    private Long zoneCellId;
+
+    @Column(name = "cell_name", length = 100)
+    private String cellName;
+
+    @Column(name = "address", length = 255)
+    private String address;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "name", length = 200, nullable = false)
+    private String name;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "approval_status", length = 20, nullable = false)
+    private ApprovalStatus approvalStatus;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "operating_time", length = 250)
+    private String operatingTime;
+
+    /** 등록/수정 시점에 파싱해 둔 운영 시간 표시 목록 (null 이면 아직 채워지지 않은 카드) */
+    @Convert(converter = OperatingHourListConverter.class)
+    @Column(name = "operating_hours", columnDefinition = "TEXT")
+    private List<PopupOperatingHourResponse> operatingHours;
+
+    /** 요일별 운영 구간 (운영 중 필터용) */
+    @Convert(converter = OperatingWindowListConverter.class)
+    @Column(name = "open_windows", columnDefinition = "TEXT")
+    private List<OperatingWindow> openWindows = new ArrayList<>();
+
+    // 카운터는 처음 만들 때만 원본 값을 저장하고, 이후에는 PopupCounterFlusher 의 증감 UPDATE 로만 바뀐다
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private Long viewCount = 0L;
+
+    @Column(name = "favorite_count", nullable = false, updatable = false)
+    private Long favoriteCount = 0L;
+
+    @Convert(converter = LongListConverter.class)
+    @Column(name = "category_ids", columnDefinition = "TEXT")
+    private List<Long> categoryIds = new ArrayList<>();
+
+    @Convert(converter = LongListConverter.class)
+    @Column(name = "feature_ids", columnDefinition = "TEXT")
+    private List<Long> featureIds = new ArrayList<>();
+
+    @Convert(converter = LongListConverter.class)
+    @Column(name = "style_ids", columnDefinition = "TEXT")
+    private List<Long> styleIds = new ArrayList<>();
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "style_tags", columnDefinition = "TEXT")
+    private List<String> styleTags = new ArrayList<>();
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "thumbnail_key", length = 255)
+    private String thumbnailKey;
+
+    @Convert(converter = ImagePayloadListConverter.class)
+    @Column(name = "gallery", columnDefinition = "TEXT")
+    private List<ImagePayload> gallery = new ArrayList<>();
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount = 0;
+
+    @Column(name = "review_sum", nullable = false)
+    private Long reviewSum = 0L;
+
+    /** 평균 평점 (review_sum / review_count, 리뷰가 없으면 0). 평점순 정렬 인덱스용 비정규화 컬럼 */
+    @Column(name = "rating_avg", nullable = false)
+    private Double ratingAvg = 0.0;
+
+    @Column(name = "rating_1", nullable = false)
+    private Integer rating1 = 0;
+
+    @Column(name = "rating_2", nullable = false)
+    private Integer rating2 = 0;
+
+    @Column(name = "rating_3", nullable = false)
+    private Integer rating3 = 0;
+
+    @Column(name = "rating_4", nullable = false)
+    private Integer rating4 = 0;
+
+    @Column(name = "rating_5", nullable = false)
+    private Integer rating5 = 0;
+
+    /** 원본 팝업의 생성/수정 시각 (응답 및 정렬 기준) */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** 카드가 마지막으로 갱신된 시각 (리뷰/카운터 변경 포함) */
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+
+    public static PopupCard of(Long popupId) {
+        PopupCard card = new PopupCard();
+        card.popupId = popupId;
+        return card;
+    }
+
+    /** 팝업 본문/위치/판매자 정보 반영 */
+    public void applyPopup(Popup popup, String sellerName) {
+        Users seller = popup.getSeller();
+        ZoneCell zoneCell = popup.getZoneCell();
+        ZoneArea zoneArea = zoneCell != null ? zoneCell.getZoneArea() : null;
+
+        this.sellerId = seller != null ? seller.getId() : null;
+        this.sellerName = sellerName;
+        this.zoneCellId = zoneCell != null ? zoneCell.getId() : null;
+        this.cellName = zoneCell != null ? zoneCell.getLabel() : null;
+        this.address = zoneCell != null ? zoneCell.getDetailedAddress() : null;
+        this.latitude = zoneCell != null ? zoneCell.getLat() : null;
+        this.longitude = zoneCell != null ? zoneCell.getLng() : null;
+        this.zoneAreaId = zoneArea != null ? zoneArea.getId() : null;
+        this.locationName = zoneArea != null ? zoneArea.getName() : null;
+        this.name = popup.getName();
+        this.description = popup.getDescription();
+        this.approvalStatus = popup.getApprovalStatus();
+        this.startDate = popup.getStartDate();
+        this.endDate = popup.getEndDate();
+        this.operatingTime = popup.getOperatingTime();
+        this.viewCount = popup.getViewCount() != null ? popup.getViewCount() : 0L;
+        this.favoriteCount = popup.getFavoriteCount() != null ? popup.getFavoriteCount() : 0L;
+        this.createdAt = popup.getCreatedAt();
+        this.updatedAt = popup.getUpdatedAt();
+        touch();
+    }
+
+    /** 카테고리/편의시설/스타일/이미지 반영 */
+    public void applyAttributes(List<Long> categoryIds, List<Long> featureIds,
+                                List<Long> styleIds, List<String> styleTags,
+                                ImagePayload thumbnail, List<ImagePayload> gallery) {
+        this.categoryIds = new ArrayList<>(categoryIds);
+        this.featureIds = new ArrayList<>(featureIds);
+        this.styleIds = new ArrayList<>(styleIds);
+        this.styleTags = new ArrayList<>(styleTags);
+        this.thumbnailUrl = thumbnail != null ? thumbnail.url() : null;
+        this.thumbnailKey = thumbnail != null ? thumbnail.key() : null;
+        this.gallery = new ArrayList<>(gallery);
+        touch();
+    }
+
+    /** 운영 시간 반영 (popup_operating_hour 에서 만든 표시 목록과 운영 구간) */
+    public void applyOperatingHours(List<PopupOperatingHourResponse> operatingHours, List<OperatingWindow> openWindows) {
+        this.operatingHours = new ArrayList<>(operatingHours);
+        this.openWindows = new ArrayList<>(openWindows);
+        touch();
+    }
+
+    /** 리뷰 집계 반영 (distribution[0] = 1점 … distribution[4] = 5점) */
+    public void applyReviewStats(int count, long sum, int[] distribution) {
+        this.reviewCount = count;
+        this.reviewSum = sum;
+        this.ratingAvg = ratingAverageOf(count, sum);
+        this.rating1 = distribution[0];
+        this.rating2 = distribution[1];
+        this.rating3 = distribution[2];
+        this.rating4 = distribution[3];
+        this.rating5 = distribution[4];
+        touch();
+    }
+
+    public ImagePayload getThumbnail() {
+        return thumbnailOf(thumbnailUrl, thumbnailKey);
+    }
+
+    public List<Integer> getRatingDistribution() {
+        return List.of(rating1, rating2, rating3, rating4, rating5);
+    }
+
+    public double getRatingAverage() {
+        return ratingAverageOf(reviewCount, reviewSum);
+    }
+
+    /** 컬럼 단위 조회(카드/핀 프로젝션)에서도 같은 규칙으로 썸네일을 만든다 */
+    public static ImagePayload thumbnailOf(String thumbnailUrl, String thumbnailKey) {
+        if (thumbnailUrl == null) {
+            return null;
+        }
+        return ImagePayload.builder()
+            .url(thumbnailUrl)
+            .key(thumbnailKey)
+            .build();
+    }
+
+    public static double ratingAverageOf(Integer reviewCount, Long reviewSum) {
+        return reviewCount != null && reviewCount > 0 && reviewSum != null ? (double) reviewSum / reviewCount : 0.0;
+    }
+
+    private void touch() {
+        this.syncedAt = LocalDateTime.now();
+    }
+}
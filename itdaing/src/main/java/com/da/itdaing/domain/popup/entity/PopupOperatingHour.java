@@ -0,0 +1,73 @@
+package com.da.itdaing.domain.popup.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팝업 운영 시간 (popup.operating_time 을 등록/수정 시점에 한 번 파싱한 결과)
+ * - 한 행은 "표시 구간(segment) × 요일" 하나. 자정을 넘기는 구간은 다음 요일 행으로 나눈다.
+ * - 시각을 해석하지 못한 구간("공휴일 휴무" 등)은 표시용으로만 남기고 요일/분 값은 비워 둔다.
+ */
+@Entity
+@Table(
+    name = "popup_operating_hour",
+    indexes = {
+        @Index(name = "idx_popup_operating_hour_popup", columnList = "popup_id"),
+        @Index(name = "idx_popup_operating_hour_open", columnList = "day_of_week, open_minute, close_minute")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PopupOperatingHour {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "popup_id", nullable = false)
+    private Popup popup;
+
+    /** 원문에서의 구간 순서 (표시 순서) */
+    @Column(name = "segment_order", nullable = false)
+    private Integer segmentOrder;
+
+    @Column(name = "day_label", length = 50, nullable = false)
+    private String dayLabel;
+
+    @Column(name = "time_label", length = 100, nullable = false)
+    private String timeLabel;
+
+    /** ISO 요일 번호 (1 = 월 … 7 = 일), 해석하지 못한 구간은 null */
+    @Column(name = "day_of_week")
+    private Integer dayOfWeek;
+
+    @Column(name = "open_minute")
+    private Integer openMinute;
+
+    @Column(name = "close_minute")
+    private Integer closeMinute;
+
+    @Builder
+    public PopupOperatingHour(Popup popup, Integer segmentOrder, String dayLabel, String timeLabel,
+                              Integer dayOfWeek, Integer openMinute, Integer closeMinute) {
+        this.popup = popup;
+        this.segmentOrder = segmentOrder;
+        this.dayLabel = dayLabel;
+        this.timeLabel = timeLabel;
+        this.dayOfWeek = dayOfWeek;
+        this.openMinute = openMinute;
+        this.closeMinute = closeMinute;
+    }
+
+    /** 요일/시각이 있는 행만 운영 구간으로 쓴다 */
+    public OperatingWindow toWindow() {
+        if (dayOfWeek == null || openMinute == null || closeMinute == null) {
+            return null;
+        }
+        return new OperatingWindow(dayOfWeek, openMinute, closeMinute);
+    }
+}
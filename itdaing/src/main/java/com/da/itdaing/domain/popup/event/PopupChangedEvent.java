@@ -0,0 +1,28 @@
+package com.da.itdaing.domain.popup.event;
+
+/**
+ * 팝업 카드(popup_card) 변경 알림
+ * - PopupCardProjector 가 카드 생성/수정/삭제 및 구역 변경 반영 시 발행한다.
+ * - 리뷰 집계/좋아요 수만 바뀐 경우는 STATS 로 구분한다 (검색 색인은 무시, 응답 캐시는 무효화).
+ * - 검색 색인 등 카드에서 파생된 인메모리 구조는 커밋 이후 이 이벤트로 갱신한다.
+ */
+public record PopupChangedEvent(Long popupId, ChangeType type) {
+
+    public enum ChangeType {
+        UPSERT,
+        DELETE,
+        STATS
+    }
+
+    public static PopupChangedEvent upserted(Long popupId) {
+        return new PopupChangedEvent(popupId, ChangeType.UPSERT);
+    }
+
+    public static PopupChangedEvent deleted(Long popupId) {
+        return new PopupChangedEvent(popupId, ChangeType.DELETE);
+    }
+
+    public static PopupChangedEvent statsChanged(Long popupId) {
+        return new PopupChangedEvent(popupId, ChangeType.STATS);
+    }
+}
@@ -0,0 +1,17 @@
+package com.da.itdaing.domain.popup.event;
+
+/**
+ * 팝업 조회수/좋아요 수 증감 (쓰기 지연 카운터용)
+ * - PopupCardProjector 가 고유 조회/찜 추가·취소 시 발행하고, 커밋 이후 PopupCounterBuffer 가 누적한다.
+ * - popup / popup_card 의 카운터 컬럼은 PopupCounterFlusher 가 모아서 반영한다.
+ */
+public record PopupCounterEvent(Long popupId, long views, long favorites) {
+
+    public static PopupCounterEvent views(Long popupId, long delta) {
+        return new PopupCounterEvent(popupId, delta, 0);
+    }
+
+    public static PopupCounterEvent favorites(Long popupId, long delta) {
+        return new PopupCounterEvent(popupId, 0, delta);
+    }
+}
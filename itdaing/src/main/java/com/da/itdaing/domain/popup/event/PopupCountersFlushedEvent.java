@@ -0,0 +1,11 @@
+package com.da.itdaing.domain.popup.event;
+
+import java.util.Set;
+
+/**
+ * 쓰기 지연 카운터 반영 한 번에 좋아요 수가 바뀐 팝업 ID 묶음
+ * - PopupCounterFlusher 가 반영 주기마다 한 번만 발행한다. 응답 캐시는 한 번에 지우고 popups 버전도 한 번만 올린다.
+ * - 검색/필터 색인은 좋아요 수를 쓰지 않으므로 받지 않는다.
+ */
+public record PopupCountersFlushedEvent(Set<Long> popupIds) {
+}
@@ -0,0 +1,21 @@
+package com.da.itdaing.domain.popup.event;
+
+import java.time.Instant;
+
+/**
+ * 팝업 참여 신호 (인기 순위 갱신용)
+ * - PopupCardProjector 가 고유 조회수/찜 수 증가, 리뷰 작성을 카드에 반영할 때 함께 발행한다.
+ * - 찜 취소/리뷰 삭제는 발행하지 않는다 (감쇠된 점수에서 정확히 빼낼 수 없고, 시간이 지나면 자연히 줄어든다).
+ */
+public record PopupEngagementEvent(Long popupId, Kind kind, long count, Instant occurredAt) {
+
+    public enum Kind {
+        VIEW,
+        FAVORITE,
+        REVIEW
+    }
+
+    public static PopupEngagementEvent of(Long popupId, Kind kind, long count) {
+        return new PopupEngagementEvent(popupId, kind, count, Instant.now());
+    }
+}
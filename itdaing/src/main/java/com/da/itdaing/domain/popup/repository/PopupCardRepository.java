@@ -0,0 +1,135 @@
+package com.da.itdaing.domain.popup.repository;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface PopupCardRepository extends JpaRepository<PopupCard, Long> {
+
+    List<PopupCard> findBySellerIdOrderByCreatedAtDesc(Long sellerId);
+
+    // 스트리밍 응답용: 커서로 조금씩 읽는다 (호출 측 트랜잭션 안에서 소비 후 닫아야 함)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from PopupCard c order by c.popupId")
+    Stream<PopupCard> streamAll();
+
+    // 리뷰 작성/수정/삭제 시 평점 집계를 원자적으로 증감 (d1~d5 = 1~5점 분포 변화량)
+    // PostgreSQL 은 SET 의 모든 식을 갱신 전 행 값으로 계산하므로, rating_avg 도 기존 review_count/review_sum 에 변화량을 더해 구한다
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update PopupCard c
+        set c.ratingAvg = case when c.reviewCount + :countDelta > 0
+                               then (c.reviewSum + :sumDelta) * 1.0 / (c.reviewCount + :countDelta)
+                               else 0.0 end,
+            c.reviewCount = c.reviewCount + :countDelta,
+            c.reviewSum = c.reviewSum + :sumDelta,
+            c.rating1 = c.rating1 + :d1,
+            c.rating2 = c.rating2 + :d2,
+            c.rating3 = c.rating3 + :d3,
+            c.rating4 = c.rating4 + :d4,
+            c.rating5 = c.rating5 + :d5,
+            c.syncedAt = :syncedAt
+        where c.popupId = :popupId
+        """)
+    int addReviewStats(@Param("popupId") Long popupId,
+                       @Param("countDelta") int countDelta,
+                       @Param("sumDelta") long sumDelta,
+                       @Param("d1") int d1,
+                       @Param("d2") int d2,
+                       @Param("d3") int d3,
+                       @Param("d4") int d4,
+                       @Param("d5") int d5,
+                       @Param("syncedAt") LocalDateTime syncedAt);
+
+    @Query("select c.popupId from PopupCard c order by c.popupId")
+    List<Long> findAllPopupIds();
+
+    @Query("select c.popupId from PopupCard c where c.zoneAreaId = :zoneAreaId")
+    List<Long> findPopupIdsByZoneAreaId(@Param("zoneAreaId") Long zoneAreaId);
+
+    @Query("select c.popupId from PopupCard c where c.zoneCellId = :zoneCellId")
+    List<Long> findPopupIdsByZoneCellId(@Param("zoneCellId") Long zoneCellId);
+
+    // 운영 시간 구조화 이전에 만들어진 카드 (operating_hours 가 비어 있음)
+    @Query("select c.popupId from PopupCard c where c.operatingHours is null order by c.popupId")
+    List<Long> findPopupIdsWithoutOperatingHours();
+
+    // 인기 순위 후보 중 노출 가능한 팝업 (해당 상태이고 종료일이 today 이후)
+    @Query("""
+        select c.popupId from PopupCard c
+        where c.popupId in :popupIds
+          and c.approvalStatus = :status
+          and (c.endDate is null or c.endDate >= :today)
+        """)
+    List<Long> findListablePopupIds(@Param("popupIds") Collection<Long> popupIds,
+                                    @Param("status") ApprovalStatus status,
+                                    @Param("today") LocalDate today);
+
+    // 인기 순위 최후 대체 경로: 감쇠 점수를 낼 집계가 없을 때 누적 카운터 가중합 순
+    @Query("""
+        select c.popupId from PopupCard c
+        where c.approvalStatus = :status
+          and (c.endDate is null or c.endDate >= :today)
+        order by coalesce(c.viewCount, 0) * :viewWeight
+                 + coalesce(c.favoriteCount, 0) * :favoriteWeight
+                 + coalesce(c.reviewCount, 0) * :reviewWeight desc,
+                 c.popupId asc
+        """)
+    List<Long> findTopListableByCounters(@Param("status") ApprovalStatus status,
+                                         @Param("today") LocalDate today,
+                                         @Param("viewWeight") double viewWeight,
+                                         @Param("favoriteWeight") double favoriteWeight,
+                                         @Param("reviewWeight") double reviewWeight,
+                                         Pageable pageable);
+
+    // 검색 색인 재구축 등 전체 순회용 (popup_id 오름차순 키셋)
+    List<PopupCard> findTop1000ByPopupIdGreaterThanOrderByPopupIdAsc(Long popupId);
+
+    // 구역/셀 정보가 바뀌면 해당 카드들의 위치 값만 일괄 갱신
+    @Modifying(flushAutomatically = true)
+    @Query("update PopupCard c set c.locationName = :locationName, c.syncedAt = :syncedAt where c.zoneAreaId = :zoneAreaId")
+    int updateLocationName(@Param("zoneAreaId") Long zoneAreaId, @Param("locationName") String locationName,
+                           @Param("syncedAt") LocalDateTime syncedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update PopupCard c
+        set c.zoneAreaId = :zoneAreaId, c.locationName = :locationName,
+            c.cellName = :cellName, c.address = :address, c.latitude = :latitude, c.longitude = :longitude,
+            c.syncedAt = :syncedAt
+        where c.zoneCellId = :zoneCellId
+        """)
+    int updateCellLocation(@Param("zoneCellId") Long zoneCellId,
+                           @Param("zoneAreaId") Long zoneAreaId,
+                           @Param("locationName") String locationName,
+                           @Param("cellName") String cellName,
+                           @Param("address") String address,
+                           @Param("latitude") Double latitude,
+                           @Param("longitude") Double longitude,
+                           @Param("syncedAt") LocalDateTime syncedAt);
+
+    // 변경 피드용: (synced_at, popup_id) 키셋으로 워터마크 이후 갱신된 카드를 순서대로 읽는다
+    @Query("""
+        select c from PopupCard c
+        where c.syncedAt > :syncedAt or (c.syncedAt = :syncedAt and c.popupId > :popupId)
+        order by c.syncedAt asc, c.popupId asc
+        """)
+    List<PopupCard> findSyncedAfter(@Param("syncedAt") LocalDateTime syncedAt,
+                                    @Param("popupId") Long popupId,
+                                    Pageable pageable);
+}
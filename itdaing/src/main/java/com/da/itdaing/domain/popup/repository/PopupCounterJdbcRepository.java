@@ -0,0 +1,58 @@
+package com.da.itdaing.domain.popup.repository;
+
+import com.da.itdaing.domain.popup.counter.PopupCounterDelta;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조회수/좋아요 수 일괄 증감 (쓰기 지연 카운터 반영용)
+ * - 팝업별 증감을 JDBC 배치 UPDATE x = x + ? 로 한 번에 보낸다 (엔티티를 읽지 않아 갱신 유실이 없다).
+ * - 좋아요 수 변경은 변경 피드 대상이므로 popup_card.synced_at 도 함께 갱신한다 (조회수는 제외).
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopupCounterJdbcRepository {
+
+    private static final String UPDATE_POPUP = """
+        update popup
+        set view_count = view_count + ?,
+            favorite_count = greatest(favorite_count + ?, 0)
+        where id = ?
+        """;
+
+    private static final String UPDATE_CARD_VIEWS = """
+        update popup_card
+        set view_count = view_count + ?
+        where popup_id = ?
+        """;
+
+    private static final String UPDATE_CARD_FAVORITES = """
+        update popup_card
+        set favorite_count = greatest(favorite_count + ?, 0),
+            synced_at = ?
+        where popup_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void applyDeltas(List<PopupCounterDelta> deltas, LocalDateTime syncedAt) {
+        jdbcTemplate.batchUpdate(UPDATE_POPUP, deltas.stream()
+            .map(delta -> new Object[] {delta.views(), delta.favorites(), delta.popupId()})
+            .toList());
+        jdbcTemplate.batchUpdate(UPDATE_CARD_VIEWS, deltas.stream()
+            .filter(delta -> delta.views() != 0)
+            .map(delta -> new Object[] {delta.views(), delta.popupId()})
+            .toList());
+        Timestamp syncedAtValue = Timestamp.valueOf(syncedAt);
+        jdbcTemplate.batchUpdate(UPDATE_CARD_FAVORITES, deltas.stream()
+            .filter(delta -> delta.favorites() != 0)
+            .map(delta -> new Object[] {delta.favorites(), syncedAtValue, delta.popupId()})
+            .toList());
+    }
+}
@@ -0,0 +1,16 @@
+package com.da.itdaing.domain.popup.repository;
+
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.entity.PopupOperatingHour;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PopupOperatingHourRepository extends JpaRepository<PopupOperatingHour, Long> {
+
+    List<PopupOperatingHour> findByPopupIdIn(Collection<Long> popupIds);
+
+    List<PopupOperatingHour> findByPopupId(Long popupId);
+
+    void deleteByPopup(Popup popup);
+}
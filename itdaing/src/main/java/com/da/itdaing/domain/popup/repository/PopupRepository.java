@@ -2,6 +2,7 @@ package com.da.itdaing.domain.popup.repository;
 
 import com.da.itdaing.domain.common.enums.ApprovalStatus;
 import com.da.itdaing.domain.popup.entity.Popup;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -29,6 +30,28 @@ public interface PopupRepository extends JpaRepository<Popup, Long> {
         """)
     Optional<Popup> findByIdWithZoneAndSeller(@Param("popupId") Long popupId);
 
+    @Query("""
+        select p from Popup p
+        join fetch p.zoneCell z
+        join fetch z.zoneArea
+        join fetch p.seller
+        where p.id in :popupIds
+        """)
+    List<Popup> findAllByIdInWithZoneAndSeller(@Param("popupIds") Collection<Long> popupIds);
+
+    // 이벤트 일괄 적재 시 존재하는 팝업만 남기기 위한 ID 조회
+    @Query("select p.id from Popup p where p.id in :popupIds")
+    List<Long> findExistingIds(@Param("popupIds") Collection<Long> popupIds);
+
+    // 운영 시간 문자열은 있는데 구조화된 행(popup_operating_hour)이 없는 팝업 (구조화 이전 데이터)
+    @Query("""
+        select p.id from Popup p
+        where p.operatingTime is not null and trim(p.operatingTime) <> ''
+          and not exists (select h.id from PopupOperatingHour h where h.popup = p)
+        order by p.id
+        """)
+    List<Long> findIdsWithoutOperatingHours();
+
     @Query("""
         select p from Popup p
         join fetch p.zoneCell z
@@ -40,6 +63,4 @@ public interface PopupRepository extends JpaRepository<Popup, Long> {
     List<Popup> findAllBySellerIdWithZoneAndSeller(@Param("sellerId") Long sellerId);
 
     Page<Popup> findByApprovalStatus(ApprovalStatus status, Pageable pageable);
-
-    List<Popup> findTop8ByApprovalStatusOrderByViewCountDesc(ApprovalStatus status);
 }
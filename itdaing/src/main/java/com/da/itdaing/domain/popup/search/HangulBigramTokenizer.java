@@ -0,0 +1,50 @@
+package com.da.itdaing.domain.popup.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글 검색용 바이그램 토크나이저
+ * - 소문자/NFC 정규화 후 문자·숫자 연속 구간을 나누고, 구간마다 인접한 두 글자를 토큰으로 만든다.
+ *   ("빈티지 마켓" → 빈티, 티지, 마켓)
+ * - 형태소 분석 없이도 조사가 붙은 어절("마켓에서")이나 붙여 쓴 복합어를 부분 일치로 찾을 수 있다.
+ * - 한 글자짜리 구간은 그 글자 자체를 토큰으로 남긴다.
+ */
+public final class HangulBigramTokenizer {
+
+    private HangulBigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int[] codePoints = normalized.codePoints().toArray();
+        int runStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (wordChar && runStart < 0) {
+                runStart = i;
+            } else if (!wordChar && runStart >= 0) {
+                emitRun(codePoints, runStart, i, tokens);
+                runStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emitRun(int[] codePoints, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.da.itdaing.domain.popup.search;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해/초성 추출 (자동완성 키 생성용)
+ * - 완성형 음절은 호환 자모로 풀고, 겹모음/겹받침은 입력 순서대로 다시 나눈다. ("닭" → ㄷㅏㄹㄱ, "왜" → ㅇㅗㅐ)
+ *   그래서 입력 중인 "빈팆"(빈티 + ㅈ)도 "빈티지"의 접두어(ㅂㅣㄴㅌㅣㅈ)가 된다.
+ * - 공백/기호는 버리고 영문은 소문자로 맞춘다.
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNG = {
+        'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    private static final char[] JONG = {
+        0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ',
+        'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /** 겹모음/겹받침 → 입력 순서의 단일 자모 */
+    private static final Map<Character, String> COMPOUND = Map.ofEntries(
+        Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+        Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"),
+        Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+        Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+        Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /** 자모 분해 키 ("팝업 스토어" → ㅍㅏㅂㅇㅓㅂㅅㅡㅌㅗㅇㅓ) */
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder();
+        if (text == null) {
+            return "";
+        }
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                appendJamo(sb, CHO[index / (JUNG_COUNT * JONG_COUNT)]);
+                appendJamo(sb, JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                char jong = JONG[index % JONG_COUNT];
+                if (jong != 0) {
+                    appendJamo(sb, jong);
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                appendJamo(sb, c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 초성 키 ("팝업 스토어" → ㅍㅇㅅㅌㅇ). 한글 외 문자는 그대로 둔다. */
+    public static String chosung(String text) {
+        StringBuilder sb = new StringBuilder();
+        if (text == null) {
+            return "";
+        }
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 공백을 제외한 모든 글자가 자음(호환 자모)인 질의 */
+    public static boolean isChosungOnly(String text) {
+        boolean found = false;
+        for (char c : text.toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        String split = COMPOUND.get(jamo);
+        if (split != null) {
+            sb.append(split);
+        } else {
+            sb.append(jamo);
+        }
+    }
+}
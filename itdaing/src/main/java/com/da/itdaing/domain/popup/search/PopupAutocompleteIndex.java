@@ -0,0 +1,286 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.popup.dto.PopupAutocompleteResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팝업/판매자/구역 이름 자동완성 (자모 분해 + 초성 접두어 트라이)
+ * - 이름 전체와 각 어절 시작 위치를 자모 키("ㅍㅏㅂㅇㅓㅂ…")와 초성 키("ㅍㅇ…")로 트라이에 넣는다.
+ * - 자음만 입력한 질의는 초성 트라이, 그 외는 자모 트라이에서 접두어를 찾는다.
+ * - 점수: 팝업은 조회수, 판매자/구역은 승인된 팝업 수. 판매자는 승인 팝업이 없으면 제외한다.
+ */
+@Component
+public class PopupAutocompleteIndex {
+
+    public enum Type {
+        POPUP,
+        SELLER,
+        AREA
+    }
+
+    /** 접두어 노드 아래에서 모으는 최대 후보 수 (조회 비용 상한) */
+    private static final int MAX_COLLECT = 256;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready;
+
+    /** 재구축 입력: 승인된 팝업 */
+    public record PopupEntry(Long popupId, String name, long weight, Long sellerId, String sellerName, Long areaId) {
+    }
+
+    /** 재구축 입력: 구역 */
+    public record AreaEntry(Long areaId, String name) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void replaceAll(List<PopupEntry> popups, List<AreaEntry> areas) {
+        State rebuilt = new State();
+        areas.forEach(area -> rebuilt.upsertArea(area.areaId(), area.name()));
+        popups.forEach(rebuilt::upsertPopup);
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertPopup(PopupEntry popup) {
+        lock.writeLock().lock();
+        try {
+            state.removePopup(popup.popupId());
+            state.upsertPopup(popup);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removePopup(Long popupId) {
+        lock.writeLock().lock();
+        try {
+            state.removePopup(popupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertArea(Long areaId, String name) {
+        lock.writeLock().lock();
+        try {
+            state.upsertArea(areaId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeArea(Long areaId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(Type.AREA, areaId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<PopupAutocompleteResponse> suggest(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        boolean chosungOnly = HangulJamo.isChosungOnly(query);
+        String key = chosungOnly ? HangulJamo.chosung(query) : HangulJamo.decompose(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = (chosungOnly ? state.chosungRoot : state.jamoRoot).find(key);
+            if (node == null) {
+                return List.of();
+            }
+            Set<Suggestion> collected = new LinkedHashSet<>();
+            node.collect(collected, MAX_COLLECT);
+            return collected.stream()
+                .filter(Suggestion::visible)
+                .sorted(Comparator.comparingLong(Suggestion::weight).reversed()
+                    .thenComparingInt(suggestion -> suggestion.text.length())
+                    .thenComparing(suggestion -> suggestion.text))
+                .limit(limit)
+                .map(suggestion -> new PopupAutocompleteResponse(suggestion.type.name(), suggestion.id, suggestion.text))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 트라이 + 항목/소속 관계 (쓰기 락 안에서만 변경) */
+    private static final class State {
+        private final Node jamoRoot = new Node();
+        private final Node chosungRoot = new Node();
+        private final Map<String, Suggestion> suggestions = new HashMap<>();
+        private final Map<Long, PopupEntry> popups = new HashMap<>();
+
+        void upsertPopup(PopupEntry popup) {
+            popups.put(popup.popupId(), popup);
+            put(Type.POPUP, popup.popupId(), popup.name(), popup.weight());
+
+            if (popup.sellerId() != null && popup.sellerName() != null) {
+                Suggestion seller = suggestions.get(keyOf(Type.SELLER, popup.sellerId()));
+                if (seller == null || !seller.text.equals(popup.sellerName())) {
+                    long count = seller != null ? seller.weight : 0L;
+                    seller = put(Type.SELLER, popup.sellerId(), popup.sellerName(), count);
+                }
+                seller.weight++;
+            }
+            Suggestion area = popup.areaId() != null ? suggestions.get(keyOf(Type.AREA, popup.areaId())) : null;
+            if (area != null) {
+                area.weight++;
+            }
+        }
+
+        void removePopup(Long popupId) {
+            PopupEntry popup = popups.remove(popupId);
+            if (popup == null) {
+                return;
+            }
+            remove(Type.POPUP, popupId);
+            if (popup.sellerId() != null) {
+                Suggestion seller = suggestions.get(keyOf(Type.SELLER, popup.sellerId()));
+                if (seller != null && --seller.weight <= 0) {
+                    remove(Type.SELLER, popup.sellerId());
+                }
+            }
+            Suggestion area = popup.areaId() != null ? suggestions.get(keyOf(Type.AREA, popup.areaId())) : null;
+            if (area != null && area.weight > 0) {
+                area.weight--;
+            }
+        }
+
+        void upsertArea(Long areaId, String name) {
+            Suggestion existing = suggestions.get(keyOf(Type.AREA, areaId));
+            if (existing != null && existing.text.equals(name)) {
+                return;
+            }
+            long count = popups.values().stream().filter(popup -> areaId.equals(popup.areaId())).count();
+            put(Type.AREA, areaId, name, count);
+        }
+
+        Suggestion put(Type type, Long id, String text, long weight) {
+            remove(type, id);
+            Suggestion suggestion = new Suggestion(type, id, text, weight);
+            if (text == null || text.isBlank()) {
+                return suggestion;
+            }
+            suggestions.put(keyOf(type, id), suggestion);
+            for (String start : wordStarts(text)) {
+                suggestion.jamoNodes.add(jamoRoot.insert(HangulJamo.decompose(start), suggestion));
+                suggestion.chosungNodes.add(chosungRoot.insert(HangulJamo.chosung(start), suggestion));
+            }
+            return suggestion;
+        }
+
+        void remove(Type type, Long id) {
+            Suggestion suggestion = suggestions.remove(keyOf(type, id));
+            if (suggestion == null) {
+                return;
+            }
+            suggestion.jamoNodes.forEach(node -> node.entries.remove(suggestion));
+            suggestion.chosungNodes.forEach(node -> node.entries.remove(suggestion));
+        }
+
+        private static String keyOf(Type type, Long id) {
+            return type.name() + ":" + id;
+        }
+
+        /** 이름 전체 + 두 번째 어절부터의 접미 ("서울 빈티지 마켓" → 전체, "빈티지 마켓", "마켓") */
+        private static List<String> wordStarts(String text) {
+            List<String> starts = new ArrayList<>();
+            String trimmed = text.trim();
+            starts.add(trimmed);
+            for (int i = 1; i < trimmed.length(); i++) {
+                if (Character.isWhitespace(trimmed.charAt(i - 1)) && !Character.isWhitespace(trimmed.charAt(i))) {
+                    starts.add(trimmed.substring(i));
+                }
+            }
+            return starts;
+        }
+    }
+
+    private static final class Suggestion {
+        private final Type type;
+        private final Long id;
+        private final String text;
+        private long weight;
+        private final List<Node> jamoNodes = new ArrayList<>(2);
+        private final List<Node> chosungNodes = new ArrayList<>(2);
+
+        Suggestion(Type type, Long id, String text, long weight) {
+            this.type = type;
+            this.id = id;
+            this.text = text;
+            this.weight = weight;
+        }
+
+        long weight() {
+            return weight;
+        }
+
+        boolean visible() {
+            return type != Type.SELLER || weight > 0;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Set<Suggestion> entries = new HashSet<>(2);
+
+        Node insert(String key, Suggestion suggestion) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            node.entries.add(suggestion);
+            return node;
+        }
+
+        Node find(String prefix) {
+            Node node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+
+        /** 너비 우선으로 모아 짧은(=접두어에 가까운) 이름이 먼저 들어오게 한다 */
+        void collect(Set<Suggestion> out, int max) {
+            List<Node> level = List.of(this);
+            while (!level.isEmpty() && out.size() < max) {
+                List<Node> next = new ArrayList<>();
+                for (Node node : level) {
+                    for (Suggestion suggestion : node.entries) {
+                        out.add(suggestion);
+                        if (out.size() >= max) {
+                            return;
+                        }
+                    }
+                    next.addAll(node.children.values());
+                }
+                level = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 자동완성 색인 적재기
+ * - 기동 완료 시 승인된 popup_card 와 zone_area 전체로 만들고, 이후 팝업/구역 변경 이벤트로 한 건씩 갱신한다.
+ * - 재구축 중 들어온 팝업 변경은 기록해 두었다가 교체 직후 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupAutocompleteIndexer {
+
+    private final PopupCardRepository popupCardRepository;
+    private final ZoneAreaRepository zoneAreaRepository;
+    private final PopupAutocompleteIndex popupAutocompleteIndex;
+
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopupChanged(PopupChangedEvent event) {
+        if (event.type() == PopupChangedEvent.ChangeType.STATS) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.popupId());
+        }
+        applyPopup(event.popupId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onZoneAreaChanged(ZoneAreaChangedEvent event) {
+        zoneAreaRepository.findById(event.zoneAreaId())
+            .ifPresentOrElse(
+                area -> popupAutocompleteIndex.upsertArea(area.getId(), area.getName()),
+                () -> popupAutocompleteIndex.removeArea(event.zoneAreaId())
+            );
+    }
+
+    /** 전체 재구축. 색인된 팝업 수를 반환한다. */
+    public synchronized int rebuild() {
+        rebuilding = true;
+        try {
+            return rebuildSnapshot();
+        } finally {
+            rebuilding = false;
+            List<Long> missed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(missed);
+            missed.forEach(this::applyPopup);
+        }
+    }
+
+    private int rebuildSnapshot() {
+        List<PopupAutocompleteIndex.PopupEntry> popups = new ArrayList<>();
+        long lastId = 0L;
+        List<PopupCard> chunk;
+        do {
+            chunk = popupCardRepository.findTop1000ByPopupIdGreaterThanOrderByPopupIdAsc(lastId);
+            chunk.stream()
+                .filter(card -> card.getApprovalStatus() == ApprovalStatus.APPROVED)
+                .forEach(card -> popups.add(toEntry(card)));
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getPopupId();
+            }
+        } while (!chunk.isEmpty());
+
+        List<PopupAutocompleteIndex.AreaEntry> areas = zoneAreaRepository.findAll().stream()
+            .map(area -> new PopupAutocompleteIndex.AreaEntry(area.getId(), area.getName()))
+            .toList();
+
+        popupAutocompleteIndex.replaceAll(popups, areas);
+        log.info("[popup-autocomplete] indexed {} popups, {} areas", popups.size(), areas.size());
+        return popups.size();
+    }
+
+    private void applyPopup(Long popupId) {
+        popupCardRepository.findById(popupId)
+            .filter(card -> card.getApprovalStatus() == ApprovalStatus.APPROVED)
+            .ifPresentOrElse(
+                card -> popupAutocompleteIndex.upsertPopup(toEntry(card)),
+                () -> popupAutocompleteIndex.removePopup(popupId)
+            );
+    }
+
+    private PopupAutocompleteIndex.PopupEntry toEntry(PopupCard card) {
+        return new PopupAutocompleteIndex.PopupEntry(
+            card.getPopupId(),
+            card.getName(),
+            card.getViewCount() != null ? card.getViewCount() : 0L,
+            card.getSellerId(),
+            card.getSellerName(),
+            card.getZoneAreaId()
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.popup.dto.PopupFacetCounts;
+import com.da.itdaing.domain.popup.entity.OperatingWindow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 필터 색인이 준비되기 전에 쓰는 패싯 집계 (문서 목록을 한 번만 훑는다)
+ * - PopupFacetIndex.facetCounts 와 같은 규칙: 각 차원의 건수는 그 차원 조건을 뺀 나머지 조건 기준.
+ * - 문서마다 차원별 일치 여부를 구한 뒤, 자기 차원을 빼고 모두 일치하면 그 차원 값들의 건수를 올린다.
+ */
+public final class PopupFacetCounter {
+
+    private PopupFacetCounter() {
+    }
+
+    public static PopupFacetCounts count(Iterable<PopupFacetDocument> documents, PopupFacetQuery query) {
+        long total = 0;
+        Map<Long, Integer> categories = new TreeMap<>();
+        Map<Long, Integer> features = new TreeMap<>();
+        Map<Long, Integer> styles = new TreeMap<>();
+        Map<Long, Integer> regions = new TreeMap<>();
+
+        for (PopupFacetDocument document : documents) {
+            if (!matchesBase(document, query)) {
+                continue;
+            }
+            boolean category = matchesAny(document.categoryIds(), query.categoryIds());
+            boolean feature = matchesAny(document.featureIds(), query.featureIds());
+            boolean style = matchesAny(document.styleIds(), query.styleIds());
+            boolean area = matchesAny(document.zoneAreaId() != null ? List.of(document.zoneAreaId()) : null,
+                query.areaIds());
+
+            if (category && feature && style && area) {
+                total++;
+            }
+            if (feature && style && area) {
+                increment(categories, document.categoryIds());
+            }
+            if (category && style && area) {
+                increment(features, document.featureIds());
+            }
+            if (category && feature && area) {
+                increment(styles, document.styleIds());
+            }
+            if (category && feature && style && document.zoneAreaId() != null) {
+                regions.merge(document.zoneAreaId(), 1, Integer::sum);
+            }
+        }
+        return new PopupFacetCounts(total, categories, features, styles, regions);
+    }
+
+    /** 패싯이 아닌 조건 (승인 상태, 기간, 기간 겹침, 운영 중) */
+    private static boolean matchesBase(PopupFacetDocument document, PopupFacetQuery query) {
+        if (query.approvalStatus() != null && query.approvalStatus() != document.approvalStatus()) {
+            return false;
+        }
+        if (query.openAt() != null && !isOpenAt(document, query.openAt())) {
+            return false;
+        }
+        if (query.activeTo() != null
+            && (document.startDate() == null || document.startDate().isAfter(query.activeTo()))) {
+            return false;
+        }
+        if (query.activeFrom() != null
+            && (document.endDate() == null || document.endDate().isBefore(query.activeFrom()))) {
+            return false;
+        }
+        if (query.startDate() != null
+            && (document.startDate() == null || document.startDate().isBefore(query.startDate()))) {
+            return false;
+        }
+        return query.endDate() == null
+            || (document.endDate() != null && !document.endDate().isAfter(query.endDate()));
+    }
+
+    static boolean isOpenAt(PopupFacetDocument document, LocalDateTime openAt) {
+        LocalDate date = openAt.toLocalDate();
+        return document.startDate() != null && !document.startDate().isAfter(date)
+            && document.endDate() != null && !document.endDate().isBefore(date)
+            && OperatingWindow.anyContains(document.openWindows(), openAt);
+    }
+
+    private static boolean matchesAny(List<Long> values, List<Long> selected) {
+        if (selected == null || selected.isEmpty()) {
+            return true;
+        }
+        return values != null && values.stream().anyMatch(selected::contains);
+    }
+
+    private static void increment(Map<Long, Integer> counts, List<Long> values) {
+        if (values == null) {
+            return;
+        }
+        values.stream()
+            .distinct()
+            .filter(Objects::nonNull)
+            .forEach(value -> counts.merge(value, 1, Integer::sum));
+    }
+}
@@ -0,0 +1,50 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.popup.entity.OperatingWindow;
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 필터/패싯 색인 대상 필드 (카테고리, 편의시설, 스타일, 구역, 승인 상태, 기간, 운영 구간, 정렬용 생성 시각)
+ */
+public record PopupFacetDocument(
+    Long popupId,
+    List<Long> categoryIds,
+    List<Long> featureIds,
+    List<Long> styleIds,
+    Long zoneAreaId,
+    ApprovalStatus approvalStatus,
+    LocalDate startDate,
+    LocalDate endDate,
+    List<OperatingWindow> openWindows,
+    LocalDateTime createdAt
+) {
+
+    public static PopupFacetDocument from(PopupCard card) {
+        return new PopupFacetDocument(
+            card.getPopupId(),
+            ids(card.getCategoryIds()),
+            ids(card.getFeatureIds()),
+            ids(card.getStyleIds()),
+            card.getZoneAreaId(),
+            card.getApprovalStatus(),
+            card.getStartDate(),
+            card.getEndDate(),
+            card.getOpenWindows() != null ? List.copyOf(card.getOpenWindows()) : List.of(),
+            card.getCreatedAt()
+        );
+    }
+
+    private static List<Long> ids(List<Long> values) {
+        return values != null ? values.stream().filter(Objects::nonNull).toList() : List.of();
+    }
+
+    /** 비트맵 키 (popup_id 는 int 범위 안의 시퀀스) */
+    int key() {
+        return Math.toIntExact(popupId);
+    }
+}
@@ -0,0 +1,473 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.popup.dto.PopupFacetCounts;
+import com.da.itdaing.domain.popup.entity.OperatingWindow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팝업 필터/패싯용 인메모리 비트맵 색인 (RoaringBitmap, 키는 popup_id)
+ * - 카테고리/편의시설/스타일/구역/승인 상태별, 시작·종료 월별 비트맵을 둔다.
+ * - 날짜 조건은 월 비트맵으로 후보를 모은 뒤 경계 월에 속한 팝업만 실제 날짜로 거른다.
+ * - 운영 중(openAt) 조건은 요일 × 30분 칸 비트맵을 둔다. 칸 전체를 덮는 팝업은 바로 포함하고,
+ *   칸 일부만 덮는 팝업만 실제 운영 구간으로 거른다.
+ * - 최신순(created_at desc, popup_id desc) 정렬 배열을 함께 두어 DB 없이 페이지에 들어갈 ID 를 고른다.
+ *   응답 본문은 호출 측이 ID 로 조회한다.
+ * - 읽기는 공유 락, 증분 갱신은 쓰기 락. 전체 재구축은 락 밖에서 새로 만든 뒤 교체한다.
+ * - ready 가 false 이면(기동 직후/재구축 전) 호출 측은 SQL 필터로 대체한다.
+ */
+@Component
+public class PopupFacetIndex {
+
+    private static final int SLOT_MINUTES = 30;
+    private static final int SLOTS_PER_DAY = OperatingWindow.MINUTES_PER_DAY / SLOT_MINUTES;
+
+    private static final Comparator<PopupFacetDocument> RECENT_FIRST = Comparator
+        .comparing(PopupFacetDocument::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+        .thenComparing(PopupFacetDocument::popupId)
+        .reversed();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    private volatile boolean ready;
+
+    /** 최신순으로 고른 ID 와 전체 일치 건수 */
+    public record Slice(List<Long> popupIds, long total) {
+    }
+
+    private enum Dimension {
+        CATEGORY,
+        FEATURE,
+        STYLE,
+        AREA
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 문서 추가/교체 */
+    public void index(PopupFacetDocument document) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(document.key());
+            segment.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long popupId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(Math.toIntExact(popupId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 전체 교체 (재구축). 새 세그먼트를 락 밖에서 만든 뒤 한 번에 바꾼다. */
+    public void replaceAll(Collection<PopupFacetDocument> documents) {
+        Segment rebuilt = new Segment();
+        documents.forEach(rebuilt::add);
+        rebuilt.recent();
+        lock.writeLock().lock();
+        try {
+            segment = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            segment = new Segment();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 조건에 맞는 팝업 수 */
+    public long count(PopupFacetQuery query) {
+        lock.readLock().lock();
+        try {
+            return segment.evaluate(query, null).getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** candidates 중 조건에 맞는 ID 만 순서를 유지해 돌려준다 (키워드 후보 필터링용) */
+    public List<Long> retainMatching(PopupFacetQuery query, List<Long> candidates) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = segment.evaluate(query, null);
+            return candidates.stream()
+                .filter(id -> matched.contains(Math.toIntExact(id)))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 최신순 offset 부터 limit 건 */
+    public Slice page(PopupFacetQuery query, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = segment.evaluate(query, null);
+            return new Slice(collect(segment.recent(), 0, matched, offset, limit), matched.getLongCardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 최신순으로 (createdAt, popupId) 커서 다음부터 limit 건. 커서가 null 이면 처음부터. */
+    public Slice after(PopupFacetQuery query, LocalDateTime createdAt, Long popupId, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = segment.evaluate(query, null);
+            int[] recent = segment.recent();
+            int from = popupId != null ? segment.indexAfter(recent, createdAt, popupId) : 0;
+            return new Slice(collect(recent, from, matched, 0, limit), matched.getLongCardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 전체 건수와 차원별 값 건수 (각 차원은 자기 조건을 뺀 나머지 조건 기준) */
+    public PopupFacetCounts facetCounts(PopupFacetQuery query) {
+        return facetCounts(query, null);
+    }
+
+    /** candidates 가 있으면 그 안에서만 센다 (키워드 후보 기준 패싯) */
+    public PopupFacetCounts facetCounts(PopupFacetQuery query, Collection<Long> candidates) {
+        RoaringBitmap within = null;
+        if (candidates != null) {
+            within = new RoaringBitmap();
+            for (Long id : candidates) {
+                within.add(Math.toIntExact(id));
+            }
+        }
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            return new PopupFacetCounts(
+                current.evaluate(query, null, within).getLongCardinality(),
+                countByValue(current.byCategory, current.evaluate(query, Dimension.CATEGORY, within)),
+                countByValue(current.byFeature, current.evaluate(query, Dimension.FEATURE, within)),
+                countByValue(current.byStyle, current.evaluate(query, Dimension.STYLE, within)),
+                countByValue(current.byArea, current.evaluate(query, Dimension.AREA, within))
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> collect(int[] recent, int from, RoaringBitmap matched, long offset, int limit) {
+        List<Long> ids = new ArrayList<>(Math.max(Math.min(limit, matched.getCardinality()), 0));
+        long skipped = 0;
+        for (int i = from; i < recent.length && ids.size() < limit; i++) {
+            if (!matched.contains(recent[i])) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            ids.add((long) recent[i]);
+        }
+        return ids;
+    }
+
+    private static Map<Long, Integer> countByValue(Map<Long, RoaringBitmap> bitmaps, RoaringBitmap base) {
+        Map<Long, Integer> counts = new TreeMap<>();
+        bitmaps.forEach((value, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(base, bitmap);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    @FunctionalInterface
+    private interface SlotConsumer {
+        void accept(int slot, boolean full);
+    }
+
+    private static final class Segment {
+        private final Map<Integer, PopupFacetDocument> documents = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+        private final Map<Long, RoaringBitmap> byFeature = new HashMap<>();
+        private final Map<Long, RoaringBitmap> byStyle = new HashMap<>();
+        private final Map<Long, RoaringBitmap> byArea = new HashMap<>();
+        private final Map<ApprovalStatus, RoaringBitmap> byStatus = new EnumMap<>(ApprovalStatus.class);
+        private final TreeMap<YearMonth, RoaringBitmap> byStartMonth = new TreeMap<>();
+        private final TreeMap<YearMonth, RoaringBitmap> byEndMonth = new TreeMap<>();
+        // 요일 × 30분 칸 → 칸 전체를 덮는 팝업 / 칸 일부만 덮는 팝업
+        private final Map<Integer, RoaringBitmap> byFullSlot = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byPartialSlot = new HashMap<>();
+        // 최신순 popup_id 배열. 변경 시 비우고 다음 조회(읽기 락)에서 다시 만든다.
+        private volatile int[] recent;
+
+        void add(PopupFacetDocument document) {
+            int key = document.key();
+            documents.put(key, document);
+            all.add(key);
+            document.categoryIds().forEach(id -> bitmap(byCategory, id).add(key));
+            document.featureIds().forEach(id -> bitmap(byFeature, id).add(key));
+            document.styleIds().forEach(id -> bitmap(byStyle, id).add(key));
+            if (document.zoneAreaId() != null) {
+                bitmap(byArea, document.zoneAreaId()).add(key);
+            }
+            if (document.approvalStatus() != null) {
+                bitmap(byStatus, document.approvalStatus()).add(key);
+            }
+            if (document.startDate() != null) {
+                bitmap(byStartMonth, YearMonth.from(document.startDate())).add(key);
+            }
+            if (document.endDate() != null) {
+                bitmap(byEndMonth, YearMonth.from(document.endDate())).add(key);
+            }
+            forEachSlot(document, (slot, full) -> bitmap(full ? byFullSlot : byPartialSlot, slot).add(key));
+            recent = null;
+        }
+
+        void remove(int key) {
+            PopupFacetDocument document = documents.remove(key);
+            if (document == null) {
+                return;
+            }
+            all.remove(key);
+            document.categoryIds().forEach(id -> unset(byCategory, id, key));
+            document.featureIds().forEach(id -> unset(byFeature, id, key));
+            document.styleIds().forEach(id -> unset(byStyle, id, key));
+            unset(byArea, document.zoneAreaId(), key);
+            unset(byStatus, document.approvalStatus(), key);
+            if (document.startDate() != null) {
+                unset(byStartMonth, YearMonth.from(document.startDate()), key);
+            }
+            if (document.endDate() != null) {
+                unset(byEndMonth, YearMonth.from(document.endDate()), key);
+            }
+            forEachSlot(document, (slot, full) -> unset(full ? byFullSlot : byPartialSlot, slot, key));
+            recent = null;
+        }
+
+        int[] recent() {
+            int[] order = recent;
+            if (order == null) {
+                order = documents.values().stream()
+                    .sorted(RECENT_FIRST)
+                    .mapToInt(PopupFacetDocument::key)
+                    .toArray();
+                recent = order;
+            }
+            return order;
+        }
+
+        /** recent 에서 (createdAt, popupId) 커서보다 뒤(더 오래된)에 오는 첫 위치 */
+        int indexAfter(int[] order, LocalDateTime createdAt, Long popupId) {
+            PopupFacetDocument cursor = new PopupFacetDocument(
+                popupId, List.of(), List.of(), List.of(), null, null, null, null, List.of(), createdAt);
+            int low = 0;
+            int high = order.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (RECENT_FIRST.compare(documents.get(order[mid]), cursor) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /** skip 차원의 조건은 빼고 평가한다 (패싯 건수용). 결과는 새 비트맵. */
+        RoaringBitmap evaluate(PopupFacetQuery query, Dimension skip) {
+            return evaluate(query, skip, null);
+        }
+
+        /** within 이 있으면 그 범위 안에서만 평가한다 */
+        RoaringBitmap evaluate(PopupFacetQuery query, Dimension skip, RoaringBitmap within) {
+            RoaringBitmap result = within != null ? RoaringBitmap.and(all, within) : all.clone();
+            if (skip != Dimension.CATEGORY) {
+                retainAny(result, byCategory, query.categoryIds());
+            }
+            if (skip != Dimension.FEATURE) {
+                retainAny(result, byFeature, query.featureIds());
+            }
+            if (skip != Dimension.STYLE) {
+                retainAny(result, byStyle, query.styleIds());
+            }
+            if (skip != Dimension.AREA) {
+                retainAny(result, byArea, query.areaIds());
+            }
+            if (query.approvalStatus() != null) {
+                result.and(byStatus.getOrDefault(query.approvalStatus(), new RoaringBitmap()));
+            }
+            if (query.startDate() != null) {
+                result.and(startingOnOrAfter(query.startDate()));
+            }
+            if (query.endDate() != null) {
+                result.and(endingOnOrBefore(query.endDate()));
+            }
+            if (query.activeTo() != null) {
+                result.and(startingOnOrBefore(query.activeTo()));
+            }
+            if (query.activeFrom() != null) {
+                result.and(endingOnOrAfter(query.activeFrom()));
+            }
+            if (query.openAt() != null) {
+                LocalDate date = query.openAt().toLocalDate();
+                result.and(openAt(query.openAt()));
+                result.and(startingOnOrBefore(date));
+                result.and(endingOnOrAfter(date));
+            }
+            return result;
+        }
+
+        private RoaringBitmap openAt(LocalDateTime at) {
+            int slot = slotOf(at.getDayOfWeek().getValue(), OperatingWindow.minuteOfDay(at));
+            RoaringBitmap full = byFullSlot.get(slot);
+            RoaringBitmap result = full != null ? full.clone() : new RoaringBitmap();
+            RoaringBitmap partial = byPartialSlot.get(slot);
+            if (partial != null) {
+                for (int key : partial.toArray()) {
+                    if (OperatingWindow.anyContains(documents.get(key).openWindows(), at)) {
+                        result.add(key);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private RoaringBitmap startingOnOrBefore(LocalDate date) {
+            YearMonth month = YearMonth.from(date);
+            RoaringBitmap result = RoaringBitmap.or(byStartMonth.headMap(month, false).values().iterator());
+            RoaringBitmap boundary = byStartMonth.get(month);
+            if (boundary != null) {
+                for (int key : boundary.toArray()) {
+                    if (!documents.get(key).startDate().isAfter(date)) {
+                        result.add(key);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private RoaringBitmap endingOnOrAfter(LocalDate date) {
+            YearMonth month = YearMonth.from(date);
+            RoaringBitmap result = RoaringBitmap.or(byEndMonth.tailMap(month, false).values().iterator());
+            RoaringBitmap boundary = byEndMonth.get(month);
+            if (boundary != null) {
+                for (int key : boundary.toArray()) {
+                    if (!documents.get(key).endDate().isBefore(date)) {
+                        result.add(key);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private RoaringBitmap startingOnOrAfter(LocalDate date) {
+            YearMonth month = YearMonth.from(date);
+            RoaringBitmap result = RoaringBitmap.or(byStartMonth.tailMap(month, false).values().iterator());
+            RoaringBitmap boundary = byStartMonth.get(month);
+            if (boundary != null) {
+                for (int key : boundary.toArray()) {
+                    if (!documents.get(key).startDate().isBefore(date)) {
+                        result.add(key);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private RoaringBitmap endingOnOrBefore(LocalDate date) {
+            YearMonth month = YearMonth.from(date);
+            RoaringBitmap result = RoaringBitmap.or(byEndMonth.headMap(month, false).values().iterator());
+            RoaringBitmap boundary = byEndMonth.get(month);
+            if (boundary != null) {
+                for (int key : boundary.toArray()) {
+                    if (!documents.get(key).endDate().isAfter(date)) {
+                        result.add(key);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /** 운영 구간이 걸치는 칸마다 (칸 번호, 칸 전체를 덮는지) */
+        private static void forEachSlot(PopupFacetDocument document, SlotConsumer consumer) {
+            for (OperatingWindow window : document.openWindows()) {
+                int first = window.openMinute() / SLOT_MINUTES;
+                int last = (window.closeMinute() - 1) / SLOT_MINUTES;
+                for (int slot = first; slot <= last; slot++) {
+                    boolean full = window.openMinute() <= slot * SLOT_MINUTES
+                        && window.closeMinute() >= (slot + 1) * SLOT_MINUTES;
+                    consumer.accept(slotOf(window.dayOfWeek(), slot * SLOT_MINUTES), full);
+                }
+            }
+        }
+
+        private static int slotOf(int dayOfWeek, int minuteOfDay) {
+            return (dayOfWeek - 1) * SLOTS_PER_DAY + minuteOfDay / SLOT_MINUTES;
+        }
+
+        private static void retainAny(RoaringBitmap result, Map<Long, RoaringBitmap> bitmaps, List<Long> values) {
+            if (values == null || values.isEmpty()) {
+                return;
+            }
+            result.and(RoaringBitmap.or(values.stream()
+                .filter(Objects::nonNull)
+                .map(bitmaps::get)
+                .filter(Objects::nonNull)
+                .iterator()));
+        }
+
+        private static <K> RoaringBitmap bitmap(Map<K, RoaringBitmap> bitmaps, K key) {
+            return bitmaps.computeIfAbsent(key, ignored -> new RoaringBitmap());
+        }
+
+        private static <K> void unset(Map<K, RoaringBitmap> bitmaps, K key, int popupKey) {
+            if (key == null) {
+                return;
+            }
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(popupKey);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 필터/패싯 색인 조회 조건
+ * - 같은 차원 안의 여러 값은 OR, 차원끼리는 AND (null/빈 목록이면 조건 없음)
+ * - startDate: 시작일이 그 날짜 이후, endDate: 종료일이 그 날짜 이전 (검색 API 의 기존 의미와 같음)
+ * - activeFrom/activeTo: 운영 기간이 [activeFrom, activeTo] 와 겹치는 팝업 (시작일 ≤ activeTo, 종료일 ≥ activeFrom)
+ * - openAt: 그 시각이 기간 안(시작일 ≤ 날짜 ≤ 종료일)이고 운영 구간 안인 팝업 (운영 구간이 없는 팝업은 제외)
+ */
+public record PopupFacetQuery(
+    List<Long> categoryIds,
+    List<Long> featureIds,
+    List<Long> styleIds,
+    List<Long> areaIds,
+    ApprovalStatus approvalStatus,
+    LocalDate startDate,
+    LocalDate endDate,
+    LocalDate activeFrom,
+    LocalDate activeTo,
+    LocalDateTime openAt
+) {
+
+    public static PopupFacetQuery from(PopupSearchRequest request) {
+        return new PopupFacetQuery(
+            request.getCategoryIds(),
+            request.getFeatureIds(),
+            request.getStyleIds(),
+            request.getRegionId() != null ? List.of(request.getRegionId()) : null,
+            request.getApprovalStatus(),
+            request.getStartDate(),
+            request.getEndDate(),
+            request.getActiveFrom(),
+            request.getActiveTo(),
+            request.getOpenAt()
+        );
+    }
+}
@@ -0,0 +1,267 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 승인된 팝업의 운영 기간 [startDate, endDate] 구간 색인 (달력/기간 겹침 조회용)
+ * - 날짜는 epoch day 로 바꿔 시작일 순으로 정렬한 배열에 두고, 중간점 기준 암묵적 이진 트리에
+ *   하위 구간의 최대 종료일을 함께 저장한다. 겹침 조회는 종료일이 모자란 가지를 건너뛰어 O(log n + k).
+ * - 하루 활성 건수는 정렬된 시작일/종료일 배열 이진 탐색 두 번 (시작 ≤ d 인 수 − 종료 < d 인 수).
+ * - 증분 갱신은 구간 맵만 바꾸고 배열은 다음 조회에서 다시 만든다 (PopupFacetIndex 의 최신순 배열과 같은 방식).
+ * - ready 가 false 이면 호출 측은 SQL 로 대체한다.
+ */
+@Component
+public class PopupPeriodIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Interval> intervals = new HashMap<>();
+    // 정렬된 스냅숏. 변경 시 비우고 다음 조회(읽기 락)에서 다시 만든다.
+    private volatile Snapshot snapshot;
+    private volatile boolean ready;
+
+    private record Interval(long popupId, int start, int end) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return intervals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 문서 추가/교체. 승인되지 않았거나 기간이 없는 팝업은 색인에서 뺀다. */
+    public void index(PopupFacetDocument document) {
+        lock.writeLock().lock();
+        try {
+            intervals.remove(document.popupId());
+            Interval interval = toInterval(document);
+            if (interval != null) {
+                intervals.put(document.popupId(), interval);
+            }
+            snapshot = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long popupId) {
+        lock.writeLock().lock();
+        try {
+            if (intervals.remove(popupId) != null) {
+                snapshot = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 전체 교체 (재구축) */
+    public void replaceAll(Collection<PopupFacetDocument> documents) {
+        Map<Long, Interval> rebuilt = new HashMap<>();
+        for (PopupFacetDocument document : documents) {
+            Interval interval = toInterval(document);
+            if (interval != null) {
+                rebuilt.put(document.popupId(), interval);
+            }
+        }
+        Snapshot built = Snapshot.of(rebuilt.values());
+        lock.writeLock().lock();
+        try {
+            intervals.clear();
+            intervals.putAll(rebuilt);
+            snapshot = built;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            intervals.clear();
+            snapshot = null;
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** [from, to] 와 기간이 겹치는 팝업 ID (시작일, ID 순) */
+    public List<Long> overlapping(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            return snapshot().overlapping(Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** [from, to] 와 기간이 겹치는 팝업 수 */
+    public long countOverlapping(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            return snapshot().countOverlapping(Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** from 부터 to 까지 날짜별 활성 팝업 수 (인덱스 0 = from) */
+    public int[] dailyCounts(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot();
+            int first = Math.toIntExact(from.toEpochDay());
+            int last = Math.toIntExact(to.toEpochDay());
+            int[] counts = new int[Math.max(last - first + 1, 0)];
+            for (int day = first; day <= last; day++) {
+                counts[day - first] = current.countOverlapping(day, day);
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = Snapshot.of(intervals.values());
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static Interval toInterval(PopupFacetDocument document) {
+        if (document.approvalStatus() != ApprovalStatus.APPROVED
+            || document.startDate() == null || document.endDate() == null
+            || document.endDate().isBefore(document.startDate())) {
+            return null;
+        }
+        return new Interval(document.popupId(),
+            Math.toIntExact(document.startDate().toEpochDay()),
+            Math.toIntExact(document.endDate().toEpochDay()));
+    }
+
+    /**
+     * 시작일 순 정렬 배열 + 최대 종료일 트리
+     * - maxEnd[mid] 는 [lo, hi] 범위 (mid = 중간점) 전체의 최대 종료일
+     * - sortedEnds 는 종료일만 따로 정렬한 배열 (건수 계산용)
+     */
+    private static final class Snapshot {
+        private final long[] ids;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] maxEnd;
+        private final int[] sortedEnds;
+
+        private Snapshot(long[] ids, int[] starts, int[] ends) {
+            this.ids = ids;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnd = new int[ids.length];
+            buildMaxEnd(0, ids.length - 1);
+            this.sortedEnds = ends.clone();
+            Arrays.sort(sortedEnds);
+        }
+
+        static Snapshot of(Collection<Interval> intervals) {
+            Interval[] sorted = intervals.toArray(Interval[]::new);
+            Arrays.sort(sorted, (a, b) -> a.start() != b.start()
+                ? Integer.compare(a.start(), b.start())
+                : Long.compare(a.popupId(), b.popupId()));
+            long[] ids = new long[sorted.length];
+            int[] starts = new int[sorted.length];
+            int[] ends = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ids[i] = sorted[i].popupId();
+                starts[i] = sorted[i].start();
+                ends[i] = sorted[i].end();
+            }
+            return new Snapshot(ids, starts, ends);
+        }
+
+        private int buildMaxEnd(int lo, int hi) {
+            if (lo > hi) {
+                return Integer.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            int max = Math.max(ends[mid], Math.max(buildMaxEnd(lo, mid - 1), buildMaxEnd(mid + 1, hi)));
+            maxEnd[mid] = max;
+            return max;
+        }
+
+        List<Long> overlapping(int from, int to) {
+            List<Long> result = new ArrayList<>();
+            // 시작일 ≤ to 인 접두 구간만 본다
+            collect(0, upperBound(starts, to) - 1, from, result);
+            return result;
+        }
+
+        private void collect(int lo, int hi, int from, List<Long> result) {
+            if (lo > hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (maxEnd[mid] < from) {
+                return;
+            }
+            collect(lo, mid - 1, from, result);
+            if (ends[mid] >= from) {
+                result.add(ids[mid]);
+            }
+            collect(mid + 1, hi, from, result);
+        }
+
+        /** 시작 ≤ to 인 수 − 종료 < from 인 수 (from ≤ to 이면 둘을 모두 만족하는 구간은 없다) */
+        int countOverlapping(int from, int to) {
+            return upperBound(starts, to) - lowerBound(sortedEnds, from);
+        }
+
+        /** value 보다 큰 첫 위치 */
+        private static int upperBound(int[] values, int value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /** value 이상인 첫 위치 */
+        private static int lowerBound(int[] values, int value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
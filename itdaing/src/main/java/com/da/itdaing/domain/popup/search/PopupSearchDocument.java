@@ -0,0 +1,25 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.popup.entity.PopupCard;
+
+/**
+ * 검색 색인 대상 필드 (팝업명, 설명, 판매자 닉네임, 구역명)
+ */
+public record PopupSearchDocument(
+    Long popupId,
+    String name,
+    String description,
+    String sellerName,
+    String locationName
+) {
+
+    public static PopupSearchDocument from(PopupCard card) {
+        return new PopupSearchDocument(
+            card.getPopupId(),
+            card.getName(),
+            card.getDescription(),
+            card.getSellerName(),
+            card.getLocationName()
+        );
+    }
+}
@@ -0,0 +1,217 @@
+package com.da.itdaing.domain.popup.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팝업 키워드 검색용 인메모리 역색인 (바이그램 + BM25)
+ * - 필드 가중치: 팝업명 3, 판매자/구역명 2, 설명 1 (가중 빈도를 BM25 tf 로 사용)
+ * - 질의 토큰을 모두 포함하는 문서만 후보로 돌려준다 (AND). 한 글자 질의는 그 글자를 포함한 토큰으로 확장한다.
+ * - 읽기는 공유 락, 증분 갱신은 쓰기 락. 전체 재구축은 락 밖에서 새로 만든 뒤 교체한다.
+ * - ready 가 false 이면(기동 직후/재구축 전) 호출 측은 DB LIKE 검색으로 대체한다.
+ */
+@Component
+public class PopupSearchIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int SELLER_WEIGHT = 2;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    private volatile boolean ready;
+
+    public record Hit(Long popupId, double score) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 문서 추가/교체 */
+    public void index(PopupSearchDocument document) {
+        Map<String, Integer> terms = termFrequencies(document);
+        lock.writeLock().lock();
+        try {
+            segment.remove(document.popupId());
+            segment.add(document.popupId(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long popupId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(popupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 전체 교체 (재구축). 새 세그먼트를 락 밖에서 만든 뒤 한 번에 바꾼다. */
+    public void replaceAll(Collection<PopupSearchDocument> documents) {
+        Segment rebuilt = new Segment();
+        for (PopupSearchDocument document : documents) {
+            rebuilt.add(document.popupId(), termFrequencies(document));
+        }
+        lock.writeLock().lock();
+        try {
+            segment = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 색인을 비우고 미준비 상태로 되돌린다 (검색은 DB 경로로 대체됨) */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            segment = new Segment();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 점수 내림차순(동점이면 popupId 내림차순) 상위 limit 건.
+     * 질의에서 토큰이 나오지 않으면 빈 목록.
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(HangulBigramTokenizer.tokenize(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> postingsPerTerm = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Map<Long, Integer> postings = segment.postingsFor(term);
+                if (postings.isEmpty()) {
+                    return List.of();
+                }
+                postingsPerTerm.add(postings);
+            }
+            postingsPerTerm.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = segment.documents.size();
+            double averageLength = documentCount > 0 ? (double) segment.totalLength / documentCount : 0.0;
+            double[] idf = new double[postingsPerTerm.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = postingsPerTerm.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for (Long popupId : postingsPerTerm.get(0).keySet()) {
+                double lengthNorm = K1 * (1 - B + B * segment.documents.get(popupId).length() / averageLength);
+                double score = 0.0;
+                for (int i = 0; i < postingsPerTerm.size(); i++) {
+                    Integer tf = postingsPerTerm.get(i).get(popupId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+                hits.add(new Hit(popupId, score));
+            }
+
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::popupId, Comparator.reverseOrder()));
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(PopupSearchDocument document) {
+        Map<String, Integer> terms = new HashMap<>();
+        accumulate(terms, document.name(), NAME_WEIGHT);
+        accumulate(terms, document.sellerName(), SELLER_WEIGHT);
+        accumulate(terms, document.locationName(), LOCATION_WEIGHT);
+        accumulate(terms, document.description(), DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private static void accumulate(Map<String, Integer> terms, String text, int weight) {
+        for (String token : HangulBigramTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private record DocumentEntry(Map<String, Integer> terms, int length) {
+    }
+
+    /** term → (popupId → 가중 빈도) 포스팅과 문서별 토큰 목록 */
+    private static final class Segment {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, DocumentEntry> documents = new HashMap<>();
+        private long totalLength;
+
+        void add(Long popupId, Map<String, Integer> terms) {
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(popupId, entry.getValue());
+                length += entry.getValue();
+            }
+            documents.put(popupId, new DocumentEntry(terms, length));
+            totalLength += length;
+        }
+
+        void remove(Long popupId) {
+            DocumentEntry entry = documents.remove(popupId);
+            if (entry == null) {
+                return;
+            }
+            for (String term : entry.terms().keySet()) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(popupId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= entry.length();
+        }
+
+        /** 한 글자 토큰은 그 글자를 포함한 모든 토큰의 포스팅을 합친다 (빈도 합산) */
+        Map<Long, Integer> postingsFor(String term) {
+            if (term.codePointCount(0, term.length()) > 1) {
+                return postings.getOrDefault(term, Map.of());
+            }
+            Map<Long, Integer> merged = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Integer>> entry : postings.entrySet()) {
+                if (entry.getKey().contains(term)) {
+                    entry.getValue().forEach((popupId, tf) -> merged.merge(popupId, tf, Integer::sum));
+                }
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.da.itdaing.domain.popup.search;
+
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팝업 검색 색인 적재기
+ * - 기동 완료 시 popup_card 전체로 색인을 만들고, 이후에는 커밋된 PopupChangedEvent 로 한 건씩 갱신한다.
+ * - 재구축 중 들어온 변경은 기록해 두었다가 교체 직후 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupSearchIndexer {
+
+    private final PopupCardRepository popupCardRepository;
+    private final PopupSearchIndex popupSearchIndex;
+
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopupChanged(PopupChangedEvent event) {
+        if (event.type() == PopupChangedEvent.ChangeType.STATS) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.popupId());
+        }
+        apply(event.popupId());
+    }
+
+    /** popup_card 전체를 읽어 색인 재구축. 색인된 문서 수를 반환한다. */
+    public synchronized int rebuild() {
+        rebuilding = true;
+        try {
+            List<PopupSearchDocument> documents = new ArrayList<>();
+            long lastId = 0L;
+            List<PopupCard> chunk;
+            do {
+                chunk = popupCardRepository.findTop1000ByPopupIdGreaterThanOrderByPopupIdAsc(lastId);
+                chunk.forEach(card -> documents.add(PopupSearchDocument.from(card)));
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getPopupId();
+                }
+            } while (!chunk.isEmpty());
+
+            popupSearchIndex.replaceAll(documents);
+        } finally {
+            rebuilding = false;
+        }
+
+        List<Long> missed = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(missed);
+        missed.forEach(this::apply);
+
+        log.info("[popup-search] indexed {} popups", popupSearchIndex.size());
+        return popupSearchIndex.size();
+    }
+
+    private void apply(Long popupId) {
+        popupCardRepository.findById(popupId)
+            .map(PopupSearchDocument::from)
+            .ifPresentOrElse(popupSearchIndex::index, () -> popupSearchIndex.remove(popupId));
+    }
+}
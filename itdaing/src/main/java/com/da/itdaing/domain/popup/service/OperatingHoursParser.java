@@ -0,0 +1,166 @@
+package com.da.itdaing.domain.popup.service;
+
+import com.da.itdaing.domain.popup.entity.OperatingWindow;
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.entity.PopupOperatingHour;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자유 형식 운영 시간 문자열 파서 (등록/수정 시점에 한 번만 호출)
+ * - 구간은 '/' 로 나눈다. 예) "평일 11:00-19:00 / 주말 12:00-21:00", "토 13:00-21:00 / 일 11:00-19:00", "10:00-22:00"
+ * - 요일 표기: 매일/기본(또는 생략), 평일, 주말, 월~일 한 글자(요일 접미사 허용), "월-금" 같은 범위, "월,수,금" 같은 나열
+ * - "HH:mm-HH:mm" (또는 ~) 를 찾지 못한 구간은 표시용으로만 남긴다. "휴무" 가 들어간 구간의 요일은 다른 구간에서 뺀다.
+ * - 종료가 시작보다 이르면 자정을 넘기는 것으로 보고 다음 요일 구간으로 나눈다.
+ */
+final class OperatingHoursParser {
+
+    static final String DEFAULT_DAY_LABEL = "기본";
+
+    private static final Pattern TIME_RANGE = Pattern.compile("(\\d{1,2}):(\\d{2})\\s*[-~]\\s*(\\d{1,2}):(\\d{2})");
+    private static final Pattern DAY_RANGE = Pattern.compile("([월화수목금토일])[-~]([월화수목금토일])");
+    private static final String DAY_CHARS = "월화수목금토일";
+    private static final Set<Integer> ALL_DAYS = Set.of(1, 2, 3, 4, 5, 6, 7);
+    private static final Set<Integer> WEEKDAYS = Set.of(1, 2, 3, 4, 5);
+    private static final Set<Integer> WEEKEND = Set.of(6, 7);
+
+    /** 표시 구간 하나 (dayLabel, timeLabel) 와 그 구간의 요일별 운영 구간 */
+    record Segment(String dayLabel, String timeLabel, List<OperatingWindow> windows) {
+    }
+
+    private OperatingHoursParser() {
+    }
+
+    static List<Segment> parse(String operatingTime) {
+        if (operatingTime == null || operatingTime.isBlank()) {
+            return List.of();
+        }
+        List<Segment> segments = new ArrayList<>();
+        Set<Integer> closedDays = new TreeSet<>();
+        for (String raw : operatingTime.split("/")) {
+            String segment = raw.trim();
+            if (segment.isEmpty()) {
+                continue;
+            }
+            Matcher matcher = TIME_RANGE.matcher(segment);
+            if (matcher.find()) {
+                String label = segment.substring(0, matcher.start()).trim();
+                String dayLabel = label.isEmpty() ? DEFAULT_DAY_LABEL : label;
+                segments.add(new Segment(dayLabel, segment.substring(matcher.start()).trim(),
+                    windowsOf(parseDays(label), matcher)));
+                continue;
+            }
+            int firstSpace = segment.indexOf(' ');
+            String dayLabel = firstSpace > 0 ? segment.substring(0, firstSpace).trim() : DEFAULT_DAY_LABEL;
+            String timeLabel = firstSpace > 0 ? segment.substring(firstSpace + 1).trim() : segment;
+            if (segment.contains("휴무") && firstSpace > 0) {
+                closedDays.addAll(parseDays(dayLabel));
+            }
+            segments.add(new Segment(dayLabel, timeLabel, List.of()));
+        }
+        if (closedDays.isEmpty()) {
+            return segments;
+        }
+        return segments.stream()
+            .map(segment -> new Segment(segment.dayLabel(), segment.timeLabel(), segment.windows().stream()
+                .filter(window -> !closedDays.contains(window.dayOfWeek()))
+                .toList()))
+            .toList();
+    }
+
+    /** popup.operating_time 을 저장용 행으로 (구간마다 요일별 한 행, 운영 구간이 없으면 표시용 한 행) */
+    static List<PopupOperatingHour> toEntities(Popup popup) {
+        List<Segment> segments = parse(popup.getOperatingTime());
+        List<PopupOperatingHour> rows = new ArrayList<>();
+        for (int order = 0; order < segments.size(); order++) {
+            Segment segment = segments.get(order);
+            if (segment.windows().isEmpty()) {
+                rows.add(row(popup, order, segment, null));
+                continue;
+            }
+            for (OperatingWindow window : segment.windows()) {
+                rows.add(row(popup, order, segment, window));
+            }
+        }
+        return rows;
+    }
+
+    private static PopupOperatingHour row(Popup popup, int order, Segment segment, OperatingWindow window) {
+        return PopupOperatingHour.builder()
+            .popup(popup)
+            .segmentOrder(order)
+            .dayLabel(segment.dayLabel())
+            .timeLabel(segment.timeLabel())
+            .dayOfWeek(window != null ? window.dayOfWeek() : null)
+            .openMinute(window != null ? window.openMinute() : null)
+            .closeMinute(window != null ? window.closeMinute() : null)
+            .build();
+    }
+
+    private static List<OperatingWindow> windowsOf(Set<Integer> days, Matcher time) {
+        int openHour = Integer.parseInt(time.group(1));
+        int openMinute = Integer.parseInt(time.group(2));
+        int closeHour = Integer.parseInt(time.group(3));
+        int closeMinute = Integer.parseInt(time.group(4));
+        if (openHour > 24 || closeHour > 24 || openMinute >= 60 || closeMinute >= 60) {
+            return List.of();
+        }
+        int open = Math.min(openHour * 60 + openMinute, OperatingWindow.MINUTES_PER_DAY);
+        int close = Math.min(closeHour * 60 + closeMinute, OperatingWindow.MINUTES_PER_DAY);
+        if (open == close) {
+            return List.of();
+        }
+
+        List<OperatingWindow> windows = new ArrayList<>();
+        for (int day : new TreeSet<>(days)) {
+            if (open < close) {
+                windows.add(new OperatingWindow(day, open, close));
+                continue;
+            }
+            windows.add(new OperatingWindow(day, open, OperatingWindow.MINUTES_PER_DAY));
+            if (close > 0) {
+                windows.add(new OperatingWindow(day % 7 + 1, 0, close));
+            }
+        }
+        return windows;
+    }
+
+    /** 요일 표기 → ISO 요일 번호. 비어 있거나 매일/기본이면 전체, 해석하지 못하면 빈 집합. */
+    static Set<Integer> parseDays(String label) {
+        String normalized = label.replace("요일", "").replaceAll("\\s+", "");
+        if (normalized.isEmpty() || normalized.contains("매일") || normalized.equals(DEFAULT_DAY_LABEL)) {
+            return ALL_DAYS;
+        }
+        Set<Integer> days = new TreeSet<>();
+        if (normalized.contains("평일")) {
+            days.addAll(WEEKDAYS);
+        }
+        if (normalized.contains("주말")) {
+            days.addAll(WEEKEND);
+        }
+        // "공휴일" 의 '일' 이 일요일로 읽히지 않도록 먼저 뺀다
+        String rest = normalized.replace("공휴일", "").replace("평일", "").replace("주말", "");
+        Matcher range = DAY_RANGE.matcher(rest);
+        while (range.find()) {
+            int from = DAY_CHARS.indexOf(range.group(1)) + 1;
+            int to = DAY_CHARS.indexOf(range.group(2)) + 1;
+            for (int day = from; ; day = day % 7 + 1) {
+                days.add(day);
+                if (day == to) {
+                    break;
+                }
+            }
+        }
+        for (char ch : DAY_RANGE.matcher(rest).replaceAll("").toCharArray()) {
+            int index = DAY_CHARS.indexOf(ch);
+            if (index >= 0) {
+                days.add(index + 1);
+            }
+        }
+        return days;
+    }
+}
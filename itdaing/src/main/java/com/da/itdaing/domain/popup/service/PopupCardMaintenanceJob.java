@@ -0,0 +1,45 @@
+package com.da.itdaing.domain.popup.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팝업 카드 평점 집계 정합성 복구 배치
+ * - 평소에는 리뷰 작성/수정/삭제 시 증감 UPDATE로 유지하고,
+ *   하루 한 번 리뷰 테이블 GROUP BY 결과로 덮어써 누락/중복 반영을 바로잡는다.
+ * - 기동 시 운영 시간이 비어 있는 카드를 채운다 (운영 시간 행 저장은 PopupCommandService, 카드는 다시 계산만 한다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupCardMaintenanceJob {
+
+    private final PopupCardProjector popupCardProjector;
+    private final PopupCommandService popupCommandService;
+
+    /** 운영 시간 구조화 이전 카드 채우기 (기동 시 한 번, 대상이 없으면 조회 한 번으로 끝난다) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOperatingHours() {
+        try {
+            int backfilled = popupCommandService.backfillOperatingHours();
+            if (backfilled > 0) {
+                log.info("[popup-card] backfilled operating hours for {} popups", backfilled);
+            }
+        } catch (Exception e) {
+            log.warn("[popup-card] operating hours backfill failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${popup-card.review-stats.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void rebuildReviewStats() {
+        try {
+            popupCardProjector.rebuildReviewStats();
+        } catch (Exception e) {
+            log.warn("[popup-card] review stats rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
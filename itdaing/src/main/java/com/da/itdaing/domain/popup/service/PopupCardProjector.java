@@ -0,0 +1,371 @@
+package com.da.itdaing.domain.popup.service;
+
+import com.da.itdaing.domain.common.enums.SyncResourceType;
+import com.da.itdaing.domain.file.dto.ImagePayload;
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.popup.dto.PopupOperatingHourResponse;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.event.PopupCounterEvent;
+import com.da.itdaing.domain.popup.event.PopupEngagementEvent;
+import com.da.itdaing.domain.popup.entity.OperatingWindow;
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import com.da.itdaing.domain.popup.entity.PopupCategory;
+import com.da.itdaing.domain.popup.entity.PopupFeature;
+import com.da.itdaing.domain.popup.entity.PopupImage;
+import com.da.itdaing.domain.popup.entity.PopupOperatingHour;
+import com.da.itdaing.domain.popup.entity.PopupStyle;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
+import com.da.itdaing.domain.popup.repository.PopupCategoryRepository;
+import com.da.itdaing.domain.popup.repository.PopupFeatureRepository;
+import com.da.itdaing.domain.popup.repository.PopupImageRepository;
+import com.da.itdaing.domain.popup.repository.PopupOperatingHourRepository;
+import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.repository.PopupStyleRepository;
+import com.da.itdaing.domain.social.repository.ReviewRepository;
+import com.da.itdaing.domain.sync.entity.SyncTombstone;
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
+import com.da.itdaing.domain.user.entity.Users;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팝업 카드 조회 모델(popup_card) 갱신기
+ * - 쓰기 서비스(팝업/리뷰/위시리스트/승인/구역)가 같은 트랜잭션 안에서 호출한다.
+ * - 변경된 팝업만 다시 계산하고, 리뷰 집계/위치 값은 UPDATE 한 번으로 반영한다.
+ * - 조회수/좋아요 수는 PopupCounterEvent 로 넘겨 커밋 후 모아서 반영한다 (PopupCounterFlusher, popup 원본 포함).
+ * - 바뀐 카드는 PopupChangedEvent 로 알린다 (리뷰 집계는 STATS, 좋아요 수는 반영 시점에 STATS, 조회수 변경은 알리지 않음).
+ * - 변경 피드를 위해 일괄 UPDATE 도 synced_at 을 함께 갱신하고(조회수 제외), 카드 삭제 시 tombstone 을 남긴다.
+ * - 원본 테이블은 읽기만 한다. 운영 시간 행(popup_operating_hour)도 쓰기 서비스가 저장한 것을 그대로 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PopupCardProjector {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final PopupRepository popupRepository;
+    private final PopupCardRepository popupCardRepository;
+    private final PopupImageRepository popupImageRepository;
+    private final PopupCategoryRepository popupCategoryRepository;
+    private final PopupFeatureRepository popupFeatureRepository;
+    private final PopupStyleRepository popupStyleRepository;
+    private final PopupOperatingHourRepository popupOperatingHourRepository;
+    private final ReviewRepository reviewRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 팝업 본문과 하위 속성을 다시 읽어 카드 갱신 (기존 리뷰 집계는 유지) */
+    public void refresh(Popup popup) {
+        project(List.of(popup), false);
+        eventPublisher.publishEvent(PopupChangedEvent.upserted(popup.getId()));
+    }
+
+    public void refresh(Long popupId) {
+        popupRepository.findByIdWithZoneAndSeller(popupId)
+            .ifPresentOrElse(this::refresh, () -> remove(popupId));
+    }
+
+    /** 리뷰 작성: 해당 평점 버킷 +1 */
+    public void onReviewCreated(Long popupId, int rating) {
+        applyReviewDelta(popupId, 0, rating);
+        eventPublisher.publishEvent(PopupEngagementEvent.of(popupId, PopupEngagementEvent.Kind.REVIEW, 1));
+    }
+
+    /** 리뷰 수정: 이전 평점 버킷 -1, 새 평점 버킷 +1 */
+    public void onReviewUpdated(Long popupId, int previousRating, int rating) {
+        if (previousRating != rating) {
+            applyReviewDelta(popupId, previousRating, rating);
+        }
+    }
+
+    /** 리뷰 삭제: 해당 평점 버킷 -1 */
+    public void onReviewDeleted(Long popupId, int rating) {
+        applyReviewDelta(popupId, rating, 0);
+    }
+
+    /**
+     * 평점 집계 전체 재계산 (정합성 복구 배치용). 처리한 카드 수를 반환한다.
+     * 리뷰 테이블을 GROUP BY로 한 번씩만 읽고 카드 값을 절대값으로 덮어쓴다.
+     */
+    public int rebuildReviewStats() {
+        List<Long> popupIds = popupCardRepository.findAllPopupIds();
+        for (int from = 0; from < popupIds.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Long> chunk = popupIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, popupIds.size()));
+            Map<Long, ReviewStats> statsByPopup = loadReviewStats(chunk);
+            for (PopupCard card : popupCardRepository.findAllById(chunk)) {
+                ReviewStats stats = statsByPopup.getOrDefault(card.getPopupId(), ReviewStats.empty());
+                card.applyReviewStats(stats.count(), stats.sum(), stats.distribution());
+            }
+        }
+        log.info("[popup-card] rebuilt review stats for {} cards", popupIds.size());
+        return popupIds.size();
+    }
+
+    /** 리뷰 테이블을 집계해 카드의 평점 요약 재계산 */
+    public void refreshReviewStats(Long popupId) {
+        popupCardRepository.findById(popupId).ifPresent(card -> {
+            ReviewStats stats = loadReviewStats(List.of(popupId)).getOrDefault(popupId, ReviewStats.empty());
+            card.applyReviewStats(stats.count(), stats.sum(), stats.distribution());
+            eventPublisher.publishEvent(PopupChangedEvent.statsChanged(popupId));
+        });
+    }
+
+    public void remove(Long popupId) {
+        if (popupCardRepository.existsById(popupId)) {
+            popupCardRepository.deleteById(popupId);
+            syncTombstoneRepository.save(SyncTombstone.of(SyncResourceType.POPUP, popupId));
+            eventPublisher.publishEvent(PopupChangedEvent.deleted(popupId));
+        }
+    }
+
+    public void addViewCount(Long popupId, long delta) {
+        eventPublisher.publishEvent(PopupCounterEvent.views(popupId, delta));
+        if (delta > 0) {
+            eventPublisher.publishEvent(PopupEngagementEvent.of(popupId, PopupEngagementEvent.Kind.VIEW, delta));
+        }
+    }
+
+    public void addFavoriteCount(Long popupId, long delta) {
+        eventPublisher.publishEvent(PopupCounterEvent.favorites(popupId, delta));
+        if (delta > 0) {
+            eventPublisher.publishEvent(PopupEngagementEvent.of(popupId, PopupEngagementEvent.Kind.FAVORITE, delta));
+        }
+    }
+
+    /** 구역 이름 변경 반영 */
+    public void refreshZoneArea(ZoneArea zoneArea) {
+        popupCardRepository.updateLocationName(zoneArea.getId(), zoneArea.getName(), LocalDateTime.now());
+        popupCardRepository.findPopupIdsByZoneAreaId(zoneArea.getId())
+            .forEach(popupId -> eventPublisher.publishEvent(PopupChangedEvent.upserted(popupId)));
+    }
+
+    /** 셀 소속 구역/라벨/주소/좌표 변경 반영 */
+    public void refreshZoneCell(ZoneCell zoneCell) {
+        ZoneArea zoneArea = zoneCell.getZoneArea();
+        popupCardRepository.updateCellLocation(
+            zoneCell.getId(),
+            zoneArea != null ? zoneArea.getId() : null,
+            zoneArea != null ? zoneArea.getName() : null,
+            zoneCell.getLabel(),
+            zoneCell.getDetailedAddress(),
+            zoneCell.getLat(),
+            zoneCell.getLng(),
+            LocalDateTime.now()
+        );
+        popupCardRepository.findPopupIdsByZoneCellId(zoneCell.getId())
+            .forEach(popupId -> eventPublisher.publishEvent(PopupChangedEvent.upserted(popupId)));
+    }
+
+    /** 여러 팝업의 카드를 한 번에 다시 계산한다 (일괄 보정용, 기존 리뷰 집계는 유지) */
+    public void refreshAll(List<Long> popupIds) {
+        project(popupRepository.findAllByIdInWithZoneAndSeller(popupIds), false);
+        popupIds.forEach(popupId -> eventPublisher.publishEvent(PopupChangedEvent.upserted(popupId)));
+    }
+
+    /**
+     * 전체 재구축 (초기 적재/정합성 복구용). 처리한 카드 수를 반환한다.
+     * 카드별 이벤트는 발행하지 않으므로 파생 구조는 각자 재구축 경로를 사용한다.
+     */
+    public int rebuildAll() {
+        List<Popup> popups = popupRepository.findAllWithZoneAndSeller();
+        for (int from = 0; from < popups.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Popup> chunk = popups.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, popups.size()));
+            project(chunk, true);
+        }
+        log.info("[popup-card] rebuilt {} cards", popups.size());
+        return popups.size();
+    }
+
+    private void project(List<Popup> popups, boolean withReviewStats) {
+        List<Long> popupIds = popups.stream().map(Popup::getId).toList();
+
+        // 하위 테이블 조회가 먼저 flush를 유발하므로, 이후 읽는 popup.updatedAt은 최신 값이다.
+        Map<Long, List<PopupImage>> imagesByPopup = groupByPopup(
+            popupImageRepository.findByPopupIdIn(popupIds), image -> image.getPopup().getId());
+        Map<Long, List<PopupCategory>> categoriesByPopup = groupByPopup(
+            popupCategoryRepository.findByPopupIdIn(popupIds), item -> item.getPopup().getId());
+        Map<Long, List<PopupFeature>> featuresByPopup = groupByPopup(
+            popupFeatureRepository.findByPopupIdIn(popupIds), item -> item.getPopup().getId());
+        Map<Long, List<PopupStyle>> stylesByPopup = groupByPopup(
+            popupStyleRepository.findByPopupIdIn(popupIds), item -> item.getPopup().getId());
+        Map<Long, List<PopupOperatingHour>> hoursByPopup = groupByPopup(
+            popupOperatingHourRepository.findByPopupIdIn(popupIds), item -> item.getPopup().getId());
+
+        Map<Long, PopupCard> existing = popupCardRepository.findAllById(popupIds).stream()
+            .collect(Collectors.toMap(PopupCard::getPopupId, Function.identity()));
+        List<Long> needsStats = withReviewStats
+            ? popupIds
+            : popupIds.stream().filter(id -> !existing.containsKey(id)).toList();
+        Map<Long, ReviewStats> statsByPopup = needsStats.isEmpty() ? Map.of() : loadReviewStats(needsStats);
+
+        List<PopupCard> cards = new ArrayList<>(popups.size());
+        for (Popup popup : popups) {
+            Long popupId = popup.getId();
+            PopupCard card = existing.getOrDefault(popupId, PopupCard.of(popupId));
+
+            List<PopupImage> images = imagesByPopup.getOrDefault(popupId, List.of());
+            ImagePayload thumbnail = images.stream()
+                .filter(image -> Boolean.TRUE.equals(image.getIsThumbnail()))
+                .findFirst()
+                .map(this::toImagePayload)
+                .orElseGet(() -> images.stream().findFirst().map(this::toImagePayload).orElse(null));
+            List<ImagePayload> gallery = images.stream()
+                .filter(image -> !Boolean.TRUE.equals(image.getIsThumbnail()))
+                .map(this::toImagePayload)
+                .toList();
+
+            List<PopupStyle> styles = stylesByPopup.getOrDefault(popupId, List.of());
+            card.applyAttributes(
+                categoriesByPopup.getOrDefault(popupId, List.of()).stream()
+                    .map(item -> item.getCategory().getId())
+                    .distinct()
+                    .toList(),
+                featuresByPopup.getOrDefault(popupId, List.of()).stream()
+                    .map(item -> item.getFeature().getId())
+                    .distinct()
+                    .toList(),
+                styles.stream()
+                    .map(item -> item.getStyle().getId())
+                    .distinct()
+                    .toList(),
+                styles.stream()
+                    .map(item -> item.getStyle().getName())
+                    .distinct()
+                    .toList(),
+                thumbnail,
+                gallery
+            );
+            card.applyPopup(popup, resolveSellerName(popup.getSeller()));
+            applyOperatingHours(card, hoursByPopup.getOrDefault(popupId, List.of()));
+
+            if (withReviewStats || !existing.containsKey(popupId)) {
+                ReviewStats stats = statsByPopup.getOrDefault(popupId, ReviewStats.empty());
+                card.applyReviewStats(stats.count(), stats.sum(), stats.distribution());
+            }
+            cards.add(card);
+        }
+        popupCardRepository.saveAll(cards);
+    }
+
+    /** 운영 시간 행으로 표시 목록과 운영 구간을 만든다 (행은 PopupCommandService 가 저장한 것을 읽기만 한다) */
+    private void applyOperatingHours(PopupCard card, List<PopupOperatingHour> rows) {
+        Map<Integer, PopupOperatingHour> bySegment = new TreeMap<>();
+        rows.forEach(row -> bySegment.putIfAbsent(row.getSegmentOrder(), row));
+        List<PopupOperatingHourResponse> hours = bySegment.values().stream()
+            .map(row -> new PopupOperatingHourResponse(row.getDayLabel(), row.getTimeLabel()))
+            .toList();
+        List<OperatingWindow> windows = rows.stream()
+            .map(PopupOperatingHour::toWindow)
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted(Comparator.comparingInt(OperatingWindow::dayOfWeek).thenComparingInt(OperatingWindow::openMinute))
+            .toList();
+        card.applyOperatingHours(hours, windows);
+    }
+
+    /** removedRating/addedRating 이 0이면 해당 방향 변화 없음 */
+    private void applyReviewDelta(Long popupId, int removedRating, int addedRating) {
+        int[] delta = new int[5];
+        if (removedRating >= 1 && removedRating <= 5) {
+            delta[removedRating - 1]--;
+        }
+        if (addedRating >= 1 && addedRating <= 5) {
+            delta[addedRating - 1]++;
+        }
+        int countDelta = (addedRating > 0 ? 1 : 0) - (removedRating > 0 ? 1 : 0);
+        long sumDelta = (long) addedRating - removedRating;
+
+        int updated = popupCardRepository.addReviewStats(
+            popupId, countDelta, sumDelta, delta[0], delta[1], delta[2], delta[3], delta[4], LocalDateTime.now());
+        if (updated == 0) {
+            // 카드가 아직 없으면 원본에서 새로 만든다 (리뷰 집계 포함)
+            refresh(popupId);
+        } else {
+            eventPublisher.publishEvent(PopupChangedEvent.statsChanged(popupId));
+        }
+    }
+
+    private Map<Long, ReviewStats> loadReviewStats(Collection<Long> popupIds) {
+        Map<Long, ReviewStats> result = new HashMap<>();
+        for (ReviewRepository.PopupRatingCount row : reviewRepository.countRatingsByPopupIds(popupIds)) {
+            int rating = row.getRating() != null ? row.getRating() : 0;
+            result.computeIfAbsent(row.getPopupId(), id -> ReviewStats.empty())
+                .add(rating, (int) row.getCount());
+        }
+        return result;
+    }
+
+    private <T> Map<Long, List<T>> groupByPopup(List<T> items, Function<T, Long> popupIdOf) {
+        return items.stream().collect(Collectors.groupingBy(popupIdOf));
+    }
+
+    private ImagePayload toImagePayload(PopupImage image) {
+        return ImagePayload.builder()
+            .url(image.getImageUrl())
+            .key(image.getImageKey())
+            .build();
+    }
+
+    private String resolveSellerName(Users user) {
+        if (user == null) {
+            return null;
+        }
+        if (user.getNickname() != null && !user.getNickname().isBlank()) {
+            return user.getNickname();
+        }
+        if (user.getName() != null && !user.getName().isBlank()) {
+            return user.getName();
+        }
+        return user.getLoginId();
+    }
+
+    /** 평점 집계 누적용 (distribution[0] = 1점 … distribution[4] = 5점) */
+    private static final class ReviewStats {
+        private int count;
+        private long sum;
+        private final int[] distribution = new int[5];
+
+        static ReviewStats empty() {
+            return new ReviewStats();
+        }
+
+        void add(int rating, int reviews) {
+            count += reviews;
+            sum += (long) rating * reviews;
+            if (rating >= 1 && rating <= 5) {
+                distribution[rating - 1] += reviews;
+            }
+        }
+
+        int count() {
+            return count;
+        }
+
+        long sum() {
+            return sum;
+        }
+
+        int[] distribution() {
+            return distribution;
+        }
+    }
+}
@@ -18,10 +18,13 @@ import com.da.itdaing.domain.popup.entity.Popup;
 import com.da.itdaing.domain.popup.entity.PopupCategory;
 import com.da.itdaing.domain.popup.entity.PopupFeature;
 import com.da.itdaing.domain.popup.entity.PopupImage;
+import com.da.itdaing.domain.popup.entity.PopupOperatingHour;
 import com.da.itdaing.domain.popup.entity.PopupStyle;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
 import com.da.itdaing.domain.popup.repository.PopupCategoryRepository;
 import com.da.itdaing.domain.popup.repository.PopupFeatureRepository;
 import com.da.itdaing.domain.popup.repository.PopupImageRepository;
+import com.da.itdaing.domain.popup.repository.PopupOperatingHourRepository;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
 import com.da.itdaing.domain.popup.repository.PopupStyleRepository;
 import com.da.itdaing.domain.user.entity.Users;
@@ -35,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -46,18 +50,22 @@ public class PopupCommandService {
 
     private static final String POPUP_CATEGORY_ROLE = "POPUP";
     private static final String TARGET_CATEGORY_ROLE = "TARGET";
+    private static final int BACKFILL_CHUNK_SIZE = 500;
 
     private final PopupRepository popupRepository;
     private final PopupImageRepository popupImageRepository;
     private final PopupCategoryRepository popupCategoryRepository;
     private final PopupFeatureRepository popupFeatureRepository;
     private final PopupStyleRepository popupStyleRepository;
+    private final PopupOperatingHourRepository popupOperatingHourRepository;
     private final UserRepository userRepository;
     private final ZoneCellRepository zoneCellRepository;
     private final CategoryRepository categoryRepository;
     private final FeatureRepository featureRepository;
     private final StyleRepository styleRepository;
     private final DefaultImageProvider defaultImageProvider;
+    private final PopupCardProjector popupCardProjector;
+    private final PopupCardRepository popupCardRepository;
 
     @Transactional
     public Long createPopup(Long sellerId, PopupCreateRequest request) {
@@ -93,6 +101,8 @@ public class PopupCommandService {
         persistFeatures(popup, request.featureIds());
         persistStyles(popup, request.styleIds());
         persistImages(popup, request.thumbnailImage(), request.images());
+        persistOperatingHours(popup);
+        popupCardProjector.refresh(popup);
 
         return popup.getId();
     }
@@ -122,12 +132,15 @@ public class PopupCommandService {
         popupFeatureRepository.deleteByPopup(popup);
         popupStyleRepository.deleteByPopup(popup);
         popupImageRepository.deleteByPopup(popup);
+        popupOperatingHourRepository.deleteByPopup(popup);
 
         persistCategories(popup, request.categoryIds(), POPUP_CATEGORY_ROLE);
         persistCategories(popup, request.targetCategoryIds(), TARGET_CATEGORY_ROLE);
         persistFeatures(popup, request.featureIds());
         persistStyles(popup, request.styleIds());
         persistImages(popup, request.thumbnailImage(), request.images());
+        persistOperatingHours(popup);
+        popupCardProjector.refresh(popup);
 
         return popup.getId();
     }
@@ -144,10 +157,33 @@ public class PopupCommandService {
         popupFeatureRepository.deleteByPopup(popup);
         popupStyleRepository.deleteByPopup(popup);
         popupImageRepository.deleteByPopup(popup);
+        popupOperatingHourRepository.deleteByPopup(popup);
+        popupCardProjector.remove(popupId);
 
         popupRepository.delete(popup);
     }
 
+    /**
+     * 운영 시간 구조화 이전 데이터 보정. 다시 계산한 카드 수를 반환한다.
+     * - 운영 시간 문자열만 있고 행이 없는 팝업은 여기서 한 번 파싱해 행을 저장한다.
+     * - 그 팝업들과 operating_hours 가 비어 있는 카드를 다시 계산한다. 대상이 없으면 조회 두 번으로 끝난다.
+     */
+    @Transactional
+    public int backfillOperatingHours() {
+        List<Long> withoutRows = popupRepository.findIdsWithoutOperatingHours();
+        for (int from = 0; from < withoutRows.size(); from += BACKFILL_CHUNK_SIZE) {
+            popupRepository.findAllById(withoutRows.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, withoutRows.size())))
+                .forEach(this::persistOperatingHours);
+        }
+        Set<Long> targets = new TreeSet<>(withoutRows);
+        targets.addAll(popupCardRepository.findPopupIdsWithoutOperatingHours());
+        List<Long> popupIds = List.copyOf(targets);
+        for (int from = 0; from < popupIds.size(); from += BACKFILL_CHUNK_SIZE) {
+            popupCardProjector.refreshAll(popupIds.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, popupIds.size())));
+        }
+        return popupIds.size();
+    }
+
 
     private void validateZoneCellOwnership(ZoneCell zoneCell, Long sellerId) {
         if (!Objects.equals(zoneCell.getOwner().getId(), sellerId)) {
@@ -262,6 +298,14 @@ public class PopupCommandService {
         }
     }
 
+    /** 운영 시간 문자열은 여기서 한 번만 파싱해 구조화된 행으로 저장한다 (조회 경로에서는 다시 나누지 않음) */
+    private void persistOperatingHours(Popup popup) {
+        List<PopupOperatingHour> rows = OperatingHoursParser.toEntities(popup);
+        if (!rows.isEmpty()) {
+            popupOperatingHourRepository.saveAll(rows);
+        }
+    }
+
     private boolean hasUrl(ImagePayload payload) {
         return payload != null && StringUtils.hasText(payload.url());
     }
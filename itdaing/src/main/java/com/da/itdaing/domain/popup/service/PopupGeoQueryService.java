@@ -0,0 +1,121 @@
+package com.da.itdaing.domain.popup.service;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
+import com.da.itdaing.domain.geo.geometry.ZoneCellGrid;
+import com.da.itdaing.domain.geo.geometry.ZoneCellPoint;
+import com.da.itdaing.domain.popup.dto.PopupNearbyResponse;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupView;
+import com.da.itdaing.domain.popup.dto.PopupViewResponse;
+import com.da.itdaing.domain.popup.entity.QPopupCard;
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+import com.querydsl.core.BooleanBuilder;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 위치 기반 팝업 조회 (화면 영역 bbox / 좌표 반경)
+ * - 셀 격자 색인(ZoneCellGrid)으로 후보 셀을 고르고, 카드 조회와 검색 필터는 PopupQueryService 에 맡긴다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PopupGeoQueryService {
+
+    // 셀 ID IN 절로 읽는 상한. 넘으면 좌표 범위 조건만 쓴다.
+    private static final int MAX_VIEWPORT_CELLS = 5_000;
+    public static final int MAX_NEARBY_SIZE = 50;
+    public static final double MAX_NEARBY_RADIUS_METERS = 20_000;
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PopupQueryService popupQueryService;
+    private final ZoneCellGrid zoneCellGrid;
+
+    /**
+     * 화면 영역(bbox) 안의 팝업만 view 형태로 조회한다. bbox 가 없으면 전체 목록과 같다.
+     * 셀 격자 색인으로 영역 안의 셀을 고른 뒤 셀 ID 로 카드를 읽고(idx_popup_card_cell), 카드 좌표로 한 번 더 거른다.
+     */
+    public List<? extends PopupViewResponse> getPopups(PopupView view, BoundingBox bbox) {
+        if (bbox == null) {
+            return popupQueryService.getPopups(view);
+        }
+        List<Long> cellIds = zoneCellGrid.within(bbox).stream().map(ZoneCellPoint::cellId).toList();
+        if (cellIds.isEmpty()) {
+            return List.of();
+        }
+        QPopupCard card = QPopupCard.popupCard;
+        BooleanBuilder where = new BooleanBuilder()
+            .and(card.longitude.between(bbox.minLng(), bbox.maxLng()))
+            .and(card.latitude.between(bbox.minLat(), bbox.maxLat()));
+        if (cellIds.size() <= MAX_VIEWPORT_CELLS) {
+            where.and(card.zoneCellId.in(cellIds));
+        }
+        return popupQueryService.findPopups(where, view);
+    }
+
+    /**
+     * 좌표 반경 안의 승인된 팝업을 가까운 순으로 최대 limit 건 조회한다. (limit 은 1~50)
+     * - 셀 격자 색인(적재 전에는 PostGIS ST_DWithin)으로 반경 안의 셀을 haversine 거리순으로 고르고,
+     *   그 셀에 걸린 카드 중 검색 필터(filters)를 통과한 것만 셀 거리로 정렬한다. 정렬/페이지 값은 쓰지 않는다.
+     * - 기간/운영 중 필터를 주지 않으면 종료되지 않은(종료일이 없거나 오늘 이후) 팝업만 내려준다.
+     */
+    public List<PopupNearbyResponse<PopupViewResponse>> getNearbyPopups(double lat, double lng, double radiusMeters,
+                                                                        int limit, PopupSearchRequest filters,
+                                                                        PopupView view) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "좌표 범위가 올바르지 않습니다: " + lat + "," + lng);
+        }
+        if (!(radiusMeters > 0 && radiusMeters <= MAX_NEARBY_RADIUS_METERS)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "radius 는 0 초과 " + (int) MAX_NEARBY_RADIUS_METERS + "m 이하여야 합니다: " + radiusMeters);
+        }
+        List<ZoneCellGrid.Nearby> cells = zoneCellGrid.near(lng, lat, radiusMeters);
+        if (cells.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> distanceByCell = new HashMap<>();
+        cells.forEach(cell -> distanceByCell.putIfAbsent(cell.point().cellId(), cell.distanceMeters()));
+
+        PopupSearchRequest request = (filters != null ? filters.toBuilder() : PopupSearchRequest.builder())
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .build();
+        QPopupCard card = QPopupCard.popupCard;
+        BooleanBuilder scope = new BooleanBuilder();
+        if (request.getActiveFrom() == null && request.getActiveTo() == null && request.getOpenAt() == null) {
+            scope.and(card.endDate.isNull().or(card.endDate.goe(LocalDate.now(SERVICE_ZONE))));
+        }
+        if (distanceByCell.size() <= MAX_VIEWPORT_CELLS) {
+            scope.and(card.zoneCellId.in(distanceByCell.keySet()));
+        } else {
+            BoundingBox bbox = BoundingBox.around(lng, lat, radiusMeters);
+            scope.and(card.longitude.between(bbox.minLng(), bbox.maxLng()))
+                .and(card.latitude.between(bbox.minLat(), bbox.maxLat()));
+        }
+
+        int size = Math.min(Math.max(limit, 1), MAX_NEARBY_SIZE);
+        Map<Long, Double> distanceByPopup = new HashMap<>();
+        popupQueryService.findCellIdsByPopup(request, scope).forEach((popupId, cellId) -> {
+            Double distance = distanceByCell.get(cellId);
+            if (distance != null) {
+                distanceByPopup.put(popupId, distance);
+            }
+        });
+        List<Long> popupIds = distanceByPopup.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+            .limit(size)
+            .map(Map.Entry::getKey)
+            .toList();
+        return popupQueryService.getPopupsByIds(popupIds, view).stream()
+            .map(popup -> new PopupNearbyResponse<PopupViewResponse>(popup,
+                Math.round(distanceByPopup.get(popup.id()) * 10) / 10.0))
+            .toList();
+    }
+}
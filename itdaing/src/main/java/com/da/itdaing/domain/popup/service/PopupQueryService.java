@@ -1,31 +1,58 @@
 package com.da.itdaing.domain.popup.service;
 
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.common.enums.SyncResourceType;
 import com.da.itdaing.domain.file.dto.ImagePayload;
+import com.da.itdaing.domain.popup.counter.PopupCounterBuffer;
+import com.da.itdaing.domain.popup.dto.PopupAutocompleteResponse;
+import com.da.itdaing.domain.popup.dto.PopupCalendarResponse;
+import com.da.itdaing.domain.popup.dto.PopupCardResponse;
+import com.da.itdaing.domain.popup.dto.PopupCursorPageResponse;
+import com.da.itdaing.domain.popup.dto.PopupFacetCounts;
+import com.da.itdaing.domain.popup.dto.PopupFacetedPageResponse;
 import com.da.itdaing.domain.popup.dto.PopupOperatingHourResponse;
+import com.da.itdaing.domain.popup.dto.PopupPinResponse;
 import com.da.itdaing.domain.popup.dto.PopupReviewAuthorResponse;
 import com.da.itdaing.domain.popup.dto.PopupReviewResponse;
 import com.da.itdaing.domain.popup.dto.PopupReviewSummaryResponse;
 import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupSort;
 import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
-import com.da.itdaing.domain.popup.entity.Popup;
-import com.da.itdaing.domain.popup.entity.PopupCategory;
-import com.da.itdaing.domain.popup.entity.PopupFeature;
-import com.da.itdaing.domain.popup.entity.PopupImage;
-import com.da.itdaing.domain.popup.entity.PopupStyle;
-import com.da.itdaing.domain.popup.entity.QPopup;
+import com.da.itdaing.domain.popup.dto.PopupView;
+import com.da.itdaing.domain.popup.dto.PopupViewResponse;
+import com.da.itdaing.domain.popup.entity.OperatingWindow;
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import com.da.itdaing.domain.popup.entity.QPopupCard;
 import com.da.itdaing.domain.popup.entity.QPopupCategory;
+import com.da.itdaing.domain.popup.entity.QPopupFeature;
+import com.da.itdaing.domain.popup.entity.QPopupOperatingHour;
+import com.da.itdaing.domain.popup.entity.QPopupStyle;
 import com.da.itdaing.domain.popup.exception.PopupNotFoundException;
-import com.da.itdaing.domain.popup.repository.PopupCategoryRepository;
-import com.da.itdaing.domain.popup.repository.PopupFeatureRepository;
-import com.da.itdaing.domain.popup.repository.PopupImageRepository;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
-import com.da.itdaing.domain.popup.repository.PopupStyleRepository;
+import com.da.itdaing.domain.popup.search.PopupAutocompleteIndex;
+import com.da.itdaing.domain.popup.search.PopupFacetCounter;
+import com.da.itdaing.domain.popup.search.PopupFacetDocument;
+import com.da.itdaing.domain.popup.search.PopupFacetIndex;
+import com.da.itdaing.domain.popup.search.PopupFacetQuery;
+import com.da.itdaing.domain.popup.search.PopupPeriodIndex;
+import com.da.itdaing.domain.popup.search.PopupSearchIndex;
 import com.da.itdaing.domain.social.entity.Review;
 import com.da.itdaing.domain.social.entity.ReviewImage;
 import com.da.itdaing.domain.social.repository.ReviewImageRepository;
 import com.da.itdaing.domain.social.repository.ReviewRepository;
+import com.da.itdaing.domain.sync.dto.ChangeFeedResponse;
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
+import com.da.itdaing.domain.sync.service.SyncToken;
 import com.da.itdaing.domain.user.entity.Users;
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -37,12 +64,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -50,32 +90,166 @@ import java.util.stream.Collectors;
 public class PopupQueryService {
 
     private static final DateTimeFormatter REVIEW_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    // 색인 후보 상한 (IN 절 바인드 파라미터 수 제한)
+    private static final int MAX_KEYWORD_CANDIDATES = 5_000;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+    // 스트리밍 조회 시 영속성 컨텍스트를 비우는 주기 (fetch size 와 동일)
+    private static final int STREAM_CLEAR_INTERVAL = 500;
+    private static final int MAX_CHANGES_SIZE = 1_000;
+    // 일괄 조회(/batch) 한 번에 받을 수 있는 ID 수
+    public static final int MAX_BATCH_SIZE = 100;
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+    // view 별 select 컬럼과 Tuple → 응답 변환. card/pin 은 TEXT 컬럼(설명, 갤러리, 카테고리 등)을 읽지 않는다.
+    private static final ViewProjection<PopupPinResponse> PIN_PROJECTION = new ViewProjection<>(
+        new Expression<?>[] {
+            QPopupCard.popupCard.popupId, QPopupCard.popupCard.createdAt, QPopupCard.popupCard.name,
+            QPopupCard.popupCard.zoneAreaId, QPopupCard.popupCard.zoneCellId,
+            QPopupCard.popupCard.latitude, QPopupCard.popupCard.longitude, QPopupCard.popupCard.approvalStatus,
+            QPopupCard.popupCard.startDate, QPopupCard.popupCard.endDate
+        },
+        PopupQueryService::toPinResponse
+    );
 
     private final PopupRepository popupRepository;
-    private final PopupImageRepository popupImageRepository;
-    private final PopupCategoryRepository popupCategoryRepository;
-    private final PopupFeatureRepository popupFeatureRepository;
-    private final PopupStyleRepository popupStyleRepository;
+    private final PopupCardRepository popupCardRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewImageRepository reviewImageRepository;
+    private final PopupSearchIndex popupSearchIndex;
+    private final PopupAutocompleteIndex popupAutocompleteIndex;
+    private final PopupFacetIndex popupFacetIndex;
+    private final PopupPeriodIndex popupPeriodIndex;
+    private final SyncTombstoneRepository syncTombstoneRepository;
     private final EntityManager entityManager;
+    private final PopupCounterBuffer popupCounterBuffer;
+
+    // full 은 엔티티 전체를 읽어 기존 상세 응답과 같은 변환을 쓴다
+    private final ViewProjection<PopupSummaryResponse> fullProjection = new ViewProjection<>(
+        new Expression<?>[] {QPopupCard.popupCard, QPopupCard.popupCard.createdAt},
+        row -> toSummaryResponse(row.get(QPopupCard.popupCard))
+    );
+    // card 는 좋아요 수에 미반영 증감을 더하므로 인스턴스 변환을 쓴다
+    private final ViewProjection<PopupCardResponse> cardProjection = new ViewProjection<>(
+        new Expression<?>[] {
+            QPopupCard.popupCard.popupId, QPopupCard.popupCard.createdAt, QPopupCard.popupCard.name,
+            QPopupCard.popupCard.locationName, QPopupCard.popupCard.approvalStatus,
+            QPopupCard.popupCard.startDate, QPopupCard.popupCard.endDate,
+            QPopupCard.popupCard.thumbnailUrl, QPopupCard.popupCard.thumbnailKey,
+            QPopupCard.popupCard.favoriteCount, QPopupCard.popupCard.reviewCount, QPopupCard.popupCard.reviewSum
+        },
+        this::toCardResponse
+    );
 
     public List<PopupSummaryResponse> getPopups() {
-        List<Popup> popups = popupRepository.findAllWithZoneAndSeller();
-        return mapToSummaryResponses(popups);
+        return mapToSummaryResponses(popupCardRepository.findAll());
+    }
+
+    /** 전체 목록을 view 형태로 조회한다. card/pin 은 필요한 컬럼만 읽는다. */
+    public List<? extends PopupViewResponse> getPopups(PopupView view) {
+        if (view == PopupView.FULL) {
+            return getPopups();
+        }
+        JPAQuery<?> query = new JPAQueryFactory(entityManager).from(QPopupCard.popupCard);
+        return responses(fetchRows(query, projectionOf(view)));
+    }
+
+    /**
+     * 위치 조회(PopupGeoQueryService)용: 공간 조건(where)에 걸린 카드를 view 형태로 읽는다.
+     */
+    List<? extends PopupViewResponse> findPopups(Predicate where, PopupView view) {
+        JPAQuery<?> query = new JPAQueryFactory(entityManager).from(QPopupCard.popupCard).where(where);
+        return responses(fetchRows(query, projectionOf(view)));
+    }
+
+    /**
+     * 위치 조회(PopupGeoQueryService)용: 검색 필터(키워드 색인 포함)와 공간 조건(scope)을 모두 통과한 카드의 팝업 ID → 셀 ID.
+     * 정렬/페이지 값은 쓰지 않는다.
+     */
+    Map<Long, Long> findCellIdsByPopup(PopupSearchRequest request, Predicate scope) {
+        List<PopupSearchIndex.Hit> hits = findKeywordHits(request);
+        List<Long> candidateIds = hits != null ? hits.stream().map(PopupSearchIndex.Hit::popupId).toList() : null;
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return Map.of();
+        }
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QPopupCard card = QPopupCard.popupCard;
+        BooleanBuilder where = buildSearchPredicate(queryFactory, request, candidateIds).and(scope);
+        Map<Long, Long> cellIdByPopup = new HashMap<>();
+        for (Tuple row : queryFactory.select(card.popupId, card.zoneCellId).from(card).where(where).fetch()) {
+            cellIdByPopup.put(row.get(card.popupId), row.get(card.zoneCellId));
+        }
+        return cellIdByPopup;
+    }
+
+    /**
+     * 변경 피드: since 워터마크 이후 갱신된 카드(synced_at 기준)와 삭제된 팝업 ID.
+     * since 가 없거나 삭제 기록 보존 기간보다 오래됐으면 처음부터 전체를 페이지 단위로 내려준다.
+     * 조회수만 바뀐 카드는 synced_at 이 바뀌지 않으므로 포함되지 않는다.
+     */
+    public ChangeFeedResponse<PopupSummaryResponse> getChanges(String since, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        SyncToken token = SyncToken.decode(since);
+        boolean fullResync = token != null && token.isExpired(now);
+        SyncToken from = token == null || fullResync ? SyncToken.initial(now) : token;
+        int limit = Math.min(Math.max(size, 1), MAX_CHANGES_SIZE);
+
+        List<PopupCard> cards = popupCardRepository.findSyncedAfter(
+            from.watermark(), from.lastId(), PageRequest.of(0, limit + 1));
+        boolean hasMore = cards.size() > limit;
+        if (hasMore) {
+            cards = cards.subList(0, limit);
+        }
+        List<Long> deletedIds = from.isInitial()
+            ? List.of()
+            : syncTombstoneRepository.findResourceIdsDeletedSince(SyncResourceType.POPUP, from.watermark());
+
+        SyncToken next = SyncToken.caughtUp(now);
+        if (hasMore) {
+            PopupCard last = cards.get(cards.size() - 1);
+            next = SyncToken.page(last.getSyncedAt(), last.getPopupId(), now);
+        }
+        return new ChangeFeedResponse<>(mapToSummaryResponses(cards), deletedIds, next.encode(), hasMore, fullResync);
     }
 
     public List<PopupSummaryResponse> getPopupsBySeller(Long sellerId) {
-        List<Popup> popups = popupRepository.findAllBySellerIdWithZoneAndSeller(sellerId);
-        return mapToSummaryResponses(popups);
+        return mapToSummaryResponses(popupCardRepository.findBySellerIdOrderByCreatedAtDesc(sellerId));
+    }
+
+    /**
+     * 전체 팝업을 한 건씩 sink 로 흘려보낸다 (NDJSON 스트리밍용). 전달한 건수를 반환한다.
+     * 커서로 읽으면서 주기적으로 영속성 컨텍스트를 비워, 건수와 무관하게 힙 사용량을 일정하게 유지한다.
+     */
+    public long streamPopups(Consumer<PopupSummaryResponse> sink) {
+        long count = 0;
+        try (Stream<PopupCard> cards = popupCardRepository.streamAll()) {
+            Iterator<PopupCard> iterator = cards.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(toSummaryResponse(iterator.next()));
+                if (++count % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
     }
 
     public PopupSummaryResponse getPopup(Long popupId) {
-        Popup popup = popupRepository.findByIdWithZoneAndSeller(popupId)
-            .orElseThrow(() -> new PopupNotFoundException(popupId));
-        return mapToSummaryResponses(List.of(popup)).stream()
-            .findFirst()
+        PopupCard card = popupCardRepository.findById(popupId)
             .orElseThrow(() -> new PopupNotFoundException(popupId));
+        return toSummaryResponse(card);
+    }
+
+    /**
+     * ID 목록 일괄 조회 (대시보드의 찜/추천/최근 본 팝업 하이드레이션용).
+     * 요청한 순서를 유지하고, 중복 ID 는 처음 한 번만, 없는(삭제된) ID 는 건너뛴다.
+     */
+    public List<PopupSummaryResponse> getPopupsByIds(List<Long> popupIds) {
+        return findInOrder(normalizeBatchIds(popupIds), fullProjection);
+    }
+
+    /** getPopupsByIds 와 같은 규칙으로 view 형태로 조회한다 */
+    public List<? extends PopupViewResponse> getPopupsByIds(List<Long> popupIds, PopupView view) {
+        return findInOrder(normalizeBatchIds(popupIds), projectionOf(view));
     }
 
     public List<PopupReviewResponse> getAllReviews() {
@@ -83,50 +257,493 @@ public class PopupQueryService {
         return mapToReviewResponses(reviews);
     }
 
+    /**
+     * 전체 리뷰를 한 건씩 sink 로 흘려보낸다 (NDJSON 스트리밍용). 전달한 건수를 반환한다.
+     * 리뷰 이미지는 STREAM_CLEAR_INTERVAL 건 단위로 묶어 조회하고, 묶음마다 영속성 컨텍스트를 비운다.
+     */
+    public long streamReviews(Consumer<PopupReviewResponse> sink) {
+        long count = 0;
+        List<Review> chunk = new ArrayList<>(STREAM_CLEAR_INTERVAL);
+        try (Stream<Review> reviews = reviewRepository.streamAllWithRelations()) {
+            Iterator<Review> iterator = reviews.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CLEAR_INTERVAL) {
+                    count += flushReviewChunk(chunk, sink);
+                }
+            }
+            count += flushReviewChunk(chunk, sink);
+        }
+        return count;
+    }
+
+    private int flushReviewChunk(List<Review> chunk, Consumer<PopupReviewResponse> sink) {
+        int size = chunk.size();
+        mapToReviewResponses(chunk).forEach(sink);
+        chunk.clear();
+        entityManager.clear();
+        return size;
+    }
+
     public List<PopupReviewResponse> getReviewsByPopup(Long popupId) {
         popupRepository.findById(popupId).orElseThrow(() -> new PopupNotFoundException(popupId));
         List<Review> reviews = reviewRepository.findByPopupIdWithRelations(popupId);
         return mapToReviewResponses(reviews);
     }
 
+    /**
+     * 오프셋 검색. 키워드가 있고 검색 색인이 준비되어 있으면 색인 후보(BM25 순) 안에서 나머지 필터를 적용하고
+     * 관련도 순으로 정렬한다. 색인이 없으면 기존 LIKE 검색(최신순)으로 동작한다.
+     * 키워드가 없고 필터 색인이 준비되어 있으면 페이지 ID 를 비트맵으로 고르고 본문만 DB 에서 읽는다.
+     */
     public Page<PopupSummaryResponse> searchPopups(PopupSearchRequest request) {
+        return searchPage(request, fullProjection);
+    }
+
+    public Page<? extends PopupViewResponse> searchPopups(PopupSearchRequest request, PopupView view) {
+        return searchPage(request, projectionOf(view));
+    }
+
+    /**
+     * 검색 페이지와 같은 조건의 패싯 건수(카테고리/편의시설/스타일/구역)를 함께 돌려준다.
+     * 필터 색인이 준비되어 있으면 비트맵 교집합 건수로, 아니면 기본 조건에 맞는 행을 한 번 읽어 메모리에서 센다.
+     */
+    public PopupFacetedPageResponse<? extends PopupViewResponse> searchPopupsWithFacets(PopupSearchRequest request,
+                                                                                       PopupView view) {
+        return new PopupFacetedPageResponse<>(searchPage(request, projectionOf(view)), facetCounts(request));
+    }
+
+    public PopupFacetCounts facetCounts(PopupSearchRequest request) {
+        request = withSortDefaults(request);
+        PopupFacetQuery facetQuery = PopupFacetQuery.from(request);
+        List<PopupSearchIndex.Hit> hits = findKeywordHits(request);
+        List<Long> candidateIds = hits != null ? hits.stream().map(PopupSearchIndex.Hit::popupId).toList() : null;
+        boolean likeKeyword = hits == null && StringUtils.hasText(request.getKeyword());
+        if (popupFacetIndex.isReady() && !likeKeyword) {
+            return popupFacetIndex.facetCounts(facetQuery, candidateIds);
+        }
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return PopupFacetCounter.count(List.of(), facetQuery);
+        }
+
+        // 패싯 차원은 메모리에서 거르므로 SQL 에는 키워드/승인 상태/기간/기간 겹침/운영 중 조건만 건다
+        PopupSearchRequest baseRequest = PopupSearchRequest.builder()
+            .keyword(request.getKeyword())
+            .approvalStatus(request.getApprovalStatus())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .activeFrom(request.getActiveFrom())
+            .activeTo(request.getActiveTo())
+            .openAt(request.getOpenAt())
+            .build();
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QPopupCard card = QPopupCard.popupCard;
+        List<PopupFacetDocument> documents = queryFactory
+            .select(card.popupId, card.categoryIds, card.featureIds, card.styleIds, card.zoneAreaId,
+                card.approvalStatus, card.startDate, card.endDate, card.openWindows)
+            .from(card)
+            .where(buildSearchPredicate(queryFactory, baseRequest, candidateIds))
+            .fetch().stream()
+            .map(row -> new PopupFacetDocument(
+                row.get(card.popupId),
+                row.get(card.categoryIds),
+                row.get(card.featureIds),
+                row.get(card.styleIds),
+                row.get(card.zoneAreaId),
+                row.get(card.approvalStatus),
+                row.get(card.startDate),
+                row.get(card.endDate),
+                row.get(card.openWindows),
+                null))
+            .toList();
+        return PopupFacetCounter.count(documents, facetQuery);
+    }
+
+    /**
+     * 정렬을 지정하지 않으면 키워드 검색은 색인 관련도순, 그 외는 최신순(필터 색인 또는 SQL).
+     * 정렬을 지정하면 키워드 후보를 IN 조건으로 넘겨 SQL 에서 정렬 컬럼 인덱스 순서로 읽는다.
+     */
+    private <T extends PopupViewResponse> Page<T> searchPage(PopupSearchRequest request, ViewProjection<T> projection) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QPopupCard card = QPopupCard.popupCard;
+        request = withSortDefaults(request);
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+        PopupSort sort = request.getSort();
+
+        List<PopupSearchIndex.Hit> hits = findKeywordHits(request);
+        if (hits != null && sort == null) {
+            return searchByRelevance(queryFactory, request, hits, pageable, projection);
+        }
+        if ((sort == null || sort == PopupSort.NEWEST) && canUseFacetIndex(request)) {
+            PopupFacetIndex.Slice slice = popupFacetIndex.page(
+                PopupFacetQuery.from(request), pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(findInOrder(slice.popupIds(), projection), pageable, slice.total());
+        }
+        List<Long> candidateIds = hits != null ? hits.stream().map(PopupSearchIndex.Hit::popupId).toList() : null;
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        BooleanBuilder builder = buildSearchPredicate(queryFactory, request, candidateIds);
+
+        // 카운트 쿼리
+        Long totalCount = queryFactory.select(card.count())
+            .from(card)
+            .where(builder)
+            .fetchOne();
+        long total = totalCount != null ? totalCount : 0L;
+
+        // 데이터 쿼리 (popup_card 단일 테이블, view 에 필요한 컬럼만)
+        JPAQuery<?> query = queryFactory.from(card)
+            .where(builder)
+            .orderBy(orderOf(sort))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize());
+
+        return new PageImpl<>(responses(fetchRows(query, projection)), pageable, total);
+    }
+
+    private <T extends PopupViewResponse> Page<T> searchByRelevance(JPAQueryFactory queryFactory,
+                                                                    PopupSearchRequest request,
+                                                                    List<PopupSearchIndex.Hit> hits,
+                                                                    Pageable pageable,
+                                                                    ViewProjection<T> projection) {
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        QPopupCard card = QPopupCard.popupCard;
+        List<Long> candidateIds = hits.stream().map(PopupSearchIndex.Hit::popupId).toList();
+
+        // 나머지 필터를 통과한 후보만 남기고 색인 점수 순서를 유지
+        List<Long> ranked;
+        if (popupFacetIndex.isReady()) {
+            ranked = popupFacetIndex.retainMatching(PopupFacetQuery.from(request), candidateIds);
+        } else {
+            Set<Long> filtered = new HashSet<>(queryFactory.select(card.popupId)
+                .from(card)
+                .where(buildSearchPredicate(queryFactory, request, candidateIds))
+                .fetch());
+            ranked = candidateIds.stream().filter(filtered::contains).toList();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+
+        return new PageImpl<>(findInOrder(pageIds, projection), pageable, ranked.size());
+    }
+
+    /** IN 조회 한 번으로 읽고 ids 순서대로 정렬한다 (없는 ID 는 제외) */
+    private <T extends PopupViewResponse> List<T> findInOrder(List<Long> ids, ViewProjection<T> projection) {
+        return responses(findRowsInOrder(ids, projection));
+    }
+
+    private <T extends PopupViewResponse> List<ViewRow<T>> findRowsInOrder(List<Long> ids,
+                                                                          ViewProjection<T> projection) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        QPopupCard card = QPopupCard.popupCard;
+        JPAQuery<?> query = new JPAQueryFactory(entityManager).from(card).where(card.popupId.in(ids));
+        Map<Long, ViewRow<T>> byId = fetchRows(query, projection).stream()
+            .collect(Collectors.toMap(row -> row.response().id(), Function.identity()));
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private List<Long> normalizeBatchIds(List<Long> popupIds) {
+        if (popupIds == null || popupIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(popupIds));
+        ids.removeIf(Objects::isNull);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "한 번에 조회할 수 있는 팝업은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 키셋(커서) 기반 검색: (created_at, popup_id) 이후 행부터 seek 하므로 페이지 깊이와 무관하게 일정한 비용.
+     * 전체 건수는 withCount=true 일 때만 계산한다.
+     * 키워드는 색인 후보로 좁히되, 커서 일관성을 위해 정렬은 최신순을 유지한다.
+     * 키워드가 없고 필터 색인이 준비되어 있으면 커서 다음 ID 를 비트맵과 최신순 배열로 고른다.
+     */
+    public PopupCursorPageResponse<PopupSummaryResponse> searchPopupsByCursor(PopupSearchRequest request) {
+        return searchCursorPage(request, fullProjection);
+    }
+
+    public PopupCursorPageResponse<? extends PopupViewResponse> searchPopupsByCursor(PopupSearchRequest request,
+                                                                                     PopupView view) {
+        return searchCursorPage(request, projectionOf(view));
+    }
+
+    private <T extends PopupViewResponse> PopupCursorPageResponse<T> searchCursorPage(PopupSearchRequest request,
+                                                                                      ViewProjection<T> projection) {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        QPopup popup = QPopup.popup;
+        QPopupCard card = QPopupCard.popupCard;
+        int size = Math.max(request.getSize(), 1);
+        PopupSearchCursor cursor = StringUtils.hasText(request.getCursor())
+            ? PopupSearchCursor.decode(request.getCursor())
+            : null;
+        if (canUseFacetIndex(request)) {
+            PopupFacetIndex.Slice slice = popupFacetIndex.after(PopupFacetQuery.from(request),
+                cursor != null ? cursor.createdAt() : null, cursor != null ? cursor.popupId() : null, size + 1);
+            return toCursorPage(findRowsInOrder(slice.popupIds(), projection), size,
+                request.isWithCount() ? slice.total() : null);
+        }
+
+        List<PopupSearchIndex.Hit> hits = findKeywordHits(request);
+        List<Long> candidateIds = hits != null ? hits.stream().map(PopupSearchIndex.Hit::popupId).toList() : null;
+        if (candidateIds != null && popupFacetIndex.isReady()) {
+            candidateIds = popupFacetIndex.retainMatching(PopupFacetQuery.from(request), candidateIds);
+        }
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new PopupCursorPageResponse<>(List.of(), 0, false, null, request.isWithCount() ? 0L : null);
+        }
+        BooleanBuilder builder = buildSearchPredicate(queryFactory, request, candidateIds);
+
+        Long totalElements = null;
+        if (request.isWithCount()) {
+            Long totalCount = queryFactory.select(card.count())
+                .from(card)
+                .where(builder)
+                .fetchOne();
+            totalElements = totalCount != null ? totalCount : 0L;
+        }
+
+        BooleanBuilder seek = new BooleanBuilder(builder);
+        if (cursor != null) {
+            seek.and(
+                card.createdAt.lt(cursor.createdAt())
+                    .or(card.createdAt.eq(cursor.createdAt()).and(card.popupId.lt(cursor.popupId())))
+            );
+        }
+
+        JPAQuery<?> query = queryFactory.from(card)
+            .where(seek)
+            .orderBy(card.createdAt.desc(), card.popupId.desc())
+            .limit(size + 1L);
+        return toCursorPage(fetchRows(query, projection), size, totalElements);
+    }
+
+    /** size + 1 건까지 읽은 행으로 다음 커서를 정한다 */
+    private <T extends PopupViewResponse> PopupCursorPageResponse<T> toCursorPage(List<ViewRow<T>> rows, int size,
+                                                                                  Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<ViewRow<T>> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ViewRow<T> last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new PopupSearchCursor(last.createdAt(), last.response().id()).encode();
+        }
+
+        return new PopupCursorPageResponse<>(
+            responses(pageRows),
+            pageRows.size(),
+            hasNext,
+            nextCursor,
+            totalElements
+        );
+    }
+
+    /**
+     * 달력용 월간 활성 팝업 수 (month: YYYY-MM, 없으면 한국 시간 기준 이번 달).
+     * 구간 색인이 준비됐으면 날짜마다 이진 탐색 두 번으로 세고, 아니면 그 달과 겹치는 기간만 읽어 누적 합으로 센다.
+     */
+    public PopupCalendarResponse getCalendar(String month) {
+        YearMonth yearMonth = parseMonth(month);
+        LocalDate first = yearMonth.atDay(1);
+        LocalDate last = yearMonth.atEndOfMonth();
+
+        long total;
+        int[] counts;
+        if (popupPeriodIndex.isReady()) {
+            total = popupPeriodIndex.countOverlapping(first, last);
+            counts = popupPeriodIndex.dailyCounts(first, last);
+        } else {
+            QPopupCard card = QPopupCard.popupCard;
+            List<Tuple> periods = new JPAQueryFactory(entityManager)
+                .select(card.startDate, card.endDate)
+                .from(card)
+                .where(
+                    card.approvalStatus.eq(ApprovalStatus.APPROVED),
+                    card.startDate.loe(last),
+                    card.endDate.goe(first),
+                    card.endDate.goe(card.startDate)
+                )
+                .fetch();
+            total = periods.size();
+            counts = dailyCounts(periods, first, last);
+        }
+
+        List<PopupCalendarResponse.Day> days = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            days.add(new PopupCalendarResponse.Day(first.plusDays(i).toString(), counts[i]));
+        }
+        return new PopupCalendarResponse(yearMonth.toString(), total, days);
+    }
+
+    /** 시작일에 +1, 종료 다음 날에 -1 을 기록한 뒤 누적 합 (달 밖으로 나가는 부분은 잘라 낸다) */
+    private static int[] dailyCounts(List<Tuple> periods, LocalDate first, LocalDate last) {
+        QPopupCard card = QPopupCard.popupCard;
+        int length = (int) (last.toEpochDay() - first.toEpochDay()) + 1;
+        int[] delta = new int[length + 1];
+        for (Tuple period : periods) {
+            LocalDate start = period.get(card.startDate);
+            LocalDate end = period.get(card.endDate);
+            int from = (int) Math.max(start.toEpochDay() - first.toEpochDay(), 0);
+            int to = (int) Math.min(end.toEpochDay() - first.toEpochDay(), length - 1);
+            delta[from]++;
+            delta[to + 1]--;
+        }
+        int[] counts = new int[length];
+        int running = 0;
+        for (int i = 0; i < length; i++) {
+            running += delta[i];
+            counts[i] = running;
+        }
+        return counts;
+    }
+
+    private static YearMonth parseMonth(String month) {
+        if (!StringUtils.hasText(month)) {
+            return YearMonth.now(SERVICE_ZONE);
+        }
+        try {
+            return YearMonth.parse(month.trim());
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "month 는 YYYY-MM 형식이어야 합니다.");
+        }
+    }
+
+    /** 팝업명/판매자/구역명 자동완성 (초성·입력 중인 음절 허용, 인메모리 트라이 조회) */
+    public List<PopupAutocompleteResponse> autocomplete(String query, int size) {
+        return popupAutocompleteIndex.suggest(query, Math.min(Math.max(size, 1), MAX_AUTOCOMPLETE_SIZE));
+    }
+
+    /** 키워드를 색인으로 처리할 수 있으면 후보 목록(점수순), 아니면 null (LIKE 경로) */
+    private List<PopupSearchIndex.Hit> findKeywordHits(PopupSearchRequest request) {
+        if (!StringUtils.hasText(request.getKeyword()) || !popupSearchIndex.isReady()) {
+            return null;
+        }
+        return popupSearchIndex.search(request.getKeyword(), MAX_KEYWORD_CANDIDATES);
+    }
+
+    /**
+     * 정렬에 딸린 기본 조건을 채운 사본 (원본 요청은 바꾸지 않는다)
+     * - NEWEST 외의 정렬은 승인 상태를 주지 않으면 승인된 팝업만 (순위 목록, 인덱스 선두 컬럼과 일치)
+     * - 종료 임박순은 오늘 이후 종료하는 팝업만 (activeFrom 을 오늘 이후로 당긴다)
+     */
+    static PopupSearchRequest withSortDefaults(PopupSearchRequest request) {
+        PopupSort sort = request.getSort();
+        if (sort == null || sort == PopupSort.NEWEST) {
+            return request;
+        }
+        PopupSearchRequest.PopupSearchRequestBuilder builder = request.toBuilder();
+        if (request.getApprovalStatus() == null) {
+            builder.approvalStatus(ApprovalStatus.APPROVED);
+        }
+        LocalDate today = LocalDate.now(SERVICE_ZONE);
+        if (sort == PopupSort.ENDING_SOON && (request.getActiveFrom() == null || request.getActiveFrom().isBefore(today))) {
+            builder.activeFrom(today);
+        }
+        return builder.build();
+    }
+
+    /** 정렬별 ORDER BY (V18 인덱스 컬럼 순서와 같게 유지한다, PopupSortIndexExplainTest 가 실행 계획을 검증한다) */
+    static OrderSpecifier<?>[] orderOf(PopupSort sort) {
+        QPopupCard card = QPopupCard.popupCard;
+        if (sort == null) {
+            sort = PopupSort.NEWEST;
+        }
+        return switch (sort) {
+            case NEWEST -> new OrderSpecifier<?>[] {card.createdAt.desc(), card.popupId.desc()};
+            case VIEWS -> new OrderSpecifier<?>[] {card.viewCount.desc(), card.popupId.desc()};
+            case FAVORITES -> new OrderSpecifier<?>[] {card.favoriteCount.desc(), card.popupId.desc()};
+            case RATING -> new OrderSpecifier<?>[] {card.ratingAvg.desc(), card.reviewCount.desc(), card.popupId.desc()};
+            case ENDING_SOON -> new OrderSpecifier<?>[] {card.endDate.asc(), card.popupId.asc()};
+        };
+    }
+
+    /** 키워드 없이 필터만 있는 검색은 필터 색인으로 처리한다 (LIKE 가 필요한 키워드 검색은 제외) */
+    private boolean canUseFacetIndex(PopupSearchRequest request) {
+        return !StringUtils.hasText(request.getKeyword()) && popupFacetIndex.isReady();
+    }
+
+    /** candidateIds 가 있으면 키워드 조건을 색인 후보 IN 조건으로 대체한다 */
+    static BooleanBuilder buildSearchPredicate(JPAQueryFactory queryFactory, PopupSearchRequest request,
+                                               List<Long> candidateIds) {
+        QPopupCard card = QPopupCard.popupCard;
         QPopupCategory popupCategory = QPopupCategory.popupCategory;
+        QPopupFeature popupFeature = QPopupFeature.popupFeature;
+        QPopupStyle popupStyle = QPopupStyle.popupStyle;
 
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 키워드 검색 (제목 또는 설명)
-        if (StringUtils.hasText(request.getKeyword())) {
+        if (candidateIds != null) {
+            builder.and(card.popupId.in(candidateIds));
+        } else if (StringUtils.hasText(request.getKeyword())) {
+            // 키워드 검색 (제목 또는 설명)
             String keyword = "%" + request.getKeyword().toLowerCase() + "%";
             builder.and(
-                popup.name.lower().like(keyword)
-                    .or(popup.description.lower().like(keyword))
+                card.name.lower().like(keyword)
+                    .or(card.description.lower().like(keyword))
             );
         }
 
         // 승인 상태 필터
         if (request.getApprovalStatus() != null) {
-            builder.and(popup.approvalStatus.eq(request.getApprovalStatus()));
+            builder.and(card.approvalStatus.eq(request.getApprovalStatus()));
         }
 
         // 날짜 필터
         if (request.getStartDate() != null) {
-            builder.and(popup.startDate.goe(request.getStartDate()));
+            builder.and(card.startDate.goe(request.getStartDate()));
         }
         if (request.getEndDate() != null) {
-            builder.and(popup.endDate.loe(request.getEndDate()));
+            builder.and(card.endDate.loe(request.getEndDate()));
+        }
+
+        // 기간 겹침 필터: 시작일 ≤ activeTo 이고 종료일 ≥ activeFrom
+        if (request.getActiveTo() != null) {
+            builder.and(card.startDate.loe(request.getActiveTo()));
+        }
+        if (request.getActiveFrom() != null) {
+            builder.and(card.endDate.goe(request.getActiveFrom()));
+        }
+
+        // 운영 중 필터: 그 날짜가 기간 안이고, 그 요일/분을 덮는 운영 구간이 있는 팝업
+        if (request.getOpenAt() != null) {
+            QPopupOperatingHour operatingHour = QPopupOperatingHour.popupOperatingHour;
+            LocalDate date = request.getOpenAt().toLocalDate();
+            int minute = OperatingWindow.minuteOfDay(request.getOpenAt());
+            builder.and(card.startDate.loe(date));
+            builder.and(card.endDate.goe(date));
+            builder.and(
+                card.popupId.in(
+                    queryFactory.select(operatingHour.popup.id)
+                        .from(operatingHour)
+                        .where(
+                            operatingHour.dayOfWeek.eq(request.getOpenAt().getDayOfWeek().getValue()),
+                            operatingHour.openMinute.loe(minute),
+                            operatingHour.closeMinute.gt(minute)
+                        )
+                )
+            );
         }
 
         // 지역 필터 (ZoneArea ID)
         if (request.getRegionId() != null) {
-            builder.and(popup.zoneCell.zoneArea.id.eq(request.getRegionId()));
+            builder.and(card.zoneAreaId.eq(request.getRegionId()));
         }
 
         // 카테고리 필터
         if (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty()) {
             builder.and(
-                popup.id.in(
+                card.popupId.in(
                     queryFactory.select(popupCategory.popup.id)
                         .from(popupCategory)
                         .where(popupCategory.category.id.in(request.getCategoryIds()))
@@ -135,197 +752,136 @@ public class PopupQueryService {
             );
         }
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-
-        // 카운트 쿼리
-        Long totalCount = queryFactory.select(popup.count())
-            .from(popup)
-            .where(builder)
-            .fetchOne();
-        long total = totalCount != null ? totalCount : 0L;
-
-        // 데이터 쿼리
-        List<Popup> popups = queryFactory.selectFrom(popup)
-            .leftJoin(popup.zoneCell).fetchJoin()
-            .leftJoin(popup.zoneCell.zoneArea).fetchJoin()
-            .leftJoin(popup.seller).fetchJoin()
-            .where(builder)
-            .orderBy(popup.createdAt.desc())
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
-
-        List<PopupSummaryResponse> responses = mapToSummaryResponses(popups);
-        return new PageImpl<>(responses, pageable, total);
-    }
-
-    private List<PopupSummaryResponse> mapToSummaryResponses(List<Popup> popups) {
-        if (popups.isEmpty()) {
-            return List.of();
+        // 편의시설/스타일 필터 (필터 색인이 준비되기 전의 대체 경로)
+        if (request.getFeatureIds() != null && !request.getFeatureIds().isEmpty()) {
+            builder.and(
+                card.popupId.in(
+                    queryFactory.select(popupFeature.popup.id)
+                        .from(popupFeature)
+                        .where(popupFeature.feature.id.in(request.getFeatureIds()))
+                        .distinct()
+                )
+            );
         }
-
-        List<Long> popupIds = popups.stream().map(Popup::getId).toList();
-
-        Map<Long, List<PopupImage>> imagesByPopup = popupImageRepository.findByPopupIdIn(popupIds)
-            .stream()
-            .collect(Collectors.groupingBy(image -> image.getPopup().getId()));
-
-        Map<Long, List<PopupCategory>> categoriesByPopup = popupCategoryRepository.findByPopupIdIn(popupIds)
-            .stream()
-            .collect(Collectors.groupingBy(item -> item.getPopup().getId()));
-
-        Map<Long, List<PopupFeature>> featuresByPopup = popupFeatureRepository.findByPopupIdIn(popupIds)
-            .stream()
-            .collect(Collectors.groupingBy(item -> item.getPopup().getId()));
-
-        Map<Long, List<PopupStyle>> stylesByPopup = popupStyleRepository.findByPopupIdIn(popupIds)
-            .stream()
-            .collect(Collectors.groupingBy(item -> item.getPopup().getId()));
-
-        Map<Long, List<Review>> reviewsByPopup = popupIds.isEmpty()
-            ? Map.of()
-            : reviewRepository.findByPopupIdInWithRelations(popupIds)
-            .stream()
-            .collect(Collectors.groupingBy(review -> review.getPopup().getId()));
-
-        return popups.stream()
-            .map(popup -> toSummaryResponse(
-                popup,
-                imagesByPopup.getOrDefault(popup.getId(), List.of()),
-                categoriesByPopup.getOrDefault(popup.getId(), List.of()),
-                featuresByPopup.getOrDefault(popup.getId(), List.of()),
-                stylesByPopup.getOrDefault(popup.getId(), List.of()),
-                reviewsByPopup.getOrDefault(popup.getId(), List.of())
-            ))
-            .toList();
+        if (request.getStyleIds() != null && !request.getStyleIds().isEmpty()) {
+            builder.and(
+                card.popupId.in(
+                    queryFactory.select(popupStyle.popup.id)
+                        .from(popupStyle)
+                        .where(popupStyle.style.id.in(request.getStyleIds()))
+                        .distinct()
+                )
+            );
+        }
+        return builder;
     }
 
-    private PopupSummaryResponse toSummaryResponse(
-        Popup popup,
-        List<PopupImage> images,
-        List<PopupCategory> categories,
-        List<PopupFeature> features,
-        List<PopupStyle> styles,
-        List<Review> reviews
-    ) {
-        ImagePayload thumbnail = images.stream()
-            .filter(image -> Boolean.TRUE.equals(image.getIsThumbnail()))
-            .findFirst()
-            .map(this::toImagePayload)
-            .orElseGet(() -> images.stream().findFirst().map(this::toImagePayload).orElse(null));
-
-        List<ImagePayload> gallery = images.stream()
-            .filter(image -> !Boolean.TRUE.equals(image.getIsThumbnail()))
-            .map(this::toImagePayload)
-            .toList();
+    private ViewProjection<? extends PopupViewResponse> projectionOf(PopupView view) {
+        return switch (view) {
+            case FULL -> fullProjection;
+            case CARD -> cardProjection;
+            case PIN -> PIN_PROJECTION;
+        };
+    }
 
-        List<Long> categoryIds = categories.stream()
-            .map(item -> item.getCategory().getId())
-            .distinct()
+    /** 프로젝션 컬럼만 select 한다 (query 의 from/where/order/limit 은 그대로 사용) */
+    private <T extends PopupViewResponse> List<ViewRow<T>> fetchRows(JPAQuery<?> query, ViewProjection<T> projection) {
+        return query.select(projection.columns()).fetch().stream()
+            .map(row -> new ViewRow<>(projection.mapper().apply(row), row.get(QPopupCard.popupCard.createdAt)))
             .toList();
+    }
 
-        List<Long> featureIds = features.stream()
-            .map(item -> item.getFeature().getId())
-            .distinct()
-            .toList();
+    private <T extends PopupViewResponse> List<T> responses(List<ViewRow<T>> rows) {
+        return rows.stream().map(ViewRow::response).toList();
+    }
 
-        List<String> styleTags = styles.stream()
-            .map(item -> item.getStyle().getName())
-            .distinct()
+    private List<PopupSummaryResponse> mapToSummaryResponses(List<PopupCard> cards) {
+        return cards.stream()
+            .map(this::toSummaryResponse)
             .toList();
+    }
 
-        List<PopupOperatingHourResponse> operatingHours = parseOperatingHours(popup.getOperatingTime());
-        PopupReviewSummaryResponse reviewSummary = buildReviewSummary(reviews);
-
-        String startDate = popup.getStartDate() != null ? popup.getStartDate().toString() : null;
-        String endDate = popup.getEndDate() != null ? popup.getEndDate().toString() : null;
-        String createdAt = formatDateTime(popup.getCreatedAt());
-        String updatedAt = formatDateTime(popup.getUpdatedAt());
-        String locationName = popup.getZoneCell().getZoneArea().getName();
-        String address = popup.getZoneCell().getDetailedAddress();
-        Double latitude = popup.getZoneCell().getLat();
-        Double longitude = popup.getZoneCell().getLng();
+    private PopupSummaryResponse toSummaryResponse(PopupCard card) {
+        PopupReviewSummaryResponse reviewSummary = new PopupReviewSummaryResponse(
+            card.getRatingAverage(),
+            card.getReviewCount(),
+            card.getRatingDistribution()
+        );
 
         return new PopupSummaryResponse(
-            popup.getId(),
-            popup.getName(),
-            popup.getSeller().getId(),
-            resolveSellerName(popup.getSeller()),
-            popup.getZoneCell().getZoneArea().getId(),
-            popup.getZoneCell().getId(),
-            popup.getZoneCell().getLabel(),
-            locationName,
-            address,
-            latitude,
-            longitude,
-            popup.getApprovalStatus().name(),
-            startDate,
-            endDate,
-            popup.getOperatingTime(),
-            operatingHours,
-            popup.getDescription(),
-            popup.getViewCount(),
-            popup.getFavoriteCount(),
-            categoryIds,
-            featureIds,
-            styleTags,
-            thumbnail,
-            gallery,
+            card.getPopupId(),
+            card.getName(),
+            card.getSellerId(),
+            card.getSellerName(),
+            card.getZoneAreaId(),
+            card.getZoneCellId(),
+            card.getCellName(),
+            card.getLocationName(),
+            card.getAddress(),
+            card.getLatitude(),
+            card.getLongitude(),
+            card.getApprovalStatus().name(),
+            card.getStartDate() != null ? card.getStartDate().toString() : null,
+            card.getEndDate() != null ? card.getEndDate().toString() : null,
+            card.getOperatingTime(),
+            operatingHoursOf(card),
+            card.getDescription(),
+            popupCounterBuffer.viewCountOf(card.getPopupId(), card.getViewCount()),
+            popupCounterBuffer.favoriteCountOf(card.getPopupId(), card.getFavoriteCount()),
+            card.getCategoryIds(),
+            card.getFeatureIds(),
+            card.getStyleTags(),
+            card.getThumbnail(),
+            card.getGallery(),
             reviewSummary,
-            createdAt,
-            updatedAt
+            formatDateTime(card.getCreatedAt()),
+            formatDateTime(card.getUpdatedAt()),
+            null
         );
     }
 
-    private List<PopupOperatingHourResponse> parseOperatingHours(String operatingTime) {
-        if (operatingTime == null || operatingTime.isBlank()) {
-            return List.of();
-        }
-        return Arrays.stream(operatingTime.split("/"))
-            .map(String::trim)
-            .filter(segment -> !segment.isBlank())
-            .map(segment -> {
-                int firstSpace = segment.indexOf(' ');
-                if (firstSpace > 0) {
-                    String day = segment.substring(0, firstSpace).trim();
-                    String time = segment.substring(firstSpace + 1).trim();
-                    return new PopupOperatingHourResponse(day, time);
-                }
-                return new PopupOperatingHourResponse("기본", segment);
-            })
-            .toList();
+    private PopupCardResponse toCardResponse(Tuple row) {
+        QPopupCard card = QPopupCard.popupCard;
+        Long popupId = row.get(card.popupId);
+        Integer reviewCount = row.get(card.reviewCount);
+        return new PopupCardResponse(
+            popupId,
+            row.get(card.name),
+            row.get(card.locationName),
+            row.get(card.approvalStatus).name(),
+            formatDate(row.get(card.startDate)),
+            formatDate(row.get(card.endDate)),
+            PopupCard.thumbnailOf(row.get(card.thumbnailUrl), row.get(card.thumbnailKey)),
+            popupCounterBuffer.favoriteCountOf(popupId, row.get(card.favoriteCount)),
+            PopupCard.ratingAverageOf(reviewCount, row.get(card.reviewSum)),
+            reviewCount != null ? reviewCount : 0,
+            null
+        );
     }
 
-    private PopupReviewSummaryResponse buildReviewSummary(List<Review> reviews) {
-        if (reviews.isEmpty()) {
-            return new PopupReviewSummaryResponse(0.0, 0, List.of(0, 0, 0, 0, 0));
-        }
-
-        int[] distribution = new int[5];
-        int total = reviews.size();
-        int sum = 0;
-
-        for (Review review : reviews) {
-            int rating = review.getRating() != null ? review.getRating() : 0;
-            sum += rating;
-            if (rating >= 1 && rating <= 5) {
-                distribution[rating - 1]++;
-            }
-        }
-
-        double average = total > 0 ? (double) sum / total : 0.0;
-        List<Integer> distributionList = Arrays.stream(distribution).boxed().toList();
-        return new PopupReviewSummaryResponse(average, total, distributionList);
+    private static PopupPinResponse toPinResponse(Tuple row) {
+        QPopupCard card = QPopupCard.popupCard;
+        return new PopupPinResponse(
+            row.get(card.popupId),
+            row.get(card.name),
+            row.get(card.zoneAreaId),
+            row.get(card.zoneCellId),
+            row.get(card.latitude),
+            row.get(card.longitude),
+            row.get(card.approvalStatus).name(),
+            formatDate(row.get(card.startDate)),
+            formatDate(row.get(card.endDate))
+        );
     }
 
-    private ImagePayload toImagePayload(PopupImage image) {
-        if (image == null) {
-            return null;
+    /** 카드에 미리 계산된 표시 목록을 쓰고, 아직 백필되지 않은 카드만 원문을 파싱한다 */
+    private static List<PopupOperatingHourResponse> operatingHoursOf(PopupCard card) {
+        if (card.getOperatingHours() != null) {
+            return card.getOperatingHours();
         }
-        return ImagePayload.builder()
-            .url(image.getImageUrl())
-            .key(image.getImageKey())
-            .build();
+        return OperatingHoursParser.parse(card.getOperatingTime()).stream()
+            .map(segment -> new PopupOperatingHourResponse(segment.dayLabel(), segment.timeLabel()))
+            .toList();
     }
 
     private List<PopupReviewResponse> mapToReviewResponses(List<Review> reviews) {
@@ -374,17 +930,8 @@ public class PopupQueryService {
         );
     }
 
-    private String resolveSellerName(Users user) {
-        if (user == null) {
-            return null;
-        }
-        if (user.getNickname() != null && !user.getNickname().isBlank()) {
-            return user.getNickname();
-        }
-        if (user.getName() != null && !user.getName().isBlank()) {
-            return user.getName();
-        }
-        return user.getLoginId();
+    private static String formatDate(LocalDate date) {
+        return date != null ? date.toString() : null;
     }
 
     private String formatDateTime(LocalDateTime dateTime) {
@@ -394,4 +941,11 @@ public class PopupQueryService {
     private String formatReviewDate(LocalDateTime createdAt) {
         return createdAt != null ? createdAt.format(REVIEW_DATE_FORMATTER) : null;
     }
+
+    /** view 별로 select 할 컬럼(커서용 created_at 포함)과 Tuple → 응답 변환 */
+    private record ViewProjection<T extends PopupViewResponse>(Expression<?>[] columns, Function<Tuple, T> mapper) {
+    }
+
+    private record ViewRow<T>(T response, LocalDateTime createdAt) {
+    }
 }
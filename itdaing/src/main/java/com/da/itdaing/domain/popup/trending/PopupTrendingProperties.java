@@ -0,0 +1,21 @@
+package com.da.itdaing.domain.popup.trending;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "popup-trending")
+public class PopupTrendingProperties {
+
+    /** Redis 정렬 집합 사용 여부 (false 면 일간 집계 테이블로 계산) */
+    private boolean redisEnabled = true;
+
+    /** 신호별 가중치 */
+    private double viewWeight = 1.0;
+    private double favoriteWeight = 3.0;
+    private double reviewWeight = 5.0;
+
+    /** 기간별 정렬 집합에 남길 최대 팝업 수 (구간을 옮길 때 하위 항목을 잘라 낸다) */
+    private long maxMembers = 2_000;
+}
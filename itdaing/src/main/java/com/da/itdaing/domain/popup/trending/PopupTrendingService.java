@@ -0,0 +1,239 @@
+package com.da.itdaing.domain.popup.trending;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.metric.entity.MetricDailyPopup;
+import com.da.itdaing.domain.metric.repository.MetricDailyPopupRepository;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.event.PopupEngagementEvent;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 시간 감쇠 인기 순위 (조회/찜/리뷰 신호)
+ * - 기간(TrendingWindow)마다 Redis 정렬 집합 하나에 전방 감쇠 점수를 ZINCRBY 로 더한다. 읽기는 ZREVRANGE (O(log n + k)).
+ * - 키에 구간 번호를 넣어 기준 시각을 옮긴다. 새 구간을 처음 만나는 노드가 이전 구간 점수를 2^-10 배로 합쳐 넣고
+ *   하위 항목을 잘라 낸다 (SETNX 로 한 번만).
+ * - Redis 를 쓸 수 없거나 비어 있으면 metric_daily_popup 일간 집계(조회/찜/리뷰)로 같은 방식의 점수를 계산하고,
+ *   그것도 비면 카드의 누적 카운터 가중합 순으로 채운다 (대시보드 추천 대체 목록이 비지 않도록).
+ * - 노출 전에 승인 상태/종료 여부를 카드에서 다시 확인한다. 삭제된 팝업은 DELETE 이벤트로 집합에서 뺀다.
+ */
+@Slf4j
+@Service
+public class PopupTrendingService {
+
+    static final String KEY_PREFIX = "popup:trending:";
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+    // 노출 불가 팝업을 걸러 낼 여유분
+    private static final int CANDIDATE_FACTOR = 3;
+    public static final int MAX_SIZE = 50;
+
+    private final PopupTrendingProperties properties;
+    private final StringRedisTemplate redis;
+    private final PopupCardRepository popupCardRepository;
+    private final MetricDailyPopupRepository metricDailyPopupRepository;
+
+    // 기간별로 이 노드가 이미 이월을 확인한 구간 번호
+    private final Map<TrendingWindow, Long> preparedPeriods = new ConcurrentHashMap<>();
+
+    public PopupTrendingService(PopupTrendingProperties properties,
+                                StringRedisTemplate redis,
+                                PopupCardRepository popupCardRepository,
+                                MetricDailyPopupRepository metricDailyPopupRepository) {
+        this.properties = properties;
+        this.redis = redis;
+        this.popupCardRepository = popupCardRepository;
+        this.metricDailyPopupRepository = metricDailyPopupRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngagement(PopupEngagementEvent event) {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        double signal = weightOf(event.kind()) * event.count();
+        try {
+            for (TrendingWindow window : TrendingWindow.values()) {
+                String key = prepare(window, event.occurredAt());
+                redis.opsForZSet().incrementScore(key, event.popupId().toString(),
+                    signal * window.weightAt(event.occurredAt()));
+                // 이월 때 이전 구간이 비어 있으면 ZUNIONSTORE 가 키를 지우고, 여기서 TTL 없는 키가 새로 생긴다
+                redis.expire(key, ttlOf(window));
+            }
+        } catch (Exception e) {
+            log.warn("[popup-trending] failed to record {} for popup {}: {}",
+                event.kind(), event.popupId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPopupChanged(PopupChangedEvent event) {
+        if (event.type() != PopupChangedEvent.ChangeType.DELETE || !properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            for (TrendingWindow window : TrendingWindow.values()) {
+                redis.opsForZSet().remove(keyOf(window, window.periodOf(now)), event.popupId().toString());
+            }
+        } catch (Exception e) {
+            log.warn("[popup-trending] failed to remove popup {}: {}", event.popupId(), e.getMessage());
+        }
+    }
+
+    /** Redis 가 비어 있으면(최초 기동/초기화 후) 일간 집계로 현재 구간을 채운다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            try {
+                String key = prepare(window, now);
+                Long size = redis.opsForZSet().zCard(key);
+                if (size != null && size > 0
+                    || !Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key + ":warmed", "1", ttlOf(window)))) {
+                    continue;
+                }
+                Map<Long, Double> scores = scoresFromDailyMetrics(window, now);
+                scores.forEach((popupId, score) -> redis.opsForZSet().incrementScore(
+                    key, popupId.toString(), score * window.weightAt(now)));
+                redis.expire(key, ttlOf(window));
+                log.info("[popup-trending] warmed {} with {} popups", key, scores.size());
+            } catch (Exception e) {
+                log.warn("[popup-trending] warm-up failed for {}: {}", window.param(), e.getMessage());
+            }
+        }
+    }
+
+    /** 기간 내 인기 팝업 ID (점수 내림차순, 승인되고 종료되지 않은 팝업만) */
+    public List<Long> topPopupIds(TrendingWindow window, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        List<Long> candidates = properties.isRedisEnabled() ? readRanking(window, limit * CANDIDATE_FACTOR) : null;
+        if (candidates == null || candidates.isEmpty()) {
+            candidates = rankFromDailyMetrics(window, limit * CANDIDATE_FACTOR);
+        }
+        LocalDate today = LocalDate.now(SERVICE_ZONE);
+        if (!candidates.isEmpty()) {
+            Set<Long> listable = new HashSet<>(popupCardRepository.findListablePopupIds(
+                candidates, ApprovalStatus.APPROVED, today));
+            List<Long> ranked = candidates.stream()
+                .filter(listable::contains)
+                .limit(limit)
+                .toList();
+            if (!ranked.isEmpty()) {
+                return ranked;
+            }
+        }
+        return popupCardRepository.findTopListableByCounters(ApprovalStatus.APPROVED, today,
+            properties.getViewWeight(), properties.getFavoriteWeight(), properties.getReviewWeight(),
+            PageRequest.of(0, limit));
+    }
+
+    /** Redis 순위. 장애 시 null. */
+    private List<Long> readRanking(TrendingWindow window, int count) {
+        try {
+            Set<String> members = redis.opsForZSet().reverseRange(prepare(window, Instant.now()), 0, count - 1);
+            if (members == null) {
+                return null;
+            }
+            return members.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("[popup-trending] ranking read failed, using daily metrics: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 현재 구간 키를 돌려준다. 이 노드에서 구간이 바뀐 뒤 처음이면 이전 구간 점수를 이월한다.
+     * 이월은 현재 키 자신도 함께 합치므로 그 사이에 다른 노드가 먼저 더한 점수도 보존된다.
+     */
+    private String prepare(TrendingWindow window, Instant at) {
+        long period = window.periodOf(at);
+        String key = keyOf(window, period);
+        Long prepared = preparedPeriods.get(window);
+        if (prepared != null && prepared >= period) {
+            return key;
+        }
+        Boolean first = redis.opsForValue().setIfAbsent(key + ":carried", "1", ttlOf(window));
+        if (Boolean.TRUE.equals(first)) {
+            String previous = keyOf(window, period - 1);
+            redis.opsForZSet().unionAndStore(key, List.of(previous), key, Aggregate.SUM,
+                Weights.of(1, TrendingWindow.carryOverFactor()));
+            redis.opsForZSet().removeRange(key, 0, -properties.getMaxMembers() - 1);
+            redis.expire(key, ttlOf(window));
+        }
+        preparedPeriods.put(window, period);
+        return key;
+    }
+
+    /** 대체 경로: 일간 집계로 점수를 계산해 상위 count 개 */
+    private List<Long> rankFromDailyMetrics(TrendingWindow window, int count) {
+        return scoresFromDailyMetrics(window, Instant.now()).entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(count)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /** 각 일간 집계를 그날 정오에 들어온 신호로 보고 now 기준으로 감쇠한 점수 (now 에서 1 배) */
+    private Map<Long, Double> scoresFromDailyMetrics(TrendingWindow window, Instant now) {
+        LocalDate from = now.atZone(SERVICE_ZONE).toLocalDate().minusDays(window.length().toDays());
+        Map<Long, Double> scores = new HashMap<>();
+        double nowWeight = window.weightAt(now);
+        long nowPeriod = window.periodOf(now);
+        for (MetricDailyPopup metric : metricDailyPopupRepository.findByDateSinceAndPopupStatus(
+            from, ApprovalStatus.APPROVED)) {
+            Instant at = metric.getDate().atTime(12, 0).atZone(SERVICE_ZONE).toInstant();
+            if (at.isAfter(now)) {
+                at = now;
+            }
+            double signal = properties.getViewWeight() * metric.getViews()
+                + properties.getFavoriteWeight() * metric.getFavorites()
+                + properties.getReviewWeight() * metric.getReviews();
+            if (signal <= 0) {
+                continue;
+            }
+            long periods = nowPeriod - window.periodOf(at);
+            double decay = window.weightAt(at) / nowWeight * Math.pow(2, -TrendingWindow.PERIOD_HALF_LIVES * periods);
+            scores.merge(metric.getPopup().getId(), signal * decay, Double::sum);
+        }
+        return scores;
+    }
+
+    private double weightOf(PopupEngagementEvent.Kind kind) {
+        return switch (kind) {
+            case VIEW -> properties.getViewWeight();
+            case FAVORITE -> properties.getFavoriteWeight();
+            case REVIEW -> properties.getReviewWeight();
+        };
+    }
+
+    static String keyOf(TrendingWindow window, long period) {
+        return KEY_PREFIX + window.param() + ":" + period;
+    }
+
+    /** 키는 다음 구간까지 (이월에 쓰이도록) 남긴다 */
+    private static Duration ttlOf(TrendingWindow window) {
+        return Duration.ofSeconds(window.periodSeconds() * 2);
+    }
+}
@@ -0,0 +1,73 @@
+package com.da.itdaing.domain.popup.trending;
+
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 인기 순위 기간 (?window=)
+ * - 기간마다 반감기가 다르다. 반감기만큼 지난 신호는 절반의 무게를 갖는다.
+ * - 점수는 전방 감쇠(forward decay): 기준 시각 L 이후 t 에 들어온 신호에 2^((t - L) / 반감기) 를 곱해 더한다.
+ *   모든 점수가 같은 배율로 커지므로 감쇠를 위해 기존 점수를 다시 쓸 필요가 없다.
+ * - 배율이 너무 커지지 않도록 반감기 PERIOD_HALF_LIVES 배마다 기준 시각을 옮긴다 (구간 번호 = t / 구간 길이).
+ */
+public enum TrendingWindow {
+    DAY("24h", Duration.ofHours(6), Duration.ofDays(1)),
+    WEEK("7d", Duration.ofDays(2), Duration.ofDays(7));
+
+    /** 기준 시각을 옮기는 주기 (반감기 배수). 한 구간 안에서 배율은 1 ~ 2^10. */
+    static final int PERIOD_HALF_LIVES = 10;
+
+    private final String param;
+    private final Duration halfLife;
+    private final Duration length;
+
+    TrendingWindow(String param, Duration halfLife, Duration length) {
+        this.param = param;
+        this.halfLife = halfLife;
+        this.length = length;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    /** 저장소 대체 경로에서 읽을 일간 집계 범위 */
+    public Duration length() {
+        return length;
+    }
+
+    /** 비어 있으면 WEEK. "24h"/"7d" 또는 이름(day/week), 대소문자 무시. */
+    public static TrendingWindow from(String value) {
+        if (value == null || value.isBlank()) {
+            return WEEK;
+        }
+        String normalized = value.trim();
+        for (TrendingWindow window : values()) {
+            if (window.param.equalsIgnoreCase(normalized) || window.name().equalsIgnoreCase(normalized)) {
+                return window;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 window 값입니다: " + value);
+    }
+
+    long periodSeconds() {
+        return halfLife.getSeconds() * PERIOD_HALF_LIVES;
+    }
+
+    long periodOf(Instant at) {
+        return Math.floorDiv(at.getEpochSecond(), periodSeconds());
+    }
+
+    /** at 이 속한 구간의 기준 시각 대비 배율 (1 이상 2^PERIOD_HALF_LIVES 미만) */
+    double weightAt(Instant at) {
+        long sinceLandmark = at.getEpochSecond() - periodOf(at) * periodSeconds();
+        return Math.pow(2, (double) sinceLandmark / halfLife.getSeconds());
+    }
+
+    /** 이전 구간 점수를 다음 구간 기준으로 옮길 때 곱하는 값 */
+    static double carryOverFactor() {
+        return Math.pow(2, -PERIOD_HALF_LIVES);
+    }
+}
@@ -2,6 +2,7 @@ package com.da.itdaing.domain.seller.service;
 
 import com.da.itdaing.domain.common.enums.ApprovalStatus;
 import com.da.itdaing.domain.common.enums.UserRole;
+import com.da.itdaing.domain.popup.counter.PopupCounterBuffer;
 import com.da.itdaing.domain.popup.entity.Popup;
 import com.da.itdaing.domain.popup.entity.PopupImage;
 import com.da.itdaing.domain.popup.repository.PopupImageRepository;
@@ -34,6 +35,7 @@ public class SellerDashboardService {
     private final PopupRepository popupRepository;
     private final PopupImageRepository popupImageRepository;
     private final WishlistRepository wishlistRepository;
+    private final PopupCounterBuffer popupCounterBuffer;
 
     public SellerDashboardDto.DashboardResponse getDashboard(Long sellerId) {
         Objects.requireNonNull(sellerId, "sellerId must not be null");
@@ -72,7 +74,7 @@ public class SellerDashboardService {
                 .startDate(p.getStartDate())
                 .endDate(p.getEndDate())
                 .cellName(p.getZoneCell() != null ? p.getZoneCell().getLabel() : null)
-                .viewCount(p.getViewCount() != null ? p.getViewCount() : 0L)
+                .viewCount(popupCounterBuffer.viewCountOf(p.getId(), p.getViewCount()))
                 .favoriteCount(favoriteCounts.getOrDefault(p.getId(), 0L))
                 .thumbnailUrl(extractThumbnailUrl(thumbnailMap.get(p.getId())))
                 .build())
@@ -157,9 +159,7 @@ public class SellerDashboardService {
             .filter(p -> p.getApprovalStatus() == ApprovalStatus.REJECTED)
             .count();
         long totalViews = popups.stream()
-            .map(Popup::getViewCount)
-            .filter(Objects::nonNull)
-            .mapToLong(Long::longValue)
+            .mapToLong(p -> popupCounterBuffer.viewCountOf(p.getId(), p.getViewCount()))
             .sum();
         long totalFavorites = favoriteCounts.values()
             .stream()
@@ -0,0 +1,17 @@
+package com.da.itdaing.domain.social.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "wishlist-cache")
+public class WishlistCacheProperties {
+
+    /** Redis 사용 여부 (false 면 매번 페이지의 팝업 ID 로 DB 를 조회) */
+    private boolean redisEnabled = true;
+
+    /** 사용자별 찜 팝업 집합 유지 시간. 변경 시 지우지만, 무효화와 적재가 엇갈려도 이 시간 뒤에는 다시 읽는다. */
+    private Duration ttl = Duration.ofMinutes(10);
+}
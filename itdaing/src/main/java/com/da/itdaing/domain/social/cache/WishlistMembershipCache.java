@@ -0,0 +1,117 @@
+package com.da.itdaing.domain.social.cache;
+
+import com.da.itdaing.domain.social.event.WishlistChangedEvent;
+import com.da.itdaing.domain.social.repository.WishlistRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 찜 팝업 집합 캐시 (목록 응답의 likedByMe 계산용)
+ * - Redis SET wishlist:popups:{userId} 에 찜한 팝업 ID 와 적재 표식("0")을 둔다.
+ *   페이지의 ID 들과 표식을 SMISMEMBER 한 번으로 물어, 표식이 없으면(미적재/만료) 찜 목록을 한 번 읽어 채운다.
+ * - 찜 추가/삭제가 커밋되면 해당 사용자 키를 지운다. 적재와 무효화가 엇갈린 경우는 TTL 로 정리된다.
+ * - Redis 를 쓸 수 없으면 페이지의 팝업 ID 로 위시리스트를 한 번 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishlistMembershipCache {
+
+    static final String KEY_PREFIX = "wishlist:popups:";
+    // 팝업 ID 는 1 부터이므로 적재 표식과 겹치지 않는다
+    static final String LOADED_MARKER = "0";
+
+    private final WishlistCacheProperties properties;
+    private final StringRedisTemplate redis;
+    private final WishlistRepository wishlistRepository;
+
+    /** popupIds 중 userId 가 찜한 팝업 ID */
+    public Set<Long> likedAmong(Long userId, Collection<Long> popupIds) {
+        if (userId == null || popupIds.isEmpty()) {
+            return Set.of();
+        }
+        if (properties.isRedisEnabled()) {
+            try {
+                Set<Long> cached = fromRedis(userId, popupIds);
+                return cached != null ? cached : load(userId, popupIds);
+            } catch (RuntimeException e) {
+                log.warn("[wishlist-cache] lookup failed for user {}: {}", userId, e.getMessage());
+            }
+        }
+        return fromDatabase(userId, popupIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redis.delete(keyOf(userId));
+        } catch (RuntimeException e) {
+            log.warn("[wishlist-cache] evict failed for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /** 적재돼 있으면 찜한 ID, 아니면 null */
+    private Set<Long> fromRedis(Long userId, Collection<Long> popupIds) {
+        Object[] members = new Object[popupIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        int i = 1;
+        for (Long popupId : popupIds) {
+            members[i++] = String.valueOf(popupId);
+        }
+        Map<Object, Boolean> result = redis.opsForSet().isMember(keyOf(userId), members);
+        if (result == null || !Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+            return null;
+        }
+        Set<Long> liked = new HashSet<>();
+        for (Long popupId : popupIds) {
+            if (Boolean.TRUE.equals(result.get(String.valueOf(popupId)))) {
+                liked.add(popupId);
+            }
+        }
+        return liked;
+    }
+
+    /** 찜 목록 전체를 읽어 Redis 에 채우고 이번 요청의 답을 돌려준다 */
+    private Set<Long> load(Long userId, Collection<Long> popupIds) {
+        List<Long> all = wishlistRepository.findPopupIdsByUserId(userId);
+        String[] members = new String[all.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < all.size(); i++) {
+            members[i + 1] = String.valueOf(all.get(i));
+        }
+        String key = keyOf(userId);
+        redis.opsForSet().add(key, members);
+        redis.expire(key, properties.getTtl());
+
+        Set<Long> liked = new HashSet<>(all);
+        liked.retainAll(new HashSet<>(popupIds));
+        return liked;
+    }
+
+    private Set<Long> fromDatabase(Long userId, Collection<Long> popupIds) {
+        return wishlistRepository.findByUserIdAndPopupIdInWithPopup(userId, popupIds).stream()
+            .map(wishlist -> wishlist.getPopup().getId())
+            .collect(Collectors.toSet());
+    }
+
+    static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,8 @@
+package com.da.itdaing.domain.social.event;
+
+/**
+ * 위시리스트 변경 알림 (찜 추가/삭제)
+ * - WishlistService 가 발행하고, 사용자별 찜 목록 캐시는 커밋 이후 이 이벤트로 비우며 사용자별 찜 버전(ETag)을 올린다.
+ */
+public record WishlistChangedEvent(Long userId, Long popupId) {
+}
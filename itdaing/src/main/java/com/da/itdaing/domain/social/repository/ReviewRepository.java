@@ -1,11 +1,15 @@
 package com.da.itdaing.domain.social.repository;
 
 import com.da.itdaing.domain.social.entity.Review;
+import jakarta.persistence.QueryHint;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -38,6 +42,19 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
         """)
     List<Review> findAllWithRelations();
 
+    // 스트리밍 응답용: 커서로 조금씩 읽는다 (호출 측 트랜잭션 안에서 소비 후 닫아야 함)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select r from Review r
+        join fetch r.popup
+        join fetch r.consumer
+        order by r.createdAt desc
+        """)
+    Stream<Review> streamAllWithRelations();
+
     List<Review> findByPopupId(Long popupId);
 
     @Query("select r from Review r "
@@ -47,4 +64,19 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Optional<Review> findByIdWithRelations(@Param("reviewId") Long reviewId);
 
     long countByConsumer_Id(Long consumerId);
+
+    // 팝업별 평점 분포 집계용 (팝업 카드 리뷰 요약 재계산)
+    @Query("""
+        select r.popup.id as popupId, r.rating as rating, count(r.id) as count
+        from Review r
+        where r.popup.id in :popupIds
+        group by r.popup.id, r.rating
+        """)
+    List<PopupRatingCount> countRatingsByPopupIds(@Param("popupIds") Collection<Long> popupIds);
+
+    interface PopupRatingCount {
+        Long getPopupId();
+        Byte getRating();
+        long getCount();
+    }
 }
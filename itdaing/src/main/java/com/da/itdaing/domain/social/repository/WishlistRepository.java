@@ -49,6 +49,10 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
         long getCount();
     }
 
+    // 사용자의 찜 팝업 ID 전체 (likedByMe 캐시 적재용)
+    @Query("select w.popup.id from Wishlist w where w.user.id = :userId")
+    List<Long> findPopupIdsByUserId(@Param("userId") Long userId);
+
     // 개별 위시 여부 확인 (likedByMe, 중복 방지용)
     boolean existsByPopupIdAndUserId(Long popupId, Long userId);
 
@@ -3,6 +3,7 @@ package com.da.itdaing.domain.social.service;
 import com.da.itdaing.domain.common.enums.UserRole;
 import com.da.itdaing.domain.popup.entity.Popup;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
 import com.da.itdaing.domain.social.dto.ReviewCreateRequest;
 import com.da.itdaing.domain.social.dto.ReviewUpdateRequest;
 import com.da.itdaing.domain.file.dto.ImagePayload;
@@ -28,6 +29,7 @@ public class ReviewCommandService {
     private final ReviewImageRepository reviewImageRepository;
     private final UserRepository userRepository;
     private final PopupRepository popupRepository;
+    private final PopupCardProjector popupCardProjector;
 
     @Transactional
     public Long createReview(Long consumerId, Long popupId, ReviewCreateRequest request) {
@@ -55,6 +57,7 @@ public class ReviewCommandService {
         );
 
         persistImages(review, request.images());
+        popupCardProjector.onReviewCreated(popupId, request.rating());
 
         return review.getId();
     }
@@ -67,10 +70,12 @@ public class ReviewCommandService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED, "본인이 작성한 리뷰만 수정할 수 있습니다.");
         }
 
+        int previousRating = review.getRating();
         review.update(request.rating(), request.content() != null ? request.content().trim() : null);
 
         reviewImageRepository.deleteByReview(review);
         persistImages(review, request.images());
+        popupCardProjector.onReviewUpdated(review.getPopup().getId(), previousRating, review.getRating());
 
         return review.getId();
     }
@@ -90,8 +95,11 @@ public class ReviewCommandService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED, "본인이 작성한 리뷰 또는 관리자만 삭제할 수 있습니다.");
         }
 
+        Long popupId = review.getPopup().getId();
+        int rating = review.getRating();
         reviewImageRepository.deleteByReview(review);
         reviewRepository.delete(review);
+        popupCardProjector.onReviewDeleted(popupId, rating);
     }
 
     private void persistImages(Review review, List<ImagePayload> images) {
@@ -1,20 +1,28 @@
 package com.da.itdaing.domain.social.service;
 
+import com.da.itdaing.domain.popup.counter.PopupCounterBuffer;
 import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.da.itdaing.domain.popup.dto.PopupViewResponse;
 import com.da.itdaing.domain.popup.entity.Popup;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.domain.social.cache.WishlistMembershipCache;
 import com.da.itdaing.domain.social.entity.Wishlist;
+import com.da.itdaing.domain.social.event.WishlistChangedEvent;
 import com.da.itdaing.domain.social.repository.WishlistRepository;
 import com.da.itdaing.domain.user.entity.Users;
 import com.da.itdaing.domain.user.repository.UserRepository;
 import com.da.itdaing.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +32,10 @@ public class WishlistService {
     private final WishlistRepository wishlistRepository;
     private final PopupRepository popupRepository;
     private final UserRepository userRepository;
+    private final PopupCardProjector popupCardProjector;
+    private final WishlistMembershipCache wishlistMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PopupCounterBuffer popupCounterBuffer;
 
     public void addToWishlist(Long userId, Long popupId) {
         Users user = userRepository.findById(userId)
@@ -44,22 +56,48 @@ public class WishlistService {
 
         wishlistRepository.save(wishlist);
 
-        popup.increaseFavoriteCount();
+        popupCardProjector.addFavoriteCount(popupId, 1);
+        eventPublisher.publishEvent(new WishlistChangedEvent(userId, popupId));
     }
 
     public void removeFromWishlist(Long userId, Long popupId) {
         Wishlist wishlist = wishlistRepository.findByPopupIdAndUserId(popupId, userId);
         if (wishlist != null) {
-            Popup popup = wishlist.getPopup();
             wishlistRepository.delete(wishlist);
 
-            //  좋아요 수 감소
-            if (popup != null) {
-                popup.decreaseFavoriteCount();
-            }
+            //  좋아요 수 감소 (popup/popup_card 는 커밋 후 모아서 반영)
+            popupCardProjector.addFavoriteCount(popupId, -1);
+            eventPublisher.publishEvent(new WishlistChangedEvent(userId, popupId));
         }
     }
 
+    /**
+     * 목록 응답에 likedByMe 를 채운다 (페이지 전체를 한 번에 조회).
+     * userId 가 null(비로그인)이면 그대로 돌려준다.
+     * 찜 캐시가 Redis 로 답하거나 스스로 위시리스트를 읽으므로 트랜잭션(커넥션)을 새로 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @SuppressWarnings("unchecked")
+    public <T extends PopupViewResponse> List<T> markLiked(Long userId, List<T> responses) {
+        if (userId == null || responses.isEmpty()) {
+            return responses;
+        }
+        Set<Long> liked = wishlistMembershipCache.likedAmong(userId,
+            responses.stream().map(PopupViewResponse::id).toList());
+        return responses.stream()
+            .map(response -> (T) response.withLikedByMe(liked.contains(response.id())))
+            .toList();
+    }
+
+    /** 단건 응답에 likedByMe 를 채운다 */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public <T extends PopupViewResponse> T markLiked(Long userId, T response) {
+        if (userId == null || response == null) {
+            return response;
+        }
+        return markLiked(userId, List.of(response)).get(0);
+    }
+
     @Transactional(readOnly = true)
     public Page<PopupSummaryResponse> getMyWishlist(Long userId, Pageable pageable) {
         Page<Wishlist> page = wishlistRepository.findByUserIdWithPopup(userId, pageable);
@@ -109,8 +147,8 @@ public class WishlistService {
                 p.getOperatingTime(),
                 List.of(),          // operatingHours (간단 버전에서는 비워둠)
                 p.getDescription(),
-                p.getViewCount(),
-                p.getFavoriteCount(),                 // favoriteCount
+                popupCounterBuffer.viewCountOf(p.getId(), p.getViewCount()),
+                popupCounterBuffer.favoriteCountOf(p.getId(), p.getFavoriteCount()),   // favoriteCount
                 List.of(),          // categoryIds
                 List.of(),          // featureIds
                 List.of(),          // styleTags
@@ -118,7 +156,8 @@ public class WishlistService {
                 List.of(),          // gallery
                 null,               // reviewSummary
                 createdAt,
-                updatedAt
+                updatedAt,
+                true                // likedByMe (내 위시 목록)
             );
         });
     }
@@ -0,0 +1,24 @@
+package com.da.itdaing.domain.social.service;
+
+import com.da.itdaing.domain.social.event.WishlistChangedEvent;
+import com.da.itdaing.global.web.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 찜 추가/삭제가 커밋되면 그 사용자의 찜 버전을 올린다 (likedByMe 가 담긴 팝업 GET 의 ETag 용).
+ * 팝업 버전은 좋아요 수가 반영될 때까지 그대로이므로, 이 버전이 바뀌어야 본인 토글이 바로 200 으로 보인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WishlistVersionListener {
+
+    private final ResourceVersions resourceVersions;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        resourceVersions.bump(ResourceVersions.wishlistOf(event.userId()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.da.itdaing.domain.sync.dto;
+
+import java.util.List;
+
+/**
+ * 변경 피드(?since=) 응답
+ * - upserts: 워터마크 이후 생성/수정된 항목 (같은 ID 는 덮어쓴다)
+ * - deletedIds: 워터마크 이후 삭제된 ID
+ * - nextToken: 다음 요청의 since 로 그대로 전달
+ * - hasMore: true 면 바로 nextToken 으로 이어서 요청 (한 번에 내려주는 건수 제한)
+ * - fullResync: true 면 since 가 너무 오래돼 삭제를 알 수 없으므로 로컬 데이터를 비우고 upserts 로 다시 채운다
+ */
+public record ChangeFeedResponse<T>(
+    List<T> upserts,
+    List<Long> deletedIds,
+    String nextToken,
+    boolean hasMore,
+    boolean fullResync
+) {
+}
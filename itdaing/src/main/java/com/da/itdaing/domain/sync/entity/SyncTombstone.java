@@ -0,0 +1,57 @@
+package com.da.itdaing.domain.sync.entity;
+
+import com.da.itdaing.domain.common.enums.SyncResourceType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 기록(tombstone)
+ * - 변경 피드가 "그 사이 삭제된 ID" 를 돌려줄 수 있도록 행 삭제 시 같은 트랜잭션에서 남긴다.
+ * - parentId: 셀 삭제 시 소속 구역 ID (구역 단위로 다시 내려주기 위함)
+ * - deletedAt 은 popup_card.synced_at / updated_at 과 같은 애플리케이션 시계로 기록한다.
+ */
+@Entity
+@Table(
+    name = "sync_tombstone",
+    indexes = @Index(name = "idx_sync_tombstone_type_deleted", columnList = "resource_type, deleted_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", length = 20, nullable = false)
+    private SyncResourceType resourceType;
+
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    private SyncTombstone(SyncResourceType resourceType, Long resourceId, Long parentId) {
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.parentId = parentId;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public static SyncTombstone of(SyncResourceType resourceType, Long resourceId) {
+        return new SyncTombstone(resourceType, resourceId, null);
+    }
+
+    public static SyncTombstone of(SyncResourceType resourceType, Long resourceId, Long parentId) {
+        return new SyncTombstone(resourceType, resourceId, parentId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.da.itdaing.domain.sync.repository;
+
+import com.da.itdaing.domain.common.enums.SyncResourceType;
+import com.da.itdaing.domain.sync.entity.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    List<SyncTombstone> findByResourceTypeInAndDeletedAtGreaterThanEqual(Collection<SyncResourceType> resourceTypes,
+                                                                         LocalDateTime since);
+
+    @Query("""
+        select distinct t.resourceId from SyncTombstone t
+        where t.resourceType = :resourceType and t.deletedAt >= :since
+        order by t.resourceId
+        """)
+    List<Long> findResourceIdsDeletedSince(@Param("resourceType") SyncResourceType resourceType,
+                                           @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from SyncTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,81 @@
+package com.da.itdaing.domain.sync.service;
+
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 변경 피드 워터마크 (마지막으로 내려준 변경 시각, 같은 시각 안에서의 마지막 ID, 발급 시각)
+ * - 클라이언트에는 Base64URL 문자열로만 노출한다 (?since= 로 그대로 돌려받음).
+ * - 한 페이지를 다 채우면 마지막 행의 (시각, ID) 키셋을, 다 읽었으면 caughtUp 을 다음 워터마크로 쓴다.
+ * - 커밋이 늦게 끝난 트랜잭션이나 노드 간 시계 차이로 빠지는 행이 없도록,
+ *   최근 SETTLE_WINDOW 구간은 다음 요청에서 한 번 더 읽는다 (클라이언트는 같은 ID 를 덮어쓰면 된다).
+ * - 발급된 지 삭제 기록 보존 기간(TOMBSTONE_RETENTION)이 지난 토큰은 삭제를 놓칠 수 있으므로 전체 재동기화로 처리한다.
+ *   (전체 재동기화 중의 페이지 토큰은 워터마크가 오래됐어도 발급 시각이 최근이므로 다시 만료되지 않는다)
+ */
+public record SyncToken(LocalDateTime watermark, Long lastId, LocalDateTime issuedAt) {
+
+    public static final Duration SETTLE_WINDOW = Duration.ofSeconds(10);
+    public static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = watermark + SEPARATOR + lastId + SEPARATOR + issuedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** since 가 비어 있으면 null (최초 동기화) */
+    public static SyncToken decode(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(since), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("unexpected token parts: " + parts.length);
+            }
+            return new SyncToken(
+                LocalDateTime.parse(parts[0]),
+                Long.valueOf(parts[1]),
+                LocalDateTime.parse(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 since 값입니다.");
+        }
+    }
+
+    /** 처음부터 읽는 시작점 (since 없음 또는 전체 재동기화) */
+    public static SyncToken initial(LocalDateTime now) {
+        return new SyncToken(EPOCH, 0L, now);
+    }
+
+    /** 같은 요청에서 이어 읽을 페이지 위치 */
+    public static SyncToken page(LocalDateTime watermark, Long lastId, LocalDateTime now) {
+        return new SyncToken(watermark, lastId, now);
+    }
+
+    /**
+     * 남은 변경을 모두 읽은 뒤의 다음 워터마크. 커밋이 끝나지 않았을 수 있는 최근 SETTLE_WINDOW 구간은
+     * 다음 요청에서 다시 읽는다.
+     */
+    public static SyncToken caughtUp(LocalDateTime now) {
+        return new SyncToken(now.minus(SETTLE_WINDOW), 0L, now);
+    }
+
+    /** 삭제 기록이 이미 정리됐을 수 있는 토큰인지 */
+    public boolean isExpired(LocalDateTime now) {
+        return issuedAt.isBefore(now.minus(TOMBSTONE_RETENTION));
+    }
+
+    public boolean isInitial() {
+        return EPOCH.equals(watermark);
+    }
+}
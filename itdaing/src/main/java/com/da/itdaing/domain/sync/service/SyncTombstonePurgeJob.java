@@ -0,0 +1,32 @@
+package com.da.itdaing.domain.sync.service;
+
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 삭제 기록 정리 배치
+ * - 보존 기간이 지난 tombstone 을 지운다. 그보다 오래된 since 로 요청한 클라이언트는 전체 재동기화를 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncTombstonePurgeJob {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    @Transactional
+    @Scheduled(cron = "${sync.tombstone.purge-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        try {
+            int deleted = syncTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(SyncToken.TOMBSTONE_RETENTION));
+            log.info("[sync] purged {} tombstones", deleted);
+        } catch (Exception e) {
+            log.warn("[sync] tombstone purge failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.da.itdaing.domain.user.repository;
 import com.da.itdaing.domain.common.enums.UserRole;
 import com.da.itdaing.domain.common.enums.UserStatus;
 import com.da.itdaing.domain.user.entity.Users;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -21,6 +24,12 @@ public interface UserRepository extends JpaRepository<Users, Long> {
 
     Optional<Users> findByLoginId(String loginId);
 
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID (이벤트 일괄 적재용)
+     */
+    @Query("select u.id from Users u where u.id in :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
+
     /**
      * 이메일 존재 여부 확인
      */
@@ -1,11 +1,11 @@
 package com.da.itdaing.domain.user.service;
 
-import com.da.itdaing.domain.common.enums.ApprovalStatus;
 import com.da.itdaing.domain.common.enums.EventAction;
 import com.da.itdaing.domain.metric.entity.EventLog;
 import com.da.itdaing.domain.metric.repository.EventLogRepository;
 import com.da.itdaing.domain.popup.entity.Popup;
-import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.trending.PopupTrendingService;
+import com.da.itdaing.domain.popup.trending.TrendingWindow;
 import com.da.itdaing.domain.reco.entity.DailyConsumerRecommendation;
 import com.da.itdaing.domain.reco.repository.DailyConsumerRecommendationRepository;
 import com.da.itdaing.domain.social.entity.Wishlist;
@@ -49,7 +49,7 @@ public class UserDashboardService {
     private final UserPrefRegionRepository userPrefRegionRepository;
     private final WishlistRepository wishlistRepository;
     private final DailyConsumerRecommendationRepository dailyConsumerRecommendationRepository;
-    private final PopupRepository popupRepository;
+    private final PopupTrendingService popupTrendingService;
     private final ReviewRepository reviewRepository;
     private final EventLogRepository eventLogRepository;
 
@@ -123,11 +123,8 @@ public class UserDashboardService {
         );
 
         if (popupIds.size() < MAX_RECOMMENDATIONS) {
-            List<Popup> fallback = popupRepository.findTop8ByApprovalStatusOrderByViewCountDesc(
-                ApprovalStatus.APPROVED);
-            fallback.stream()
-                .map(Popup::getId)
-                .forEach(popupIds::add);
+            // 개인화 추천이 모자라면 최근 7일 인기 순위로 채운다
+            popupIds.addAll(popupTrendingService.topPopupIds(TrendingWindow.WEEK, MAX_RECOMMENDATIONS));
         }
 
         return popupIds.stream()
@@ -0,0 +1,11 @@
+package com.da.itdaing.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(조회 모델 정합성 복구 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -44,6 +44,7 @@ public enum ErrorCode {
 
     // 503 Service Unavailable (옵션: 캐시/외부시스템 장애)
     CACHE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "E901", "캐시 서버 연결에 실패했습니다"),
+    EVENT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "E902", "이벤트 수집 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요"),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E999", "서버 내부 오류가 발생했습니다");
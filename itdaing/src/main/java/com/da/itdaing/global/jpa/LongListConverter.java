@@ -0,0 +1,36 @@
+package com.da.itdaing.global.jpa;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * List&lt;Long&gt; ↔ "1,2,3" 문자열 변환기 (비정규화 조회 모델용)
+ */
+@Converter
+public class LongListConverter implements AttributeConverter<List<Long>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<Long> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return "";
+        }
+        return attribute.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public List<Long> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(dbData.split(","))
+            .map(String::trim)
+            .filter(token -> !token.isEmpty())
+            .map(Long::valueOf)
+            .toList();
+    }
+}
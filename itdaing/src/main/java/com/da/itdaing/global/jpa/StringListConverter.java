@@ -0,0 +1,39 @@
+package com.da.itdaing.global.jpa;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+/**
+ * List&lt;String&gt; ↔ JSON 배열 문자열 변환기 (값에 구분자가 섞여도 안전하도록 JSON 사용)
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        try {
+            return MAPPER.writeValueAsString(attribute != null ? attribute : List.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("문자열 목록을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(MAPPER.readValue(dbData, TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("문자열 목록을 역직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -112,6 +112,7 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.GET, "/api/dev/**").permitAll()
             .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
             .requestMatchers("/actuator/health").permitAll()
+            .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
             .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
             .anyRequest().authenticated()
         )
@@ -0,0 +1,63 @@
+package com.da.itdaing.global.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * NDJSON(application/x-ndjson) 스트리밍 응답 본문
+ * - producer 가 넘겨주는 항목을 한 줄에 하나씩 바로 출력 스트림에 쓴다. 목록 전체를 메모리에 올리지 않는다.
+ * - 항목마다 출력 스트림을 닫거나 flush 하지 않도록 AUTO_CLOSE_TARGET/FLUSH_AFTER_WRITE_VALUE 를 끄고 FLUSH_INTERVAL 건마다 flush 한다.
+ */
+public final class NdjsonStreamingBody {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private NdjsonStreamingBody() {
+    }
+
+    public static <T> StreamingResponseBody of(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        ObjectWriter writer = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out -> {
+            LineWriter<T> lines = new LineWriter<>(writer, out);
+            try {
+                producer.accept(lines);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+    }
+
+    private static final class LineWriter<T> implements Consumer<T> {
+        private final ObjectWriter writer;
+        private final OutputStream out;
+        private long written;
+
+        LineWriter(ObjectWriter writer, OutputStream out) {
+            this.writer = writer;
+            this.out = out;
+        }
+
+        @Override
+        public void accept(T item) {
+            try {
+                writer.writeValue(out, item);
+                out.write('\n');
+                if (++written % FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.da.itdaing.global.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "resource-version")
+public class ResourceVersionProperties {
+
+    /** 조건부 GET(ETag/Last-Modified) 사용 여부 (false 면 항상 200 으로 본문을 내려준다) */
+    private boolean enabled = true;
+
+    /** 버전을 Redis 에 두어 노드 간에 공유할지 여부 (false 면 노드 메모리에만 둔다) */
+    private boolean redisEnabled = true;
+
+    /** Redis 버전 키 접두사 */
+    private String keyPrefix = "resource-version:";
+}
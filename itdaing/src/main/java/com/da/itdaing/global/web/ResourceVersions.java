@@ -0,0 +1,164 @@
+package com.da.itdaing.global.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 집계(aggregate) 단위 리소스 버전 — 조건부 GET(ETag / Last-Modified) 용
+ * - 버전 값은 마지막 변경 시각(epoch ms, 초 단위 올림)이고 변경마다 최소 1초씩 커진다.
+ *   같은 값을 ETag 와 Last-Modified 로 함께 쓰므로 초 단위인 If-Modified-Since 로도 연속된 두 변경이 구분된다.
+ * - 명령 서비스가 커밋한 변경 이벤트로 bump 하고, GET 핸들러는 checkNotModified 로 JPA 조회 전에 304 를 돌려준다.
+ * - 버전은 Redis 에 두어 모든 노드가 같은 ETag 를 쓴다. Redis 를 읽지 못하면 ETag 없이 200 을 내려준다 (잘못된 304 방지).
+ * - Flyway 등 명령 서비스 밖에서 바뀐 데이터도 반영되도록 기동 시 모든 버전을 한 번 올린다.
+ * - 로그인 사용자별 필드(likedByMe)가 담긴 응답은 사용자별 찜 버전을 ETag 에 함께 넣고 Vary: Authorization 을 붙인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+
+    public static final String POPUPS = "popups";
+    public static final String ZONES = "zones";
+    public static final String MASTER = "master";
+    /** 사용자별 찜 버전 이름 접두사 (wishlist:{userId}) */
+    public static final String WISHLIST_PREFIX = "wishlist:";
+
+    private static final List<String> ALL = List.of(POPUPS, ZONES, MASTER);
+    private static final long STEP_MILLIS = 1_000;
+
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+        local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+        local bumped = math.max(current + tonumber(ARGV[2]), tonumber(ARGV[1]))
+        redis.call('SET', KEYS[1], bumped)
+        return bumped
+        """, Long.class);
+
+    private final ResourceVersionProperties properties;
+    private final StringRedisTemplate redis;
+
+    private final Map<String, AtomicLong> localVersions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bumpAllOnStartup() {
+        ALL.forEach(this::bump);
+    }
+
+    /** 현재 버전. 아직 없으면 지금 시각으로 시작한다. Redis 장애 시 null. */
+    public Long current(String name) {
+        if (!properties.isRedisEnabled()) {
+            return localVersions.computeIfAbsent(name, key -> new AtomicLong(nowCeilSeconds())).get();
+        }
+        try {
+            String value = redis.opsForValue().get(properties.getKeyPrefix() + name);
+            return value != null ? Long.valueOf(value) : bump(name);
+        } catch (RuntimeException e) {
+            log.debug("[resource-version] read failed {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 변경 반영: 버전을 max(현재 + 1초, 지금) 으로 올린다. Redis 장애 시 null. */
+    public Long bump(String name) {
+        long now = nowCeilSeconds();
+        if (!properties.isRedisEnabled()) {
+            return localVersions.computeIfAbsent(name, key -> new AtomicLong())
+                .accumulateAndGet(now, (current, candidate) -> Math.max(current + STEP_MILLIS, candidate));
+        }
+        try {
+            return redis.execute(BUMP_SCRIPT, List.of(properties.getKeyPrefix() + name),
+                String.valueOf(now), String.valueOf(STEP_MILLIS));
+        } catch (RuntimeException e) {
+            log.warn("[resource-version] bump failed {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 가 현재 버전과 같으면 true (응답은 이미 304 로 설정됨 → 핸들러는 null 반환).
+     * false 면 ETag/Last-Modified 를 붙인 채로 핸들러가 본문을 만들면 된다.
+     */
+    public boolean checkNotModified(WebRequest request, String name) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        Long version = current(name);
+        if (version == null) {
+            return false;
+        }
+        noCache(request);
+        return request.checkNotModified(etag(name, version), version);
+    }
+
+    /**
+     * 응답에 사용자별 likedByMe 가 들어가는 GET 용. userId 가 없으면 checkNotModified(request, name) 와 같다.
+     * 로그인 사용자는 (name 버전, 그 사용자의 찜 버전) 을 함께 담은 ETag 로만 비교한다.
+     * Last-Modified 는 다른 사용자(또는 비로그인) 응답과 구분되지 않으므로 붙이지 않는다.
+     */
+    public boolean checkNotModified(WebRequest request, String name, Long userId) {
+        varyOnAuthorization(request);
+        if (userId == null) {
+            return checkNotModified(request, name);
+        }
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        Long version = current(name);
+        Long wishlistVersion = current(wishlistOf(userId));
+        if (version == null || wishlistVersion == null) {
+            return false;
+        }
+        noCache(request);
+        return request.checkNotModified(userEtag(name, version, userId, wishlistVersion));
+    }
+
+    public static String wishlistOf(Long userId) {
+        return WISHLIST_PREFIX + userId;
+    }
+
+    static String userEtag(String name, long version, Long userId, long wishlistVersion) {
+        return "W/\"" + name + "-" + version + "-u" + userId + "-" + wishlistVersion + "\"";
+    }
+
+    static String etag(String name, long version) {
+        return "W/\"" + name + "-" + version + "\"";
+    }
+
+    /** 브라우저가 휴리스틱 캐시로 재검증을 건너뛰지 않도록 매번 재검증을 요구한다 */
+    private static void noCache(WebRequest request) {
+        HttpServletResponse response = responseOf(request);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+    }
+
+    private static void varyOnAuthorization(WebRequest request) {
+        HttpServletResponse response = responseOf(request);
+        if (response != null && !response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.AUTHORIZATION)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+    }
+
+    private static HttpServletResponse responseOf(WebRequest request) {
+        return request instanceof NativeWebRequest nativeRequest
+            ? nativeRequest.getNativeResponse(HttpServletResponse.class)
+            : null;
+    }
+
+    private static long nowCeilSeconds() {
+        return Math.floorDiv(System.currentTimeMillis() + STEP_MILLIS - 1, STEP_MILLIS) * STEP_MILLIS;
+    }
+}
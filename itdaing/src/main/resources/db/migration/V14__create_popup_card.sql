@@ -0,0 +1,119 @@
+-- 팝업 카드 조회 모델 (목록/상세/검색 응답용 비정규화 테이블)
+-- 원본 변경 시 애플리케이션(PopupCardProjector)이 같은 트랜잭션에서 갱신한다.
+
+CREATE TABLE IF NOT EXISTS popup_card (
+    popup_id         BIGINT PRIMARY KEY,
+    seller_id        BIGINT NOT NULL,
+    seller_name      VARCHAR(100),
+    zone_area_id     BIGINT,
+    location_name    VARCHAR(100),
+    zone_cell_id     BIGINT,
+    cell_name        VARCHAR(100),
+    address          VARCHAR(255),
+    latitude         DOUBLE PRECISION,
+    longitude        DOUBLE PRECISION,
+    name             VARCHAR(200) NOT NULL,
+    description      TEXT,
+    approval_status  VARCHAR(20) NOT NULL,
+    start_date       DATE,
+    end_date         DATE,
+    operating_time   VARCHAR(250),
+    view_count       BIGINT NOT NULL DEFAULT 0,
+    favorite_count   BIGINT NOT NULL DEFAULT 0,
+    category_ids     TEXT,
+    feature_ids      TEXT,
+    style_ids        TEXT,
+    style_tags       TEXT,
+    thumbnail_url    VARCHAR(500),
+    thumbnail_key    VARCHAR(255),
+    gallery          TEXT,
+    review_count     INT NOT NULL DEFAULT 0,
+    review_sum       BIGINT NOT NULL DEFAULT 0,
+    rating_1         INT NOT NULL DEFAULT 0,
+    rating_2         INT NOT NULL DEFAULT 0,
+    rating_3         INT NOT NULL DEFAULT 0,
+    rating_4         INT NOT NULL DEFAULT 0,
+    rating_5         INT NOT NULL DEFAULT 0,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    synced_at        TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_popup_card_seller         ON popup_card(seller_id);
+CREATE INDEX IF NOT EXISTS idx_popup_card_area           ON popup_card(zone_area_id);
+CREATE INDEX IF NOT EXISTS idx_popup_card_cell           ON popup_card(zone_cell_id);
+CREATE INDEX IF NOT EXISTS idx_popup_card_status_created ON popup_card(approval_status, created_at);
+CREATE INDEX IF NOT EXISTS idx_popup_card_period         ON popup_card(start_date, end_date);
+
+-- 기존 데이터 백필
+INSERT INTO popup_card (
+    popup_id, seller_id, seller_name, zone_area_id, location_name, zone_cell_id, cell_name, address,
+    latitude, longitude, name, description, approval_status, start_date, end_date, operating_time,
+    view_count, favorite_count, category_ids, feature_ids, style_ids, style_tags,
+    thumbnail_url, thumbnail_key, gallery,
+    review_count, review_sum, rating_1, rating_2, rating_3, rating_4, rating_5,
+    created_at, updated_at, synced_at
+)
+SELECT
+    p.id,
+    p.seller_id,
+    COALESCE(NULLIF(TRIM(u.nickname), ''), NULLIF(TRIM(u.name), ''), u.login_id),
+    za.id,
+    za.name,
+    zc.id,
+    zc.label,
+    zc.detailed_address,
+    zc.lat,
+    zc.lng,
+    p.name,
+    p.description,
+    p.approval_status,
+    p.start_date,
+    p.end_date,
+    p.operating_time,
+    p.view_count,
+    p.favorite_count,
+    (SELECT string_agg(DISTINCT pc.category_id::text, ',') FROM popup_category pc WHERE pc.popup_id = p.id),
+    (SELECT string_agg(DISTINCT pf.feature_id::text, ',') FROM popup_feature pf WHERE pf.popup_id = p.id),
+    (SELECT string_agg(DISTINCT ps.style_id::text, ',') FROM popup_style ps WHERE ps.popup_id = p.id),
+    (SELECT COALESCE(json_agg(DISTINCT s.name), '[]'::json)::text
+       FROM popup_style ps JOIN style s ON s.id = ps.style_id
+      WHERE ps.popup_id = p.id),
+    (SELECT pi.image_url FROM popup_image pi WHERE pi.popup_id = p.id
+      ORDER BY pi.is_thumbnail DESC, pi.id LIMIT 1),
+    (SELECT pi.image_key FROM popup_image pi WHERE pi.popup_id = p.id
+      ORDER BY pi.is_thumbnail DESC, pi.id LIMIT 1),
+    (SELECT COALESCE(json_agg(json_build_object('url', pi.image_url, 'key', pi.image_key) ORDER BY pi.id), '[]'::json)::text
+       FROM popup_image pi
+      WHERE pi.popup_id = p.id AND pi.is_thumbnail = false),
+    COALESCE(rv.review_count, 0),
+    COALESCE(rv.review_sum, 0),
+    COALESCE(rv.rating_1, 0),
+    COALESCE(rv.rating_2, 0),
+    COALESCE(rv.rating_3, 0),
+    COALESCE(rv.rating_4, 0),
+    COALESCE(rv.rating_5, 0),
+    p.created_at,
+    p.updated_at,
+    CURRENT_TIMESTAMP(6)
+FROM popup p
+JOIN users u      ON u.id = p.seller_id
+JOIN zone_cell zc ON zc.id = p.zone_cell_id
+JOIN zone_area za ON za.id = zc.zone_area_id
+LEFT JOIN (
+    SELECT popup_id,
+           COUNT(*)                              AS review_count,
+           SUM(rating)                           AS review_sum,
+           COUNT(*) FILTER (WHERE rating = 1)    AS rating_1,
+           COUNT(*) FILTER (WHERE rating = 2)    AS rating_2,
+           COUNT(*) FILTER (WHERE rating = 3)    AS rating_3,
+           COUNT(*) FILTER (WHERE rating = 4)    AS rating_4,
+           COUNT(*) FILTER (WHERE rating = 5)    AS rating_5
+    FROM review
+    GROUP BY popup_id
+) rv ON rv.popup_id = p.id
+ON CONFLICT (popup_id) DO NOTHING;
+
+COMMENT ON TABLE popup_card IS '팝업 카드 조회 모델 (목록/상세/검색 단일 테이블 조회용)';
+COMMENT ON COLUMN popup_card.review_sum IS '리뷰 평점 합계 (평균 = review_sum / review_count)';
+COMMENT ON COLUMN popup_card.synced_at IS '카드 마지막 갱신 시각';
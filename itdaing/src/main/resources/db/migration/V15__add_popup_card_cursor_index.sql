@@ -0,0 +1,4 @@
+-- 팝업 검색 커서(키셋) 페이지네이션용 인덱스
+-- ORDER BY created_at DESC, popup_id DESC + (created_at, popup_id) < (?, ?) 탐색을 인덱스 범위 스캔으로 처리한다.
+
+CREATE INDEX IF NOT EXISTS idx_popup_card_created_id ON popup_card(created_at DESC, popup_id DESC);
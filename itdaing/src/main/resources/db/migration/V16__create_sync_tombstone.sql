@@ -0,0 +1,18 @@
+-- 변경 피드(/api/popups/changes, /api/zones/changes) 지원
+-- 1) 삭제 기록(tombstone): 워터마크 이후 삭제된 ID 를 돌려주기 위해 행 삭제 시 같은 트랜잭션에서 남긴다.
+-- 2) popup_card (synced_at, popup_id) 키셋 인덱스: synced_at > ? 범위를 인덱스 순서대로 페이지 단위로 읽는다.
+
+CREATE TABLE IF NOT EXISTS sync_tombstone (
+    id            BIGSERIAL PRIMARY KEY,
+    resource_type VARCHAR(20) NOT NULL,
+    resource_id   BIGINT NOT NULL,
+    parent_id     BIGINT,
+    deleted_at    TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    CONSTRAINT chk_sync_tombstone_type CHECK (resource_type IN ('POPUP', 'ZONE_AREA', 'ZONE_CELL'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstone_type_deleted ON sync_tombstone(resource_type, deleted_at);
+
+CREATE INDEX IF NOT EXISTS idx_popup_card_synced_id ON popup_card(synced_at, popup_id);
+
+COMMENT ON TABLE sync_tombstone IS '변경 피드용 삭제 기록 (보존 기간 30일)';
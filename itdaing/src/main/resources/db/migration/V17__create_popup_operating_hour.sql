@@ -0,0 +1,29 @@
+-- 운영 시간 구조화
+-- 1) popup_operating_hour: popup.operating_time 을 등록/수정 시점에 한 번 파싱한 결과 (구간 × 요일 한 행, 분 단위 [open, close))
+--    운영 중 필터(openAt/openNow)의 SQL 경로가 (day_of_week, open_minute, close_minute) 인덱스로 조회한다.
+-- 2) popup_card.operating_hours: 응답용 표시 목록(JSON), open_windows: 요일별 운영 구간 압축 문자열 (필터 색인용)
+--    기존 카드는 NULL 로 남고, PopupCardMaintenanceJob 이 PopupCommandService.backfillOperatingHours() 로 원본 문자열을 파싱해 채운다.
+
+CREATE TABLE IF NOT EXISTS popup_operating_hour (
+    id             BIGSERIAL PRIMARY KEY,
+    popup_id       BIGINT NOT NULL,
+    segment_order  INT NOT NULL,
+    day_label      VARCHAR(50) NOT NULL,
+    time_label     VARCHAR(100) NOT NULL,
+    day_of_week    INT,
+    open_minute    INT,
+    close_minute   INT,
+    CONSTRAINT fk_popup_operating_hour_popup FOREIGN KEY (popup_id) REFERENCES popup(id) ON DELETE CASCADE,
+    CONSTRAINT chk_popup_operating_hour_day CHECK (day_of_week IS NULL OR day_of_week BETWEEN 1 AND 7),
+    CONSTRAINT chk_popup_operating_hour_range CHECK (
+        day_of_week IS NULL OR (open_minute >= 0 AND close_minute <= 1440 AND open_minute < close_minute)
+    )
+);
+
+CREATE INDEX IF NOT EXISTS idx_popup_operating_hour_popup ON popup_operating_hour(popup_id);
+CREATE INDEX IF NOT EXISTS idx_popup_operating_hour_open  ON popup_operating_hour(day_of_week, open_minute, close_minute);
+
+ALTER TABLE popup_card ADD COLUMN IF NOT EXISTS operating_hours TEXT;
+ALTER TABLE popup_card ADD COLUMN IF NOT EXISTS open_windows    TEXT;
+
+COMMENT ON TABLE popup_operating_hour IS '팝업 운영 시간 (요일별 분 단위 구간, 1 = 월 … 7 = 일)';
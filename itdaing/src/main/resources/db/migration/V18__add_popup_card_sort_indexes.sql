@@ -0,0 +1,26 @@
+-- 팝업 검색 정렬(sort=views|favorites|rating|ending_soon)용 비정규화 컬럼과 인덱스
+-- 각 정렬은 WHERE approval_status = ? ORDER BY <정렬 컬럼>, popup_id LIMIT ? 형태이므로
+-- (approval_status, 정렬 컬럼, popup_id) 인덱스를 순서대로 읽어 정렬 없이 상위 N 건을 고른다.
+
+ALTER TABLE popup_card ADD COLUMN IF NOT EXISTS rating_avg DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+UPDATE popup_card
+SET rating_avg = review_sum::double precision / review_count
+WHERE review_count > 0;
+
+CREATE INDEX IF NOT EXISTS idx_popup_card_status_views
+    ON popup_card(approval_status, view_count DESC, popup_id DESC);
+CREATE INDEX IF NOT EXISTS idx_popup_card_status_favorites
+    ON popup_card(approval_status, favorite_count DESC, popup_id DESC);
+CREATE INDEX IF NOT EXISTS idx_popup_card_status_rating
+    ON popup_card(approval_status, rating_avg DESC, review_count DESC, popup_id DESC);
+-- 종료 임박순은 end_date >= 오늘 범위를 오름차순으로 읽는다 (기간 미정 팝업은 제외)
+CREATE INDEX IF NOT EXISTS idx_popup_card_status_ending
+    ON popup_card(approval_status, end_date, popup_id)
+    WHERE end_date IS NOT NULL;
+-- 최신순도 같은 형태로 맞춘다 (V14 의 (approval_status, created_at) 는 popup_id 동률 정렬을 못 해 대체)
+CREATE INDEX IF NOT EXISTS idx_popup_card_status_created_id
+    ON popup_card(approval_status, created_at DESC, popup_id DESC);
+DROP INDEX IF EXISTS idx_popup_card_status_created;
+
+COMMENT ON COLUMN popup_card.rating_avg IS '평균 평점 (review_sum / review_count, 리뷰가 없으면 0, 평점순 정렬용)';
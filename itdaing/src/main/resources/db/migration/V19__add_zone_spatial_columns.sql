@@ -0,0 +1,45 @@
+-- 구역 폴리곤 / 셀 마커 좌표의 공간 컬럼과 GiST 인덱스 (PostGIS)
+-- geometry_data(GeoJSON 텍스트)와 lat/lng 는 그대로 두고 API 원본으로 쓴다. geom 은 저장 시 애플리케이션이 함께 채운다.
+-- 좌표 → 구역은 ST_Covers(geom, 점), 화면 영역은 geom && 사각형, 반경은 ST_DWithin(geom::geography, 점, 미터)로 인덱스를 탄다.
+
+CREATE EXTENSION IF NOT EXISTS postgis;
+
+ALTER TABLE zone_area ADD COLUMN IF NOT EXISTS geom geometry(MultiPolygon, 4326);
+ALTER TABLE zone_cell ADD COLUMN IF NOT EXISTS geom geometry(Point, 4326);
+
+-- 셀: lat/lng 는 NOT NULL 이므로 그대로 옮긴다
+UPDATE zone_cell
+SET geom = ST_SetSRID(ST_MakePoint(lng, lat), 4326)
+WHERE geom IS NULL;
+
+-- 구역: Polygon / MultiPolygon / Feature / FeatureCollection(첫 도형) GeoJSON 을 MultiPolygon 으로 맞춘다.
+-- 읽을 수 없는 행은 비워 두고 넘어간다 (다음 수정 때 애플리케이션이 채운다)
+DO $$
+DECLARE
+    area RECORD;
+    doc jsonb;
+BEGIN
+    FOR area IN SELECT id, geometry_data FROM zone_area WHERE geom IS NULL AND geometry_data IS NOT NULL LOOP
+        BEGIN
+            doc := area.geometry_data::jsonb;
+            IF doc ->> 'type' = 'Feature' THEN
+                doc := doc -> 'geometry';
+            ELSIF doc ->> 'type' = 'FeatureCollection' THEN
+                doc := doc -> 'features' -> 0 -> 'geometry';
+            END IF;
+            UPDATE zone_area
+            SET geom = ST_Multi(ST_CollectionExtract(ST_MakeValid(ST_SetSRID(ST_GeomFromGeoJSON(doc::text), 4326)), 3))
+            WHERE id = area.id;
+        EXCEPTION WHEN OTHERS THEN
+            RAISE NOTICE 'zone_area % geometry_data 변환 실패: %', area.id, SQLERRM;
+        END;
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_zone_area_geom ON zone_area USING GIST (geom);
+CREATE INDEX IF NOT EXISTS idx_zone_cell_geom ON zone_cell USING GIST (geom);
+-- 미터 단위 반경 조회(ST_DWithin geography)용 식 인덱스
+CREATE INDEX IF NOT EXISTS idx_zone_cell_geog ON zone_cell USING GIST ((geom::geography));
+
+COMMENT ON COLUMN zone_area.geom IS '구역 폴리곤 (geometry_data 에서 변환, WGS84)';
+COMMENT ON COLUMN zone_cell.geom IS '셀 마커 좌표 (lng, lat 에서 변환, WGS84)';
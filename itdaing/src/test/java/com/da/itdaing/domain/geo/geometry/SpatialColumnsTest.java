@@ -0,0 +1,42 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpatialColumnsTest {
+
+    private static final String SQUARE =
+        "{\"type\":\"Polygon\",\"coordinates\":[[[126.90,35.13],[126.92,35.13],[126.92,35.15],[126.90,35.15],[126.90,35.13]]]}";
+
+    @Test
+    @DisplayName("마커 좌표는 SRID 4326 Point(lng, lat) 로 만든다")
+    void point_usesLngLatWithSrid() {
+        Point point = SpatialColumns.point(126.85, 35.15);
+
+        assertThat(point.getX()).isEqualTo(126.85);
+        assertThat(point.getY()).isEqualTo(35.15);
+        assertThat(point.getSRID()).isEqualTo(SpatialColumns.SRID);
+        assertThat(SpatialColumns.point(null, 35.15)).isNull();
+    }
+
+    @Test
+    @DisplayName("Polygon / Feature GeoJSON 은 한 개짜리 MultiPolygon 으로, 읽을 수 없으면 null")
+    void multiPolygon_wrapsPolygonAndSkipsInvalid() {
+        MultiPolygon fromPolygon = SpatialColumns.multiPolygon(SQUARE);
+        MultiPolygon fromFeature = SpatialColumns.multiPolygon(
+            "{\"type\":\"Feature\",\"properties\":{},\"geometry\":" + SQUARE + "}");
+
+        assertThat(fromPolygon.getNumGeometries()).isEqualTo(1);
+        assertThat(fromPolygon.getSRID()).isEqualTo(SpatialColumns.SRID);
+        assertThat(fromPolygon.covers(SpatialColumns.point(126.91, 35.14))).isTrue();
+        assertThat(fromFeature.equalsExact(fromPolygon)).isTrue();
+
+        assertThat(SpatialColumns.multiPolygon(null)).isNull();
+        assertThat(SpatialColumns.multiPolygon("{\"type\":\"Point\",\"coordinates\":[126.9,35.1]}")).isNull();
+        assertThat(SpatialColumns.multiPolygon("not json")).isNull();
+    }
+}
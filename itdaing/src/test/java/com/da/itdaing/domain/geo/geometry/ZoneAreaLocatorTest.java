@@ -0,0 +1,105 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.common.enums.AreaStatus;
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ZoneAreaLocatorTest {
+
+    @Mock
+    private ZoneAreaRepository zoneAreaRepository;
+
+    private ZoneAreaLocator locator;
+
+    @BeforeEach
+    void setUp() {
+        locator = new ZoneAreaLocator(zoneAreaRepository, new ZoneGeometryRegistry());
+    }
+
+    @Test
+    @DisplayName("좌표를 덮는 구역을 찾고, 겹치면 가장 작은 구역을 고른다")
+    void locate_picksSmallestCoveringArea() {
+        when(zoneAreaRepository.findAll()).thenReturn(List.of(
+            area(1L, square(127.0, 37.0, 0.2), AreaStatus.AVAILABLE),
+            area(2L, square(127.05, 37.05, 0.05), AreaStatus.AVAILABLE),
+            area(3L, square(128.0, 36.0, 0.1), AreaStatus.AVAILABLE),
+            area(4L, null, AreaStatus.AVAILABLE),
+            area(5L, "{broken", AreaStatus.AVAILABLE)
+        ));
+
+        assertThat(locator.rebuild()).isEqualTo(3);
+
+        assertThat(locator.locate(127.07, 37.07)).map(ZoneAreaLocator.LocatedArea::areaId).contains(2L);
+        assertThat(locator.locate(127.15, 37.15)).map(ZoneAreaLocator.LocatedArea::areaId).contains(1L);
+        assertThat(locator.locate(128.0, 36.05)).as("경계선 포함").map(ZoneAreaLocator.LocatedArea::areaId).contains(3L);
+        assertThat(locator.locate(126.0, 35.0)).isEmpty();
+        assertThat(locator.candidatesAt(127.07, 37.07))
+            .extracting(ZoneAreaLocator.LocatedArea::areaId)
+            .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("숨김 구역은 건너뛰고 바깥 구역을 돌려준다")
+    void locate_skipsHiddenAreas() {
+        when(zoneAreaRepository.findAll()).thenReturn(List.of(
+            area(1L, square(127.0, 37.0, 0.2), AreaStatus.UNAVAILABLE),
+            area(2L, square(127.05, 37.05, 0.05), AreaStatus.HIDDEN)
+        ));
+        locator.rebuild();
+
+        assertThat(locator.locate(127.07, 37.07)).map(ZoneAreaLocator.LocatedArea::areaId).contains(1L);
+    }
+
+    @Test
+    @DisplayName("구역 변경 이벤트로 그 구역만 다시 읽어 반영하고, 삭제된 구역은 뺀다")
+    void onZoneAreaChanged_updatesSingleArea() {
+        when(zoneAreaRepository.findAll()).thenReturn(List.of(
+            area(1L, square(127.0, 37.0, 0.1), AreaStatus.AVAILABLE),
+            area(2L, square(128.0, 36.0, 0.1), AreaStatus.AVAILABLE)
+        ));
+        locator.rebuild();
+
+        // 1번 구역을 옮긴다
+        ZoneArea moved = area(1L, square(126.0, 35.0, 0.1), AreaStatus.AVAILABLE);
+        ReflectionTestUtils.setField(moved, "updatedAt", LocalDateTime.now().plusMinutes(1));
+        when(zoneAreaRepository.findById(1L)).thenReturn(Optional.of(moved));
+        locator.onZoneAreaChanged(new ZoneAreaChangedEvent(1L));
+
+        assertThat(locator.locate(127.05, 37.05)).isEmpty();
+        assertThat(locator.locate(126.05, 35.05)).map(ZoneAreaLocator.LocatedArea::areaId).contains(1L);
+
+        when(zoneAreaRepository.findById(2L)).thenReturn(Optional.empty());
+        locator.onZoneAreaChanged(new ZoneAreaChangedEvent(2L));
+
+        assertThat(locator.locate(128.05, 36.05)).isEmpty();
+        assertThat(locator.size()).isEqualTo(1);
+    }
+
+    private static ZoneArea area(Long id, String polygonGeoJson, AreaStatus status) {
+        ZoneArea area = ZoneGeometryRegistryTest.area(id, polygonGeoJson, LocalDateTime.of(2025, 1, 1, 0, 0));
+        ReflectionTestUtils.setField(area, "status", status);
+        return area;
+    }
+
+    private static String square(double lng, double lat, double size) {
+        return """
+            {"type":"Polygon","coordinates":[[[%s,%s],[%s,%s],[%s,%s],[%s,%s],[%s,%s]]]}
+            """.formatted(lng, lat, lng + size, lat, lng + size, lat + size, lng, lat + size, lng, lat);
+    }
+}
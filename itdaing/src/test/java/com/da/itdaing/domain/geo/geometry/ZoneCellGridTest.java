@@ -0,0 +1,174 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.geo.event.ZoneCellChangedEvent;
+import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.geo.repository.ZoneSpatialJdbcRepository;
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ZoneCellGridTest {
+
+    @Mock
+    private ZoneCellRepository zoneCellRepository;
+
+    @Mock
+    private ZoneSpatialJdbcRepository zoneSpatialJdbcRepository;
+
+    private ZoneCellGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new ZoneCellGrid(zoneCellRepository, zoneSpatialJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("화면 영역 안의 셀만 돌려준다 (경계 포함, 좁은 영역과 넓은 영역 모두 전수 비교와 같다)")
+    void within_matchesBruteForce() {
+        Random random = new Random(7);
+        List<ZoneCellPoint> all = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            all.add(new ZoneCellPoint(id, id % 5 + 1, 35.0 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.5));
+        }
+        when(zoneCellRepository.findAllPoints()).thenReturn(all);
+        assertThat(grid.rebuild()).isEqualTo(2_000);
+
+        for (BoundingBox bbox : List.of(
+            BoundingBox.parse("126.80,35.10,126.83,35.12"),
+            BoundingBox.parse("126.0,34.0,128.0,36.0"),
+            BoundingBox.parse("127.5,36.5,127.6,36.6"))) {
+            List<Long> expected = all.stream()
+                .filter(point -> bbox.contains(point.lng(), point.lat()))
+                .map(ZoneCellPoint::cellId)
+                .toList();
+            assertThat(grid.within(bbox)).extracting(ZoneCellPoint::cellId)
+                .containsExactlyInAnyOrderElementsOf(expected);
+        }
+
+        ZoneCellPoint first = all.get(0);
+        BoundingBox edge = new BoundingBox(first.lng(), first.lat(), first.lng() + 0.001, first.lat() + 0.001);
+        assertThat(grid.within(edge)).extracting(ZoneCellPoint::cellId).contains(first.cellId());
+    }
+
+    @Test
+    @DisplayName("반경 조회는 haversine 거리 이내의 셀만 가까운 순으로 돌려준다 (전수 비교와 같다)")
+    void near_matchesBruteForceHaversine() {
+        Random random = new Random(11);
+        List<ZoneCellPoint> all = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            all.add(new ZoneCellPoint(id, 1L, 35.10 + random.nextDouble() * 0.1, 126.80 + random.nextDouble() * 0.1));
+        }
+        when(zoneCellRepository.findAllPoints()).thenReturn(all);
+        grid.rebuild();
+
+        for (double radius : new double[] {150, 1_000, 5_000}) {
+            List<Long> expected = all.stream()
+                .filter(point -> GeoDistance.haversineMeters(35.15, 126.85, point.lat(), point.lng()) <= radius)
+                .sorted(Comparator.comparingDouble(
+                    (ZoneCellPoint point) -> GeoDistance.haversineMeters(35.15, 126.85, point.lat(), point.lng()))
+                    .thenComparing(ZoneCellPoint::cellId))
+                .map(ZoneCellPoint::cellId)
+                .toList();
+            List<ZoneCellGrid.Nearby> nearby = grid.near(126.85, 35.15, radius);
+
+            assertThat(nearby).extracting(result -> result.point().cellId()).containsExactlyElementsOf(expected);
+            assertThat(nearby).extracting(ZoneCellGrid.Nearby::distanceMeters).allMatch(distance -> distance <= radius);
+        }
+        // 위도 1° 는 약 111.2km
+        assertThat(GeoDistance.haversineMeters(35.0, 126.85, 36.0, 126.85)).isBetween(111_100.0, 111_300.0);
+    }
+
+    @Test
+    @DisplayName("셀 변경 이벤트로 그 셀만 옮기거나 뺀다")
+    void onZoneCellChanged_movesSingleCell() {
+        when(zoneCellRepository.findAllPoints()).thenReturn(List.of(
+            new ZoneCellPoint(1L, 1L, 35.15, 126.85),
+            new ZoneCellPoint(2L, 1L, 35.16, 126.86)
+        ));
+        grid.rebuild();
+        BoundingBox oldPlace = BoundingBox.parse("126.84,35.14,126.855,35.155");
+        BoundingBox newPlace = BoundingBox.parse("127.0,37.0,127.1,37.1");
+
+        when(zoneCellRepository.findPointById(1L)).thenReturn(Optional.of(new ZoneCellPoint(1L, 2L, 37.05, 127.05)));
+        grid.onZoneCellChanged(new ZoneCellChangedEvent(1L, 2L));
+
+        assertThat(grid.within(oldPlace)).isEmpty();
+        assertThat(grid.within(newPlace)).extracting(ZoneCellPoint::areaId).containsExactly(2L);
+
+        when(zoneCellRepository.findPointById(2L)).thenReturn(Optional.empty());
+        grid.onZoneCellChanged(new ZoneCellChangedEvent(2L, 1L));
+        assertThat(grid.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 SQL 범위 조건으로 읽는다")
+    void within_beforeReady_fallsBackToQuery() {
+        BoundingBox bbox = BoundingBox.parse("126.8,35.1,126.9,35.2");
+        when(zoneCellRepository.findPointsWithin(126.8, 35.1, 126.9, 35.2))
+            .thenReturn(List.of(new ZoneCellPoint(1L, 1L, 35.15, 126.85)));
+
+        assertThat(grid.isReady()).isFalse();
+        assertThat(grid.within(bbox)).hasSize(1);
+        verify(zoneCellRepository).findPointsWithin(126.8, 35.1, 126.9, 35.2);
+    }
+
+    @Test
+    @DisplayName("적재 전이라도 PostGIS 를 쓰면 공간 인덱스 쿼리로 읽는다")
+    void within_beforeReady_usesPostgisWhenAvailable() {
+        BoundingBox bbox = BoundingBox.parse("126.8,35.1,126.9,35.2");
+        when(zoneSpatialJdbcRepository.isEnabled()).thenReturn(true);
+        when(zoneSpatialJdbcRepository.findCellsIntersecting(bbox))
+            .thenReturn(List.of(new ZoneCellPoint(1L, 1L, 35.15, 126.85)));
+
+        assertThat(grid.within(bbox)).extracting(ZoneCellPoint::cellId).containsExactly(1L);
+        verify(zoneCellRepository, never()).findPointsWithin(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("PostGIS 를 쓰면 적재 후에도 반경 조회는 ST_DWithin 쿼리 결과를 거리순으로 돌려준다")
+    void near_usesPostgisEvenWhenReady() {
+        when(zoneCellRepository.findAllPoints()).thenReturn(List.of(new ZoneCellPoint(9L, 1L, 35.15, 126.85)));
+        grid.rebuild();
+        when(zoneSpatialJdbcRepository.isEnabled()).thenReturn(true);
+        when(zoneSpatialJdbcRepository.findCellsWithinMeters(126.85, 35.15, 500, ZoneCellGrid.MAX_NEAR_CELLS))
+            .thenReturn(List.of(new ZoneCellPoint(2L, 1L, 35.152, 126.85), new ZoneCellPoint(1L, 1L, 35.1501, 126.85)));
+
+        assertThat(grid.near(126.85, 35.15, 500)).extracting(nearby -> nearby.point().cellId())
+            .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("bbox 형식: 네 개의 숫자, min ≤ max, 경위도 범위 안이어야 한다")
+    void parse_validatesBoundingBox() {
+        assertThat(BoundingBox.parse(null)).isNull();
+        assertThat(BoundingBox.parse(" ")).isNull();
+        assertThat(BoundingBox.parse(" 126.8, 35.1,126.9,35.2"))
+            .isEqualTo(new BoundingBox(126.8, 35.1, 126.9, 35.2));
+
+        for (String invalid : List.of("126.8,35.1,126.9", "a,b,c,d", "126.9,35.1,126.8,35.2", "126.8,-91,126.9,35.2")) {
+            assertThatThrownBy(() -> BoundingBox.parse(invalid))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
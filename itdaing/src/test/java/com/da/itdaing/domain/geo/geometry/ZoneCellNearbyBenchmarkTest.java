@@ -0,0 +1,97 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.geo.repository.ZoneSpatialJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주변 셀 반경 조회 벤치마크 (./gradlew benchmark)
+ * - 광주 일대 0.3° 사각형에 합성 셀 10만 개. 반경 1km 조회를 격자 색인 vs 전체 셀 haversine 전수 계산 + 정렬로 비교한다.
+ * - 예열 후 같은 기준점 묶음으로 건당 평균 시간을 로그로 남기고, 두 방식의 결과(순서 포함)가 같은지만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class ZoneCellNearbyBenchmarkTest {
+
+    private static final int CELLS = 100_000;
+    private static final int QUERIES = 200;
+    private static final double RADIUS_METERS = 1_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    @Test
+    @DisplayName("셀 10만 개: 격자 색인 반경 조회 vs 전수 haversine 의 건당 시간")
+    void near_vsBruteForce() {
+        Random random = new Random(42);
+        List<ZoneCellPoint> cells = new ArrayList<>(CELLS);
+        for (long id = 1; id <= CELLS; id++) {
+            cells.add(new ZoneCellPoint(id, id % 20 + 1,
+                35.00 + random.nextDouble() * 0.3, 126.70 + random.nextDouble() * 0.3));
+        }
+        ZoneCellRepository repository = mock(ZoneCellRepository.class);
+        when(repository.findAllPoints()).thenReturn(cells);
+        ZoneCellGrid grid = new ZoneCellGrid(repository, mock(ZoneSpatialJdbcRepository.class));
+        grid.rebuild();
+
+        double[][] centers = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            centers[i] = new double[] {126.75 + random.nextDouble() * 0.2, 35.05 + random.nextDouble() * 0.2};
+        }
+
+        List<List<Long>> indexed = new ArrayList<>();
+        List<List<Long>> scanned = new ArrayList<>();
+        long indexedNanos = 0;
+        long scannedNanos = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            indexed.clear();
+            long started = System.nanoTime();
+            for (double[] center : centers) {
+                indexed.add(grid.near(center[0], center[1], RADIUS_METERS).stream()
+                    .map(nearby -> nearby.point().cellId())
+                    .toList());
+            }
+            indexedNanos = System.nanoTime() - started;
+
+            scanned.clear();
+            started = System.nanoTime();
+            for (double[] center : centers) {
+                scanned.add(bruteForce(cells, center[0], center[1]));
+            }
+            scannedNanos = System.nanoTime() - started;
+        }
+
+        log.info("[benchmark] nearby cells ({} cells, {}m): grid {} µs/op, full scan {} µs/op ({}x), avg hits {}",
+            CELLS, (int) RADIUS_METERS,
+            String.format("%.1f", indexedNanos / 1_000.0 / QUERIES),
+            String.format("%.1f", scannedNanos / 1_000.0 / QUERIES),
+            String.format("%.0f", (double) scannedNanos / Math.max(1, indexedNanos)),
+            indexed.stream().mapToInt(List::size).sum() / QUERIES);
+        assertThat(indexed).isEqualTo(scanned);
+        assertThat(indexed).anyMatch(hits -> !hits.isEmpty());
+    }
+
+    private static List<Long> bruteForce(List<ZoneCellPoint> cells, double lng, double lat) {
+        record Hit(long cellId, double distance) {
+        }
+        List<Hit> hits = new ArrayList<>();
+        for (ZoneCellPoint cell : cells) {
+            double distance = GeoDistance.haversineMeters(lat, lng, cell.lat(), cell.lng());
+            if (distance <= RADIUS_METERS) {
+                hits.add(new Hit(cell.cellId(), distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distance).thenComparingLong(Hit::cellId));
+        return hits.stream().map(Hit::cellId).toList();
+    }
+}
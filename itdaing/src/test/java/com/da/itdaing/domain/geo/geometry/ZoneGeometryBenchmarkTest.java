@@ -0,0 +1,92 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포함검사 비용 벤치마크 (./gradlew benchmark)
+ * - 매번 GeoJSON 파싱 + prepare 후 covers (기존 셀 등록 방식) vs 레지스트리에 담긴 폴리곤으로 covers.
+ * - 폴리곤은 꼭짓점 500개짜리 원에 가까운 다각형. 예열 후 같은 좌표 묶음으로 건당 평균 시간을 비교한다.
+ * - 수치는 환경마다 다르므로 로그로만 남기고, 두 방식의 판정이 같은지만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class ZoneGeometryBenchmarkTest {
+
+    private static final int VERTICES = 500;
+    private static final int POINTS = 2_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    @Test
+    @DisplayName("파싱+prepare 매번 vs 캐시된 covers 의 건당 시간")
+    void parseAndPrepare_vsCachedCovers() {
+        String geojson = circleGeoJson(127.0, 37.5, 0.05, VERTICES);
+        ZoneArea area = ZoneGeometryRegistryTest.area(1L, geojson, LocalDateTime.now());
+        ZoneGeometryRegistry registry = new ZoneGeometryRegistry();
+        double[][] points = randomPoints(127.0, 37.5, 0.06, POINTS);
+
+        int uncachedInside = 0;
+        int cachedInside = 0;
+        long uncachedNanos = 0;
+        long cachedNanos = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            uncachedInside = 0;
+            long started = System.nanoTime();
+            for (double[] p : points) {
+                if (ZoneGeometry.of(1L, area.getUpdatedAt(), geojson).covers(p[0], p[1])) {
+                    uncachedInside++;
+                }
+            }
+            uncachedNanos = System.nanoTime() - started;
+
+            cachedInside = 0;
+            started = System.nanoTime();
+            for (double[] p : points) {
+                if (registry.covers(area, p[0], p[1])) {
+                    cachedInside++;
+                }
+            }
+            cachedNanos = System.nanoTime() - started;
+        }
+
+        log.info("[benchmark] zone covers ({} vertices): parse+prepare {} µs/op, cached {} µs/op ({}x)",
+            VERTICES,
+            String.format("%.2f", uncachedNanos / 1_000.0 / POINTS),
+            String.format("%.3f", cachedNanos / 1_000.0 / POINTS),
+            String.format("%.0f", (double) uncachedNanos / Math.max(1, cachedNanos)));
+        assertThat(cachedInside).isEqualTo(uncachedInside).isPositive();
+    }
+
+    private static String circleGeoJson(double lng, double lat, double radius, int vertices) {
+        StringBuilder sb = new StringBuilder("{\"type\":\"Polygon\",\"coordinates\":[[");
+        for (int i = 0; i <= vertices; i++) {
+            double angle = 2 * Math.PI * (i % vertices) / vertices;
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('[').append(lng + radius * Math.cos(angle))
+                .append(',').append(lat + radius * Math.sin(angle)).append(']');
+        }
+        return sb.append("]]}").toString();
+    }
+
+    private static double[][] randomPoints(double lng, double lat, double spread, int count) {
+        Random random = new Random(42);
+        double[][] points = new double[count][];
+        for (int i = 0; i < count; i++) {
+            points[i] = new double[]{
+                lng + (random.nextDouble() * 2 - 1) * spread,
+                lat + (random.nextDouble() * 2 - 1) * spread
+            };
+        }
+        return points;
+    }
+}
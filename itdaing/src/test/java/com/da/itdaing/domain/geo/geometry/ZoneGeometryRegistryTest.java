@@ -0,0 +1,95 @@
+package com.da.itdaing.domain.geo.geometry;
+
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZoneGeometryRegistryTest {
+
+    // 127.0~127.1, 37.0~37.1 정사각형
+    private static final String SQUARE = """
+        {"type":"Polygon","coordinates":[[[127.0,37.0],[127.1,37.0],[127.1,37.1],[127.0,37.1],[127.0,37.0]]]}
+        """;
+    // 같은 범위의 L 자 (127.05~127.1, 37.05~37.1 이 비어 있음), 닫히지 않은 링
+    private static final String L_SHAPE = """
+        {"type":"Feature","geometry":{"type":"Polygon","coordinates":[[[127.0,37.0],[127.1,37.0],[127.1,37.05],[127.05,37.05],[127.05,37.1],[127.0,37.1]]]}}
+        """;
+
+    private final ZoneGeometryRegistry registry = new ZoneGeometryRegistry();
+
+    @Test
+    @DisplayName("같은 버전의 구역은 파싱한 폴리곤을 재사용한다")
+    void geometryOf_reusesCachedGeometry() {
+        ZoneArea area = area(1L, SQUARE, LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        ZoneGeometry first = registry.geometryOf(area);
+
+        assertThat(registry.geometryOf(area)).isSameAs(first);
+        assertThat(registry.covers(area, 127.05, 37.05)).isTrue();
+        assertThat(registry.covers(area, 127.1, 37.05)).as("경계선 포함").isTrue();
+        assertThat(registry.covers(area, 127.2, 37.05)).isFalse();
+    }
+
+    @Test
+    @DisplayName("updatedAt 이나 원문이 바뀌면 다시 만든다")
+    void geometryOf_rebuildsWhenAreaChanged() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        ZoneGeometry first = registry.geometryOf(area(1L, SQUARE, updatedAt));
+
+        // flush 전이라 updatedAt 이 그대로여도 원문이 다르면 새로 만든다
+        ZoneArea edited = area(1L, L_SHAPE, updatedAt);
+        ZoneGeometry second = registry.geometryOf(edited);
+        assertThat(second).isNotSameAs(first);
+        assertThat(registry.covers(edited, 127.08, 37.08)).isFalse();
+
+        ZoneArea touched = area(1L, L_SHAPE, updatedAt.plusMinutes(1));
+        assertThat(registry.geometryOf(touched)).isNotSameAs(second);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구역 변경 이벤트로 항목을 지운다")
+    void onZoneAreaChanged_evicts() {
+        registry.geometryOf(area(1L, SQUARE, LocalDateTime.now()));
+        registry.geometryOf(area(2L, SQUARE, LocalDateTime.now()));
+
+        registry.onZoneAreaChanged(new ZoneAreaChangedEvent(1L));
+
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("포함검사: BBOX 밖, 폴리곤 밖, 폴리곤 없음, 잘못된 GeoJSON 을 구분해 거절한다")
+    void validatePointInsideOrThrow_rejectsOutsidePoints() {
+        ZoneArea area = area(1L, L_SHAPE, LocalDateTime.now());
+
+        registry.validatePointInsideOrThrow(area, 127.02, 37.08);
+        assertThatThrownBy(() -> registry.validatePointInsideOrThrow(area, 126.9, 37.05))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("BBOX");
+        assertThatThrownBy(() -> registry.validatePointInsideOrThrow(area, 127.08, 37.08))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("폴리곤 내부가 아닙니다");
+        assertThatThrownBy(() -> registry.validatePointInsideOrThrow(area(2L, " ", LocalDateTime.now()), 127.0, 37.0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("GeoJSON");
+        assertThatThrownBy(() -> registry.validatePointInsideOrThrow(area(3L, "{not json", LocalDateTime.now()), 127.0, 37.0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("파싱");
+        assertThat(registry.size()).as("실패한 파싱은 담지 않는다").isEqualTo(1);
+    }
+
+    static ZoneArea area(Long id, String polygonGeoJson, LocalDateTime updatedAt) {
+        ZoneArea area = ZoneArea.builder().name("area " + id).polygonGeoJson(polygonGeoJson).build();
+        ReflectionTestUtils.setField(area, "id", id);
+        ReflectionTestUtils.setField(area, "updatedAt", updatedAt);
+        return area;
+    }
+}
@@ -6,6 +6,7 @@ import com.da.itdaing.domain.master.dto.RegionResponse;
 import com.da.itdaing.domain.master.dto.StyleResponse;
 import com.da.itdaing.domain.master.service.MasterQueryService;
 import com.da.itdaing.global.web.ApiResponse;
+import com.da.itdaing.global.web.ResourceVersions;
 import com.da.itdaing.support.MvcNoSecurityTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Disabled;
@@ -46,6 +47,9 @@ class MasterQueryControllerTest extends MvcNoSecurityTest {
     @MockitoBean
     private MasterQueryService masterQueryService;
 
+    @MockitoBean
+    private ResourceVersions resourceVersions;
+
     @Test
     @WithMockUser
     @DisplayName("지역 목록 조회 - 성공")
@@ -0,0 +1,160 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.common.enums.UserRole;
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
+import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.master.entity.Region;
+import com.da.itdaing.domain.master.repository.RegionRepository;
+import com.da.itdaing.domain.metric.repository.ViewEventJdbcRepository;
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.domain.user.entity.Users;
+import com.da.itdaing.domain.user.repository.UserRepository;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@JpaSliceTest
+@Import({ViewEventConsumer.class, ViewEventQueue.class, ViewEventWriter.class, ViewEventJdbcRepository.class,
+    ViewEventIngestProperties.class, PopupCardProjector.class, ViewEventConsumerTest.Config.class})
+class ViewEventConsumerTest {
+
+    // 2025-11-10 12:00 KST
+    private static final Instant AT = Instant.parse("2025-11-10T03:00:00Z");
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 10);
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @MockitoBean StringRedisTemplate redis;
+
+    @Autowired ViewEventConsumer viewEventConsumer;
+    @Autowired ViewEventQueue viewEventQueue;
+    @Autowired PopupRepository popupRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired ZoneAreaRepository zoneAreaRepository;
+    @Autowired ZoneCellRepository zoneCellRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Users viewer;
+    private Popup popup;
+
+    @BeforeEach
+    void setUp() {
+        Users seller = userRepository.save(Users.builder()
+            .loginId("ingest-seller")
+            .password("pass")
+            .email("ingest-seller@example.com")
+            .role(UserRole.SELLER)
+            .build());
+        viewer = userRepository.save(Users.builder()
+            .loginId("ingest-viewer")
+            .password("pass")
+            .email("ingest-viewer@example.com")
+            .role(UserRole.CONSUMER)
+            .build());
+        Region region = regionRepository.save(Region.builder().name("남구").build());
+        ZoneArea zoneArea = zoneAreaRepository.save(ZoneArea.builder().region(region).name("송암동 상권").build());
+        ZoneCell zoneCell = zoneCellRepository.save(ZoneCell.builder()
+            .zoneArea(zoneArea)
+            .owner(seller)
+            .label("A-1")
+            .lat(35.0891)
+            .lng(126.9877)
+            .build());
+        popup = popupRepository.save(Popup.builder()
+            .seller(seller)
+            .zoneCell(zoneCell)
+            .name("수집 팝업")
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .build());
+    }
+
+    @Test
+    @DisplayName("묶음의 모든 이벤트를 event_log 에 넣고, 고유 조회만 일간 집계에 더하며 없는 팝업은 버린다")
+    void drain_persistsBatch() {
+        // 세 건 중 두 번째는 같은 세션의 재조회
+        when(redis.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, false, true));
+        viewEventQueue.offer(view(popup.getId(), "s1"));
+        viewEventQueue.offer(view(popup.getId(), "s1"));
+        viewEventQueue.offer(view(popup.getId(), "s2"));
+        viewEventQueue.offer(view(999_999L, "s3"));
+
+        assertThat(viewEventConsumer.drain()).isEqualTo(4);
+
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from event_log where popup_id = ? and action_type = 'VIEW'", Long.class, popup.getId()))
+            .isEqualTo(3L);
+        assertThat(dailyViews()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from event_log where popup_id = 999999", Long.class))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("이미 있는 일간 집계 행에는 증가분을 더한다")
+    void process_addsToExistingDailyRow() {
+        when(redis.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true));
+        jdbcTemplate.update("""
+            insert into metric_daily_popup (popup_id, date, views, unique_users, favorites, reviews)
+            values (?, ?, 5, 0, 0, 0)
+            """, popup.getId(), DAY);
+
+        viewEventConsumer.process(List.of(view(popup.getId(), "s1")));
+
+        assertThat(dailyViews()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓸 수 없으면 모든 이벤트를 고유 조회로 센다")
+    void process_countsAllWhenRedisFails() {
+        when(redis.executePipelined(any(RedisCallback.class))).thenThrow(new IllegalStateException("down"));
+
+        viewEventConsumer.process(List.of(view(popup.getId(), "s1"), view(popup.getId(), "s1")));
+
+        assertThat(dailyViews()).isEqualTo(2);
+    }
+
+    private ViewEvent view(Long popupId, String sessionId) {
+        return new ViewEvent(viewer.getId(), popupId, "home/top", sessionId, AT);
+    }
+
+    private int dailyViews() {
+        return jdbcTemplate.queryForObject(
+            "select views from metric_daily_popup where popup_id = ? and date = ?", Integer.class, popup.getId(), DAY);
+    }
+}
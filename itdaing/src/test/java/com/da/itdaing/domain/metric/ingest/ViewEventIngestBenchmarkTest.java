@@ -0,0 +1,174 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.common.enums.UserRole;
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
+import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.master.entity.Region;
+import com.da.itdaing.domain.master.repository.RegionRepository;
+import com.da.itdaing.domain.metric.repository.ViewEventJdbcRepository;
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.domain.user.entity.Users;
+import com.da.itdaing.domain.user.repository.UserRepository;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 조회 이벤트 수집 처리량 벤치마크 (./gradlew benchmark)
+ * - 적재: 한 건씩(기존 요청 스레드 방식과 같은 문장 수) vs 500건 묶음 JDBC 배치. 같은 이벤트 수를 넣고 초당 처리량을 비교한다.
+ * - 수집: 요청 스레드 8개가 링 버퍼에 넣는 초당 건수 (가득 차면 버려진 건수도 함께 기록).
+ * - 수치는 환경마다 다르므로 로그로만 남기고, 적재 건수만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@JpaSliceTest
+@Import({ViewEventWriter.class, ViewEventJdbcRepository.class, PopupCardProjector.class})
+class ViewEventIngestBenchmarkTest {
+
+    private static final int EVENT_COUNT = 20_000;
+    private static final int POPUP_COUNT = 50;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired ViewEventWriter viewEventWriter;
+    @Autowired PopupRepository popupRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired ZoneAreaRepository zoneAreaRepository;
+    @Autowired ZoneCellRepository zoneCellRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<ViewEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Users seller = userRepository.save(Users.builder()
+            .loginId("bench-seller")
+            .password("pass")
+            .email("bench-seller@example.com")
+            .role(UserRole.SELLER)
+            .build());
+        Region region = regionRepository.save(Region.builder().name("남구").build());
+        ZoneArea zoneArea = zoneAreaRepository.save(ZoneArea.builder().region(region).name("송암동 상권").build());
+        ZoneCell zoneCell = zoneCellRepository.save(ZoneCell.builder()
+            .zoneArea(zoneArea)
+            .owner(seller)
+            .label("A-1")
+            .lat(35.0891)
+            .lng(126.9877)
+            .build());
+        List<Long> popupIds = new ArrayList<>();
+        for (int i = 0; i < POPUP_COUNT; i++) {
+            popupIds.add(popupRepository.save(Popup.builder()
+                .seller(seller)
+                .zoneCell(zoneCell)
+                .name("bench " + i)
+                .approvalStatus(ApprovalStatus.APPROVED)
+                .build()).getId());
+        }
+        Instant now = Instant.now();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(new ViewEvent(seller.getId(), popupIds.get(i % POPUP_COUNT), "bench", "s" + i, now));
+        }
+    }
+
+    @Test
+    @DisplayName("2만 건 - 한 건씩 적재 vs 500건 묶음 적재 처리량")
+    void compareWriteThroughput() {
+        List<ViewEvent> half = events.subList(0, EVENT_COUNT / 2);
+        long singleStart = System.nanoTime();
+        for (ViewEvent event : half) {
+            viewEventWriter.write(List.of(event), List.of(event));
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+
+        List<ViewEvent> rest = events.subList(EVENT_COUNT / 2, EVENT_COUNT);
+        long batchStart = System.nanoTime();
+        for (int from = 0; from < rest.size(); from += BATCH_SIZE) {
+            List<ViewEvent> chunk = rest.subList(from, Math.min(from + BATCH_SIZE, rest.size()));
+            viewEventWriter.write(chunk, chunk);
+        }
+        long batchNanos = System.nanoTime() - batchStart;
+
+        log.info("[benchmark] single writes {} events/s", perSecond(half.size(), singleNanos));
+        log.info("[benchmark] batched writes {} events/s (batch {})", perSecond(rest.size(), batchNanos), BATCH_SIZE);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from event_log where source = 'bench'", Long.class))
+            .isEqualTo(EVENT_COUNT);
+        assertThat(jdbcTemplate.queryForObject("select sum(views) from metric_daily_popup", Long.class))
+            .isEqualTo(EVENT_COUNT);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 요청 스레드 8개의 초당 수집 건수")
+    void measureEnqueueThroughput() throws Exception {
+        ViewEventIngestProperties properties = new ViewEventIngestProperties();
+        properties.setCapacity(EVENT_COUNT);
+        properties.setSpillEnabled(false);
+        ViewEventQueue queue = new ViewEventQueue(properties, mock(StringRedisTemplate.class), new ObjectMapper(),
+            new SimpleMeterRegistry());
+
+        int threads = 8;
+        int perThread = EVENT_COUNT * 2 / threads;
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        if (!queue.offer(events.get((offset + i) % EVENT_COUNT))) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        long nanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        log.info("[benchmark] enqueue {} offers/s across {} threads, {} rejected (capacity {})",
+            perSecond(threads * perThread, nanos), threads, rejected.get(), EVENT_COUNT);
+
+        assertThat(queue.size()).isEqualTo(EVENT_COUNT);
+        assertThat(rejected.get()).isEqualTo(threads * perThread - EVENT_COUNT);
+    }
+
+    private static long perSecond(int count, long nanos) {
+        return nanos == 0 ? count : count * 1_000_000_000L / nanos;
+    }
+}
@@ -0,0 +1,99 @@
+package com.da.itdaing.domain.metric.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewEventQueueTest {
+
+    private static final String SPILL_KEY = "events:view:spill";
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ListOperations<String, String> listOps;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ViewEventQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        ViewEventIngestProperties properties = new ViewEventIngestProperties();
+        properties.setCapacity(2);
+        properties.setSpillMaxLength(1);
+        queue = new ViewEventQueue(properties, redis, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 Redis 리스트로 넘기고, 꺼낼 때는 버퍼 다음에 Redis 에서 채운다")
+    void offer_spillsWhenFull_andPollReadsSpill() throws Exception {
+        when(redis.opsForList()).thenReturn(listOps);
+        when(listOps.size(SPILL_KEY)).thenReturn(0L);
+
+        assertThat(queue.offer(event(1L))).isTrue();
+        assertThat(queue.offer(event(2L))).isTrue();
+        assertThat(queue.offer(event(3L))).isTrue();
+
+        verify(listOps).rightPush(eq(SPILL_KEY), anyString());
+        when(listOps.leftPop(SPILL_KEY, 8L)).thenReturn(List.of(objectMapper.writeValueAsString(event(3L))));
+
+        assertThat(queue.poll(10)).extracting(ViewEvent::popupId).containsExactly(1L, 2L, 3L);
+        assertThat(count("accepted")).isEqualTo(2.0);
+        assertThat(count("spilled")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("metric.view_ingest.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 리스트도 가득 차면 버리고 false 를 돌려준다")
+    void offer_dropsWhenSpillFull() {
+        when(redis.opsForList()).thenReturn(listOps);
+        when(listOps.size(SPILL_KEY)).thenReturn(1L);
+        queue.offer(event(1L));
+        queue.offer(event(2L));
+
+        assertThat(queue.offer(event(3L))).isFalse();
+        verify(listOps, never()).rightPush(anyString(), anyString());
+        assertThat(count("dropped")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 넘치는 이벤트는 버리고, 꺼낼 때는 버퍼만 읽는다")
+    void redisDown_dropsOverflow() {
+        when(redis.opsForList()).thenThrow(new RedisConnectionFailureException("down"));
+        queue.offer(event(1L));
+        queue.offer(event(2L));
+
+        assertThat(queue.offer(event(3L))).isFalse();
+        assertThat(queue.poll(10)).extracting(ViewEvent::popupId).containsExactly(1L, 2L);
+        verify(listOps, never()).leftPop(anyString(), anyLong());
+    }
+
+    private static ViewEvent event(Long popupId) {
+        return new ViewEvent(1L, popupId, "home/top", "session-1", Instant.parse("2025-11-10T03:00:00Z"));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("metric.view_ingest.events").tag("result", result).counter().count();
+    }
+}
@@ -101,7 +101,8 @@ class PopupCommandControllerTest {
             List.of(ImagePayload.builder().url("https://s3.example.com/gallery-1.jpg").key("uploads/gallery-1.jpg").build()),
             new PopupReviewSummaryResponse(0.0, 0, List.of(0, 0, 0, 0, 0)),
             "2025-02-01T10:00:00",
-            "2025-02-01T10:00:00"
+            "2025-02-01T10:00:00",
+            null
         );
 
         given(popupCommandService.createPopup(any(Long.class), any(PopupCreateRequest.class))).willReturn(200L);
@@ -166,7 +167,8 @@ class PopupCommandControllerTest {
             List.of(ImagePayload.builder().url("https://s3.example.com/new-1.jpg").key("uploads/new-1.jpg").build()),
             new PopupReviewSummaryResponse(0.0, 0, List.of(0, 0, 0, 0, 0)),
             "2025-02-02T10:00:00",
-            "2025-02-02T10:00:00"
+            "2025-02-02T10:00:00",
+            null
         );
 
         given(popupCommandService.updatePopup(any(Long.class), any(Long.class), any(PopupCreateRequest.class))).willReturn(200L);
@@ -0,0 +1,159 @@
+package com.da.itdaing.domain.popup.cache;
+
+import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupResponseCacheTest {
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PopupResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PopupResponseCache(new PopupCacheProperties(), redis, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("상세: 원본 조회 후 L2 에 쓰고, 다음 조회는 L1 에서 응답한다")
+    void getDetail_missThenLocalHit() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        AtomicInteger loads = new AtomicInteger();
+
+        PopupSummaryResponse first = cache.getDetail(1L, () -> popup(1L, loads));
+        PopupSummaryResponse second = cache.getDetail(1L, () -> popup(1L, loads));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        verify(redis).execute(eq(PopupResponseCache.SET_IF_GENERATION),
+            eq(List.of(PopupResponseCache.GENERATION_KEY, PopupResponseCache.DETAIL_KEY_PREFIX + 1)),
+            eq("0"), anyString(), eq(String.valueOf(Duration.ofMinutes(10).toMillis())));
+        assertThat(counter("detail", "l1", "hit")).isEqualTo(1.0);
+        assertThat(counter("detail", "origin", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상세: L1 에 없으면 Redis 의 직렬화 응답을 사용한다")
+    void getDetail_remoteHit() throws Exception {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(PopupResponseCache.DETAIL_KEY_PREFIX + 2))
+            .thenReturn(objectMapper.writeValueAsString(popup(2L, new AtomicInteger())));
+        AtomicInteger loads = new AtomicInteger();
+
+        PopupSummaryResponse result = cache.getDetail(2L, () -> popup(2L, loads));
+
+        assertThat(result.id()).isEqualTo(2L);
+        assertThat(loads).hasValue(0);
+        assertThat(counter("detail", "l2", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화: L1/L2 를 지워 다음 조회는 원본을 다시 읽는다")
+    void evict_reloads() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        AtomicInteger loads = new AtomicInteger();
+        cache.getDetail(3L, () -> popup(3L, loads));
+
+        cache.evict(3L);
+        cache.getDetail(3L, () -> popup(3L, loads));
+
+        assertThat(loads).hasValue(2);
+        verify(valueOps).increment(PopupResponseCache.GENERATION_KEY);
+        verify(redis).delete(List.of(PopupResponseCache.DETAIL_KEY_PREFIX + 3, PopupResponseCache.LIST_KEY));
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 옛 응답을 L1 에 넣지 않고, L2 쓰기는 조회 전 세대로만 시도한다")
+    void evictDuringLoad_doesNotRefillStaleEntry() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(anyString()))
+            .thenAnswer(invocation -> PopupResponseCache.GENERATION_KEY.equals(invocation.getArgument(0)) ? "4" : null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getDetail(7L, () -> {
+            PopupSummaryResponse stale = popup(7L, loads);
+            cache.evict(7L);
+            return stale;
+        });
+        cache.getDetail(7L, () -> popup(7L, loads));
+
+        assertThat(loads).hasValue(2);
+        verify(redis, times(2)).execute(eq(PopupResponseCache.SET_IF_GENERATION),
+            eq(List.of(PopupResponseCache.GENERATION_KEY, PopupResponseCache.DETAIL_KEY_PREFIX + 7)),
+            eq("4"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("묶음 무효화: 여러 상세와 목록을 L2 에서 DEL 한 번으로 지운다")
+    void evictAll_deletesOnce() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        AtomicInteger loads = new AtomicInteger();
+        cache.getDetail(5L, () -> popup(5L, loads));
+        cache.getDetail(6L, () -> popup(6L, loads));
+
+        cache.evictAll(List.of(5L, 6L));
+        cache.getDetail(5L, () -> popup(5L, loads));
+        cache.getDetail(6L, () -> popup(6L, loads));
+
+        assertThat(loads).hasValue(4);
+        verify(redis, times(1)).delete(List.of(PopupResponseCache.DETAIL_KEY_PREFIX + 5,
+            PopupResponseCache.DETAIL_KEY_PREFIX + 6, PopupResponseCache.LIST_KEY));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 원본 조회로 응답한다")
+    void redisFailure_fallsBackToLoader() {
+        when(redis.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        AtomicInteger loads = new AtomicInteger();
+
+        List<PopupSummaryResponse> result = cache.getList(() -> List.of(popup(4L, loads)));
+
+        assertThat(result).extracting(PopupSummaryResponse::id).containsExactly(4L);
+        assertThat(cache.getList(() -> List.of(popup(4L, loads)))).isSameAs(result);
+        assertThat(loads).hasValue(1);
+        verify(redis, never()).execute(any(), anyList(), any(Object[].class));
+    }
+
+    private double counter(String cacheName, String tier, String result) {
+        return meterRegistry.get("popup.cache.requests")
+            .tag("cache", cacheName).tag("tier", tier).tag("result", result)
+            .counter().count();
+    }
+
+    private static PopupSummaryResponse popup(Long id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new PopupSummaryResponse(
+            id, "팝업" + id, 1L, "판매자", 1L, 1L, "A1", "구역", "주소", 35.0, 126.0, "APPROVED",
+            "2025-01-01", "2025-01-31", null, List.of(), "설명", 0L, 0L,
+            List.of(), List.of(), List.of(), null, List.of(), null, null, null, null
+        );
+    }
+}
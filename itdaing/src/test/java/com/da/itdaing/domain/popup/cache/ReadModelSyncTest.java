@@ -0,0 +1,103 @@
+package com.da.itdaing.domain.popup.cache;
+
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import com.da.itdaing.domain.geo.event.ZoneCellChangedEvent;
+import com.da.itdaing.domain.geo.geometry.ZoneAreaLocator;
+import com.da.itdaing.domain.geo.geometry.ZoneCellGrid;
+import com.da.itdaing.domain.geo.geometry.ZoneGeometryRegistry;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.search.PopupAutocompleteIndexer;
+import com.da.itdaing.domain.popup.search.PopupFacetIndexer;
+import com.da.itdaing.domain.popup.search.PopupSearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadModelSyncTest {
+
+    @Mock private StringRedisTemplate redis;
+    @Mock private PopupSearchIndexer popupSearchIndexer;
+    @Mock private PopupAutocompleteIndexer popupAutocompleteIndexer;
+    @Mock private PopupFacetIndexer popupFacetIndexer;
+    @Mock private ZoneAreaLocator zoneAreaLocator;
+    @Mock private ZoneGeometryRegistry zoneGeometryRegistry;
+    @Mock private ZoneCellGrid zoneCellGrid;
+
+    private final PopupCacheProperties properties = new PopupCacheProperties();
+    private ReadModelSync sync;
+
+    @BeforeEach
+    void setUp() {
+        sync = new ReadModelSync(properties, redis, popupSearchIndexer, popupAutocompleteIndexer, popupFacetIndexer,
+            zoneAreaLocator, zoneGeometryRegistry, zoneCellGrid);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 팝업 변경 메시지로 이 노드의 검색/자동완성/필터 색인을 갱신한다")
+    void onBroadcast_popupFromOtherNode() {
+        sync.onBroadcast("other-node popup 7");
+
+        PopupChangedEvent expected = PopupChangedEvent.upserted(7L);
+        verify(popupSearchIndexer).onPopupChanged(expected);
+        verify(popupAutocompleteIndexer).onPopupChanged(expected);
+        verify(popupFacetIndexer).onPopupChanged(expected);
+    }
+
+    @Test
+    @DisplayName("전체 재구축 메시지는 팝업 색인을 모두 다시 만든다")
+    void onBroadcast_popupRebuild() {
+        sync.onBroadcast("other-node popup *");
+
+        verify(popupSearchIndexer).rebuild();
+        verify(popupAutocompleteIndexer).rebuild();
+        verify(popupFacetIndexer).rebuild();
+    }
+
+    @Test
+    @DisplayName("구역/셀 변경 메시지로 위치 색인과 셀 격자를 갱신한다")
+    void onBroadcast_zones() {
+        sync.onBroadcast("other-node zone-area 3");
+        sync.onBroadcast("other-node zone-cell 11");
+
+        verify(zoneAreaLocator).onZoneAreaChanged(new ZoneAreaChangedEvent(3L));
+        verify(zoneGeometryRegistry).onZoneAreaChanged(new ZoneAreaChangedEvent(3L));
+        verify(popupAutocompleteIndexer).onZoneAreaChanged(new ZoneAreaChangedEvent(3L));
+        verify(zoneCellGrid).onZoneCellChanged(new ZoneCellChangedEvent(11L, null));
+    }
+
+    @Test
+    @DisplayName("자기 노드가 발행한 메시지는 건너뛰고, STATS 변경은 발행하지 않는다")
+    void publish_skipsOwnMessagesAndStats() {
+        sync.onPopupChanged(PopupChangedEvent.statsChanged(5L));
+        verify(redis, never()).convertAndSend(anyString(), anyString());
+
+        sync.onPopupChanged(PopupChangedEvent.deleted(5L));
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redis).convertAndSend(eq(properties.getReadModelChannel()), message.capture());
+        assertThat(message.getValue()).endsWith(" popup 5");
+
+        sync.onBroadcast(message.getValue());
+        verify(popupSearchIndexer, never()).onPopupChanged(any());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 메시지는 무시한다")
+    void onBroadcast_malformed() {
+        sync.onBroadcast("other-node popup abc");
+        sync.onBroadcast("garbage");
+
+        verifyNoInteractions(popupSearchIndexer, popupAutocompleteIndexer, popupFacetIndexer);
+    }
+}
@@ -0,0 +1,88 @@
+package com.da.itdaing.domain.popup.counter;
+
+import com.da.itdaing.domain.popup.event.PopupCounterEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopupCounterBufferTest {
+
+    private final PopupCounterBuffer buffer = new PopupCounterBuffer();
+
+    @Test
+    @DisplayName("drain 은 팝업별 증감을 합쳐 꺼내고 비운다")
+    void drain_aggregatesAndResets() {
+        buffer.onCounted(PopupCounterEvent.views(1L, 1));
+        buffer.onCounted(PopupCounterEvent.views(1L, 1));
+        buffer.onCounted(PopupCounterEvent.favorites(1L, 1));
+        buffer.onCounted(PopupCounterEvent.favorites(2L, 1));
+        buffer.onCounted(PopupCounterEvent.favorites(2L, -1));
+
+        assertThat(buffer.drain()).containsExactly(new PopupCounterDelta(1L, 2, 1));
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 값은 저장된 값에 미반영 증감을 더하고, 좋아요 수는 0 미만이 되지 않는다")
+    void countOf_mergesPendingDelta() {
+        buffer.add(1L, 3, -2);
+
+        assertThat(buffer.viewCountOf(1L, 10L)).isEqualTo(13L);
+        assertThat(buffer.favoriteCountOf(1L, 1L)).isZero();
+        assertThat(buffer.viewCountOf(2L, null)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감은 restore 로 되돌려 다음 drain 에 포함된다")
+    void restore_returnsDeltas() {
+        buffer.add(1L, 2, 0);
+        List<PopupCounterDelta> drained = buffer.drain();
+        buffer.add(1L, 1, 0);
+
+        buffer.restore(drained);
+
+        assertThat(buffer.drain()).containsExactly(new PopupCounterDelta(1L, 3, 0));
+    }
+
+    @Test
+    @DisplayName("동시에 더하고 비워도 증감을 잃지 않는다")
+    void concurrentAddAndDrain_losesNothing() throws Exception {
+        int writers = 8;
+        int perWriter = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < perWriter; n++) {
+                    buffer.add(1L, 1, 0);
+                }
+                return null;
+            }));
+        }
+
+        long drained = 0;
+        start.countDown();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            drained += buffer.drain().stream().mapToLong(PopupCounterDelta::views).sum();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        drained += buffer.drain().stream().mapToLong(PopupCounterDelta::views).sum();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(drained).isEqualTo((long) writers * perWriter);
+    }
+}
@@ -0,0 +1,167 @@
+package com.da.itdaing.domain.popup.counter;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.common.enums.UserRole;
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.entity.ZoneCell;
+import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
+import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
+import com.da.itdaing.domain.master.entity.Region;
+import com.da.itdaing.domain.master.repository.RegionRepository;
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.event.PopupCountersFlushedEvent;
+import com.da.itdaing.domain.popup.repository.PopupCounterJdbcRepository;
+import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.domain.user.entity.Users;
+import com.da.itdaing.domain.user.repository.UserRepository;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JpaSliceTest
+@Import({PopupCounterFlusher.class, PopupCounterBuffer.class, PopupCounterJdbcRepository.class,
+    PopupCounterProperties.class, PopupCardProjector.class})
+@RecordApplicationEvents
+class PopupCounterFlusherTest {
+
+    @Autowired PopupCounterFlusher popupCounterFlusher;
+    @Autowired PopupCounterBuffer popupCounterBuffer;
+    @Autowired PopupCardProjector popupCardProjector;
+    @Autowired PopupRepository popupRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired ZoneAreaRepository zoneAreaRepository;
+    @Autowired ZoneCellRepository zoneCellRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+    @Autowired ApplicationEvents applicationEvents;
+
+    private Popup popup;
+
+    @BeforeEach
+    void setUp() {
+        popupCounterBuffer.drain();
+        Users seller = userRepository.save(Users.builder()
+            .loginId("counter-seller")
+            .password("pass")
+            .email("counter-seller@example.com")
+            .role(UserRole.SELLER)
+            .build());
+        Region region = regionRepository.save(Region.builder().name("남구").build());
+        ZoneArea zoneArea = zoneAreaRepository.save(ZoneArea.builder().region(region).name("송암동 상권").build());
+        ZoneCell zoneCell = zoneCellRepository.save(ZoneCell.builder()
+            .zoneArea(zoneArea)
+            .owner(seller)
+            .label("A-1")
+            .lat(35.0891)
+            .lng(126.9877)
+            .build());
+        popup = popupRepository.save(Popup.builder()
+            .seller(seller)
+            .zoneCell(zoneCell)
+            .name("카운터 팝업")
+            .startDate(LocalDate.of(2025, 11, 1))
+            .endDate(LocalDate.of(2025, 11, 30))
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .viewCount(10L)
+            .favoriteCount(2L)
+            .build());
+        popupCardProjector.refresh(popup);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("모인 증감을 popup / popup_card 에 더하고, 반영 후에는 미반영분이 남지 않는다")
+    void flush_appliesDeltasToBothTables() {
+        Long popupId = popup.getId();
+        popupCounterBuffer.add(popupId, 3, 1);
+        popupCounterBuffer.add(popupId, 2, -1);
+        popupCounterBuffer.add(popupId, 0, 1);
+        assertThat(popupCounterBuffer.viewCountOf(popupId, 10L)).isEqualTo(15L);
+
+        assertThat(popupCounterFlusher.flush()).isEqualTo(1);
+
+        assertThat(counts("popup", "id", popupId)).containsEntry("VIEW_COUNT", 15L).containsEntry("FAVORITE_COUNT", 3L);
+        assertThat(counts("popup_card", "popup_id", popupId)).containsEntry("VIEW_COUNT", 15L).containsEntry("FAVORITE_COUNT", 3L);
+        assertThat(popupCounterBuffer.viewCountOf(popupId, 15L)).isEqualTo(15L);
+        assertThat(popupCounterFlusher.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("엔티티를 수정해 저장해도 반영된 카운터를 이전 값으로 덮어쓰지 않는다")
+    void entityUpdate_doesNotOverwriteCounters() {
+        Long popupId = popup.getId();
+        popupCounterBuffer.add(popupId, 5, 0);
+        popupCounterFlusher.flush();
+
+        // popup 엔티티는 flush 이전 값(10)을 들고 있다
+        popup.updateApprovalStatus(ApprovalStatus.APPROVED, "재승인");
+        popupCardProjector.refresh(popup);
+        entityManager.flush();
+
+        assertThat(counts("popup", "id", popupId)).containsEntry("VIEW_COUNT", 15L);
+        assertThat(counts("popup_card", "popup_id", popupId)).containsEntry("VIEW_COUNT", 15L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수는 0 미만으로 내려가지 않는다")
+    void flush_clampsFavoritesAtZero() {
+        Long popupId = popup.getId();
+        popupCounterBuffer.add(popupId, 0, -5);
+
+        popupCounterFlusher.flush();
+
+        assertThat(counts("popup", "id", popupId)).containsEntry("FAVORITE_COUNT", 0L);
+        assertThat(counts("popup_card", "popup_id", popupId)).containsEntry("FAVORITE_COUNT", 0L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 바뀐 팝업은 반영 한 번에 이벤트 하나로 묶어 알린다")
+    void flush_publishesOneCoalescedEvent() {
+        Long popupId = popup.getId();
+        Popup other = popupRepository.save(Popup.builder()
+            .seller(popup.getSeller())
+            .zoneCell(popup.getZoneCell())
+            .name("카운터 팝업 2")
+            .startDate(LocalDate.of(2025, 11, 1))
+            .endDate(LocalDate.of(2025, 11, 30))
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .build());
+        popupCardProjector.refresh(other);
+        entityManager.flush();
+        popupCounterBuffer.add(popupId, 0, 1);
+        popupCounterBuffer.add(other.getId(), 0, 1);
+        popupCounterBuffer.add(other.getId(), 4, 0);
+        applicationEvents.clear();
+
+        popupCounterFlusher.flush();
+
+        assertThat(applicationEvents.stream(PopupCountersFlushedEvent.class))
+            .singleElement()
+            .satisfies(event -> assertThat(event.popupIds()).containsExactlyInAnyOrder(popupId, other.getId()));
+
+        applicationEvents.clear();
+        popupCounterBuffer.add(popupId, 3, 0);
+        popupCounterFlusher.flush();
+        assertThat(applicationEvents.stream(PopupCountersFlushedEvent.class)).isEmpty();
+    }
+
+    private Map<String, Object> counts(String table, String idColumn, Long popupId) {
+        return jdbcTemplate.queryForMap(
+            "select cast(view_count as bigint) as view_count, cast(favorite_count as bigint) as favorite_count from "
+                + table + " where " + idColumn + " = ?", popupId);
+    }
+}
@@ -0,0 +1,75 @@
+package com.da.itdaing.domain.popup.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.da.itdaing.domain.popup.dto.PopupAutocompleteResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PopupAutocompleteIndexTest {
+
+    private PopupAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PopupAutocompleteIndex();
+        index.replaceAll(
+            List.of(
+                new PopupAutocompleteIndex.PopupEntry(1L, "빈티지 플리마켓", 100, 10L, "오래된가게", 1L),
+                new PopupAutocompleteIndex.PopupEntry(2L, "팝업 스토어", 50, 10L, "오래된가게", 1L),
+                new PopupAutocompleteIndex.PopupEntry(3L, "닭강정 페스티벌", 10, 20L, "달콤상점", 2L)
+            ),
+            List.of(
+                new PopupAutocompleteIndex.AreaEntry(1L, "양림동"),
+                new PopupAutocompleteIndex.AreaEntry(2L, "충장로")
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("자모 분해 - 겹받침/겹모음을 입력 순서대로 나눈다")
+    void decompose_splitsCompoundJamo() {
+        assertThat(HangulJamo.decompose("닭 왜")).isEqualTo("ㄷㅏㄹㄱㅇㅗㅐ");
+        assertThat(HangulJamo.chosung("팝업 스토어")).isEqualTo("ㅍㅇㅅㅌㅇ");
+        assertThat(HangulJamo.isChosungOnly("ㅍ ㅇ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly("팝ㅇ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("초성 질의 - 팝업/판매자/구역을 함께 찾고 점수가 같으면 짧은 이름 먼저")
+    void suggest_chosung() {
+        assertThat(index.suggest("ㅍㅇ", 10)).extracting(PopupAutocompleteResponse::id, PopupAutocompleteResponse::type)
+            .containsExactly(tuple(2L, "POPUP"));
+        assertThat(index.suggest("ㅇㄹㄷ", 10)).extracting(PopupAutocompleteResponse::text)
+            .containsExactly("양림동", "오래된가게");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절(빈팆, 닭가)과 어절 중간 시작(플리)도 찾는다")
+    void suggest_halfComposedAndWordStart() {
+        assertThat(index.suggest("빈팆", 10)).extracting(PopupAutocompleteResponse::id).containsExactly(1L);
+        assertThat(index.suggest("닭가", 10)).extracting(PopupAutocompleteResponse::id).containsExactly(3L);
+        assertThat(index.suggest("달", 10)).extracting(PopupAutocompleteResponse::text)
+            .containsExactly("닭강정 페스티벌", "달콤상점");
+        assertThat(index.suggest("플리", 10)).extracting(PopupAutocompleteResponse::text)
+            .containsExactly("빈티지 플리마켓");
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 이름 변경/삭제, 판매자는 승인 팝업이 없으면 빠진다")
+    void incrementalUpdates() {
+        index.upsertPopup(new PopupAutocompleteIndex.PopupEntry(3L, "치킨 페스티벌", 10, 20L, "달콤상점", 2L));
+        assertThat(index.suggest("닭", 10)).isEmpty();
+        assertThat(index.suggest("ㅊㅋ", 10)).extracting(PopupAutocompleteResponse::id).containsExactly(3L);
+
+        index.removePopup(3L);
+        assertThat(index.suggest("달콤", 10)).isEmpty();
+
+        index.upsertArea(2L, "금남로");
+        assertThat(index.suggest("충장", 10)).isEmpty();
+        assertThat(index.suggest("금남", 10)).extracting(PopupAutocompleteResponse::id).containsExactly(2L);
+    }
+}
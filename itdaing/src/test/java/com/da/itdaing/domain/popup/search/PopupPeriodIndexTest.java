@@ -0,0 +1,75 @@
+package com.da.itdaing.domain.popup.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PopupPeriodIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("겹침 조회/건수/날짜별 건수가 전수 비교 결과와 같고, 승인되지 않은 팝업은 제외한다")
+    void overlapping_matchesBruteForce() {
+        Random random = new Random(42);
+        List<PopupFacetDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            LocalDate start = BASE.plusDays(random.nextInt(120));
+            ApprovalStatus status = id % 7 == 0 ? ApprovalStatus.PENDING : ApprovalStatus.APPROVED;
+            documents.add(document(id, status, start, start.plusDays(random.nextInt(40))));
+        }
+        PopupPeriodIndex index = new PopupPeriodIndex();
+        index.replaceAll(documents);
+
+        for (int i = 0; i < 50; i++) {
+            LocalDate from = BASE.plusDays(random.nextInt(150) - 10);
+            LocalDate to = from.plusDays(random.nextInt(20));
+            List<Long> expected = documents.stream()
+                .filter(document -> document.approvalStatus() == ApprovalStatus.APPROVED)
+                .filter(document -> !document.startDate().isAfter(to) && !document.endDate().isBefore(from))
+                .map(PopupFacetDocument::popupId)
+                .toList();
+
+            assertThat(index.overlapping(from, to)).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(index.countOverlapping(from, to)).isEqualTo(expected.size());
+        }
+
+        int[] counts = index.dailyCounts(BASE.plusDays(30), BASE.plusDays(60));
+        assertThat(counts).hasSize(31);
+        for (int i = 0; i < counts.length; i++) {
+            LocalDate day = BASE.plusDays(30 + i);
+            assertThat(counts[i]).isEqualTo(index.overlapping(day, day).size());
+        }
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 기간 변경/승인 취소/삭제가 다음 조회에 반영된다")
+    void index_updateAndRemove() {
+        PopupPeriodIndex index = new PopupPeriodIndex();
+        index.replaceAll(List.of(
+            document(1L, ApprovalStatus.APPROVED, BASE, BASE.plusDays(9)),
+            document(2L, ApprovalStatus.APPROVED, BASE.plusDays(5), BASE.plusDays(20))
+        ));
+        assertThat(index.overlapping(BASE.plusDays(6), BASE.plusDays(6))).containsExactly(1L, 2L);
+
+        index.index(document(1L, ApprovalStatus.APPROVED, BASE.plusDays(30), BASE.plusDays(31)));
+        index.index(document(3L, ApprovalStatus.PENDING, BASE, BASE.plusDays(40)));
+        assertThat(index.overlapping(BASE.plusDays(6), BASE.plusDays(6))).containsExactly(2L);
+        assertThat(index.countOverlapping(BASE, BASE.plusDays(40))).isEqualTo(2);
+
+        index.index(document(2L, ApprovalStatus.REJECTED, BASE.plusDays(5), BASE.plusDays(20)));
+        index.remove(1L);
+        assertThat(index.size()).isZero();
+        assertThat(index.dailyCounts(BASE, BASE.plusDays(2))).containsExactly(0, 0, 0);
+    }
+
+    private static PopupFacetDocument document(long id, ApprovalStatus status, LocalDate start, LocalDate end) {
+        return new PopupFacetDocument(id, List.of(), List.of(), List.of(), null, status, start, end, List.of(), null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.da.itdaing.domain.popup.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PopupSearchIndexTest {
+
+    private PopupSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PopupSearchIndex();
+        index.replaceAll(List.of(
+            new PopupSearchDocument(1L, "빈티지 플리마켓", "주말마다 열리는 시장", "오래된가게", "양림동"),
+            new PopupSearchDocument(2L, "향수 공방", "빈티지 향수병 전시와 플리마켓", "향기로운", "충장로"),
+            new PopupSearchDocument(3L, "디저트 페어", "마카롱과 케이크", "달콤상점", "양림동")
+        ));
+    }
+
+    @Test
+    @DisplayName("토크나이저 - 연속 구간마다 바이그램, 한 글자 구간은 그대로")
+    void tokenize_bigrams() {
+        assertThat(HangulBigramTokenizer.tokenize("빈티지 마켓, A"))
+            .containsExactly("빈티", "티지", "마켓", "a");
+        assertThat(HangulBigramTokenizer.tokenize("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BM25 - 팝업명에 나온 문서가 설명에만 나온 문서보다 높은 점수")
+    void search_nameOutranksDescription() {
+        List<PopupSearchIndex.Hit> hits = index.search("플리마켓", 10);
+
+        assertThat(hits).extracting(PopupSearchIndex.Hit::popupId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 질의/구역명/한 글자 질의도 바이그램으로 찾는다")
+    void search_partialAndFieldMatches() {
+        assertThat(index.search("플리마켓에서", 10)).isEmpty(); // AND: '에서' 토큰은 어느 문서에도 없음
+        assertThat(index.search("양림동", 10)).extracting(PopupSearchIndex.Hit::popupId)
+            .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("향", 10)).extracting(PopupSearchIndex.Hit::popupId)
+            .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 교체/삭제가 바로 반영된다")
+    void index_updateAndRemove() {
+        index.index(new PopupSearchDocument(3L, "빈티지 디저트", null, null, null));
+        assertThat(index.search("빈티지", 10)).extracting(PopupSearchIndex.Hit::popupId)
+            .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("마카롱", 10)).isEmpty();
+
+        index.remove(1L);
+        assertThat(index.search("빈티지", 10)).extracting(PopupSearchIndex.Hit::popupId)
+            .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
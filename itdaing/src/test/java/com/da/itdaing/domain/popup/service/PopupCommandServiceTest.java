@@ -2,9 +2,11 @@ package com.da.itdaing.domain.popup.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.da.itdaing.domain.common.enums.ApprovalStatus;
 import com.da.itdaing.domain.common.enums.CategoryType;
+import com.da.itdaing.domain.common.enums.SyncResourceType;
 import com.da.itdaing.domain.common.enums.UserRole;
 import com.da.itdaing.domain.common.enums.ZoneStatus;
 import com.da.itdaing.domain.geo.entity.ZoneArea;
@@ -21,18 +23,29 @@ import com.da.itdaing.domain.master.repository.RegionRepository;
 import com.da.itdaing.domain.master.repository.StyleRepository;
 import com.da.itdaing.domain.file.dto.ImagePayload;
 import com.da.itdaing.domain.popup.dto.PopupCreateRequest;
+import com.da.itdaing.domain.popup.dto.PopupOperatingHourResponse;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.da.itdaing.domain.popup.entity.OperatingWindow;
 import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
 import com.da.itdaing.domain.popup.repository.PopupCategoryRepository;
 import com.da.itdaing.domain.popup.repository.PopupFeatureRepository;
 import com.da.itdaing.domain.popup.repository.PopupImageRepository;
+import com.da.itdaing.domain.popup.repository.PopupOperatingHourRepository;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
 import com.da.itdaing.domain.popup.repository.PopupStyleRepository;
+import com.da.itdaing.domain.sync.entity.SyncTombstone;
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
 import com.da.itdaing.domain.user.entity.Users;
 import com.da.itdaing.domain.user.repository.UserRepository;
 import com.da.itdaing.global.error.ErrorCode;
 import com.da.itdaing.global.error.exception.BusinessException;
 import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,15 +54,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
 @JpaSliceTest
-@Import(PopupCommandService.class)
+@Import({PopupQueryTestConfig.class, PopupCommandService.class, PopupCardProjector.class})
 class PopupCommandServiceTest {
 
     @Autowired PopupCommandService popupCommandService;
+    @Autowired PopupCardProjector popupCardProjector;
     @Autowired PopupRepository popupRepository;
     @Autowired PopupCategoryRepository popupCategoryRepository;
     @Autowired PopupFeatureRepository popupFeatureRepository;
     @Autowired PopupStyleRepository popupStyleRepository;
     @Autowired PopupImageRepository popupImageRepository;
+    @Autowired PopupCardRepository popupCardRepository;
+    @Autowired PopupOperatingHourRepository popupOperatingHourRepository;
+    @Autowired PopupQueryService popupQueryService;
     @Autowired UserRepository userRepository;
     @Autowired RegionRepository regionRepository;
     @Autowired ZoneAreaRepository zoneAreaRepository;
@@ -57,6 +74,7 @@ class PopupCommandServiceTest {
     @Autowired CategoryRepository categoryRepository;
     @Autowired FeatureRepository featureRepository;
     @Autowired StyleRepository styleRepository;
+    @Autowired SyncTombstoneRepository syncTombstoneRepository;
 
     private Users seller;
     private ZoneCell approvedCell;
@@ -172,6 +190,17 @@ class PopupCommandServiceTest {
         assertThat(popupFeatureRepository.findAll()).hasSize(1);
         assertThat(popupStyleRepository.findAll()).hasSize(1);
         assertThat(popupImageRepository.findAll()).hasSize(3);
+
+        PopupCard card = popupCardRepository.findById(popupId).orElseThrow();
+        assertThat(card.getName()).isEqualTo("봄 시즌 플리마켓");
+        assertThat(card.getCategoryIds()).hasSize(3);
+        assertThat(card.getThumbnail().url()).isEqualTo("https://s3.example.com/thumbnail.jpg");
+        assertThat(card.getGallery()).hasSize(2);
+        assertThat(card.getReviewCount()).isZero();
+        assertThat(card.getOperatingHours()).containsExactly(new PopupOperatingHourResponse("매일", "11:00-20:00"));
+        assertThat(card.getOpenWindows()).hasSize(7)
+            .allSatisfy(window -> assertThat(window.openMinute()).isEqualTo(660));
+        assertThat(popupOperatingHourRepository.findByPopupId(popupId)).hasSize(7);
     }
 
     @Test
@@ -224,6 +253,84 @@ class PopupCommandServiceTest {
         assertThat(popupFeatureRepository.findAll()).hasSize(1);
         assertThat(popupStyleRepository.findAll()).hasSize(1);
         assertThat(popupImageRepository.findAll()).hasSize(3);
+
+        PopupCard card = popupCardRepository.findById(popupId).orElseThrow();
+        assertThat(card.getName()).isEqualTo("여름 한정 야시장");
+        assertThat(card.getZoneCellId()).isEqualTo(anotherApprovedCell.getId());
+        assertThat(card.getCategoryIds()).containsExactly(popupCategoryC.getId());
+        assertThat(card.getStyleIds()).containsExactly(otherStyle.getId());
+        assertThat(card.getOperatingHours()).containsExactly(new PopupOperatingHourResponse("매일", "18:00-23:00"));
+        assertThat(popupOperatingHourRepository.findByPopupId(popupId)).hasSize(7)
+            .allSatisfy(row -> assertThat(row.getOpenMinute()).isEqualTo(18 * 60));
+    }
+
+    @Test
+    @DisplayName("운영 시간은 등록 시 요일별 구간으로 파싱되고, 색인이 없을 때도 SQL 로 운영 중 필터가 동작한다")
+    void createPopup_parsesOperatingHours() {
+        PopupCreateRequest request = new PopupCreateRequest(
+            "주말 야시장",
+            "",
+            LocalDate.of(2025, 3, 1),
+            LocalDate.of(2025, 3, 31),
+            "평일 11:00-19:00 / 토~일 18:00-02:00 / 공휴일 휴무",
+            approvedCell.getId(),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            null,
+            List.of()
+        );
+        Long popupId = popupCommandService.createPopup(seller.getId(), request);
+
+        PopupCard card = popupCardRepository.findById(popupId).orElseThrow();
+        assertThat(card.getOperatingHours()).containsExactly(
+            new PopupOperatingHourResponse("평일", "11:00-19:00"),
+            new PopupOperatingHourResponse("토~일", "18:00-02:00"),
+            new PopupOperatingHourResponse("공휴일", "휴무"));
+        // 토/일 18:00-24:00 와 자정을 넘긴 일/월 00:00-02:00
+        assertThat(card.getOpenWindows()).contains(
+            new OperatingWindow(6, 1080, 1440),
+            new OperatingWindow(7, 0, 120),
+            new OperatingWindow(1, 0, 120),
+            new OperatingWindow(1, 660, 1140));
+
+        // 2025-03-08 토요일, 2025-03-10 월요일
+        assertThat(openIds(LocalDateTime.of(2025, 3, 8, 23, 0))).containsExactly(popupId);
+        assertThat(openIds(LocalDateTime.of(2025, 3, 10, 1, 30))).containsExactly(popupId);
+        assertThat(openIds(LocalDateTime.of(2025, 3, 8, 12, 0))).isEmpty();
+        assertThat(openIds(LocalDateTime.of(2025, 4, 5, 23, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카드 갱신은 운영 시간 행을 쓰지 않고, 구조화 이전 팝업은 보정 작업이 행을 채운 뒤 카드를 다시 계산한다")
+    void backfillOperatingHours_persistsRowsOutsideProjector() {
+        Popup legacy = popupRepository.save(Popup.builder()
+            .seller(seller)
+            .zoneCell(approvedCell)
+            .name("구조화 이전 팝업")
+            .startDate(LocalDate.of(2025, 3, 1))
+            .endDate(LocalDate.of(2025, 3, 31))
+            .operatingTime("매일 10:00-20:00")
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .build());
+        popupCardProjector.refresh(legacy);
+
+        assertThat(popupOperatingHourRepository.findByPopupId(legacy.getId())).isEmpty();
+        assertThat(popupCardRepository.findById(legacy.getId()).orElseThrow().getOperatingHours()).isEmpty();
+
+        assertThat(popupCommandService.backfillOperatingHours()).isEqualTo(1);
+
+        assertThat(popupOperatingHourRepository.findByPopupId(legacy.getId())).hasSize(7);
+        assertThat(popupCardRepository.findById(legacy.getId()).orElseThrow().getOperatingHours())
+            .containsExactly(new PopupOperatingHourResponse("매일", "10:00-20:00"));
+        assertThat(popupCommandService.backfillOperatingHours()).isZero();
+    }
+
+    private List<Long> openIds(LocalDateTime openAt) {
+        return popupQueryService.searchPopups(PopupSearchRequest.builder().openAt(openAt).build()).getContent().stream()
+            .map(PopupSummaryResponse::id)
+            .toList();
     }
 
     @Test
@@ -251,10 +358,14 @@ class PopupCommandServiceTest {
         popupCommandService.deletePopup(seller.getId(), popupId);
 
         assertThat(popupRepository.findById(popupId)).isEmpty();
+        assertThat(popupCardRepository.findById(popupId)).isEmpty();
         assertThat(popupCategoryRepository.findAll()).isEmpty();
         assertThat(popupFeatureRepository.findAll()).isEmpty();
         assertThat(popupStyleRepository.findAll()).isEmpty();
         assertThat(popupImageRepository.findAll()).isEmpty();
+        assertThat(syncTombstoneRepository.findAll())
+            .extracting(SyncTombstone::getResourceType, SyncTombstone::getResourceId)
+            .containsExactly(tuple(SyncResourceType.POPUP, popupId));
     }
 
     @Test
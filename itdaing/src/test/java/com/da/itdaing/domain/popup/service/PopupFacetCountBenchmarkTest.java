@@ -0,0 +1,122 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.popup.dto.PopupFacetCounts;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.search.PopupFacetIndex;
+import com.da.itdaing.domain.popup.search.PopupFacetIndexer;
+import com.da.itdaing.testsupport.BenchmarkTimer;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 패싯 건수 벤치마크 (./gradlew benchmark)
+ * - 같은 조건의 패싯 건수를 비트맵 색인, 대체 경로(한 번 읽어 메모리 집계), 값마다 검색하는 방식으로 각각 구해 p50/p95 를 로그로 남긴다.
+ * - 색인 경로는 검색 요청마다 붙는 비용이므로 p95 예산(INDEX_P95_BUDGET_MS)을 넘지 않는지 검증한다.
+ *   나머지 경로는 비교용으로 예산 대비 값만 남긴다.
+ */
+@Slf4j
+@Tag("benchmark")
+@JpaSliceTest
+@Import({PopupQueryTestConfig.class, PopupFacetIndexer.class})
+class PopupFacetCountBenchmarkTest {
+
+    private static final int CARD_COUNT = 20_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+    private static final double INDEX_P95_BUDGET_MS = 20.0;
+    private static final double FALLBACK_P95_BUDGET_MS = 500.0;
+
+    // 사이드바에 노출되는 값 수 (카테고리 8, 편의시설 4, 스타일 6, 구역 5) — 합성 데이터와 같은 범위
+    private static final int CATEGORY_VALUES = 8;
+    private static final int FEATURE_VALUES = 4;
+    private static final int STYLE_VALUES = 6;
+
+    @Autowired PopupQueryService popupQueryService;
+    @Autowired PopupFacetIndex popupFacetIndex;
+    @Autowired PopupFacetIndexer popupFacetIndexer;
+    @Autowired DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("패싯 건수 2만 건 - 비트맵 색인 vs 한 번 읽어 집계 vs 값마다 검색")
+    void compareFacetStrategies() {
+        PopupSearchRequest request = PopupSearchRequest.builder()
+            .regionId(2L)
+            .categoryIds(List.of(1L, 2L, 3L))
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .startDate(LocalDate.of(2025, 3, 1))
+            .size(20)
+            .withFacets(true)
+            .build();
+
+        popupFacetIndexer.rebuild();
+        BenchmarkTimer.Result<PopupFacetCounts> indexed = BenchmarkTimer.measure(WARMUP, ITERATIONS, () -> popupQueryService.facetCounts(request));
+        PopupFacetCounts fromIndex = indexed.value();
+        report("bitmap index", indexed, INDEX_P95_BUDGET_MS);
+
+        popupFacetIndex.clear();
+        BenchmarkTimer.Result<PopupFacetCounts> fallback = BenchmarkTimer.measure(WARMUP, ITERATIONS, () -> popupQueryService.facetCounts(request));
+        PopupFacetCounts fromFallback = fallback.value();
+        report("single scan", fallback, FALLBACK_P95_BUDGET_MS);
+
+        // 기존 방식: 값마다 검색 한 번 (전체 건수만 사용)
+        BenchmarkTimer.Result<Long> perValue = BenchmarkTimer.measure(WARMUP, ITERATIONS, () -> LongStream.rangeClosed(1, CATEGORY_VALUES)
+                .map(value -> countWith(request, builder -> builder.categoryIds(List.of(value))))
+                .sum()
+            + LongStream.rangeClosed(1, FEATURE_VALUES)
+                .map(value -> countWith(request, builder -> builder.featureIds(List.of(value))))
+                .sum()
+            + LongStream.rangeClosed(1, STYLE_VALUES)
+                .map(value -> countWith(request, builder -> builder.styleIds(List.of(value))))
+                .sum()
+            + LongStream.rangeClosed(1, PopupCardTestData.AREA_COUNT)
+                .map(value -> countWith(request, builder -> builder.regionId(value)))
+                .sum());
+        report("search per value (" + (CATEGORY_VALUES + FEATURE_VALUES + STYLE_VALUES + PopupCardTestData.AREA_COUNT)
+            + " searches)", perValue, FALLBACK_P95_BUDGET_MS);
+
+        assertThat(fromIndex.total()).isPositive();
+        assertThat(fromFallback).isEqualTo(fromIndex);
+        assertThat(indexed.percentile(0.95)).isLessThanOrEqualTo(INDEX_P95_BUDGET_MS);
+    }
+
+    private long countWith(PopupSearchRequest base,
+                           UnaryOperator<PopupSearchRequest.PopupSearchRequestBuilder> override) {
+        PopupSearchRequest.PopupSearchRequestBuilder builder = PopupSearchRequest.builder()
+            .regionId(base.getRegionId())
+            .categoryIds(base.getCategoryIds())
+            .approvalStatus(base.getApprovalStatus())
+            .startDate(base.getStartDate())
+            .endDate(base.getEndDate())
+            .size(1);
+        return popupQueryService.searchPopups(override.apply(builder).build()).getTotalElements();
+    }
+
+    private void report(String label, BenchmarkTimer.Result<?> result, double budgetMillis) {
+        log.info("[benchmark] facets {} p50={} ms p95={} ms (budget {} ms, {} rows)", label,
+            String.format("%.3f", result.percentile(0.50)),
+            String.format("%.3f", result.percentile(0.95)),
+            budgetMillis, CARD_COUNT);
+    }
+}
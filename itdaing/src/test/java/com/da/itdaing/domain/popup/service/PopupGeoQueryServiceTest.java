@@ -0,0 +1,120 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.da.itdaing.domain.geo.geometry.BoundingBox;
+import com.da.itdaing.domain.geo.geometry.GeoDistance;
+import com.da.itdaing.domain.geo.geometry.ZoneCellGrid;
+import com.da.itdaing.domain.geo.geometry.ZoneCellPoint;
+import com.da.itdaing.domain.popup.dto.PopupNearbyResponse;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupView;
+import com.da.itdaing.domain.popup.dto.PopupViewResponse;
+import com.da.itdaing.domain.popup.search.PopupFacetIndex;
+import com.da.itdaing.domain.popup.search.PopupPeriodIndex;
+import com.da.itdaing.domain.popup.search.PopupSearchIndex;
+import com.da.itdaing.global.error.exception.BusinessException;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@JpaSliceTest
+@Import(PopupQueryTestConfig.class)
+class PopupGeoQueryServiceTest {
+
+    private static final int CARD_COUNT = 95;
+
+    @Autowired PopupGeoQueryService popupGeoQueryService;
+    @Autowired PopupSearchIndex popupSearchIndex;
+    @Autowired PopupFacetIndex popupFacetIndex;
+    @Autowired PopupPeriodIndex popupPeriodIndex;
+    @Autowired DataSource dataSource;
+    @MockitoBean ZoneCellGrid zoneCellGrid;
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+        popupSearchIndex.clear();
+        popupFacetIndex.clear();
+        popupPeriodIndex.clear();
+    }
+
+    @Test
+    @DisplayName("bbox - 격자 색인이 고른 셀의 팝업 중 좌표가 화면 영역 안인 것만 내려준다")
+    void getPopups_boundingBox() {
+        // 팝업 id 의 좌표는 (126.85 + id × 0.0001, 35.15 + id × 0.0001), 셀은 id + 1
+        BoundingBox bbox = BoundingBox.parse("126.85095,35.15095,126.85205,35.15205");
+        List<ZoneCellPoint> points = new ArrayList<>();
+        for (long id = 10; id <= 20; id++) {
+            points.add(new ZoneCellPoint(id + 1, PopupCardTestData.areaIdOf(id), 35.15 + id * 0.0001, 126.85 + id * 0.0001));
+        }
+        // 셀 좌표와 카드 좌표가 어긋난 경우는 카드 좌표로 한 번 더 거른다
+        points.add(new ZoneCellPoint(51L, 1L, 35.151, 126.851));
+        when(zoneCellGrid.within(bbox)).thenReturn(points);
+
+        List<? extends PopupViewResponse> pins = popupGeoQueryService.getPopups(PopupView.PIN, bbox);
+
+        assertThat(pins).extracting(PopupViewResponse::id)
+            .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(10, 20).boxed().toList());
+        assertThat(popupGeoQueryService.getPopups(PopupView.CARD, BoundingBox.parse("0,0,1,1"))).isEmpty();
+        assertThat(popupGeoQueryService.getPopups(PopupView.PIN, null)).hasSize(CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("nearby - 반경 안 셀의 승인된 팝업을 셀 거리순으로, 검색 필터와 limit 를 적용해 내려준다")
+    void getNearbyPopups_ordersByDistanceWithFilters() {
+        // 팝업 id 의 좌표는 (126.85 + id × 0.0001, 35.15 + id × 0.0001), 셀은 id + 1. 기준점은 팝업 15
+        double lat = 35.15 + 15 * 0.0001;
+        double lng = 126.85 + 15 * 0.0001;
+        List<ZoneCellGrid.Nearby> cells = new ArrayList<>();
+        for (long id = 10; id <= 20; id++) {
+            double cellLat = 35.15 + id * 0.0001;
+            double cellLng = 126.85 + id * 0.0001;
+            cells.add(new ZoneCellGrid.Nearby(new ZoneCellPoint(id + 1, PopupCardTestData.areaIdOf(id), cellLat, cellLng),
+                GeoDistance.haversineMeters(lat, lng, cellLat, cellLng)));
+        }
+        cells.sort(Comparator.comparingDouble(ZoneCellGrid.Nearby::distanceMeters));
+        when(zoneCellGrid.near(lng, lat, 500.0)).thenReturn(cells);
+        // 합성 데이터는 이미 종료된 기간이므로 기간 필터로 포함시킨다
+        PopupSearchRequest filters = PopupSearchRequest.builder().activeFrom(LocalDate.of(2025, 1, 1)).build();
+
+        List<PopupNearbyResponse<PopupViewResponse>> nearby =
+            popupGeoQueryService.getNearbyPopups(lat, lng, 500, 50, filters, PopupView.PIN);
+
+        List<Long> expected = cells.stream()
+            .map(cell -> cell.point().cellId() - 1)
+            .filter(id -> id % 10 != 0)     // PENDING 제외
+            .toList();
+        assertThat(nearby).extracting(result -> result.popup().id()).containsExactlyElementsOf(expected);
+        assertThat(nearby.get(0).distanceMeters()).isZero();
+        assertThat(nearby).extracting(PopupNearbyResponse::distanceMeters).isSorted();
+
+        assertThat(popupGeoQueryService.getNearbyPopups(lat, lng, 500, 3, filters, PopupView.CARD))
+            .extracting(result -> result.popup().id()).containsExactlyElementsOf(expected.subList(0, 3));
+        assertThat(popupGeoQueryService.getNearbyPopups(lat, lng, 500, 50,
+                filters.toBuilder().regionId(PopupCardTestData.areaIdOf(15)).build(), PopupView.PIN))
+            .extracting(result -> result.popup().id()).containsExactly(15L);
+        // 기간 필터가 없으면 종료되지 않은 팝업만
+        assertThat(popupGeoQueryService.getNearbyPopups(lat, lng, 500, 50, null, PopupView.PIN)).isEmpty();
+
+        assertThatThrownBy(() -> popupGeoQueryService.getNearbyPopups(lat, lng, 0, 10, filters, PopupView.PIN))
+            .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> popupGeoQueryService.getNearbyPopups(91, lng, 500, 10, filters, PopupView.PIN))
+            .isInstanceOf(BusinessException.class);
+    }
+}
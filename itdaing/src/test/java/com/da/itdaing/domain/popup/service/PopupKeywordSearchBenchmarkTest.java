@@ -0,0 +1,73 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.da.itdaing.domain.popup.search.PopupSearchIndex;
+import com.da.itdaing.domain.popup.search.PopupSearchIndexer;
+import com.da.itdaing.testsupport.BenchmarkTimer;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 키워드 검색 벤치마크: LIKE 전체 스캔 vs 인메모리 바이그램 색인 (./gradlew benchmark)
+ * - 같은 질의를 두 경로로 실행해 평균 시간을 로그로 남기고, 색인 결과가 LIKE 결과를 모두 포함하는지만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@JpaSliceTest
+@Import({PopupQueryTestConfig.class, PopupSearchIndexer.class})
+class PopupKeywordSearchBenchmarkTest {
+
+    private static final int CARD_COUNT = 12_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+    private static final List<String> KEYWORDS = List.of("빈티지", "캐릭터 팝업", "베이커리 팝업 1237");
+
+    @Autowired PopupQueryService popupQueryService;
+    @Autowired PopupSearchIndex popupSearchIndex;
+    @Autowired PopupSearchIndexer popupSearchIndexer;
+    @Autowired DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 비용 - LIKE vs 바이그램 색인(BM25)")
+    void compareLikeAndIndex() {
+        long started = System.nanoTime();
+        popupSearchIndexer.rebuild();
+        log.info("[benchmark] index rebuild {} ms ({} rows)",
+            String.format("%.1f", (System.nanoTime() - started) / 1_000_000.0), CARD_COUNT);
+
+        for (String keyword : KEYWORDS) {
+            PopupSearchRequest request = PopupSearchRequest.builder().keyword(keyword).size(20).build();
+
+            popupSearchIndexer.rebuild();
+            Page<PopupSummaryResponse> indexed = BenchmarkTimer.logAverage("index '" + keyword + "'", CARD_COUNT, WARMUP, ITERATIONS,
+                () -> popupQueryService.searchPopups(request));
+
+            popupSearchIndex.clear();
+            Page<PopupSummaryResponse> like = BenchmarkTimer.logAverage("like  '" + keyword + "'", CARD_COUNT, WARMUP, ITERATIONS,
+                () -> popupQueryService.searchPopups(request));
+
+            // 바이그램 AND 는 부분 문자열 일치의 상위 집합이다 (띄어쓰기가 다른 문서까지 찾을 수 있음)
+            assertThat(indexed.getTotalElements()).isGreaterThanOrEqualTo(like.getTotalElements());
+        }
+    }
+}
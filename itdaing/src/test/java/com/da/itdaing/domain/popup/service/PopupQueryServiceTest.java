@@ -0,0 +1,598 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.common.enums.SyncResourceType;
+import com.da.itdaing.domain.popup.dto.PopupCalendarResponse;
+import com.da.itdaing.domain.popup.dto.PopupCardResponse;
+import com.da.itdaing.domain.popup.dto.PopupCursorPageResponse;
+import com.da.itdaing.domain.popup.dto.PopupFacetCounts;
+import com.da.itdaing.domain.popup.dto.PopupFacetedPageResponse;
+import com.da.itdaing.domain.popup.dto.PopupPinResponse;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupSort;
+import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.da.itdaing.domain.popup.dto.PopupView;
+import com.da.itdaing.domain.popup.dto.PopupViewResponse;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.popup.search.PopupFacetIndex;
+import com.da.itdaing.domain.popup.search.PopupFacetIndexer;
+import com.da.itdaing.domain.popup.search.PopupFacetQuery;
+import com.da.itdaing.domain.popup.search.PopupPeriodIndex;
+import com.da.itdaing.domain.popup.search.PopupSearchIndex;
+import com.da.itdaing.domain.popup.search.PopupSearchIndexer;
+import com.da.itdaing.domain.sync.dto.ChangeFeedResponse;
+import com.da.itdaing.domain.sync.entity.SyncTombstone;
+import com.da.itdaing.domain.sync.repository.SyncTombstoneRepository;
+import com.da.itdaing.global.error.ErrorCode;
+import com.da.itdaing.global.error.exception.BusinessException;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JpaSliceTest
+@Import({PopupQueryTestConfig.class, PopupSearchIndexer.class, PopupFacetIndexer.class})
+class PopupQueryServiceTest {
+
+    private static final int CARD_COUNT = 95;
+
+    @Autowired PopupQueryService popupQueryService;
+    @Autowired PopupSearchIndex popupSearchIndex;
+    @Autowired PopupSearchIndexer popupSearchIndexer;
+    @Autowired PopupFacetIndex popupFacetIndex;
+    @Autowired PopupFacetIndexer popupFacetIndexer;
+    @Autowired PopupPeriodIndex popupPeriodIndex;
+    @Autowired DataSource dataSource;
+    @Autowired SyncTombstoneRepository syncTombstoneRepository;
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+        popupSearchIndex.clear();
+        popupFacetIndex.clear();
+        popupPeriodIndex.clear();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 색인 경로와 LIKE 경로가 같은 결과 집합을 돌려주고, 색인 경로는 다른 필터도 유지한다")
+    void searchPopups_keywordIndexMatchesLikePath() {
+        PopupSearchRequest request = PopupSearchRequest.builder()
+            .keyword("빈티지")
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .size(100)
+            .build();
+        List<Long> likeIds = popupQueryService.searchPopups(request).getContent().stream()
+            .map(PopupSummaryResponse::id)
+            .toList();
+
+        popupSearchIndexer.rebuild();
+        Page<PopupSummaryResponse> indexed = popupQueryService.searchPopups(request);
+
+        assertThat(likeIds).isNotEmpty();
+        assertThat(indexed.getTotalElements()).isEqualTo(likeIds.size());
+        assertThat(indexed.getContent()).extracting(PopupSummaryResponse::id)
+            .containsExactlyInAnyOrderElementsOf(likeIds);
+        assertThat(indexed.getContent()).extracting(PopupSummaryResponse::status)
+            .containsOnly(ApprovalStatus.APPROVED.name());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 모든 질의 토큰을 포함한 팝업만 찾고, 판매자 닉네임으로도 찾는다")
+    void searchPopups_keywordMatchesAllTokens() {
+        popupSearchIndexer.rebuild();
+
+        List<Long> ids = popupQueryService.searchPopups(
+                PopupSearchRequest.builder().keyword("향수 팝업 12").size(5).build())
+            .getContent().stream()
+            .map(PopupSummaryResponse::id)
+            .toList();
+        assertThat(ids).first().isEqualTo(12L);
+
+        assertThat(popupQueryService.searchPopups(
+                PopupSearchRequest.builder().keyword("판매자7").size(100).build()).getContent())
+            .extracting(PopupSummaryResponse::sellerName)
+            .isNotEmpty()
+            .allMatch(name -> name.startsWith("판매자7"));
+
+        assertThat(popupQueryService.searchPopups(
+                PopupSearchRequest.builder().keyword("없는키워드").build()).getTotalElements())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("스트리밍 - 전체 팝업을 popup_id 순으로 한 건씩 전달한다")
+    void streamPopups_emitsAllCards() {
+        List<Long> streamed = new ArrayList<>();
+
+        long count = popupQueryService.streamPopups(summary -> streamed.add(summary.id()));
+
+        assertThat(count).isEqualTo(CARD_COUNT);
+        assertThat(streamed).hasSize(CARD_COUNT).isSorted();
+        assertThat(streamed).first().isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 다음 커서를 따라가면 중복/누락 없이 전체를 최신순으로 순회한다")
+    void searchPopupsByCursor_traversesAllWithoutOverlap() {
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PopupCursorPageResponse<PopupSummaryResponse> page = popupQueryService.searchPopupsByCursor(
+                PopupSearchRequest.builder().size(10).cursor(cursor).build());
+            page.content().forEach(summary -> visited.add(summary.id()));
+            cursor = page.nextCursor();
+            assertThat(page.hasNext()).isEqualTo(cursor != null);
+            assertThat(page.totalElements()).isNull();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(10);
+        assertThat(visited).hasSize(CARD_COUNT);
+        assertThat(new HashSet<>(visited)).hasSize(CARD_COUNT);
+        // created_at 동률(두 행씩)은 popup_id 내림차순으로 정렬된다
+        assertThat(visited.subList(0, 4)).containsExactly(1L, 3L, 2L, 5L);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 오프셋 검색과 같은 순서로 같은 결과를 돌려준다")
+    void searchPopupsByCursor_matchesOffsetOrder() {
+        PopupSearchRequest offsetRequest = PopupSearchRequest.builder()
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .page(2)
+            .size(7)
+            .build();
+        List<Long> offsetIds = popupQueryService.searchPopups(offsetRequest).getContent().stream()
+            .map(PopupSummaryResponse::id)
+            .toList();
+
+        String cursor = null;
+        PopupCursorPageResponse<PopupSummaryResponse> page = null;
+        for (int i = 0; i <= 2; i++) {
+            page = popupQueryService.searchPopupsByCursor(PopupSearchRequest.builder()
+                .approvalStatus(ApprovalStatus.APPROVED)
+                .size(7)
+                .cursor(cursor)
+                .build());
+            cursor = page.nextCursor();
+        }
+
+        assertThat(page.content()).extracting(PopupSummaryResponse::id).containsExactlyElementsOf(offsetIds);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - withCount=true 일 때만 전체 건수를 포함한다")
+    void searchPopupsByCursor_withCount() {
+        PopupCursorPageResponse<PopupSummaryResponse> page = popupQueryService.searchPopupsByCursor(
+            PopupSearchRequest.builder().regionId(1L).size(5).withCount(true).build());
+
+        assertThat(page.totalElements()).isEqualTo((long) (CARD_COUNT / PopupCardTestData.AREA_COUNT));
+        assertThat(page.content()).hasSize(5);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 잘못된 커서는 INVALID_INPUT_VALUE")
+    void searchPopupsByCursor_invalidCursor() {
+        assertThatThrownBy(() -> popupQueryService.searchPopupsByCursor(
+            PopupSearchRequest.builder().cursor("not-a-cursor").build()))
+            .isInstanceOf(BusinessException.class)
+            .extracting(ex -> ((BusinessException) ex).getErrorCode())
+            .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("변경 피드 - since 없이 시작해 nextToken 을 따라가면 전체 카드를 중복 없이 받는다")
+    void getChanges_initialSyncPagesThroughAllCards() {
+        List<Long> received = new ArrayList<>();
+        String token = null;
+        ChangeFeedResponse<PopupSummaryResponse> page;
+        do {
+            page = popupQueryService.getChanges(token, 20);
+            page.upserts().forEach(summary -> received.add(summary.id()));
+            assertThat(page.deletedIds()).isEmpty();
+            assertThat(page.fullResync()).isFalse();
+            token = page.nextToken();
+        } while (page.hasMore());
+
+        assertThat(received).hasSize(CARD_COUNT);
+        assertThat(new HashSet<>(received)).hasSize(CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("변경 피드 - 워터마크 이후 갱신된 카드와 삭제된 팝업 ID 만 돌려준다")
+    void getChanges_returnsOnlyDeltaSinceToken() {
+        String token = popupQueryService.getChanges(null, 1_000).nextToken();
+
+        new JdbcTemplate(dataSource).update(
+            "UPDATE popup_card SET synced_at = ? WHERE popup_id = 3", Timestamp.valueOf(LocalDateTime.now()));
+        new JdbcTemplate(dataSource).update("DELETE FROM popup_card WHERE popup_id = 5");
+        syncTombstoneRepository.save(SyncTombstone.of(SyncResourceType.POPUP, 5L));
+
+        ChangeFeedResponse<PopupSummaryResponse> delta = popupQueryService.getChanges(token, 1_000);
+
+        assertThat(delta.upserts()).extracting(PopupSummaryResponse::id).containsExactly(3L);
+        assertThat(delta.deletedIds()).containsExactly(5L);
+        assertThat(delta.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("변경 피드 - 잘못된 since 는 INVALID_INPUT_VALUE")
+    void getChanges_invalidToken() {
+        assertThatThrownBy(() -> popupQueryService.getChanges("not-a-token", 10))
+            .isInstanceOf(BusinessException.class)
+            .extracting(ex -> ((BusinessException) ex).getErrorCode())
+            .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 요청한 ID 순서를 유지하고, 중복은 한 번만, 없는 ID 는 건너뛴다")
+    void getPopupsByIds_preservesRequestedOrder() {
+        List<PopupSummaryResponse> popups = popupQueryService.getPopupsByIds(List.of(42L, 7L, 999L, 42L, 13L));
+
+        assertThat(popups).extracting(PopupSummaryResponse::id).containsExactly(42L, 7L, 13L);
+        assertThat(popupQueryService.getPopupsByIds(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - view=card 도 같은 순서로 카드 표시용 필드만 내려준다")
+    void getPopupsByIds_cardView() {
+        List<? extends PopupViewResponse> cards = popupQueryService.getPopupsByIds(List.of(30L, 2L), PopupView.CARD);
+
+        assertThat(cards).extracting(PopupViewResponse::id).containsExactly(30L, 2L);
+        assertThat(cards).hasOnlyElementsOfType(PopupCardResponse.class);
+        PopupCardResponse card = (PopupCardResponse) cards.get(0);
+        PopupSummaryResponse full = popupQueryService.getPopup(30L);
+        assertThat(card.title()).isEqualTo(full.title());
+        assertThat(card.status()).isEqualTo(ApprovalStatus.PENDING.name());
+        assertThat(card.thumbnail()).isEqualTo(full.thumbnail());
+        assertThat(card.averageRating()).isEqualTo(full.reviewSummary().average());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 최대 개수를 넘으면 INVALID_INPUT_VALUE")
+    void getPopupsByIds_tooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, PopupQueryService.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        assertThatThrownBy(() -> popupQueryService.getPopupsByIds(ids))
+            .isInstanceOf(BusinessException.class)
+            .extracting(ex -> ((BusinessException) ex).getErrorCode())
+            .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("view=pin - 전체 목록을 지도 핀용 필드로 내려주고 좌표는 full 과 같다")
+    void getPopups_pinView() {
+        List<? extends PopupViewResponse> pins = popupQueryService.getPopups(PopupView.PIN);
+
+        assertThat(pins).hasSize(CARD_COUNT).hasOnlyElementsOfType(PopupPinResponse.class);
+        PopupPinResponse pin = pins.stream()
+            .map(PopupPinResponse.class::cast)
+            .filter(p -> p.id() == 7L)
+            .findFirst()
+            .orElseThrow();
+        PopupSummaryResponse full = popupQueryService.getPopup(7L);
+        assertThat(pin.latitude()).isEqualTo(full.latitude());
+        assertThat(pin.longitude()).isEqualTo(full.longitude());
+        assertThat(pin.zoneId()).isEqualTo(full.zoneId());
+    }
+
+    @Test
+    @DisplayName("view - 오프셋/커서 검색은 view 와 무관하게 같은 순서와 다음 커서를 돌려준다")
+    void search_viewKeepsOrderAndCursor() {
+        PopupSearchRequest offsetRequest = PopupSearchRequest.builder().size(15).page(1).build();
+        assertThat(popupQueryService.searchPopups(offsetRequest, PopupView.CARD).getContent())
+            .extracting(PopupViewResponse::id)
+            .containsExactlyElementsOf(popupQueryService.searchPopups(offsetRequest).getContent().stream()
+                .map(PopupSummaryResponse::id)
+                .toList());
+
+        PopupSearchRequest cursorRequest = PopupSearchRequest.builder().size(10).build();
+        PopupCursorPageResponse<PopupSummaryResponse> full = popupQueryService.searchPopupsByCursor(cursorRequest);
+        PopupCursorPageResponse<? extends PopupViewResponse> pins =
+            popupQueryService.searchPopupsByCursor(cursorRequest, PopupView.PIN);
+
+        assertThat(pins.nextCursor()).isEqualTo(full.nextCursor());
+        assertThat(pins.content()).extracting(PopupViewResponse::id)
+            .containsExactlyElementsOf(full.content().stream().map(PopupSummaryResponse::id).toList());
+    }
+
+    @Test
+    @DisplayName("view - 지원하지 않는 값은 INVALID_INPUT_VALUE, 대소문자는 구분하지 않는다")
+    void popupView_from() {
+        assertThat(PopupView.from(null)).isEqualTo(PopupView.FULL);
+        assertThat(PopupView.from("Card")).isEqualTo(PopupView.CARD);
+        assertThatThrownBy(() -> PopupView.from("tile"))
+            .isInstanceOf(BusinessException.class)
+            .extracting(ex -> ((BusinessException) ex).getErrorCode())
+            .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("필터 색인 - 구역/승인 상태/기간 조건에서 SQL 경로와 같은 순서, 같은 건수를 돌려준다")
+    void searchPopups_facetIndexMatchesSqlPath() {
+        PopupSearchRequest request = PopupSearchRequest.builder()
+            .regionId(2L)
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .startDate(LocalDate.of(2025, 1, 20))
+            .endDate(LocalDate.of(2025, 3, 10))
+            .size(100)
+            .build();
+        Page<PopupSummaryResponse> sql = popupQueryService.searchPopups(request);
+
+        popupFacetIndexer.rebuild();
+        Page<PopupSummaryResponse> facet = popupQueryService.searchPopups(request);
+
+        assertThat(sql.getContent()).isNotEmpty();
+        assertThat(facet.getTotalElements()).isEqualTo(sql.getTotalElements());
+        assertThat(facet.getContent()).extracting(PopupSummaryResponse::id)
+            .containsExactlyElementsOf(sql.getContent().stream().map(PopupSummaryResponse::id).toList());
+    }
+
+    @Test
+    @DisplayName("필터 색인 - 커서를 따라가면 오프셋 검색과 같은 순서로 전체를 순회한다")
+    void searchPopupsByCursor_facetIndexTraversesInRecentOrder() {
+        popupFacetIndexer.rebuild();
+        List<Long> offsetIds = popupQueryService.searchPopups(PopupSearchRequest.builder().size(100).build())
+            .getContent().stream()
+            .map(PopupSummaryResponse::id)
+            .toList();
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            PopupCursorPageResponse<PopupSummaryResponse> page = popupQueryService.searchPopupsByCursor(
+                PopupSearchRequest.builder().size(10).cursor(cursor).withCount(true).build());
+            page.content().forEach(summary -> visited.add(summary.id()));
+            assertThat(page.totalElements()).isEqualTo((long) CARD_COUNT);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(visited).containsExactlyElementsOf(offsetIds);
+        assertThat(visited.subList(0, 4)).containsExactly(1L, 3L, 2L, 5L);
+    }
+
+    @Test
+    @DisplayName("필터 색인 - 편의시설/스타일로 거르고, 같은 차원은 OR · 차원끼리는 AND 로 결합한다")
+    void searchPopups_facetIndexFiltersFeatureAndStyle() {
+        popupFacetIndexer.rebuild();
+
+        // 합성 데이터: 카테고리 = id % 8 + 1, 편의시설 = id % 4 + 1, 스타일 = id % 6 + 1
+        Page<PopupSummaryResponse> page = popupQueryService.searchPopups(PopupSearchRequest.builder()
+            .categoryIds(List.of(1L, 2L))
+            .featureIds(List.of(2L))
+            .size(100)
+            .build());
+        List<Long> expected = LongStream.rangeClosed(1, CARD_COUNT).filter(id -> id % 8 == 1).boxed().toList();
+        assertThat(page.getTotalElements()).isEqualTo(expected.size());
+        assertThat(page.getContent()).extracting(PopupSummaryResponse::id).containsExactlyElementsOf(expected);
+
+        assertThat(popupQueryService.searchPopups(PopupSearchRequest.builder()
+                .styleIds(List.of(3L, 4L))
+                .size(100)
+                .build()).getContent())
+            .extracting(PopupSummaryResponse::styleTags)
+            .allSatisfy(tags -> assertThat(tags).containsAnyOf("스타일3", "스타일4"));
+    }
+
+    @Test
+    @DisplayName("패싯 건수 - 각 차원은 자기 조건을 뺀 나머지 조건 기준이고, 색인 경로와 대체 경로가 같은 건수를 돌려준다")
+    void searchPopupsWithFacets_countsExcludeOwnDimension() {
+        popupFacetIndexer.rebuild();
+        PopupSearchRequest request = PopupSearchRequest.builder()
+            .regionId(2L)
+            .categoryIds(List.of(1L, 2L))
+            .size(10)
+            .withFacets(true)
+            .build();
+
+        PopupFacetedPageResponse<? extends PopupViewResponse> result =
+            popupQueryService.searchPopupsWithFacets(request, PopupView.CARD);
+        PopupFacetCounts facets = result.facets();
+
+        // 합성 데이터: 구역 = id % 5 + 1, 카테고리 = id % 8 + 1
+        List<Long> ids = LongStream.rangeClosed(1, CARD_COUNT).boxed().toList();
+        assertThat(facets.total())
+            .isEqualTo(ids.stream().filter(id -> id % 5 == 1 && id % 8 < 2).count())
+            .isEqualTo(result.page().getTotalElements());
+        assertThat(result.page().getContent()).hasSize(10);
+        assertThat(facets.categories()).isEqualTo(ids.stream()
+            .filter(id -> id % 5 == 1)
+            .collect(Collectors.groupingBy(id -> id % 8 + 1, Collectors.summingInt(id -> 1))));
+        assertThat(facets.regions()).isEqualTo(ids.stream()
+            .filter(id -> id % 8 < 2)
+            .collect(Collectors.groupingBy(id -> id % 5 + 1, Collectors.summingInt(id -> 1))));
+
+        popupFacetIndex.clear();
+        assertThat(popupQueryService.facetCounts(request)).isEqualTo(facets);
+    }
+
+    @Test
+    @DisplayName("운영 중 필터 - 기간 안이고 그 요일/시각이 운영 구간에 들면 포함하고, 칸 일부만 덮는 구간은 실제 시각으로 거른다")
+    void searchPopups_openAtUsesPrecomputedWindows() {
+        popupFacetIndexer.rebuild();
+
+        // 합성 데이터: 짝수 ID 매일 11:00-20:00, 홀수 ID 주말 12:00-21:15, 기간 = 2025-01-01 + id%365 일부터 14 + id%30 일
+        LocalDate saturday = LocalDate.of(2025, 3, 8);
+        LocalDate wednesday = LocalDate.of(2025, 3, 5);
+        assertThat(openIds(saturday.atTime(12, 30))).isEqualTo(expectedOpenIds(saturday, id -> true));
+        assertThat(openIds(wednesday.atTime(12, 30))).isEqualTo(expectedOpenIds(wednesday, id -> id % 2 == 0));
+        assertThat(openIds(saturday.atTime(21, 10))).isEqualTo(expectedOpenIds(saturday, id -> id % 2 == 1));
+        assertThat(openIds(saturday.atTime(21, 15))).isEmpty();
+        assertThat(openIds(wednesday.atTime(10, 59))).isEmpty();
+
+        PopupSummaryResponse open = popupQueryService.searchPopups(PopupSearchRequest.builder()
+            .openAt(saturday.atTime(12, 30))
+            .size(1)
+            .build()).getContent().get(0);
+        assertThat(open.operatingHours()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("달력 - 날짜별 활성 승인 팝업 수가 구간 색인 경로와 SQL 경로에서 같고, 기간 겹침 검색 건수와 맞는다")
+    void getCalendar_countsActiveApprovedPopupsPerDay() {
+        PopupCalendarResponse fromSql = popupQueryService.getCalendar("2025-02");
+        popupFacetIndexer.rebuild();
+        PopupCalendarResponse fromIndex = popupQueryService.getCalendar("2025-02");
+
+        assertThat(fromIndex).isEqualTo(fromSql);
+        assertThat(fromIndex.days()).hasSize(28);
+        // 합성 데이터: 기간 = 2025-01-01 + id%365 일부터 14 + id%30 일, id%10 == 0 은 PENDING
+        for (PopupCalendarResponse.Day day : fromIndex.days()) {
+            LocalDate date = LocalDate.parse(day.date());
+            assertThat(day.count()).isEqualTo(expectedActiveIds(date, date).size());
+        }
+        assertThat(fromIndex.total())
+            .isEqualTo(expectedActiveIds(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28)).size());
+
+        Page<PopupSummaryResponse> overlapping = popupQueryService.searchPopups(PopupSearchRequest.builder()
+            .activeFrom(LocalDate.of(2025, 2, 10))
+            .activeTo(LocalDate.of(2025, 2, 12))
+            .approvalStatus(ApprovalStatus.APPROVED)
+            .size(100)
+            .build());
+        assertThat(overlapping.getContent()).extracting(PopupSummaryResponse::id)
+            .containsExactlyInAnyOrderElementsOf(
+                expectedActiveIds(LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 12)));
+
+        assertThatThrownBy(() -> popupQueryService.getCalendar("2025-13"))
+            .isInstanceOf(BusinessException.class)
+            .extracting(ex -> ((BusinessException) ex).getErrorCode())
+            .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private static Set<Long> expectedActiveIds(LocalDate from, LocalDate to) {
+        return LongStream.rangeClosed(1, CARD_COUNT)
+            .filter(id -> id % 10 != 0)
+            .filter(id -> {
+                LocalDate start = LocalDate.of(2025, 1, 1).plusDays(id % 365);
+                return !start.isAfter(to) && !start.plusDays(14 + id % 30).isBefore(from);
+            })
+            .boxed()
+            .collect(Collectors.toSet());
+    }
+
+    private Set<Long> openIds(LocalDateTime openAt) {
+        return popupQueryService.searchPopups(PopupSearchRequest.builder().openAt(openAt).size(100).build())
+            .getContent().stream()
+            .map(PopupSummaryResponse::id)
+            .collect(Collectors.toSet());
+    }
+
+    private static Set<Long> expectedOpenIds(LocalDate date, LongPredicate openOnDay) {
+        return LongStream.rangeClosed(1, CARD_COUNT)
+            .filter(openOnDay)
+            .filter(id -> {
+                LocalDate start = LocalDate.of(2025, 1, 1).plusDays(id % 365);
+                return !start.isAfter(date) && !start.plusDays(14 + id % 30).isBefore(date);
+            })
+            .boxed()
+            .collect(Collectors.toSet());
+    }
+
+    @Test
+    @DisplayName("정렬 - 조회수/찜/평점순은 승인된 팝업을 정렬 컬럼, 같으면 ID 역순으로 돌려주고 키워드 후보에도 같은 순서를 쓴다")
+    void searchPopups_sortModes() {
+        popupFacetIndexer.rebuild();
+        popupSearchIndexer.rebuild();
+        List<Long> approved = LongStream.rangeClosed(1, CARD_COUNT)
+            .filter(id -> id % 10 != 0)
+            .boxed()
+            .toList();
+
+        assertThat(sortedIds(PopupSort.VIEWS, null))
+            .containsExactlyElementsOf(sortDesc(approved, id -> id * 7 % 1000));
+        assertThat(sortedIds(PopupSort.FAVORITES, null))
+            .containsExactlyElementsOf(sortDesc(approved, id -> id * 3 % 100));
+        assertThat(sortedIds(PopupSort.RATING, null))
+            .containsExactlyElementsOf(sortDesc(approved, id -> id % 5 + 1));
+        // "빈티지" 는 id % 10 == 1 인 팝업의 이름/설명에 들어 있다
+        assertThat(sortedIds(PopupSort.VIEWS, "빈티지"))
+            .containsExactlyElementsOf(sortDesc(approved.stream().filter(id -> id % 10 == 1).toList(),
+                id -> id * 7 % 1000));
+        assertThat(PopupSort.from("ending-soon")).isEqualTo(PopupSort.ENDING_SOON);
+        assertThat(PopupSort.from(" ")).isNull();
+        assertThatThrownBy(() -> PopupSort.from("popular"))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 - 종료 임박순은 오늘 이후 종료하는 승인 팝업만 종료일이 가까운 순으로 돌려준다")
+    void searchPopups_endingSoon() {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("UPDATE popup_card SET end_date = ?", today.minusDays(1));
+        jdbcTemplate.update("UPDATE popup_card SET end_date = ? WHERE popup_id IN (3, 4)", today.plusDays(5));
+        jdbcTemplate.update("UPDATE popup_card SET end_date = ? WHERE popup_id IN (7, 10)", today);
+        jdbcTemplate.update("UPDATE popup_card SET end_date = ? WHERE popup_id = 2", today.plusDays(30));
+
+        Page<PopupSummaryResponse> page = popupQueryService.searchPopups(
+            PopupSearchRequest.builder().sort(PopupSort.ENDING_SOON).size(100).build());
+
+        // 10 은 미승인이라 제외, 같은 종료일은 ID 오름차순
+        assertThat(page.getContent()).extracting(PopupSummaryResponse::id).containsExactly(7L, 3L, 4L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    private List<Long> sortedIds(PopupSort sort, String keyword) {
+        return popupQueryService.searchPopups(PopupSearchRequest.builder()
+                .keyword(keyword)
+                .sort(sort)
+                .size(100)
+                .build())
+            .getContent().stream()
+            .map(PopupSummaryResponse::id)
+            .toList();
+    }
+
+    private static List<Long> sortDesc(List<Long> ids, LongUnaryOperator key) {
+        return ids.stream()
+            .sorted(Comparator.<Long>comparingLong(key::applyAsLong).reversed()
+                .thenComparing(Comparator.<Long>reverseOrder()))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("필터 색인 - 커밋된 카드 변경/삭제 이벤트로 해당 팝업만 다시 반영한다")
+    void facetIndex_appliesPopupChangedEvents() {
+        popupFacetIndexer.rebuild();
+        PopupSearchRequest feature2 = PopupSearchRequest.builder().featureIds(List.of(2L)).size(100).build();
+        assertThat(popupQueryService.searchPopups(feature2).getContent())
+            .extracting(PopupSummaryResponse::id).contains(1L, 5L);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("UPDATE popup_card SET feature_ids = '3' WHERE popup_id = 1");
+        jdbcTemplate.update("DELETE FROM popup_card WHERE popup_id = 5");
+        popupFacetIndexer.onPopupChanged(PopupChangedEvent.upserted(1L));
+        popupFacetIndexer.onPopupChanged(PopupChangedEvent.deleted(5L));
+
+        Page<PopupSummaryResponse> after = popupQueryService.searchPopups(feature2);
+        assertThat(after.getContent()).extracting(PopupSummaryResponse::id).doesNotContain(1L, 5L);
+        assertThat(after.getTotalElements()).isEqualTo(popupFacetIndex.count(
+            PopupFacetQuery.from(feature2)));
+        assertThat(popupFacetIndex.size()).isEqualTo(CARD_COUNT - 1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.da.itdaing.domain.popup.dto.PopupCursorPageResponse;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.da.itdaing.testsupport.BenchmarkTimer;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 오프셋 vs 커서 페이지네이션 비교 벤치마크 (./gradlew benchmark 로 실행, 기본 test 에서는 제외)
+ * - 1페이지와 깊은 페이지(500페이지)를 각각 측정해 로그로 남긴다.
+ * - 수치는 환경마다 다르므로 단언하지 않고, 두 방식의 결과 동일성만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@JpaSliceTest
+@Import(PopupQueryTestConfig.class)
+class PopupSearchPaginationBenchmarkTest {
+
+    private static final int CARD_COUNT = 12_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 500;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired PopupQueryService popupQueryService;
+    @Autowired DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("1페이지 / 500페이지 조회 비용 - 오프셋(count 포함) vs 커서")
+    void compareOffsetAndCursor() {
+        // 깊은 페이지 직전 커서는 순회로 한 번만 구해 둔다 (측정 대상 아님)
+        String firstCursor = null;
+        String deepCursor = null;
+        for (int page = 0; page < DEEP_PAGE; page++) {
+            PopupCursorPageResponse<PopupSummaryResponse> response = popupQueryService.searchPopupsByCursor(cursorRequest(deepCursor));
+            deepCursor = response.nextCursor();
+        }
+        final String deepPageCursor = deepCursor;
+
+        List<Long> offsetFirst = BenchmarkTimer.logAverage("offset  page 1  ", CARD_COUNT, WARMUP, ITERATIONS,
+            () -> ids(popupQueryService.searchPopups(offsetRequest(0)).getContent()));
+        List<Long> cursorFirst = BenchmarkTimer.logAverage("cursor  page 1  ", CARD_COUNT, WARMUP, ITERATIONS,
+            () -> ids(popupQueryService.searchPopupsByCursor(cursorRequest(firstCursor)).content()));
+        List<Long> offsetDeep = BenchmarkTimer.logAverage("offset  page " + DEEP_PAGE, CARD_COUNT, WARMUP, ITERATIONS,
+            () -> ids(popupQueryService.searchPopups(offsetRequest(DEEP_PAGE)).getContent()));
+        List<Long> cursorDeep = BenchmarkTimer.logAverage("cursor  page " + DEEP_PAGE, CARD_COUNT, WARMUP, ITERATIONS,
+            () -> ids(popupQueryService.searchPopupsByCursor(cursorRequest(deepPageCursor)).content()));
+
+        assertThat(cursorFirst).hasSize(PAGE_SIZE).containsExactlyElementsOf(offsetFirst);
+        assertThat(cursorDeep).hasSize(PAGE_SIZE).containsExactlyElementsOf(offsetDeep);
+    }
+
+    private PopupSearchRequest offsetRequest(int page) {
+        return PopupSearchRequest.builder().page(page).size(PAGE_SIZE).build();
+    }
+
+    private PopupSearchRequest cursorRequest(String cursor) {
+        return PopupSearchRequest.builder().cursor(cursor).size(PAGE_SIZE).build();
+    }
+
+    private List<Long> ids(List<PopupSummaryResponse> content) {
+        return content.stream().map(PopupSummaryResponse::id).toList();
+    }
+}
@@ -0,0 +1,142 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupSort;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Operator;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 검색 정렬별 실행 계획 검증 (PostgreSQL 전용)
+ * - EXPLAIN_DATASOURCE_URL 이 있을 때만 실행한다. 예) jdbc:postgresql://localhost:5432/itdaing_explain
+ *   (EXPLAIN_DATASOURCE_USERNAME / EXPLAIN_DATASOURCE_PASSWORD 함께 지정, 비워도 되는 전용 DB 를 쓴다)
+ * - Flyway 마이그레이션을 적용한 뒤 트랜잭션 안에서 합성 카드를 넣고 ANALYZE 하여 계획을 보고, 끝나면 롤백한다.
+ * - 각 정렬의 앞쪽 페이지가 인덱스 순서로 읽히는지 (Seq Scan 이나 Sort 노드가 없는지) 확인한다.
+ * - WHERE / ORDER BY 는 손으로 적지 않고 PopupQueryService 가 만드는 QueryDSL 조건(withSortDefaults → buildSearchPredicate)과
+ *   정렬(orderOf)을 popup_card 컬럼 SQL 로 옮겨 쓴다. 서비스 쪽 정렬이나 기본 조건이 바뀌면 이 검증도 함께 바뀐다.
+ */
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_DATASOURCE_URL", matches = ".+")
+class PopupSortIndexExplainTest {
+
+    private static final int CARD_COUNT = 50_000;
+    private static final long ID_BASE = 900_000_000L;
+
+    private static final Map<Operator, String> BINARY_OPERATORS = Map.of(
+        Ops.AND, "and", Ops.EQ, "=", Ops.GOE, ">=", Ops.LOE, "<=", Ops.GT, ">", Ops.LT, "<"
+    );
+
+    @Test
+    @DisplayName("정렬별 앞쪽 페이지는 인덱스 범위 스캔으로 읽고 별도 정렬을 하지 않는다")
+    void sortModes_useIndexScan() throws Exception {
+        String url = System.getenv("EXPLAIN_DATASOURCE_URL");
+        String username = System.getenv("EXPLAIN_DATASOURCE_USERNAME");
+        String password = System.getenv("EXPLAIN_DATASOURCE_PASSWORD");
+        Flyway.configure().dataSource(url, username, password).load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                insertCards(statement);
+                statement.execute("ANALYZE popup_card");
+
+                for (PopupSort sort : PopupSort.values()) {
+                    // 상태를 주지 않은 요청과 승인된 팝업만 요청한 경우 (관리자 목록 / 사용자 목록)
+                    for (ApprovalStatus status : Arrays.asList(null, ApprovalStatus.APPROVED)) {
+                        String sql = pageSql(PopupSearchRequest.builder().sort(sort).approvalStatus(status).build());
+                        List<String> plan = explain(statement, sql);
+
+                        assertThat(plan).as("%s plan: %s", sql, plan)
+                            .anyMatch(line -> line.contains("Index Scan"))
+                            .noneMatch(line -> line.contains("Seq Scan"))
+                            .noneMatch(line -> line.contains("Sort Key"));
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    /** 검색 요청의 세 번째 페이지 (PopupQueryService.searchPage 와 같은 조건과 정렬) */
+    private static String pageSql(PopupSearchRequest request) {
+        PopupSearchRequest effective = PopupQueryService.withSortDefaults(request);
+        Predicate where = PopupQueryService.buildSearchPredicate(null, effective, null).getValue();
+        String orderBy = Arrays.stream(PopupQueryService.orderOf(effective.getSort()))
+            .map(order -> toSql(order.getTarget()) + (order.isAscending() ? " asc" : " desc"))
+            .collect(Collectors.joining(", "));
+        return "select * from popup_card" + (where != null ? " where " + toSql(where) : "")
+            + " order by " + orderBy + " offset 40 limit 20";
+    }
+
+    /** popup_card 단일 테이블 조건만 옮긴다. 모르는 식이 나오면 실패시켜 서비스 쿼리와 어긋나지 않게 한다. */
+    private static String toSql(Expression<?> expression) {
+        if (expression instanceof Path<?> path) {
+            return path.getMetadata().getName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+        }
+        if (expression instanceof Constant<?> constant) {
+            Object value = constant.getConstant();
+            if (value instanceof Enum<?> enumValue) {
+                return "'" + enumValue.name() + "'";
+            }
+            if (value instanceof LocalDate date) {
+                return "date '" + date + "'";
+            }
+            return String.valueOf(value);
+        }
+        if (expression instanceof Operation<?> operation && BINARY_OPERATORS.containsKey(operation.getOperator())) {
+            return "(" + toSql(operation.getArg(0)) + " " + BINARY_OPERATORS.get(operation.getOperator()) + " "
+                + toSql(operation.getArg(1)) + ")";
+        }
+        throw new IllegalArgumentException("SQL 로 옮길 수 없는 조건: " + expression);
+    }
+
+    /** 상태/조회수/찜/평점/기간이 고르게 섞인 카드 (popup_card 는 외래키가 없어 카드만 넣는다) */
+    private static void insertCards(Statement statement) throws Exception {
+        statement.executeUpdate("""
+            insert into popup_card (
+                popup_id, seller_id, name, approval_status, start_date, end_date,
+                view_count, favorite_count, review_count, review_sum, rating_avg,
+                created_at, updated_at, synced_at
+            )
+            select %d + g, g %% 50 + 1, 'explain ' || g,
+                   case when g %% 10 = 0 then 'PENDING' else 'APPROVED' end,
+                   current_date - (g %% 60), current_date - 30 + (g %% 120),
+                   (g * 7919) %% 100000, (g * 31) %% 5000,
+                   g %% 40, (g %% 40) * (g %% 5 + 1),
+                   case when g %% 40 = 0 then 0 else g %% 5 + 1 end,
+                   now() - g * interval '1 minute', now(), now()
+            from generate_series(1, %d) g
+            """.formatted(ID_BASE, CARD_COUNT));
+    }
+
+    private static List<String> explain(Statement statement, String sql) throws Exception {
+        List<String> lines = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+            while (resultSet.next()) {
+                lines.add(resultSet.getString(1));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,127 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.da.itdaing.domain.popup.dto.PopupSummaryResponse;
+import com.da.itdaing.global.web.NdjsonStreamingBody;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 목록 조회 메모리 벤치마크: 리스트 응답 vs NDJSON 스트리밍 (./gradlew benchmark)
+ * - 10만 건을 각각 직렬화하면서 별도 스레드로 힙 사용량을 샘플링해 최대치를 로그로 남긴다.
+ * - 수치는 JVM/GC 설정마다 다르므로 단언하지 않고 전달 건수와 출력 바이트만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@JpaSliceTest
+@Import(PopupQueryTestConfig.class)
+class PopupStreamingMemoryBenchmarkTest {
+
+    private static final int CARD_COUNT = 100_000;
+
+    @Autowired PopupQueryService popupQueryService;
+    @Autowired EntityManager entityManager;
+    @Autowired DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("10만 건 - 리스트 직렬화 vs 스트리밍 최대 힙 사용량")
+    void compareHeapUsage() throws Exception {
+        CountingOutputStream listOut = new CountingOutputStream();
+        long listPeak = measurePeakHeap(() -> {
+            List<PopupSummaryResponse> all = popupQueryService.getPopups();
+            objectMapper.writeValue(listOut, all);
+        });
+        entityManager.clear();
+
+        CountingOutputStream streamOut = new CountingOutputStream();
+        long streamPeak = measurePeakHeap(() -> NdjsonStreamingBody.<PopupSummaryResponse>of(
+            objectMapper, popupQueryService::streamPopups).writeTo(streamOut));
+
+        log.info("[benchmark] list   peak heap {} MB, {} bytes written", listPeak / (1024 * 1024), listOut.count.get());
+        log.info("[benchmark] stream peak heap {} MB, {} bytes written", streamPeak / (1024 * 1024), streamOut.count.get());
+
+        assertThat(streamOut.lines.get()).isEqualTo(CARD_COUNT);
+        assertThat(listOut.count.get()).isPositive();
+    }
+
+    private long measurePeakHeap(IoAction action) throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        AtomicLong peak = new AtomicLong(baseline);
+
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+        try {
+            action.run();
+        } finally {
+            sampler.interrupt();
+            sampler.join();
+        }
+        return Math.max(peak.get() - baseline, 0);
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    /** 내용을 버리고 바이트/줄 수만 센다 */
+    private static final class CountingOutputStream extends OutputStream {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong lines = new AtomicLong();
+
+        @Override
+        public void write(int b) {
+            count.incrementAndGet();
+            if (b == '\n') {
+                lines.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count.addAndGet(len);
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines.incrementAndGet();
+                }
+            }
+        }
+    }
+}
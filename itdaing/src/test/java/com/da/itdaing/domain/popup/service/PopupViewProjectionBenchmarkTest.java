@@ -0,0 +1,105 @@
+package com.da.itdaing.domain.popup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.da.itdaing.domain.popup.dto.PopupSearchRequest;
+import com.da.itdaing.domain.popup.dto.PopupView;
+import com.da.itdaing.testsupport.JpaSliceTest;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import com.da.itdaing.testsupport.PopupQueryTestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * view(full/card/pin) 별 조회 비용 벤치마크 (./gradlew benchmark)
+ * - 전체 목록과 검색 한 페이지를 view 별로 조회해 SQL 실행 수, 응답 JSON 바이트, 평균 지연을 로그로 남긴다.
+ * - 지연은 환경마다 다르므로 단언하지 않고, 쿼리 수가 늘지 않는지와 card/pin 페이로드가 full 보다 작은지만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@JpaSliceTest
+@Import(PopupQueryTestConfig.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PopupViewProjectionBenchmarkTest {
+
+    private static final int CARD_COUNT = 20_000;
+    private static final int ITERATIONS = 10;
+
+    @Autowired PopupQueryService popupQueryService;
+    @Autowired EntityManager entityManager;
+    @Autowired DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("전체 목록 2만 건 - view 별 쿼리 수 / 페이로드 / 지연")
+    void compareListViews() throws Exception {
+        Map<PopupView, Measurement> results = new EnumMap<>(PopupView.class);
+        for (PopupView view : PopupView.values()) {
+            results.put(view, measure("list   " + view, () -> popupQueryService.getPopups(view)));
+        }
+        assertSmallerThanFull(results);
+    }
+
+    @Test
+    @DisplayName("검색 한 페이지(50건) - view 별 쿼리 수 / 페이로드 / 지연")
+    void compareSearchViews() throws Exception {
+        PopupSearchRequest request = PopupSearchRequest.builder().size(50).page(10).build();
+        Map<PopupView, Measurement> results = new EnumMap<>(PopupView.class);
+        for (PopupView view : PopupView.values()) {
+            results.put(view, measure("search " + view, () -> popupQueryService.searchPopups(request, view)));
+        }
+        assertSmallerThanFull(results);
+    }
+
+    private void assertSmallerThanFull(Map<PopupView, Measurement> results) {
+        Measurement full = results.get(PopupView.FULL);
+        assertThat(results.get(PopupView.CARD).bytes()).isLessThan(full.bytes());
+        assertThat(results.get(PopupView.PIN).bytes()).isLessThan(full.bytes());
+        results.values().forEach(result -> assertThat(result.statements()).isLessThanOrEqualTo(full.statements()));
+    }
+
+    private Measurement measure(String label, Supplier<Object> query) throws Exception {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        long bytes = 0;
+        long statements = 0;
+        long elapsed = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            entityManager.clear();
+            statistics.clear();
+            long started = System.nanoTime();
+            byte[] json = objectMapper.writeValueAsBytes(query.get());
+            elapsed += System.nanoTime() - started;
+            statements = statistics.getPrepareStatementCount();
+            bytes = json.length;
+        }
+        Measurement result = new Measurement(statements, bytes, elapsed / ITERATIONS / 1_000_000);
+        log.info("[benchmark] {}: {} statements, {} KB, {} ms", label, result.statements(), result.bytes() / 1024,
+            result.millis());
+        return result;
+    }
+
+    private record Measurement(long statements, long bytes, long millis) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.da.itdaing.domain.popup.trending;
+
+import com.da.itdaing.domain.common.enums.ApprovalStatus;
+import com.da.itdaing.domain.metric.entity.MetricDailyPopup;
+import com.da.itdaing.domain.metric.repository.MetricDailyPopupRepository;
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.event.PopupEngagementEvent;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupTrendingServiceTest {
+
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOps;
+
+    @Mock
+    private PopupCardRepository popupCardRepository;
+
+    @Mock
+    private MetricDailyPopupRepository metricDailyPopupRepository;
+
+    private PopupTrendingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PopupTrendingService(new PopupTrendingProperties(), redis,
+            popupCardRepository, metricDailyPopupRepository);
+    }
+
+    @Test
+    @DisplayName("신호는 기간별 현재 구간 키에 가중치 × 전방 감쇠 배율로 더해진다")
+    void onEngagement_incrementsDecayedScore() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(redis.opsForZSet()).thenReturn(zSetOps);
+        when(valueOps.setIfAbsent(anyString(), anyString(), any())).thenReturn(false);
+        Instant now = Instant.now();
+
+        service.onEngagement(new PopupEngagementEvent(7L, PopupEngagementEvent.Kind.FAVORITE, 2, now));
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            ArgumentCaptor<Double> score = ArgumentCaptor.forClass(Double.class);
+            verify(zSetOps).incrementScore(eq(PopupTrendingService.keyOf(window, window.periodOf(now))),
+                eq("7"), score.capture());
+            // 찜 가중치 3 × 2건, 구간 안 배율은 1 이상 2^10 미만
+            assertThat(score.getValue()).isCloseTo(6 * window.weightAt(now), offset(1e-9));
+            assertThat(score.getValue()).isBetween(6.0, 6.0 * 1024);
+            // 이월로 키가 지워졌다 다시 생겨도 TTL 이 남도록 더할 때마다 만료를 건다
+            verify(redis).expire(PopupTrendingService.keyOf(window, window.periodOf(now)),
+                Duration.ofSeconds(window.periodSeconds() * 2));
+        }
+        verify(zSetOps, never()).unionAndStore(anyString(), anyCollection(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("새 구간을 처음 만나면 이전 구간 점수를 2^-10 배로 이월하고 하위 항목을 잘라 낸다")
+    void onEngagement_carriesOverPreviousPeriodOnce() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(redis.opsForZSet()).thenReturn(zSetOps);
+        when(valueOps.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+        Instant now = Instant.now();
+
+        service.onEngagement(new PopupEngagementEvent(1L, PopupEngagementEvent.Kind.VIEW, 1, now));
+        service.onEngagement(new PopupEngagementEvent(2L, PopupEngagementEvent.Kind.VIEW, 1, now));
+
+        TrendingWindow window = TrendingWindow.DAY;
+        long period = window.periodOf(now);
+        String key = PopupTrendingService.keyOf(window, period);
+        verify(zSetOps).unionAndStore(key, List.of(PopupTrendingService.keyOf(window, period - 1)), key,
+            Aggregate.SUM, Weights.of(1, Math.pow(2, -10)));
+        verify(zSetOps).removeRange(key, 0, -2001);
+        // 같은 노드에서 같은 구간은 다시 확인하지 않는다
+        verify(valueOps, times(TrendingWindow.values().length)).setIfAbsent(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("순위 조회: Redis 순서를 유지하고 노출할 수 없는 팝업은 건너뛴다")
+    void topPopupIds_readsRedisRanking() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(redis.opsForZSet()).thenReturn(zSetOps);
+        when(zSetOps.reverseRange(anyString(), eq(0L), anyLong()))
+            .thenReturn(new LinkedHashSet<>(List.of("5", "3", "9", "1")));
+        when(popupCardRepository.findListablePopupIds(anyCollection(), eq(ApprovalStatus.APPROVED), any()))
+            .thenReturn(List.of(1L, 3L, 5L));
+
+        assertThat(service.topPopupIds(TrendingWindow.DAY, 2)).containsExactly(5L, 3L);
+        verifyNoInteractions(metricDailyPopupRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 일간 집계로 감쇠 점수를 계산해 순위를 낸다")
+    void topPopupIds_fallsBackToDailyMetrics() {
+        when(redis.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        LocalDate today = LocalDate.now(SERVICE_ZONE);
+        List<MetricDailyPopup> metrics = List.of(
+            metric(1L, today.minusDays(5), 100, 0, 0),
+            metric(2L, today, 40, 0, 0),
+            metric(3L, today.minusDays(1), 0, 2, 0),
+            metric(4L, today, 0, 0, 20),
+            metric(2L, today.minusDays(6), 0, 0, 0)
+        );
+        when(metricDailyPopupRepository.findByDateSinceAndPopupStatus(today.minusDays(7), ApprovalStatus.APPROVED))
+            .thenReturn(metrics);
+        when(popupCardRepository.findListablePopupIds(anyCollection(), eq(ApprovalStatus.APPROVED), eq(today)))
+            .thenReturn(List.of(1L, 2L, 3L));
+
+        // 1: 100 × 2^-(약 2.5) ≈ 18, 2: 40 × 약 1 ≈ 40, 3: 찜 2 × 3 × 2^-(약 0.5) ≈ 4, 4: 종료/미승인이라 제외
+        assertThat(service.topPopupIds(TrendingWindow.WEEK, 10)).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Redis 와 일간 집계가 모두 비면 누적 카운터 가중합 순으로 채운다")
+    void topPopupIds_fallsBackToCardCounters() {
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(redis.opsForZSet()).thenReturn(zSetOps);
+        when(zSetOps.reverseRange(anyString(), eq(0L), anyLong())).thenReturn(new LinkedHashSet<>());
+        LocalDate today = LocalDate.now(SERVICE_ZONE);
+        when(metricDailyPopupRepository.findByDateSinceAndPopupStatus(today.minusDays(7), ApprovalStatus.APPROVED))
+            .thenReturn(List.of());
+        when(popupCardRepository.findTopListableByCounters(ApprovalStatus.APPROVED, today, 1.0, 3.0, 5.0,
+            PageRequest.of(0, 8))).thenReturn(List.of(4L, 2L));
+
+        assertThat(service.topPopupIds(TrendingWindow.WEEK, 8)).containsExactly(4L, 2L);
+        verify(popupCardRepository, never()).findListablePopupIds(anyCollection(), any(), any());
+    }
+
+    private static MetricDailyPopup metric(Long popupId, LocalDate date, int views, int favorites, int reviews) {
+        Popup popup = mock(Popup.class);
+        lenient().when(popup.getId()).thenReturn(popupId);
+        return MetricDailyPopup.builder()
+            .popup(popup)
+            .date(date)
+            .views(views)
+            .favorites(favorites)
+            .reviews(reviews)
+            .build();
+    }
+}
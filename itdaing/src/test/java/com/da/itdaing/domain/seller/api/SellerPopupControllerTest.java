@@ -70,7 +70,8 @@ class SellerPopupControllerTest {
             List.of(ImagePayload.builder().url("https://example.com/img1.jpg").key("uploads/img1.jpg").build()),
             new PopupReviewSummaryResponse(4.5, 10, List.of(1, 2, 3, 4, 0)),
             "2025-01-01T10:00:00",
-            "2025-01-02T12:00:00"
+            "2025-01-02T12:00:00",
+            null
         );
         given(popupQueryService.getPopupsBySeller(42L)).willReturn(List.of(popup));
 
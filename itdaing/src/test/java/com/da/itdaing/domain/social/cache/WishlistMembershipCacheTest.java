@@ -0,0 +1,97 @@
+package com.da.itdaing.domain.social.cache;
+
+import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.social.entity.Wishlist;
+import com.da.itdaing.domain.social.event.WishlistChangedEvent;
+import com.da.itdaing.domain.social.repository.WishlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WishlistMembershipCacheTest {
+
+    private static final String KEY = WishlistMembershipCache.keyOf(1L);
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private SetOperations<String, String> setOps;
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    private WishlistMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WishlistMembershipCache(new WishlistCacheProperties(), redis, wishlistRepository);
+    }
+
+    @Test
+    @DisplayName("적재된 집합이면 SMISMEMBER 한 번으로 답하고 DB 를 읽지 않는다")
+    void likedAmong_hit() {
+        when(redis.opsForSet()).thenReturn(setOps);
+        when(setOps.isMember(KEY, "0", "10", "20"))
+            .thenReturn(Map.of("0", true, "10", false, "20", true));
+
+        assertThat(cache.likedAmong(1L, List.of(10L, 20L))).containsExactly(20L);
+        verifyNoInteractions(wishlistRepository);
+    }
+
+    @Test
+    @DisplayName("적재 표식이 없으면 찜 목록을 한 번 읽어 집합을 채운다")
+    void likedAmong_missLoadsSet() {
+        when(redis.opsForSet()).thenReturn(setOps);
+        when(setOps.isMember(KEY, "0", "10", "20"))
+            .thenReturn(Map.of("0", false, "10", false, "20", false));
+        when(wishlistRepository.findPopupIdsByUserId(1L)).thenReturn(List.of(10L, 30L));
+
+        assertThat(cache.likedAmong(1L, List.of(10L, 20L))).containsExactly(10L);
+        verify(setOps).add(KEY, "0", "10", "30");
+        verify(redis).expire(KEY, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 페이지의 팝업 ID 로 위시리스트를 조회한다")
+    void likedAmong_fallsBackToDatabase() {
+        when(redis.opsForSet()).thenThrow(new RedisConnectionFailureException("down"));
+        Wishlist wishlist = mock(Wishlist.class);
+        Popup popup = mock(Popup.class);
+        when(popup.getId()).thenReturn(20L);
+        when(wishlist.getPopup()).thenReturn(popup);
+        when(wishlistRepository.findByUserIdAndPopupIdInWithPopup(1L, List.of(10L, 20L)))
+            .thenReturn(List.of(wishlist));
+
+        assertThat(cache.likedAmong(1L, List.of(10L, 20L))).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("비로그인이면 조회하지 않는다")
+    void likedAmong_anonymous() {
+        assertThat(cache.likedAmong(null, List.of(10L))).isEmpty();
+        verifyNoInteractions(redis, wishlistRepository);
+    }
+
+    @Test
+    @DisplayName("찜 변경 이벤트는 해당 사용자 키를 지운다")
+    void onWishlistChanged_evicts() {
+        cache.onWishlistChanged(new WishlistChangedEvent(1L, 10L));
+
+        verify(redis).delete(KEY);
+    }
+}
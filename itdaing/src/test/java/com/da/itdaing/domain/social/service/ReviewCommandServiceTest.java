@@ -14,7 +14,10 @@ import com.da.itdaing.domain.geo.repository.ZoneCellRepository;
 import com.da.itdaing.domain.master.entity.Region;
 import com.da.itdaing.domain.master.repository.RegionRepository;
 import com.da.itdaing.domain.popup.entity.Popup;
+import com.da.itdaing.domain.popup.entity.PopupCard;
+import com.da.itdaing.domain.popup.repository.PopupCardRepository;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
 import com.da.itdaing.domain.file.dto.ImagePayload;
 import com.da.itdaing.domain.social.dto.ReviewCreateRequest;
 import com.da.itdaing.domain.social.dto.ReviewUpdateRequest;
@@ -26,6 +29,7 @@ import com.da.itdaing.domain.user.repository.UserRepository;
 import com.da.itdaing.global.error.ErrorCode;
 import com.da.itdaing.global.error.exception.BusinessException;
 import com.da.itdaing.testsupport.JpaSliceTest;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +39,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
 @JpaSliceTest
-@Import(ReviewCommandService.class)
+@Import({ReviewCommandService.class, PopupCardProjector.class})
 class ReviewCommandServiceTest {
 
     @Autowired ReviewCommandService reviewCommandService;
@@ -46,6 +50,9 @@ class ReviewCommandServiceTest {
     @Autowired RegionRepository regionRepository;
     @Autowired ZoneAreaRepository zoneAreaRepository;
     @Autowired ZoneCellRepository zoneCellRepository;
+    @Autowired PopupCardProjector popupCardProjector;
+    @Autowired PopupCardRepository popupCardRepository;
+    @Autowired EntityManager entityManager;
 
     private Users consumer;
     private Users seller;
@@ -105,6 +112,7 @@ class ReviewCommandServiceTest {
             .approvalStatus(ApprovalStatus.APPROVED)
             .viewCount(0L)
             .build());
+        popupCardProjector.refresh(popup);
     }
 
     @Test
@@ -127,6 +135,12 @@ class ReviewCommandServiceTest {
         assertThat(review.getConsumer().getId()).isEqualTo(consumer.getId());
         assertThat(review.getPopup().getId()).isEqualTo(popup.getId());
         assertThat(reviewImageRepository.findAll()).hasSize(2);
+
+        entityManager.clear(); // 평점 집계는 벌크 UPDATE로 반영되므로 영속성 컨텍스트를 비우고 다시 읽는다
+        PopupCard card = popupCardRepository.findById(popup.getId()).orElseThrow();
+        assertThat(card.getReviewCount()).isEqualTo(1);
+        assertThat(card.getRatingAverage()).isEqualTo(5.0);
+        assertThat(card.getRatingDistribution()).containsExactly(0, 0, 0, 0, 1);
     }
 
     @Test
@@ -191,6 +205,12 @@ class ReviewCommandServiceTest {
         assertThat(updated.getRating()).isEqualTo((byte) 5);
         assertThat(updated.getContent()).isEqualTo("수정된 리뷰");
         assertThat(reviewImageRepository.findAll()).hasSize(2);
+
+        entityManager.clear();
+        PopupCard card = popupCardRepository.findById(popup.getId()).orElseThrow();
+        assertThat(card.getReviewCount()).isEqualTo(1);
+        assertThat(card.getReviewSum()).isEqualTo(5L);
+        assertThat(card.getRatingDistribution()).containsExactly(0, 0, 0, 0, 1);
     }
 
     @Test
@@ -236,6 +256,38 @@ class ReviewCommandServiceTest {
 
         assertThat(reviewRepository.findById(reviewId)).isEmpty();
         assertThat(reviewImageRepository.findAll()).isEmpty();
+
+        entityManager.clear();
+        PopupCard card = popupCardRepository.findById(popup.getId()).orElseThrow();
+        assertThat(card.getReviewCount()).isZero();
+        assertThat(card.getReviewSum()).isZero();
+        assertThat(card.getRatingDistribution()).containsExactly(0, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("평점 집계 재계산 시 리뷰 테이블 기준으로 카드 값이 맞춰진다")
+    void rebuildReviewStats_matchesReviewTable() {
+        reviewCommandService.createReview(consumer.getId(), popup.getId(),
+            new ReviewCreateRequest((byte) 4, "좋아요", List.of()));
+        Users otherConsumer = userRepository.save(Users.builder()
+            .loginId("consumer3")
+            .password("encoded")
+            .email("consumer3@example.com")
+            .role(UserRole.CONSUMER)
+            .build());
+        reviewCommandService.createReview(otherConsumer.getId(), popup.getId(),
+            new ReviewCreateRequest((byte) 2, "아쉬워요", List.of()));
+
+        entityManager.clear();
+        int rebuilt = popupCardProjector.rebuildReviewStats();
+        entityManager.flush();
+        entityManager.clear();
+
+        PopupCard card = popupCardRepository.findById(popup.getId()).orElseThrow();
+        assertThat(rebuilt).isEqualTo(1);
+        assertThat(card.getReviewCount()).isEqualTo(2);
+        assertThat(card.getRatingAverage()).isEqualTo(3.0);
+        assertThat(card.getRatingDistribution()).containsExactly(0, 1, 0, 1, 0);
     }
 
     @Test
@@ -1,8 +1,13 @@
 package com.da.itdaing.domain.social.service;
 
+import com.da.itdaing.domain.popup.counter.PopupCounterBuffer;
+import com.da.itdaing.domain.popup.dto.PopupCardResponse;
 import com.da.itdaing.domain.popup.entity.Popup;
 import com.da.itdaing.domain.popup.repository.PopupRepository;
+import com.da.itdaing.domain.popup.service.PopupCardProjector;
+import com.da.itdaing.domain.social.cache.WishlistMembershipCache;
 import com.da.itdaing.domain.social.entity.Wishlist;
+import com.da.itdaing.domain.social.event.WishlistChangedEvent;
 import com.da.itdaing.domain.social.repository.WishlistRepository;
 import com.da.itdaing.domain.user.entity.Users;
 import com.da.itdaing.domain.user.repository.UserRepository;
@@ -14,12 +19,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,6 +46,18 @@ class WishlistServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PopupCardProjector popupCardProjector;
+
+    @Mock
+    private WishlistMembershipCache wishlistMembershipCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PopupCounterBuffer popupCounterBuffer;
+
     @InjectMocks
     private WishlistService wishlistService;
 
@@ -67,6 +86,8 @@ class WishlistServiceTest {
 
         assertThat(saved.getUser()).isSameAs(user);
         assertThat(saved.getPopup()).isSameAs(popup);
+        verify(popupCardProjector).addFavoriteCount(popupId, 1);
+        verify(eventPublisher).publishEvent(new WishlistChangedEvent(userId, popupId));
     }
 
     @Test
@@ -137,6 +158,8 @@ class WishlistServiceTest {
 
         // then
         verify(wishlistRepository).delete(wishlist);
+        verify(popupCardProjector).addFavoriteCount(popupId, -1);
+        verify(eventPublisher).publishEvent(new WishlistChangedEvent(userId, popupId));
     }
 
     @Test
@@ -153,6 +176,7 @@ class WishlistServiceTest {
 
         // then
         verify(wishlistRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -182,4 +206,39 @@ class WishlistServiceTest {
         assertThat(result.getContent()).hasSize(1);
         verify(wishlistRepository).findByUserIdWithPopup(userId, pageable);
     }
+
+    @Test
+    @DisplayName("markLiked: 페이지의 팝업 ID 를 한 번에 조회해 likedByMe 를 채운다")
+    void markLiked_fillsFlagsInOneLookup() {
+        // given
+        Long userId = 1L;
+        var first = card(10L);
+        var second = card(20L);
+        when(wishlistMembershipCache.likedAmong(userId, List.of(10L, 20L))).thenReturn(Set.of(20L));
+
+        // when
+        var result = wishlistService.markLiked(userId, List.of(first, second));
+
+        // then
+        assertThat(result).extracting(PopupCardResponse::likedByMe).containsExactly(false, true);
+        verify(wishlistMembershipCache, times(1)).likedAmong(any(), any());
+    }
+
+    @Test
+    @DisplayName("markLiked: 비로그인이면 조회 없이 그대로 돌려준다")
+    void markLiked_returnsAsIs_whenAnonymous() {
+        // given
+        var responses = List.of(card(10L));
+
+        // when
+        var result = wishlistService.markLiked(null, responses);
+
+        // then
+        assertThat(result).isSameAs(responses);
+        verifyNoInteractions(wishlistMembershipCache);
+    }
+
+    private static PopupCardResponse card(Long id) {
+        return new PopupCardResponse(id, "popup " + id, null, "APPROVED", null, null, null, 0L, 0.0, 0, null);
+    }
 }
@@ -0,0 +1,216 @@
+package com.da.itdaing.global.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.da.itdaing.domain.geo.entity.ZoneArea;
+import com.da.itdaing.domain.geo.event.ZoneAreaChangedEvent;
+import com.da.itdaing.domain.geo.repository.ZoneAreaRepository;
+import com.da.itdaing.domain.master.entity.Region;
+import com.da.itdaing.domain.master.repository.RegionRepository;
+import com.da.itdaing.domain.popup.cache.PopupCacheInvalidator;
+import com.da.itdaing.domain.popup.event.PopupChangedEvent;
+import com.da.itdaing.domain.social.event.WishlistChangedEvent;
+import com.da.itdaing.testsupport.PopupCardTestData;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * 조건부 GET(ETag / Last-Modified → 304) 통합 테스트
+ * - 실제 컨트롤러/캐시/버전 레지스트리로 200 과 304 의 응답 바이트, 평균 지연을 비교해 로그로 남긴다.
+ * - 지연은 환경마다 다르므로 단언하지 않고, 304 는 본문이 없고 변경 이벤트 뒤에는 다시 200 이 되는지만 검증한다.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResourceVersionConditionalGetIntegrationTest {
+
+    private static final int CARD_COUNT = 2_000;
+    private static final int AREA_COUNT = 30;
+    private static final int ITERATIONS = 30;
+    private static final long USER_ID = 7L;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired DataSource dataSource;
+    @Autowired RegionRepository regionRepository;
+    @Autowired ZoneAreaRepository zoneAreaRepository;
+    @Autowired PopupCacheInvalidator popupCacheInvalidator;
+    @Autowired ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        PopupCardTestData.insertCards(new JdbcTemplate(dataSource), CARD_COUNT);
+        Region region = regionRepository.save(Region.builder().name("광주광역시/서구").build());
+        for (int i = 0; i < AREA_COUNT; i++) {
+            zoneAreaRepository.save(ZoneArea.builder()
+                .region(region)
+                .name("구역 " + i)
+                .polygonGeoJson(square(126.85 + i * 0.01, 35.15))
+                .maxCapacity(20)
+                .build());
+        }
+        popupCacheInvalidator.invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        zoneAreaRepository.deleteAll();
+        regionRepository.deleteAll();
+        new JdbcTemplate(dataSource).update("DELETE FROM popup_card");
+    }
+
+    @Test
+    @DisplayName("팝업 목록: If-None-Match 가 같으면 본문 없이 304, 절감량을 기록한다")
+    void popups_notModified_measuresSavings() throws Exception {
+        MockHttpServletResponse first = perform(get("/api/popups"));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).startsWith("W/\"popups-");
+        assertThat(first.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+
+        Measurement full = measure(() -> get("/api/popups"), 200);
+        Measurement conditional = measure(() -> get("/api/popups").header(HttpHeaders.IF_NONE_MATCH, etag), 304);
+        report("GET /api/popups", full, conditional);
+
+        assertThat(conditional.bytes()).isZero();
+        assertThat(full.bytes()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("팝업 변경 이벤트 후에는 이전 ETag 로 요청해도 새 본문과 새 ETag 를 받는다")
+    void popups_changeEventBumpsVersion() throws Exception {
+        String etag = perform(get("/api/popups/1")).getHeader(HttpHeaders.ETAG);
+        assertThat(perform(get("/api/popups/1").header(HttpHeaders.IF_NONE_MATCH, etag)).getStatus()).isEqualTo(304);
+
+        eventPublisher.publishEvent(PopupChangedEvent.upserted(1L));
+
+        MockHttpServletResponse afterChange = perform(get("/api/popups/1").header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertThat(afterChange.getStatus()).isEqualTo(200);
+        assertThat(afterChange.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(afterChange.getContentAsByteArray()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("로그인 사용자: ETag 는 사용자별(찜 버전 포함)이고, 같은 If-None-Match 라도 찜 토글 뒤에는 200")
+    void popups_userEtagChangesOnWishlistToggle() throws Exception {
+        MockHttpServletResponse anonymous = perform(get("/api/popups/1"));
+        MockHttpServletResponse first = perform(get("/api/popups/1").with(asUser(USER_ID)));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).isNotEqualTo(anonymous.getHeader(HttpHeaders.ETAG)).contains("-u" + USER_ID + "-");
+        assertThat(first.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.AUTHORIZATION);
+        assertThat(anonymous.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.AUTHORIZATION);
+        assertThat(first.getHeader(HttpHeaders.LAST_MODIFIED)).isNull();
+        // 비로그인 응답의 ETag 로는 로그인 사용자에게 304 를 주지 않는다
+        assertThat(perform(get("/api/popups/1").with(asUser(USER_ID))
+            .header(HttpHeaders.IF_NONE_MATCH, anonymous.getHeader(HttpHeaders.ETAG))).getStatus()).isEqualTo(200);
+        assertThat(perform(get("/api/popups/1").with(asUser(USER_ID))
+            .header(HttpHeaders.IF_NONE_MATCH, etag)).getStatus()).isEqualTo(304);
+
+        // 찜 토글은 팝업 버전을 바로 올리지 않지만 사용자 찜 버전이 바뀐다
+        eventPublisher.publishEvent(new WishlistChangedEvent(USER_ID, 1L));
+
+        for (String path : List.of("/api/popups/1", "/api/popups", "/api/popups/batch?ids=1,2")) {
+            MockHttpServletResponse afterToggle = perform(get(path).with(asUser(USER_ID))
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+            assertThat(afterToggle.getStatus()).as(path).isEqualTo(200);
+            assertThat(afterToggle.getHeader(HttpHeaders.ETAG)).as(path).isNotEqualTo(etag);
+        }
+    }
+
+    @Test
+    @DisplayName("존 목록: If-Modified-Since 로 폴리곤 전체 재전송을 생략하고, 구역 변경 후에는 다시 200")
+    void zones_ifModifiedSince() throws Exception {
+        MockHttpServletResponse first = perform(get("/api/zones"));
+        String lastModified = first.getHeader(HttpHeaders.LAST_MODIFIED);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(lastModified).isNotNull();
+
+        Measurement full = measure(() -> get("/api/zones"), 200);
+        Measurement conditional = measure(() -> get("/api/zones").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified), 304);
+        report("GET /api/zones", full, conditional);
+        assertThat(conditional.bytes()).isZero();
+
+        eventPublisher.publishEvent(new ZoneAreaChangedEvent(1L));
+
+        assertThat(perform(get("/api/zones").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified)).getStatus())
+            .isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("마스터 데이터: 같은 ETag 로 재요청하면 304")
+    void master_notModified() throws Exception {
+        String etag = perform(get("/api/master/regions")).getHeader(HttpHeaders.ETAG);
+
+        Measurement full = measure(() -> get("/api/master/regions"), 200);
+        Measurement conditional = measure(() -> get("/api/master/regions").header(HttpHeaders.IF_NONE_MATCH, etag), 304);
+        report("GET /api/master/regions", full, conditional);
+
+        assertThat(conditional.bytes()).isZero();
+    }
+
+    private static RequestPostProcessor asUser(long userId) {
+        return authentication(new UsernamePasswordAuthenticationToken(
+            userId, null, List.of(new SimpleGrantedAuthority("ROLE_CONSUMER"))));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private Measurement measure(RequestFactory request, int expectedStatus) throws Exception {
+        long bytes = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            MockHttpServletResponse response = perform(request.create());
+            assertThat(response.getStatus()).isEqualTo(expectedStatus);
+            bytes += response.getContentAsByteArray().length;
+        }
+        return new Measurement(bytes / ITERATIONS, (System.nanoTime() - started) / ITERATIONS / 1_000);
+    }
+
+    private void report(String label, Measurement full, Measurement conditional) {
+        log.info("[conditional-get] {} 200: {} bytes, {} us / 304: {} bytes, {} us (bytes saved {}, latency x{})",
+            label, full.bytes(), full.micros(), conditional.bytes(), conditional.micros(),
+            full.bytes() - conditional.bytes(),
+            String.format("%.1f", (double) full.micros() / Math.max(1, conditional.micros())));
+    }
+
+    private static String square(double lng, double lat) {
+        double d = 0.005;
+        return String.format(
+            "{\"type\":\"Polygon\",\"coordinates\":[[[%f,%f],[%f,%f],[%f,%f],[%f,%f],[%f,%f]]]}",
+            lng, lat, lng + d, lat, lng + d, lat + d, lng, lat + d, lng, lat);
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        MockHttpServletRequestBuilder create();
+    }
+
+    private record Measurement(long bytes, long micros) {
+    }
+}
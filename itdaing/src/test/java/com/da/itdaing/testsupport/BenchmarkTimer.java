@@ -0,0 +1,52 @@
+package com.da.itdaing.testsupport;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벤치마크 테스트 공용 측정 도우미 (./gradlew benchmark)
+ * - warmup 회 버린 뒤 iterations 회 실행해 회당 시간(ms)을 오름차순으로 모은다. 마지막 실행 결과도 함께 돌려준다.
+ * - 평균만 남기면 되는 비교는 logAverage, 분위수/예산 검증이 필요하면 measure 결과를 직접 쓴다.
+ */
+@Slf4j
+public final class BenchmarkTimer {
+
+    private BenchmarkTimer() {
+    }
+
+    public static <T> Result<T> measure(int warmup, int iterations, Supplier<T> action) {
+        for (int i = 0; i < warmup; i++) {
+            action.get();
+        }
+        T value = null;
+        double[] millis = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            value = action.get();
+            millis[i] = (System.nanoTime() - started) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return new Result<>(value, millis);
+    }
+
+    /** 평균 시간을 "[benchmark] label avg=.. ms (rows rows)" 로 남기고 마지막 실행 값을 돌려준다 */
+    public static <T> T logAverage(String label, int rows, int warmup, int iterations, Supplier<T> action) {
+        Result<T> result = measure(warmup, iterations, action);
+        log.info("[benchmark] {} avg={} ms ({} rows)", label, String.format("%.3f", result.avgMillis()), rows);
+        return result.value();
+    }
+
+    /** 측정 결과: 마지막 실행 값과 오름차순 회당 시간(ms) */
+    public record Result<T>(T value, double[] sortedMillis) {
+
+        public double avgMillis() {
+            return Arrays.stream(sortedMillis).average().orElse(0);
+        }
+
+        public double percentile(double quantile) {
+            int index = (int) Math.ceil(quantile * sortedMillis.length) - 1;
+            return sortedMillis[Math.max(index, 0)];
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.da.itdaing.testsupport;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * popup_card 합성 데이터 적재 도우미 (조회/벤치마크 테스트용)
+ * - popup_card 는 외래키가 없으므로 원본 popup 없이 카드만 대량으로 넣을 수 있다.
+ * - 두 행씩 같은 created_at 을 갖게 하여 (created_at, popup_id) 동률 처리를 함께 검증한다.
+ * - 운영 시간: 짝수 ID 는 매일 11:00-20:00, 홀수 ID 는 주말 12:00-21:15 (운영 중 필터 검증용)
+ */
+public final class PopupCardTestData {
+
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+    public static final int AREA_COUNT = 5;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO popup_card (
+            popup_id, seller_id, seller_name, zone_area_id, location_name, zone_cell_id, cell_name, address,
+            latitude, longitude, name, description, approval_status, start_date, end_date, operating_time,
+            operating_hours, open_windows,
+            view_count, favorite_count, category_ids, feature_ids, style_ids, style_tags,
+            thumbnail_url, thumbnail_key, gallery,
+            review_count, review_sum, rating_avg, rating_1, rating_2, rating_3, rating_4, rating_5,
+            created_at, updated_at, synced_at
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String EVERY_DAY_WINDOWS =
+        "1:660-1200;2:660-1200;3:660-1200;4:660-1200;5:660-1200;6:660-1200;7:660-1200";
+    private static final String WEEKEND_WINDOWS = "6:720-1275;7:720-1275";
+
+    private static final String[] NAME_WORDS = {
+        "플리마켓", "빈티지", "향수", "디저트", "캐릭터", "굿즈", "커피", "베이커리", "전시", "공예"
+    };
+
+    private PopupCardTestData() {
+    }
+
+    /** popup_id 1..count 카드 적재 */
+    public static void insertCards(JdbcTemplate jdbcTemplate, int count) {
+        int batchSize = 1_000;
+        for (int from = 1; from <= count; from += batchSize) {
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            for (int id = from; id < Math.min(from + batchSize, count + 1); id++) {
+                rows.add(row(id));
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    public static LocalDateTime createdAtOf(long popupId) {
+        return BASE_TIME.minusMinutes(popupId / 2);
+    }
+
+    public static long areaIdOf(long popupId) {
+        return popupId % AREA_COUNT + 1;
+    }
+
+    private static Object[] row(long id) {
+        String word = NAME_WORDS[(int) (id % NAME_WORDS.length)];
+        LocalDate start = LocalDate.of(2025, 1, 1).plusDays(id % 365);
+        Timestamp createdAt = Timestamp.valueOf(createdAtOf(id));
+        int rating = (int) (id % 5) + 1;
+        return new Object[] {
+            id,
+            id % 50 + 1,
+            "판매자" + (id % 50 + 1),
+            areaIdOf(id),
+            "구역" + areaIdOf(id),
+            id % 200 + 1,
+            "셀-" + (id % 200 + 1),
+            "광주광역시 서구 " + id,
+            35.15 + (id % 100) * 0.0001,
+            126.85 + (id % 100) * 0.0001,
+            word + " 팝업 " + id,
+            word + " 테마의 합성 팝업 설명 " + id,
+            id % 10 == 0 ? "PENDING" : "APPROVED",
+            start,
+            start.plusDays(14 + id % 30),
+            id % 2 == 0 ? "매일 11:00-20:00" : "주말 12:00-21:15",
+            id % 2 == 0
+                ? "[{\"day\":\"매일\",\"time\":\"11:00-20:00\"}]"
+                : "[{\"day\":\"주말\",\"time\":\"12:00-21:15\"}]",
+            id % 2 == 0 ? EVERY_DAY_WINDOWS : WEEKEND_WINDOWS,
+            id * 7 % 1000,
+            id * 3 % 100,
+            String.valueOf(id % 8 + 1),
+            String.valueOf(id % 4 + 1),
+            String.valueOf(id % 6 + 1),
+            "[\"스타일" + (id % 6 + 1) + "\"]",
+            "https://example.com/popups/" + id + ".jpg",
+            "popups/" + id + ".jpg",
+            "[]",
+            1,
+            rating,
+            (double) rating,
+            rating == 1 ? 1 : 0,
+            rating == 2 ? 1 : 0,
+            rating == 3 ? 1 : 0,
+            rating == 4 ? 1 : 0,
+            rating == 5 ? 1 : 0,
+            createdAt,
+            createdAt,
+            createdAt
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.da.itdaing.testsupport;
+
+import com.da.itdaing.domain.geo.geometry.GeoSpatialProperties;
+import com.da.itdaing.domain.geo.geometry.ZoneCellGrid;
+import com.da.itdaing.domain.geo.repository.ZoneSpatialJdbcRepository;
+import com.da.itdaing.domain.popup.counter.PopupCounterBuffer;
+import com.da.itdaing.domain.popup.search.PopupAutocompleteIndex;
+import com.da.itdaing.domain.popup.search.PopupFacetIndex;
+import com.da.itdaing.domain.popup.search.PopupPeriodIndex;
+import com.da.itdaing.domain.popup.search.PopupSearchIndex;
+import com.da.itdaing.domain.popup.service.PopupGeoQueryService;
+import com.da.itdaing.domain.popup.service.PopupQueryService;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 팝업 조회 슬라이스 (@JpaSliceTest 와 함께 @Import 한다)
+ * - PopupQueryService / PopupGeoQueryService 와 협력 빈. 조회 서비스에 협력 빈이 늘면 여기만 고친다.
+ * - 색인 적재기(*Indexer)는 테스트 대상일 때만 각 테스트가 따로 가져온다.
+ */
+@TestConfiguration
+@Import({PopupQueryService.class, PopupGeoQueryService.class, PopupSearchIndex.class, PopupAutocompleteIndex.class,
+    PopupFacetIndex.class, PopupPeriodIndex.class, PopupCounterBuffer.class, ZoneCellGrid.class,
+    ZoneSpatialJdbcRepository.class, GeoSpatialProperties.class})
+public class PopupQueryTestConfig {
+}